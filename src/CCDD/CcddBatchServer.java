@@ -0,0 +1,387 @@
+/**
+ * CFS Command and Data Dictionary batch server.
+ *
+ * Copyright 2017 United States Government as represented by the Administrator of the National
+ * Aeronautics and Space Administration. No copyright is claimed in the United States under Title
+ * 17, U.S. Code. All Other Rights Reserved.
+ */
+package CCDD;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.AclEntry;
+import java.nio.file.attribute.AclEntryPermission;
+import java.nio.file.attribute.AclEntryType;
+import java.nio.file.attribute.AclFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Collections;
+
+import CCDD.CcddConstants.EventLogMessageType;
+
+/**************************************************************************************************
+ * CFS Command and Data Dictionary batch server class. The batch server keeps the project database
+ * open, with its handlers and lists built, and executes batch jobs received on a local socket.
+ * This removes the application start-up and project loading time from each command line
+ * operation.
+ *
+ * Jobs run with the project database user's credentials, so a job must present a token that's
+ * only available to the user running the server. A new token is generated each time the server
+ * starts and is written to a token file in the user's home folder that only the user can read.
+ *
+ * A job is requested by connecting to the server's port and sending a line containing the token,
+ * followed by a line containing the command line arguments for the job, using the same syntax as
+ * the application's command line (e.g., -execute myAssn -scriptOutPath /path). A job with a
+ * missing or incorrect token is rejected. The project-specific commands (script execution,
+ * import, export, and script output path) are available, as are the backup and shutdown commands;
+ * the shutdown command stops the server after the job completes. Any output from the job is
+ * returned on the connection, followed by a final line containing the job's exit status (0 if
+ * the job completed successfully, 1 if an error occurred). Jobs are executed one at a time in the
+ * order received; a client that doesn't send its job request within the read time limit is
+ * disconnected so that it doesn't block the jobs that follow
+ *************************************************************************************************/
+public class CcddBatchServer
+{
+    // Class references
+    private final CcddMain ccddMain;
+    private final CcddEventLogDialog eventLog;
+
+    // Port on which the server listens for batch job requests
+    private final int port;
+
+    // Prefix for the line, returned following a job's output, that contains the job's exit status
+    protected static final String EXIT_STATUS_PREFIX = "CCDD exit status: ";
+
+    // Time limit, in milliseconds, for receiving a job request once a client connects
+    private static final int JOB_READ_TIMEOUT = 10000;
+
+    // Number of random bytes in the job token
+    private static final int TOKEN_SIZE = 32;
+
+    // Server socket that receives the job requests; null if the server isn't running
+    private ServerSocket serverSocket;
+
+    // Token that a job request must present
+    private byte[] token;
+
+    // File containing the job token
+    private final File tokenFile;
+
+    /**********************************************************************************************
+     * Batch server class constructor
+     *
+     * @param ccddMain
+     *            main class
+     *
+     * @param port
+     *            port on which to listen for batch job requests
+     *********************************************************************************************/
+    CcddBatchServer(CcddMain ccddMain, int port)
+    {
+        this.ccddMain = ccddMain;
+        this.port = port;
+        eventLog = ccddMain.getSessionEventLog();
+        serverSocket = null;
+        tokenFile = new File(System.getProperty("user.home"), ".ccdd_batch_" + port + ".token");
+    }
+
+    /**********************************************************************************************
+     * Generate a new job token and write it to the token file. On a file system that supports
+     * POSIX file permissions the file is created readable and writable only by its owner. On a
+     * file system that supports access control lists (e.g., Windows) the file's access control
+     * list is replaced with one that allows access only by its owner before the token is written
+     *
+     * @throws IOException
+     *             If the token file can't be created or written
+     *********************************************************************************************/
+    private void createTokenFile() throws IOException
+    {
+        byte[] randomBytes = new byte[TOKEN_SIZE];
+        StringBuilder tokenText = new StringBuilder();
+
+        // Generate the token's random bytes and convert them to hexadecimal text
+        new SecureRandom().nextBytes(randomBytes);
+
+        for (byte randomByte : randomBytes)
+        {
+            tokenText.append(String.format("%02x", randomByte));
+        }
+
+        token = tokenText.toString().getBytes(StandardCharsets.UTF_8);
+        Path tokenPath = tokenFile.toPath();
+
+        // Remove the token file left by a previous server, if any, so that the file is created
+        // with the restricted permissions
+        Files.deleteIfExists(tokenPath);
+
+        try
+        {
+            // Create the token file, readable and writable only by the owner
+            Files.createFile(tokenPath,
+                             PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        }
+        catch (UnsupportedOperationException uoe)
+        {
+            // The file system doesn't support POSIX file permissions (e.g., Windows). Create the
+            // token file; the token isn't written until access to the file is restricted
+            Files.createFile(tokenPath);
+
+            // Get the access control list view for the file
+            AclFileAttributeView aclView = Files.getFileAttributeView(tokenPath,
+                                                                      AclFileAttributeView.class);
+
+            // Check if the file system supports access control lists
+            if (aclView != null)
+            {
+                // Replace the file's access control list with a single entry that allows only
+                // the file's owner to access the file
+                aclView.setAcl(Collections.singletonList(AclEntry.newBuilder()
+                                                                 .setType(AclEntryType.ALLOW)
+                                                                 .setPrincipal(aclView.getOwner())
+                                                                 .setPermissions(AclEntryPermission.READ_DATA,
+                                                                                 AclEntryPermission.WRITE_DATA,
+                                                                                 AclEntryPermission.APPEND_DATA,
+                                                                                 AclEntryPermission.READ_ATTRIBUTES,
+                                                                                 AclEntryPermission.WRITE_ATTRIBUTES,
+                                                                                 AclEntryPermission.READ_NAMED_ATTRS,
+                                                                                 AclEntryPermission.WRITE_NAMED_ATTRS,
+                                                                                 AclEntryPermission.READ_ACL,
+                                                                                 AclEntryPermission.WRITE_ACL,
+                                                                                 AclEntryPermission.DELETE,
+                                                                                 AclEntryPermission.SYNCHRONIZE)
+                                                                 .build()));
+            }
+            // The file system supports neither POSIX file permissions nor access control lists
+            else
+            {
+                // Remove access for all users other than the owner to the extent the file system
+                // allows. The results are ignored since a file system without access control
+                // can't restrict access
+                tokenFile.setReadable(false, false);
+                tokenFile.setReadable(true, true);
+                tokenFile.setWritable(false, false);
+                tokenFile.setWritable(true, true);
+            }
+        }
+
+        // Write the token to the file
+        Files.write(tokenPath, token);
+    }
+
+    /**********************************************************************************************
+     * Start the server. The server listens only on the local (loopback) interface
+     *
+     * @return true if the server failed to start
+     *********************************************************************************************/
+    protected boolean startServer()
+    {
+        boolean errorFlag = false;
+
+        try
+        {
+            // Create the token that job requests must present
+            createTokenFile();
+
+            // Create the socket on which to receive job requests
+            serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+
+            // Create the thread that receives and executes the job requests. The thread keeps the
+            // application running until the server is stopped
+            Thread serverThread = new Thread(new Runnable()
+            {
+                /**********************************************************************************
+                 * Receive and execute job requests until the server is stopped
+                 *********************************************************************************/
+                @Override
+                public void run()
+                {
+                    // Continue to receive jobs until the server is stopped
+                    while (serverSocket != null && !serverSocket.isClosed())
+                    {
+                        try
+                        {
+                            // Wait for a job request and execute the job
+                            executeJob(serverSocket.accept());
+                        }
+                        catch (IOException ioe)
+                        {
+                            // Check if the server wasn't stopped (closing the socket interrupts
+                            // the wait for a request)
+                            if (serverSocket != null && !serverSocket.isClosed())
+                            {
+                                // Inform the user that receiving the job request failed
+                                eventLog.logEvent(EventLogMessageType.FAIL_MSG,
+                                                  "Batch server failed to receive job; cause '"
+                                                                                + ioe.getMessage()
+                                                                                + "'");
+                            }
+                        }
+                    }
+                }
+            }, "CCDD batch server");
+
+            serverThread.start();
+
+            // Inform the user that the batch server started
+            eventLog.logEvent(EventLogMessageType.SERVER_MSG,
+                              "Batch server started; listening on port "
+                                                              + serverSocket.getLocalPort()
+                                                              + ", job token in '"
+                                                              + tokenFile.getAbsolutePath()
+                                                              + "'");
+        }
+        catch (Exception e)
+        {
+            // Inform the user that starting the batch server failed
+            eventLog.logFailEvent(ccddMain.getMainFrame(),
+                                  "Batch Server Error",
+                                  "Batch server failed to start; cause '" + e.getMessage() + "'",
+                                  "<html><b>Batch server failed to start");
+            serverSocket = null;
+            tokenFile.delete();
+            errorFlag = true;
+        }
+
+        return errorFlag;
+    }
+
+    /**********************************************************************************************
+     * Stop the server
+     *********************************************************************************************/
+    protected void stopServer()
+    {
+        try
+        {
+            // Check if the server is running
+            if (serverSocket != null)
+            {
+                // Stop receiving job requests and remove the token file
+                serverSocket.close();
+                serverSocket = null;
+                tokenFile.delete();
+
+                // Inform the user that the batch server stopped
+                eventLog.logEvent(EventLogMessageType.SERVER_MSG, "Batch server stopped");
+            }
+        }
+        catch (IOException ioe)
+        {
+            // Inform the user that stopping the batch server failed
+            eventLog.logFailEvent(ccddMain.getMainFrame(),
+                                  "Batch Server Error",
+                                  "Batch server failed to stop; cause '" + ioe.getMessage() + "'",
+                                  "<html><b>Batch server failed to stop");
+        }
+    }
+
+    /**********************************************************************************************
+     * Read the job request from the connection and, if the request presents the job token,
+     * execute the job and return the job's output and exit status. The application exits if the
+     * job contains the shutdown command
+     *
+     * @param connection
+     *            socket connection on which the job request was received
+     *********************************************************************************************/
+    private void executeJob(Socket connection)
+    {
+        PrintStream originalOut = System.out;
+        PrintStream originalErr = System.err;
+        boolean isShutdown = false;
+        PrintStream jobOut = null;
+
+        try
+        {
+            // Limit the time to wait for the job request so that a client that doesn't send one
+            // doesn't prevent other jobs from executing. The connection is closed if the time
+            // limit expires
+            connection.setSoTimeout(JOB_READ_TIMEOUT);
+
+            // Read the job's token and command line arguments
+            BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream(),
+                                                                             StandardCharsets.UTF_8));
+            String jobToken = reader.readLine();
+            String jobArgs = reader.readLine();
+            jobOut = new PrintStream(connection.getOutputStream(),
+                                     true,
+                                     StandardCharsets.UTF_8.name());
+
+            // Check if the job request doesn't present the job token
+            if (jobToken == null
+                || !MessageDigest.isEqual(token, jobToken.getBytes(StandardCharsets.UTF_8)))
+            {
+                // Inform the user and the client that the job is rejected
+                eventLog.logEvent(EventLogMessageType.FAIL_MSG,
+                                  "Batch job rejected; invalid token");
+                jobOut.println("Error: Batch job rejected; invalid token");
+                jobOut.println(EXIT_STATUS_PREFIX + 1);
+            }
+            // Check if a job was received
+            else if (jobArgs != null)
+            {
+                // Log the job request
+                eventLog.logEvent(EventLogMessageType.COMMAND_MSG, "Batch job: " + jobArgs);
+
+                // Direct the output from the job to the connection. Jobs are executed one at a
+                // time so the output from different jobs isn't intermixed
+                System.setOut(jobOut);
+                System.setErr(jobOut);
+
+                // Execute the job's commands
+                CcddCommandLineHandler jobHandler = new CcddCommandLineHandler(ccddMain,
+                                                                               CcddUtilities.parseCommandLine(jobArgs),
+                                                                               true);
+                int exitStatus = jobHandler.executeBatchJob();
+                isShutdown = jobHandler.isShutdownWhenComplete();
+
+                // Return the job's exit status
+                jobOut.println(EXIT_STATUS_PREFIX + exitStatus);
+            }
+        }
+        catch (Exception e)
+        {
+            // Inform the user that the job failed
+            eventLog.logEvent(EventLogMessageType.FAIL_MSG,
+                              "Batch job failed; cause '" + e.getMessage() + "'");
+
+            // Check if the connection's output stream is available
+            if (jobOut != null)
+            {
+                // Return the job's exit status
+                jobOut.println(EXIT_STATUS_PREFIX + 1);
+            }
+        }
+        finally
+        {
+            // Restore the application's output streams
+            System.setOut(originalOut);
+            System.setErr(originalErr);
+
+            try
+            {
+                connection.close();
+            }
+            catch (IOException ioe)
+            {
+                // Ignore the error if the connection can't be closed
+            }
+        }
+
+        // Check if the job requested that the application shut down
+        if (isShutdown)
+        {
+            // Stop the server and exit the application
+            stopServer();
+            ccddMain.exitApplication(false, 0);
+        }
+    }
+}
@@ -16,6 +16,7 @@ import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
@@ -34,6 +35,7 @@ import CCDD.CcddClassesDataTable.TableInformation;
 import CCDD.CcddClassesDataTable.TableTypeDefinition;
 import CCDD.CcddConstants.DefaultInputType;
 import CCDD.CcddConstants.DialogOption;
+import CCDD.CcddConstants.FileExtension;
 import CCDD.CcddConstants.GroupDefinitionColumn;
 import CCDD.CcddConstants.InternalTable.AssociationsColumn;
 import CCDD.CcddConstants.InternalTable.DataTypesColumn;
@@ -71,6 +73,10 @@ public class CcddCSVHandler extends CcddImportSupportHandler implements CcddImpo
     // List of original and new script associations
     private List<String[]> associations;
 
+    // Rows read from the import file by readImportFile() prior to the import; null if the file
+    // is read when imported
+    private List<String[]> importRows;
+
     /**********************************************************************************************
      * CSV data type tags
      *********************************************************************************************/
@@ -196,6 +202,459 @@ public class CcddCSVHandler extends CcddImportSupportHandler implements CcddImpo
         return associations;
     }
 
+    /**********************************************************************************************
+     * Set the rows, read from the import file by readImportFile(), to use for the next import in
+     * place of reading the file
+     *
+     * @param importRows
+     *            list of the rows read from the import file
+     *********************************************************************************************/
+    protected void setImportRows(List<String[]> importRows)
+    {
+        this.importRows = importRows;
+    }
+
+    /**********************************************************************************************
+     * Read the rows from a CSV import file. Empty rows and comment rows (those beginning with a #
+     * character) are skipped, a value spanning multiple lines is combined into a single row, and
+     * each row is separated into its column values. This doesn't depend on the project's
+     * definitions, so several files can be read at the same time
+     *
+     * @param importFile
+     *            import file reference
+     *
+     * @return List containing the column values for each row in the file
+     *
+     * @throws IOException
+     *             If an import file I/O error occurs
+     *********************************************************************************************/
+    protected static List<String[]> readImportFile(FileEnvVar importFile) throws IOException
+    {
+        List<String[]> rows = new ArrayList<String[]>();
+        BufferedReader br = null;
+
+        try
+        {
+            // Create a buffered reader to read the file
+            br = new BufferedReader(new FileReader(importFile));
+
+            // Read first line in file
+            String line = br.readLine();
+
+            // Continue to read the file until EOF is reached
+            while (line != null)
+            {
+                // Remove any leading/trailing white space characters from the row
+                String trimmedLine = line.trim();
+
+                // Check that the row isn't empty and isn't a comment line (starts with a #
+                // character)
+                if (!trimmedLine.isEmpty() && !trimmedLine.startsWith("#"))
+                {
+                    // Check if the line contains an odd number of double quotes
+                    if (CcddUtilities.countDoubleQuotes(trimmedLine) % 2 != 0)
+                    {
+                        String nextLine = null;
+
+                        // Step through the subsequent lines in order to find the end of
+                        // multi-line value
+                        while ((nextLine = br.readLine()) != null)
+                        {
+                            // Append the line to the preceding one, inserting the line feed. The
+                            // non-trimmed variable is used so that trailing spaces within a
+                            // quoted, multiple-line field aren't lost
+                            line += "\n" + nextLine;
+
+                            // Check if this is the line that ends the multi-line value (i.e., it
+                            // ends with one double quote)
+                            if (CcddUtilities.countDoubleQuotes(nextLine) % 2 != 0)
+                            {
+                                // Stop searching; the multi-line string has been concatenated to
+                                // the initial line
+                                break;
+                            }
+                        }
+
+                        // Remove any leading/trailing white space characters from the combined
+                        // multiple line row. This only removed white space outside the quotes
+                        // that bound the text
+                        trimmedLine = line.trim();
+                    }
+
+                    // Remove any trailing commas and empty quotes from the row. If the CSV file is
+                    // generated from a spreadsheet application then extra commas are appended to a
+                    // row if needed for the number of columns to be equal with the other rows.
+                    // These empty trailing columns are ignored
+                    line = removeTrailingEmptyColumns(trimmedLine);
+
+                    // Parse the import data. The values are comma- separated; however, commas
+                    // within quotes are ignored - this allows commas to be included in the data
+                    // values
+                    rows.add(CcddUtilities.splitAndRemoveQuotes(line));
+                }
+
+                // Read next line in file
+                line = br.readLine();
+            }
+        }
+        finally
+        {
+            // Check that the buffered reader exists
+            if (br != null)
+            {
+                // Close the file
+                br.close();
+            }
+        }
+
+        return rows;
+    }
+
+    /**********************************************************************************************
+     * Remove any trailing commas and empty quotes from a row. The characters removed are the same
+     * as those removed by replacing the regular expression (?:[,\s*]|"\s*",|,"\s*")*$ with a
+     * blank, but the row is scanned (backwards from its end) only once
+     *
+     * @param row
+     *            row from which to remove the trailing commas and empty quotes
+     *
+     * @return Row minus any trailing commas and empty quotes
+     *********************************************************************************************/
+    private static String removeTrailingEmptyColumns(String row)
+    {
+        int length = row.length();
+        int end = length;
+
+        // Check if the row ends with a line terminator that isn't a white space character. As
+        // with the regular expression end anchor, the terminator is retained
+        if (end != 0
+            && (row.charAt(end - 1) == '\u0085'
+                || row.charAt(end - 1) == '\u2028'
+                || row.charAt(end - 1) == '\u2029'))
+        {
+            end--;
+        }
+
+        int runStart = end;
+
+        // Find the start of the trailing characters that can form part of an empty column
+        while (runStart != 0
+               && (row.charAt(runStart - 1) == ','
+                   || row.charAt(runStart - 1) == '"'
+                   || row.charAt(runStart - 1) == '*'
+                   || CcddUtilities.isSplitWhiteSpace(row.charAt(runStart - 1))))
+        {
+            runStart--;
+        }
+
+        int removeStart = end;
+
+        // Check if any trailing characters can form part of an empty column
+        if (runStart != end)
+        {
+            // Flags indicating if the characters from each position to the end of the row
+            // consist entirely of commas, white space, asterisks, and empty quotes
+            boolean[] isRemovable = new boolean[end - runStart + 1];
+            isRemovable[end - runStart] = true;
+
+            // Step backwards through each of the trailing characters
+            for (int index = end - 1; index >= runStart; index--)
+            {
+                char character = row.charAt(index);
+
+                // Check if the character is a comma, white space, or asterisk followed by
+                // removable characters
+                if (character != '"' && isRemovable[index + 1 - runStart])
+                {
+                    isRemovable[index - runStart] = true;
+                }
+                // Check if the character begins empty quotes followed by a comma ("",) or a comma
+                // followed by empty quotes (,"")
+                else if (character == '"' || (character == ',' && index + 1 < end
+                                              && row.charAt(index + 1) == '"'))
+                {
+                    // Skip the opening quote and any white space characters
+                    int next = index + (character == '"'
+                                                         ? 1
+                                                         : 2);
+
+                    while (next < end && CcddUtilities.isSplitWhiteSpace(row.charAt(next)))
+                    {
+                        next++;
+                    }
+
+                    // Check if the closing quote is present
+                    if (next < end && row.charAt(next) == '"')
+                    {
+                        next++;
+
+                        // Check if the empty quotes follow a comma, or are followed by a comma,
+                        // and the remaining characters are removable
+                        if (character == ','
+                            ? isRemovable[next - runStart]
+                            : next < end
+                              && row.charAt(next) == ','
+                              && isRemovable[next + 1 - runStart])
+                        {
+                            isRemovable[index - runStart] = true;
+                        }
+                    }
+                }
+
+                // Check if the characters from this position onward are removable
+                if (isRemovable[index - runStart])
+                {
+                    removeStart = index;
+                }
+            }
+        }
+
+        return removeStart == end
+                                  ? row
+                                  : row.substring(0, removeStart) + row.substring(end);
+    }
+
+    /**********************************************************************************************
+     * CSV import file reader class. When several files are imported the CSV files are read, using
+     * readImportFile(), by background threads while the preceding files are imported. The files
+     * are read in the order supplied, and only a limited number of files are read ahead of the
+     * file being imported so that the memory used is bounded
+     *********************************************************************************************/
+    protected static class ImportFileReader
+    {
+        private final FileEnvVar[] importFiles;
+
+        // Rows read from each file (or the exception or error if the file couldn't be read); null
+        // if the file hasn't been read, or if its rows have been retrieved
+        private final Object[] fileRows;
+
+        // Maximum number of files read ahead of the file being imported
+        private final int maxReadAhead;
+
+        // Index of the next file to read, and the index of the file after the one being imported
+        private int nextIndex;
+        private int importIndex;
+
+        // Flag that indicates if reading is stopped
+        private boolean isStopped;
+
+        /******************************************************************************************
+         * CSV import file reader class constructor. The reader threads are started
+         *
+         * @param importFiles
+         *            array of import files; only the CSV files are read
+         *
+         * @param numThreads
+         *            number of files to read at the same time
+         *****************************************************************************************/
+        ImportFileReader(FileEnvVar[] importFiles, int numThreads)
+        {
+            this.importFiles = importFiles;
+            fileRows = new Object[importFiles.length];
+            maxReadAhead = numThreads * 2;
+            nextIndex = 0;
+            importIndex = 0;
+            isStopped = false;
+
+            // Step through each reader thread
+            for (int index = 0; index < numThreads; index++)
+            {
+                // Create a thread to read the files
+                Thread reader = new Thread(new Runnable()
+                {
+                    /******************************************************************************
+                     * Read import files until all of the files are read or reading is stopped
+                     *****************************************************************************/
+                    @Override
+                    public void run()
+                    {
+                        int fileIndex;
+
+                        // Continue while a file remains to be read
+                        while ((fileIndex = getNextFileIndex()) != -1)
+                        {
+                            Object rows;
+
+                            try
+                            {
+                                // Read the file's rows
+                                rows = readImportFile(ImportFileReader.this.importFiles[fileIndex]);
+                            }
+                            catch (Throwable t)
+                            {
+                                // Store the exception or error so that it's reported when the
+                                // file is imported. This includes unanticipated errors (e.g.,
+                                // insufficient memory), which would otherwise leave the import
+                                // waiting for the file's rows indefinitely
+                                rows = t;
+                            }
+
+                            // Store the file's rows
+                            setFileRows(fileIndex, rows);
+                        }
+                    }
+                }, "CCDD import file reader " + (index + 1));
+
+                // The reader threads don't prevent the application from exiting
+                reader.setDaemon(true);
+                reader.start();
+            }
+        }
+
+        /******************************************************************************************
+         * Check if the specified file is a CSV file
+         *
+         * @param importFile
+         *            import file reference
+         *
+         * @return true if the file has a CSV file extension
+         *****************************************************************************************/
+        private static boolean isCSVFile(FileEnvVar importFile)
+        {
+            return importFile.getAbsolutePath().endsWith(FileExtension.CSV.getExtension());
+        }
+
+        /******************************************************************************************
+         * Get the index of the next CSV file to read. The reader thread waits if the maximum
+         * number of files has been read ahead of the file being imported
+         *
+         * @return Index of the next CSV file to read; -1 if no files remain or reading is stopped
+         *****************************************************************************************/
+        private synchronized int getNextFileIndex()
+        {
+            int fileIndex = -1;
+
+            // Continue while reading isn't stopped and a file remains to be read
+            while (!isStopped && nextIndex < importFiles.length)
+            {
+                // Check if the file isn't in CSV format. The check is repeated after each wait
+                // since another reader thread may have advanced to a file that isn't a CSV file
+                if (!isCSVFile(importFiles[nextIndex]))
+                {
+                    // Skip the file
+                    nextIndex++;
+                }
+                // Check if the maximum number of files are read ahead of the file being imported
+                else if (nextIndex >= importIndex + maxReadAhead)
+                {
+                    try
+                    {
+                        // Wait for the file being imported to advance
+                        wait();
+                    }
+                    catch (InterruptedException ie)
+                    {
+                        // Stop reading if the thread is interrupted
+                        isStopped = true;
+                    }
+                }
+                // The file can be read
+                else
+                {
+                    break;
+                }
+            }
+
+            // Check if reading isn't stopped and a file remains to be read
+            if (!isStopped && nextIndex < importFiles.length)
+            {
+                fileIndex = nextIndex;
+                nextIndex++;
+            }
+
+            return fileIndex;
+        }
+
+        /******************************************************************************************
+         * Store the rows read from a file
+         *
+         * @param fileIndex
+         *            index of the file
+         *
+         * @param rows
+         *            list of the rows read from the file, or the exception or error if the file
+         *            couldn't be read
+         *****************************************************************************************/
+        private synchronized void setFileRows(int fileIndex, Object rows)
+        {
+            // Check if reading isn't stopped
+            if (!isStopped)
+            {
+                fileRows[fileIndex] = rows;
+                notifyAll();
+            }
+        }
+
+        /******************************************************************************************
+         * Get the rows read from the specified file, waiting until the file has been read. The
+         * rows are released by the reader once retrieved
+         *
+         * @param fileIndex
+         *            index of the file in the array of import files
+         *
+         * @return List of the rows read from the file; null if the file isn't a CSV file, or if
+         *         reading stopped before the file was read
+         *
+         * @throws IOException
+         *             If an import file I/O error occurred reading the file
+         *
+         * @throws InterruptedException
+         *             If the wait for the file to be read is interrupted
+         *****************************************************************************************/
+        @SuppressWarnings("unchecked")
+        protected synchronized List<String[]> getFileRows(int fileIndex) throws IOException,
+                                                                          InterruptedException
+        {
+            Object rows = null;
+
+            // Allow the reader threads to read ahead of this file
+            importIndex = Math.max(importIndex, fileIndex + 1);
+            notifyAll();
+
+            // Check if the file is a CSV file
+            if (isCSVFile(importFiles[fileIndex]))
+            {
+                // Wait until the file has been read
+                while (fileRows[fileIndex] == null && !isStopped)
+                {
+                    wait();
+                }
+
+                // Get the file's rows and release the reader's reference to them
+                rows = fileRows[fileIndex];
+                fileRows[fileIndex] = null;
+
+                // Check if the file couldn't be read
+                if (rows instanceof IOException)
+                {
+                    throw (IOException) rows;
+                }
+                // Check if an unanticipated exception occurred reading the file
+                else if (rows instanceof RuntimeException)
+                {
+                    throw (RuntimeException) rows;
+                }
+                // Check if an error occurred reading the file
+                else if (rows instanceof Error)
+                {
+                    throw (Error) rows;
+                }
+            }
+
+            return (List<String[]>) rows;
+        }
+
+        /******************************************************************************************
+         * Stop reading files. Any files already read are released
+         *****************************************************************************************/
+        protected synchronized void stop()
+        {
+            isStopped = true;
+            Arrays.fill(fileRows, null);
+            notifyAll();
+        }
+    }
+
     /**********************************************************************************************
      * Build the information from the table definition(s) in the current file
      *
@@ -239,8 +698,6 @@ public class CcddCSVHandler extends CcddImportSupportHandler implements CcddImpo
                                                               IOException,
                                                               Exception
     {
-        BufferedReader br = null;
-
         try
         {
             // Flags indicating if importing should continue after an input error is detected
@@ -265,6 +722,13 @@ public class CcddCSVHandler extends CcddImportSupportHandler implements CcddImpo
             List<String[]> reservedMsgIDDefns = new ArrayList<String[]>();
             tableDefinitions = new ArrayList<TableDefinition>();
 
+            // Check if the file's rows weren't read prior to the import
+            if (importRows == null)
+            {
+                // Read the rows from the file. The rows are read once and used for each pass
+                importRows = readImportFile(importFile);
+            }
+
             // Make three passes through the file, first to get the input types (which must be
             // processed prior to adding a table type), second to get the table types, input types,
             // data types, and macros, and then a third pass to read the table data and fields
@@ -273,18 +737,15 @@ public class CcddCSVHandler extends CcddImportSupportHandler implements CcddImpo
                 int columnNumber = 0;
                 String groupDefnName = null;
 
-                // Create a buffered reader to read the file
-                br = new BufferedReader(new FileReader(importFile));
-
                 // Initialize the import tag
                 CSVTags importTag = null;
 
-                // Read first line in file
-                String line = br.readLine();
+                // Start with the first row in the file
+                int rowIndex = 0;
 
                 // Continue to read the file until EOF is reached or an error is detected. This
                 // outer while loop accounts for multiple table definitions within a single file
-                while (line != null)
+                while (rowIndex < importRows.size())
                 {
                     TableTypeDefinition tableTypeDefn = null;
 
@@ -310,785 +771,739 @@ public class CcddCSVHandler extends CcddImportSupportHandler implements CcddImpo
 
                     // Continue to read the file until EOF is reached or an error is detected. This
                     // inner while loop reads the information for a single table in the file
-                    while (line != null)
+                    while (rowIndex < importRows.size())
                     {
-                        // Remove any leading/trailing white space characters from the row
-                        String trimmedLine = line.trim();
+                        // Get the row's column values. A copy is used so that the row is unchanged
+                        // for the subsequent passes
+                        columnValues = importRows.get(rowIndex).clone();
 
-                        // Check that the row isn't empty and isn't a comment line (starts with a #
-                        // character)
-                        if (!trimmedLine.isEmpty() && !trimmedLine.startsWith("#"))
-                        {
-                            boolean isTag = false;
-                            boolean isNextTable = false;
+                        boolean isTag = false;
+                        boolean isNextTable = false;
+
+                        // Remove any leading/trailing white space characters from the first
+                        // column value
+                        String firstColumn = columnValues[0].trim();
 
-                            // Check if the line contains an odd number of double quotes
-                            if (trimmedLine.replaceAll("[^\"]*(\")?", "$1").length() % 2 != 0)
+                        // Step through the import tags
+                        for (CSVTags csvTag : CSVTags.values())
+                        {
+                            // Check if the first column value matches the tag name
+                            if (csvTag.isTag(firstColumn))
                             {
-                                String nextLine = null;
+                                isTag = true;
+
+                                // Set the import tag and stop searching
+                                importTag = csvTag;
 
-                                // Step through the subsequent lines in order to find the end of
-                                // multi-line value
-                                while ((nextLine = br.readLine()) != null)
+                                // Check if this is the table name and table type tag
+                                if (CSVTags.NAME_TYPE.isTag(firstColumn))
                                 {
-                                    // Append the line to the preceding one, inserting the line
-                                    // feed. The non-trimmed variable is used so that trailing
-                                    // spaces within a quoted, multiple-line field aren't lost
-                                    line += "\n" + nextLine;
-
-                                    // Check if this is the line that ends the multi-line value
-                                    // (i.e., it ends with one double quote)
-                                    if (nextLine.replaceAll("[^\"]*(\")?", "$1").length() % 2 != 0)
+                                    // Check if this is the third pass and if the name and type
+                                    // are already set; if so, this is the beginning of another
+                                    // table's information
+                                    if (loop == 3 && !tablePath.isEmpty())
                                     {
-                                        // Stop searching; the multi-line string
-                                        // has been
-                                        // concatenated to the initial line
-                                        break;
+                                        // Set the flag to indicate that this is the beginning
+                                        // of the next table definition
+                                        isNextTable = true;
                                     }
                                 }
+                                // Check if this is the table type tag
+                                else if (CSVTags.TABLE_TYPE.isTag(firstColumn))
+                                {
+                                    // Set the flag so that the next row is treated as the
+                                    // table
+                                    // type name and description
+                                    isTypeName = true;
+                                }
 
-                                // Remove any leading/trailing white space characters from the
-                                // combined multiple line row. This only removed white space
-                                // outside the quotes that bound the text
-                                trimmedLine = line.trim();
+                                break;
                             }
+                        }
 
-                            // Remove any trailing commas and empty quotes from the row. If the CSV
-                            // file is generated from a spreadsheet application then extra commas
-                            // are appended to a row if needed for the number of columns to be
-                            // equal with the other rows. These empty trailing columns are ignored
-                            line = trimmedLine.replaceAll("(?:[,\\s*]|\"\\s*\",|,\"\\s*\")*$", "");
-
-                            // Parse the import data. The values are comma- separated; however,
-                            // commas within quotes are ignored - this allows commas to be included
-                            // in the data values
-                            columnValues = CcddUtilities.splitAndRemoveQuotes(line);
-
-                            // Remove any leading/trailing white space characters from the first
-                            // column value
-                            String firstColumn = columnValues[0].trim();
+                        // Check if this is the beginning of the next table definition
+                        if (isNextTable)
+                        {
+                            // Stop processing the file in order to create the table
+                            // prior to beginning another one
+                            break;
+                        }
 
-                            // Step through the import tags
-                            for (CSVTags csvTag : CSVTags.values())
+                        // Not a tag (or no table name and type are defined); read in the
+                        // information based on the last tag read
+                        if (!isTag)
+                        {
+                            // Check if this is the first pass
+                            if (loop == 1)
                             {
-                                // Check if the first column value matches the tag name
-                                if (csvTag.isTag(firstColumn))
+                                switch (importTag)
                                 {
-                                    isTag = true;
-
-                                    // Set the import tag and stop searching
-                                    importTag = csvTag;
-
-                                    // Check if this is the table name and table type tag
-                                    if (CSVTags.NAME_TYPE.isTag(firstColumn))
-                                    {
-                                        // Check if this is the third pass and if the name and type
-                                        // are already set; if so, this is the beginning of another
-                                        // table's information
-                                        if (loop == 3 && !tablePath.isEmpty())
+                                    case INPUT_TYPE:
+                                        // Check if all definitions are to be loaded
+                                        if (importType == ImportType.IMPORT_ALL)
                                         {
-                                            // Set the flag to indicate that this is the beginning
-                                            // of the next table definition
-                                            isNextTable = true;
+                                            // Check if the expected number of inputs is
+                                            // present
+                                            if (columnValues.length == InputTypesColumn.values().length - 1)
+                                            {
+                                                // Check if the input type definition is valid
+                                                String[] inputTypeDefn = checkInputTypeDefinition(new String[] {columnValues[InputTypesColumn.NAME.ordinal()],
+                                                                                                                columnValues[InputTypesColumn.DESCRIPTION.ordinal()],
+                                                                                                                columnValues[InputTypesColumn.MATCH.ordinal()],
+                                                                                                                columnValues[InputTypesColumn.ITEMS.ordinal()],
+                                                                                                                columnValues[InputTypesColumn.FORMAT.ordinal()],
+                                                                                                                ""});
+
+                                                // Add the input type definition (add a blank
+                                                // to represent the OID)
+                                                inputTypeDefns.add(inputTypeDefn);
+                                            }
+                                            // The number of inputs is incorrect
+                                            else
+                                            {
+                                                // Check if the error should be ignored or the
+                                                // import canceled
+                                                continueOnInputTypeError = getErrorResponse(continueOnInputTypeError,
+                                                                                            "<html><b>Missing or extra input type definition "
+                                                                                                                      + "input(s) in import file '</b>"
+                                                                                                                      + importFile.getAbsolutePath()
+                                                                                                                      + "<b>'; continue?",
+                                                                                            "Input Type Error",
+                                                                                            "Ignore this input type",
+                                                                                            "Ignore this and any remaining invalid input types",
+                                                                                            "Stop importing",
+                                                                                            parent);
+                                            }
                                         }
-                                    }
-                                    // Check if this is the table type tag
-                                    else if (CSVTags.TABLE_TYPE.isTag(firstColumn))
-                                    {
-                                        // Set the flag so that the next row is treated as the
-                                        // table
-                                        // type name and description
-                                        isTypeName = true;
-                                    }
 
-                                    break;
-                                }
-                            }
+                                        break;
 
-                            // Check if this is the beginning of the next table definition
-                            if (isNextTable)
-                            {
-                                // Stop processing the file in order to create the table
-                                // prior to beginning another one
-                                break;
+                                    case CELL_DATA:
+                                    case COLUMN_DATA:
+                                    case DATA_FIELD:
+                                    case DATA_TYPE:
+                                    case DESCRIPTION:
+                                    case MACRO:
+                                    case NAME_TYPE:
+                                    case PROJECT_DATA_FIELD:
+                                    case RESERVED_MSG_IDS:
+                                    case TABLE_TYPE:
+                                    case TABLE_TYPE_DATA_FIELD:
+                                    case GROUP:
+                                    case GROUP_DATA_FIELD:
+                                    case VARIABLE_PATHS:
+                                    case SCRIPT_ASSOCIATION:
+                                        break;
+                                }
                             }
-
-                            // Not a tag (or no table name and type are defined); read in the
-                            // information based on the last tag read
-                            if (!isTag)
+                            // Check if this is the second pass
+                            else if (loop == 2)
                             {
-                                // Check if this is the first pass
-                                if (loop == 1)
+                                switch (importTag)
                                 {
-                                    switch (importTag)
-                                    {
-                                        case INPUT_TYPE:
-                                            // Check if all definitions are to be loaded
-                                            if (importType == ImportType.IMPORT_ALL)
+                                    case TABLE_TYPE:
+                                        // Check if all definitions are to be loaded
+                                        if (importType == ImportType.IMPORT_ALL)
+                                        {
+                                            // Check if this is the table type name and
+                                            // description
+                                            if (isTypeName)
                                             {
+                                                // Reset the flag so that subsequent rows are
+                                                // treated as column definitions
+                                                isTypeName = false;
+                                                columnNumber = NUM_HIDDEN_COLUMNS;
+
                                                 // Check if the expected number of inputs is
                                                 // present
-                                                if (columnValues.length == InputTypesColumn.values().length - 1)
+                                                if (columnValues.length == 2
+                                                    || columnValues.length == 1)
                                                 {
-                                                    // Check if the input type definition is valid
-                                                    String[] inputTypeDefn = checkInputTypeDefinition(new String[] {columnValues[InputTypesColumn.NAME.ordinal()],
-                                                                                                                    columnValues[InputTypesColumn.DESCRIPTION.ordinal()],
-                                                                                                                    columnValues[InputTypesColumn.MATCH.ordinal()],
-                                                                                                                    columnValues[InputTypesColumn.ITEMS.ordinal()],
-                                                                                                                    columnValues[InputTypesColumn.FORMAT.ordinal()],
-                                                                                                                    ""});
-
-                                                    // Add the input type definition (add a blank
-                                                    // to represent the OID)
-                                                    inputTypeDefns.add(inputTypeDefn);
+                                                    // Add the table type definition
+                                                    tableTypeDefn = new TableTypeDefinition(columnValues[0],
+                                                                                            (columnValues.length == 2
+                                                                                                                      ? columnValues[1]
+                                                                                                                      : ""));
+                                                    tableTypeDefns.add(tableTypeDefn);
                                                 }
                                                 // The number of inputs is incorrect
                                                 else
                                                 {
-                                                    // Check if the error should be ignored or the
-                                                    // import canceled
-                                                    continueOnInputTypeError = getErrorResponse(continueOnInputTypeError,
-                                                                                                "<html><b>Missing or extra input type definition "
-                                                                                                                          + "input(s) in import file '</b>"
+                                                    // Check if the error should be ignored or
+                                                    // the import canceled
+                                                    continueOnTableTypeError = getErrorResponse(continueOnTableTypeError,
+                                                                                                "<html><b>Missing table type name in import file '</b>"
                                                                                                                           + importFile.getAbsolutePath()
                                                                                                                           + "<b>'; continue?",
-                                                                                                "Input Type Error",
-                                                                                                "Ignore this input type",
-                                                                                                "Ignore this and any remaining invalid input types",
+                                                                                                "Table Type Error",
+                                                                                                "Ignore this table type",
+                                                                                                "Ignore this and any remaining invalid table types",
                                                                                                 "Stop importing",
                                                                                                 parent);
                                                 }
                                             }
-
-                                            break;
-
-                                        case CELL_DATA:
-                                        case COLUMN_DATA:
-                                        case DATA_FIELD:
-                                        case DATA_TYPE:
-                                        case DESCRIPTION:
-                                        case MACRO:
-                                        case NAME_TYPE:
-                                        case PROJECT_DATA_FIELD:
-                                        case RESERVED_MSG_IDS:
-                                        case TABLE_TYPE:
-                                        case TABLE_TYPE_DATA_FIELD:
-                                        case GROUP:
-                                        case GROUP_DATA_FIELD:
-                                        case VARIABLE_PATHS:
-                                        case SCRIPT_ASSOCIATION:
-                                            break;
-                                    }
-                                }
-                                // Check if this is the second pass
-                                else if (loop == 2)
-                                {
-                                    switch (importTag)
-                                    {
-                                        case TABLE_TYPE:
-                                            // Check if all definitions are to be loaded
-                                            if (importType == ImportType.IMPORT_ALL)
+                                            // This is a column definition
+                                            else
                                             {
-                                                // Check if this is the table type name and
-                                                // description
-                                                if (isTypeName)
+                                                // Check if the expected number of inputs is
+                                                // present
+                                                if (columnValues.length == TableTypeEditorColumnInfo.values().length - 1)
                                                 {
-                                                    // Reset the flag so that subsequent rows are
-                                                    // treated as column definitions
-                                                    isTypeName = false;
-                                                    columnNumber = NUM_HIDDEN_COLUMNS;
-
-                                                    // Check if the expected number of inputs is
-                                                    // present
-                                                    if (columnValues.length == 2
-                                                        || columnValues.length == 1)
-                                                    {
-                                                        // Add the table type definition
-                                                        tableTypeDefn = new TableTypeDefinition(columnValues[0],
-                                                                                                (columnValues.length == 2
-                                                                                                                          ? columnValues[1]
-                                                                                                                          : ""));
-                                                        tableTypeDefns.add(tableTypeDefn);
-                                                    }
-                                                    // The number of inputs is incorrect
-                                                    else
-                                                    {
-                                                        // Check if the error should be ignored or
-                                                        // the import canceled
-                                                        continueOnTableTypeError = getErrorResponse(continueOnTableTypeError,
-                                                                                                    "<html><b>Missing table type name in import file '</b>"
-                                                                                                                              + importFile.getAbsolutePath()
-                                                                                                                              + "<b>'; continue?",
-                                                                                                    "Table Type Error",
-                                                                                                    "Ignore this table type",
-                                                                                                    "Ignore this and any remaining invalid table types",
-                                                                                                    "Stop importing",
-                                                                                                    parent);
-                                                    }
+                                                    // Add the table type column definition,
+                                                    // checking for (and if possible,
+                                                    // correcting) errors
+                                                    continueOnTableTypeError = addImportedTableTypeColumnDefinition(continueOnTableTypeError,
+                                                                                                                    tableTypeDefn,
+                                                                                                                    new String[] {String.valueOf(columnNumber),
+                                                                                                                                  columnValues[TableTypeEditorColumnInfo.NAME.ordinal() - 1],
+                                                                                                                                  columnValues[TableTypeEditorColumnInfo.DESCRIPTION.ordinal() - 1],
+                                                                                                                                  columnValues[TableTypeEditorColumnInfo.INPUT_TYPE.ordinal() - 1],
+                                                                                                                                  columnValues[TableTypeEditorColumnInfo.UNIQUE.ordinal() - 1],
+                                                                                                                                  columnValues[TableTypeEditorColumnInfo.REQUIRED.ordinal() - 1],
+                                                                                                                                  columnValues[TableTypeEditorColumnInfo.STRUCTURE_ALLOWED.ordinal()
+                                                                                                                                               - 1],
+                                                                                                                                  columnValues[TableTypeEditorColumnInfo.POINTER_ALLOWED.ordinal()
+                                                                                                                                               - 1]},
+                                                                                                                    importFile.getAbsolutePath(),
+                                                                                                                    inputTypeHandler,
+                                                                                                                    parent);
+
+                                                    // Update the column index number for the
+                                                    // next column definition
+                                                    columnNumber++;
                                                 }
-                                                // This is a column definition
+                                                // The number of inputs is incorrect
                                                 else
                                                 {
-                                                    // Check if the expected number of inputs is
-                                                    // present
-                                                    if (columnValues.length == TableTypeEditorColumnInfo.values().length - 1)
-                                                    {
-                                                        // Add the table type column definition,
-                                                        // checking for (and if possible,
-                                                        // correcting) errors
-                                                        continueOnTableTypeError = addImportedTableTypeColumnDefinition(continueOnTableTypeError,
-                                                                                                                        tableTypeDefn,
-                                                                                                                        new String[] {String.valueOf(columnNumber),
-                                                                                                                                      columnValues[TableTypeEditorColumnInfo.NAME.ordinal() - 1],
-                                                                                                                                      columnValues[TableTypeEditorColumnInfo.DESCRIPTION.ordinal() - 1],
-                                                                                                                                      columnValues[TableTypeEditorColumnInfo.INPUT_TYPE.ordinal() - 1],
-                                                                                                                                      columnValues[TableTypeEditorColumnInfo.UNIQUE.ordinal() - 1],
-                                                                                                                                      columnValues[TableTypeEditorColumnInfo.REQUIRED.ordinal() - 1],
-                                                                                                                                      columnValues[TableTypeEditorColumnInfo.STRUCTURE_ALLOWED.ordinal()
-                                                                                                                                                   - 1],
-                                                                                                                                      columnValues[TableTypeEditorColumnInfo.POINTER_ALLOWED.ordinal()
-                                                                                                                                                   - 1]},
-                                                                                                                        importFile.getAbsolutePath(),
-                                                                                                                        inputTypeHandler,
-                                                                                                                        parent);
-
-                                                        // Update the column index number for the
-                                                        // next column definition
-                                                        columnNumber++;
-                                                    }
-                                                    // The number of inputs is incorrect
-                                                    else
-                                                    {
-                                                        // Check if the error should be ignored or
-                                                        // the import canceled
-                                                        continueOnTableTypeError = getErrorResponse(continueOnTableTypeError,
-                                                                                                    "<html><b>Table type '</b>"
-                                                                                                                              + tableTypeDefn.getTypeName()
-                                                                                                                              + "<b>' definition has missing or extra "
-                                                                                                                              + "input(s) in import file '</b>"
-                                                                                                                              + importFile.getAbsolutePath()
-                                                                                                                              + "<b>'; continue?",
-                                                                                                    "Table Type Error",
-                                                                                                    "Ignore this table type",
-                                                                                                    "Ignore this and any remaining invalid table types",
-                                                                                                    "Stop importing",
-                                                                                                    parent);
-                                                    }
+                                                    // Check if the error should be ignored or
+                                                    // the import canceled
+                                                    continueOnTableTypeError = getErrorResponse(continueOnTableTypeError,
+                                                                                                "<html><b>Table type '</b>"
+                                                                                                                          + tableTypeDefn.getTypeName()
+                                                                                                                          + "<b>' definition has missing or extra "
+                                                                                                                          + "input(s) in import file '</b>"
+                                                                                                                          + importFile.getAbsolutePath()
+                                                                                                                          + "<b>'; continue?",
+                                                                                                "Table Type Error",
+                                                                                                "Ignore this table type",
+                                                                                                "Ignore this and any remaining invalid table types",
+                                                                                                "Stop importing",
+                                                                                                parent);
                                                 }
                                             }
+                                        }
 
-                                            break;
+                                        break;
 
-                                        case TABLE_TYPE_DATA_FIELD:
-                                            // Check if all definitions are to be loaded
-                                            if (importType == ImportType.IMPORT_ALL)
-                                            {
-                                                // Append empty columns as needed to fill out the
-                                                // expected number of inputs
-                                                columnValues = CcddUtilities.appendArrayColumns(columnValues,
-                                                                                                FieldsColumn.values().length
-                                                                                                              - 1
-                                                                                                              - columnValues.length);
+                                    case TABLE_TYPE_DATA_FIELD:
+                                        // Check if all definitions are to be loaded
+                                        if (importType == ImportType.IMPORT_ALL)
+                                        {
+                                            // Append empty columns as needed to fill out the
+                                            // expected number of inputs
+                                            columnValues = CcddUtilities.appendArrayColumns(columnValues,
+                                                                                            FieldsColumn.values().length
+                                                                                                          - 1
+                                                                                                          - columnValues.length);
 
-                                                // Add the data field definition, checking for (and
-                                                // if possible, correcting) errors
-                                                continueOnTableTypeFieldError = addImportedDataFieldDefinition(continueOnTableTypeFieldError,
-                                                                                                               tableTypeDefn,
-                                                                                                               new String[] {CcddFieldHandler.getFieldTypeName(tableTypeDefn.getTypeName()),
-                                                                                                                             columnValues[FieldsColumn.FIELD_NAME.ordinal() - 1],
-                                                                                                                             columnValues[FieldsColumn.FIELD_DESC.ordinal() - 1],
-                                                                                                                             columnValues[FieldsColumn.FIELD_SIZE.ordinal() - 1],
-                                                                                                                             columnValues[FieldsColumn.FIELD_TYPE.ordinal() - 1],
-                                                                                                                             columnValues[FieldsColumn.FIELD_REQUIRED.ordinal() - 1],
-                                                                                                                             columnValues[FieldsColumn.FIELD_APPLICABILITY.ordinal() - 1],
-                                                                                                                             columnValues[FieldsColumn.FIELD_VALUE.ordinal() - 1],
-                                                                                                                             columnValues[FieldsColumn.FIELD_INHERITED.ordinal() - 1]},
-                                                                                                               importFile.getAbsolutePath(),
-                                                                                                               inputTypeHandler,
-                                                                                                               fieldHandler,
-                                                                                                               parent);
-                                            }
+                                            // Add the data field definition, checking for (and
+                                            // if possible, correcting) errors
+                                            continueOnTableTypeFieldError = addImportedDataFieldDefinition(continueOnTableTypeFieldError,
+                                                                                                           tableTypeDefn,
+                                                                                                           new String[] {CcddFieldHandler.getFieldTypeName(tableTypeDefn.getTypeName()),
+                                                                                                                         columnValues[FieldsColumn.FIELD_NAME.ordinal() - 1],
+                                                                                                                         columnValues[FieldsColumn.FIELD_DESC.ordinal() - 1],
+                                                                                                                         columnValues[FieldsColumn.FIELD_SIZE.ordinal() - 1],
+                                                                                                                         columnValues[FieldsColumn.FIELD_TYPE.ordinal() - 1],
+                                                                                                                         columnValues[FieldsColumn.FIELD_REQUIRED.ordinal() - 1],
+                                                                                                                         columnValues[FieldsColumn.FIELD_APPLICABILITY.ordinal() - 1],
+                                                                                                                         columnValues[FieldsColumn.FIELD_VALUE.ordinal() - 1],
+                                                                                                                         columnValues[FieldsColumn.FIELD_INHERITED.ordinal() - 1]},
+                                                                                                           importFile.getAbsolutePath(),
+                                                                                                           inputTypeHandler,
+                                                                                                           fieldHandler,
+                                                                                                           parent);
+                                        }
 
-                                            break;
+                                        break;
 
-                                        case DATA_TYPE:
-                                            // Check if all definitions are to be loaded
-                                            if (importType == ImportType.IMPORT_ALL)
+                                    case DATA_TYPE:
+                                        // Check if all definitions are to be loaded
+                                        if (importType == ImportType.IMPORT_ALL)
+                                        {
+                                            // Check if the expected number of inputs is
+                                            // present
+                                            if (columnValues.length == DataTypesColumn.values().length - 1)
                                             {
-                                                // Check if the expected number of inputs is
-                                                // present
-                                                if (columnValues.length == DataTypesColumn.values().length - 1)
-                                                {
-                                                    // Build the data type definition
-                                                    String[] dataTypeDefn = new String[] {columnValues[DataTypesColumn.USER_NAME.ordinal()],
-                                                                                          columnValues[DataTypesColumn.C_NAME.ordinal()],
-                                                                                          columnValues[DataTypesColumn.SIZE.ordinal()],
-                                                                                          columnValues[DataTypesColumn.BASE_TYPE.ordinal()],
-                                                                                          ""};
-
-                                                    // Check if the data type definition is valid
-                                                    checkDataTypeDefinition(dataTypeDefn);
-
-                                                    // Add the data type definition (add a blank to
-                                                    // represent the OID)
-                                                    dataTypeDefns.add(dataTypeDefn);
-                                                }
-                                                // The number of inputs is incorrect
-                                                else
-                                                {
-                                                    // Check if the error should be ignored or the
-                                                    // import canceled
-                                                    continueOnDataTypeError = getErrorResponse(continueOnDataTypeError,
-                                                                                               "<html><b>Missing or extra data type definition "
-                                                                                                                        + "input(s) in import file '</b>"
-                                                                                                                        + importFile.getAbsolutePath()
-                                                                                                                        + "<b>'; continue?",
-                                                                                               "Data Type Error",
-                                                                                               "Ignore this data type",
-                                                                                               "Ignore this and any remaining invalid data types",
-                                                                                               "Stop importing",
-                                                                                               parent);
-                                                }
+                                                // Build the data type definition
+                                                String[] dataTypeDefn = new String[] {columnValues[DataTypesColumn.USER_NAME.ordinal()],
+                                                                                      columnValues[DataTypesColumn.C_NAME.ordinal()],
+                                                                                      columnValues[DataTypesColumn.SIZE.ordinal()],
+                                                                                      columnValues[DataTypesColumn.BASE_TYPE.ordinal()],
+                                                                                      ""};
+
+                                                // Check if the data type definition is valid
+                                                checkDataTypeDefinition(dataTypeDefn);
+
+                                                // Add the data type definition (add a blank to
+                                                // represent the OID)
+                                                dataTypeDefns.add(dataTypeDefn);
                                             }
-
-                                            break;
-
-                                        case MACRO:
-                                            // Check if all definitions are to be loaded
-                                            if (importType == ImportType.IMPORT_ALL)
+                                            // The number of inputs is incorrect
+                                            else
                                             {
-                                                // Check if the expected number of inputs is
-                                                // present
-                                                if (columnValues.length == 2
-                                                    || columnValues.length == 1)
-                                                {
-                                                    // Build the macro definition
-                                                    String[] macroDefn = new String[] {columnValues[0],
-                                                                                       (columnValues.length == 2
-                                                                                                                 ? columnValues[1]
-                                                                                                                 : ""),
-                                                                                       ""};
-
-                                                    // Check if the macro definition is valid
-                                                    checkMacroDefinition(macroDefn);
-
-                                                    // Add the macro definition (add a blank to
-                                                    // represent the OID)
-                                                    macroDefns.add(macroDefn);
-                                                }
-                                                // The number of inputs is incorrect
-                                                else
-                                                {
-                                                    // Check if the error should be ignored or the
-                                                    // import canceled
-                                                    continueOnMacroError = getErrorResponse(continueOnMacroError,
-                                                                                            "<html><b>Missing or extra macro definition "
-                                                                                                                  + "input(s) in import file '</b>"
-                                                                                                                  + importFile.getAbsolutePath()
-                                                                                                                  + "<b>'; continue?",
-                                                                                            "Macro Error",
-                                                                                            "Ignore this macro",
-                                                                                            "Ignore this and any remaining invalid macros",
-                                                                                            "Stop importing",
-                                                                                            parent);
-                                                }
+                                                // Check if the error should be ignored or the
+                                                // import canceled
+                                                continueOnDataTypeError = getErrorResponse(continueOnDataTypeError,
+                                                                                           "<html><b>Missing or extra data type definition "
+                                                                                                                    + "input(s) in import file '</b>"
+                                                                                                                    + importFile.getAbsolutePath()
+                                                                                                                    + "<b>'; continue?",
+                                                                                           "Data Type Error",
+                                                                                           "Ignore this data type",
+                                                                                           "Ignore this and any remaining invalid data types",
+                                                                                           "Stop importing",
+                                                                                           parent);
                                             }
+                                        }
 
-                                            break;
+                                        break;
 
-                                        case RESERVED_MSG_IDS:
-                                            // Check if all definitions are to be loaded
-                                            if (importType == ImportType.IMPORT_ALL)
+                                    case MACRO:
+                                        // Check if all definitions are to be loaded
+                                        if (importType == ImportType.IMPORT_ALL)
+                                        {
+                                            // Check if the expected number of inputs is
+                                            // present
+                                            if (columnValues.length == 2
+                                                || columnValues.length == 1)
                                             {
-                                                // Check if the expected number of inputs is
-                                                // present
-                                                if (columnValues.length == 2
-                                                    || columnValues.length == 1)
-                                                {
-                                                    // Append empty columns as needed to fill out
-                                                    // the expected number of inputs
-                                                    columnValues = CcddUtilities.appendArrayColumns(columnValues,
-                                                                                                    2 - columnValues.length);
-
-                                                    // Add the reserved message ID definition (add
-                                                    // a blank to represent the OID)
-                                                    reservedMsgIDDefns.add(new String[] {columnValues[ReservedMsgIDsColumn.MSG_ID.ordinal()],
-                                                                                         columnValues[ReservedMsgIDsColumn.DESCRIPTION.ordinal()],
-                                                                                         ""});
-                                                }
-                                                // The number of inputs is incorrect
-                                                else
-                                                {
-                                                    // Check if the error should be ignored or the
-                                                    // import canceled
-                                                    continueOnReservedMsgIDError = getErrorResponse(continueOnReservedMsgIDError,
-                                                                                                    "<html><b>Missing or extra reserved message ID "
-                                                                                                                                  + "definition input(s) in import file '</b>"
-                                                                                                                                  + importFile.getAbsolutePath()
-                                                                                                                                  + "<b>'; continue?",
-                                                                                                    "Reserved Message ID Error",
-                                                                                                    "Ignore this data type",
-                                                                                                    "Ignore this and any remaining invalid reserved message IDs",
-                                                                                                    "Stop importing",
-                                                                                                    parent);
-                                                }
+                                                // Build the macro definition
+                                                String[] macroDefn = new String[] {columnValues[0],
+                                                                                   (columnValues.length == 2
+                                                                                                             ? columnValues[1]
+                                                                                                             : ""),
+                                                                                   ""};
+
+                                                // Check if the macro definition is valid
+                                                checkMacroDefinition(macroDefn);
+
+                                                // Add the macro definition (add a blank to
+                                                // represent the OID)
+                                                macroDefns.add(macroDefn);
+                                            }
+                                            // The number of inputs is incorrect
+                                            else
+                                            {
+                                                // Check if the error should be ignored or the
+                                                // import canceled
+                                                continueOnMacroError = getErrorResponse(continueOnMacroError,
+                                                                                        "<html><b>Missing or extra macro definition "
+                                                                                                              + "input(s) in import file '</b>"
+                                                                                                              + importFile.getAbsolutePath()
+                                                                                                              + "<b>'; continue?",
+                                                                                        "Macro Error",
+                                                                                        "Ignore this macro",
+                                                                                        "Ignore this and any remaining invalid macros",
+                                                                                        "Stop importing",
+                                                                                        parent);
                                             }
+                                        }
 
-                                            break;
+                                        break;
 
-                                        case PROJECT_DATA_FIELD:
-                                            // Check if all definitions are to be loaded
-                                            if (importType == ImportType.IMPORT_ALL)
+                                    case RESERVED_MSG_IDS:
+                                        // Check if all definitions are to be loaded
+                                        if (importType == ImportType.IMPORT_ALL)
+                                        {
+                                            // Check if the expected number of inputs is
+                                            // present
+                                            if (columnValues.length == 2
+                                                || columnValues.length == 1)
                                             {
-                                                // Append empty columns as needed to fill out the
-                                                // expected number of inputs
+                                                // Append empty columns as needed to fill out
+                                                // the expected number of inputs
                                                 columnValues = CcddUtilities.appendArrayColumns(columnValues,
-                                                                                                FieldsColumn.values().length
-                                                                                                              - 1
-                                                                                                              - columnValues.length);
+                                                                                                2 - columnValues.length);
 
-                                                // Add the data field definition, checking for (and
-                                                // if possible, correcting) errors
-                                                continueOnProjectFieldError = addImportedDataFieldDefinition(continueOnProjectFieldError,
-                                                                                                             projectDefn,
-                                                                                                             new String[] {CcddFieldHandler.getFieldProjectName(),
-                                                                                                                           columnValues[FieldsColumn.FIELD_NAME.ordinal() - 1],
-                                                                                                                           columnValues[FieldsColumn.FIELD_DESC.ordinal() - 1],
-                                                                                                                           columnValues[FieldsColumn.FIELD_SIZE.ordinal() - 1],
-                                                                                                                           columnValues[FieldsColumn.FIELD_TYPE.ordinal() - 1],
-                                                                                                                           columnValues[FieldsColumn.FIELD_REQUIRED.ordinal() - 1],
-                                                                                                                           columnValues[FieldsColumn.FIELD_APPLICABILITY.ordinal() - 1],
-                                                                                                                           columnValues[FieldsColumn.FIELD_VALUE.ordinal() - 1],
-                                                                                                                           columnValues[FieldsColumn.FIELD_INHERITED.ordinal() - 1]},
-                                                                                                             importFile.getAbsolutePath(),
-                                                                                                             inputTypeHandler,
-                                                                                                             fieldHandler,
-                                                                                                             parent);
+                                                // Add the reserved message ID definition (add
+                                                // a blank to represent the OID)
+                                                reservedMsgIDDefns.add(new String[] {columnValues[ReservedMsgIDsColumn.MSG_ID.ordinal()],
+                                                                                     columnValues[ReservedMsgIDsColumn.DESCRIPTION.ordinal()],
+                                                                                     ""});
                                             }
-
-                                            break;
-
-                                        case GROUP:
-                                            // Check if all definitions are to be loaded
-                                            if (importType == ImportType.IMPORT_ALL)
+                                            // The number of inputs is incorrect
+                                            else
                                             {
-                                                // Check if the expected number of inputs is
-                                                // present
-                                                if (columnValues.length == GroupDefinitionColumn.values().length
-                                                    || columnValues.length == GroupDefinitionColumn.values().length - 1)
-                                                {
-                                                    // Append empty columns as needed to fill out
-                                                    // the expected number of inputs
-                                                    columnValues = CcddUtilities.appendArrayColumns(columnValues,
-                                                                                                    GroupDefinitionColumn.values().length
-                                                                                                                  - columnValues.length);
-
-                                                    // Store the group name
-                                                    groupDefnName = columnValues[GroupDefinitionColumn.NAME.ordinal()];
-
-                                                    // Add the group definition, checking for (and
-                                                    // if possible, correcting) errors
-                                                    addImportedGroupDefinition(new String[] {groupDefnName,
-                                                                                             columnValues[GroupDefinitionColumn.DESCRIPTION.ordinal()],
-                                                                                             columnValues[GroupDefinitionColumn.IS_APPLICATION.ordinal()],
-                                                                                             columnValues[GroupDefinitionColumn.MEMBERS.ordinal()]},
-                                                                               importFile.getAbsolutePath(),
-                                                                               replaceExistingGroups,
-                                                                               groupHandler);
-                                                }
-                                                // The number of inputs is incorrect
-                                                else
-                                                {
-                                                    // Check if the error should be ignored or the
-                                                    // import canceled
-                                                    continueOnGroupError = getErrorResponse(continueOnGroupError,
-                                                                                            "<html><b>Group definition has missing "
-                                                                                                                  + "or extra input(s) in import file '</b>"
-                                                                                                                  + importFile.getAbsolutePath()
-                                                                                                                  + "<b>'; continue?",
-                                                                                            "Group Error",
-                                                                                            "Ignore this invalid group",
-                                                                                            "Ignore this and any remaining invalid group definitions",
-                                                                                            "Stop importing",
-                                                                                            parent);
-                                                }
+                                                // Check if the error should be ignored or the
+                                                // import canceled
+                                                continueOnReservedMsgIDError = getErrorResponse(continueOnReservedMsgIDError,
+                                                                                                "<html><b>Missing or extra reserved message ID "
+                                                                                                                              + "definition input(s) in import file '</b>"
+                                                                                                                              + importFile.getAbsolutePath()
+                                                                                                                              + "<b>'; continue?",
+                                                                                                "Reserved Message ID Error",
+                                                                                                "Ignore this data type",
+                                                                                                "Ignore this and any remaining invalid reserved message IDs",
+                                                                                                "Stop importing",
+                                                                                                parent);
                                             }
+                                        }
 
-                                            break;
+                                        break;
+
+                                    case PROJECT_DATA_FIELD:
+                                        // Check if all definitions are to be loaded
+                                        if (importType == ImportType.IMPORT_ALL)
+                                        {
+                                            // Append empty columns as needed to fill out the
+                                            // expected number of inputs
+                                            columnValues = CcddUtilities.appendArrayColumns(columnValues,
+                                                                                            FieldsColumn.values().length
+                                                                                                          - 1
+                                                                                                          - columnValues.length);
+
+                                            // Add the data field definition, checking for (and
+                                            // if possible, correcting) errors
+                                            continueOnProjectFieldError = addImportedDataFieldDefinition(continueOnProjectFieldError,
+                                                                                                         projectDefn,
+                                                                                                         new String[] {CcddFieldHandler.getFieldProjectName(),
+                                                                                                                       columnValues[FieldsColumn.FIELD_NAME.ordinal() - 1],
+                                                                                                                       columnValues[FieldsColumn.FIELD_DESC.ordinal() - 1],
+                                                                                                                       columnValues[FieldsColumn.FIELD_SIZE.ordinal() - 1],
+                                                                                                                       columnValues[FieldsColumn.FIELD_TYPE.ordinal() - 1],
+                                                                                                                       columnValues[FieldsColumn.FIELD_REQUIRED.ordinal() - 1],
+                                                                                                                       columnValues[FieldsColumn.FIELD_APPLICABILITY.ordinal() - 1],
+                                                                                                                       columnValues[FieldsColumn.FIELD_VALUE.ordinal() - 1],
+                                                                                                                       columnValues[FieldsColumn.FIELD_INHERITED.ordinal() - 1]},
+                                                                                                         importFile.getAbsolutePath(),
+                                                                                                         inputTypeHandler,
+                                                                                                         fieldHandler,
+                                                                                                         parent);
+                                        }
 
-                                        case GROUP_DATA_FIELD:
-                                            // Check if all definitions are to be loaded
-                                            if (importType == ImportType.IMPORT_ALL)
+                                        break;
+
+                                    case GROUP:
+                                        // Check if all definitions are to be loaded
+                                        if (importType == ImportType.IMPORT_ALL)
+                                        {
+                                            // Check if the expected number of inputs is
+                                            // present
+                                            if (columnValues.length == GroupDefinitionColumn.values().length
+                                                || columnValues.length == GroupDefinitionColumn.values().length - 1)
                                             {
-                                                // Append empty columns as needed to fill out the
-                                                // expected number of inputs
+                                                // Append empty columns as needed to fill out
+                                                // the expected number of inputs
                                                 columnValues = CcddUtilities.appendArrayColumns(columnValues,
-                                                                                                FieldsColumn.values().length
-                                                                                                              - 1
+                                                                                                GroupDefinitionColumn.values().length
                                                                                                               - columnValues.length);
 
-                                                // Add the data field definition, checking for (and
+                                                // Store the group name
+                                                groupDefnName = columnValues[GroupDefinitionColumn.NAME.ordinal()];
+
+                                                // Add the group definition, checking for (and
                                                 // if possible, correcting) errors
-                                                continueOnGroupFieldError = addImportedDataFieldDefinition(continueOnGroupFieldError,
-                                                                                                           projectDefn,
-                                                                                                           new String[] {CcddFieldHandler.getFieldGroupName(groupDefnName),
-                                                                                                                         columnValues[FieldsColumn.FIELD_NAME.ordinal() - 1],
-                                                                                                                         columnValues[FieldsColumn.FIELD_DESC.ordinal() - 1],
-                                                                                                                         columnValues[FieldsColumn.FIELD_SIZE.ordinal() - 1],
-                                                                                                                         columnValues[FieldsColumn.FIELD_TYPE.ordinal() - 1],
-                                                                                                                         columnValues[FieldsColumn.FIELD_REQUIRED.ordinal() - 1],
-                                                                                                                         columnValues[FieldsColumn.FIELD_APPLICABILITY.ordinal() - 1],
-                                                                                                                         columnValues[FieldsColumn.FIELD_VALUE.ordinal() - 1],
-                                                                                                                         columnValues[FieldsColumn.FIELD_INHERITED.ordinal() - 1]},
-                                                                                                           importFile.getAbsolutePath(),
-                                                                                                           inputTypeHandler,
-                                                                                                           fieldHandler,
-                                                                                                           parent);
+                                                addImportedGroupDefinition(new String[] {groupDefnName,
+                                                                                         columnValues[GroupDefinitionColumn.DESCRIPTION.ordinal()],
+                                                                                         columnValues[GroupDefinitionColumn.IS_APPLICATION.ordinal()],
+                                                                                         columnValues[GroupDefinitionColumn.MEMBERS.ordinal()]},
+                                                                           importFile.getAbsolutePath(),
+                                                                           replaceExistingGroups,
+                                                                           groupHandler);
                                             }
+                                            // The number of inputs is incorrect
+                                            else
+                                            {
+                                                // Check if the error should be ignored or the
+                                                // import canceled
+                                                continueOnGroupError = getErrorResponse(continueOnGroupError,
+                                                                                        "<html><b>Group definition has missing "
+                                                                                                              + "or extra input(s) in import file '</b>"
+                                                                                                              + importFile.getAbsolutePath()
+                                                                                                              + "<b>'; continue?",
+                                                                                        "Group Error",
+                                                                                        "Ignore this invalid group",
+                                                                                        "Ignore this and any remaining invalid group definitions",
+                                                                                        "Stop importing",
+                                                                                        parent);
+                                            }
+                                        }
 
-                                            break;
+                                        break;
 
-                                        case SCRIPT_ASSOCIATION:
-                                            // Check if all definitions are to be loaded
-                                            if (importType == ImportType.IMPORT_ALL)
+                                    case GROUP_DATA_FIELD:
+                                        // Check if all definitions are to be loaded
+                                        if (importType == ImportType.IMPORT_ALL)
+                                        {
+                                            // Append empty columns as needed to fill out the
+                                            // expected number of inputs
+                                            columnValues = CcddUtilities.appendArrayColumns(columnValues,
+                                                                                            FieldsColumn.values().length
+                                                                                                          - 1
+                                                                                                          - columnValues.length);
+
+                                            // Add the data field definition, checking for (and
+                                            // if possible, correcting) errors
+                                            continueOnGroupFieldError = addImportedDataFieldDefinition(continueOnGroupFieldError,
+                                                                                                       projectDefn,
+                                                                                                       new String[] {CcddFieldHandler.getFieldGroupName(groupDefnName),
+                                                                                                                     columnValues[FieldsColumn.FIELD_NAME.ordinal() - 1],
+                                                                                                                     columnValues[FieldsColumn.FIELD_DESC.ordinal() - 1],
+                                                                                                                     columnValues[FieldsColumn.FIELD_SIZE.ordinal() - 1],
+                                                                                                                     columnValues[FieldsColumn.FIELD_TYPE.ordinal() - 1],
+                                                                                                                     columnValues[FieldsColumn.FIELD_REQUIRED.ordinal() - 1],
+                                                                                                                     columnValues[FieldsColumn.FIELD_APPLICABILITY.ordinal() - 1],
+                                                                                                                     columnValues[FieldsColumn.FIELD_VALUE.ordinal() - 1],
+                                                                                                                     columnValues[FieldsColumn.FIELD_INHERITED.ordinal() - 1]},
+                                                                                                       importFile.getAbsolutePath(),
+                                                                                                       inputTypeHandler,
+                                                                                                       fieldHandler,
+                                                                                                       parent);
+                                        }
+
+                                        break;
+
+                                    case SCRIPT_ASSOCIATION:
+                                        // Check if all definitions are to be loaded
+                                        if (importType == ImportType.IMPORT_ALL)
+                                        {
+                                            // Check if the expected number of inputs is
+                                            // present
+                                            if (columnValues.length == AssociationsColumn.values().length)
                                             {
-                                                // Check if the expected number of inputs is
-                                                // present
-                                                if (columnValues.length == AssociationsColumn.values().length)
+                                                // Check if the associations haven't been
+                                                // loaded
+                                                if (associations == null)
                                                 {
-                                                    // Check if the associations haven't been
-                                                    // loaded
-                                                    if (associations == null)
-                                                    {
-                                                        // Get the script associations from the
-                                                        // database
-                                                        associations = scriptHandler.getScriptAssociations(parent);
-                                                    }
-
-                                                    // Add the script association, checking for
-                                                    // errors
-                                                    continueOnAssociationError = addImportedScriptAssociation(continueOnAssociationError,
-                                                                                                              associations,
-                                                                                                              new String[] {columnValues[AssociationsColumn.NAME.ordinal()],
-                                                                                                                            columnValues[AssociationsColumn.DESCRIPTION.ordinal()],
-                                                                                                                            columnValues[AssociationsColumn.SCRIPT_FILE.ordinal()],
-                                                                                                                            CcddScriptHandler.convertAssociationMembersFormat(columnValues[AssociationsColumn.MEMBERS.ordinal()],
-                                                                                                                                                                              true)},
-                                                                                                              importFile.getAbsolutePath(),
-                                                                                                              scriptHandler,
-                                                                                                              parent);
+                                                    // Get the script associations from the
+                                                    // database
+                                                    associations = scriptHandler.getScriptAssociations(parent);
                                                 }
+
+                                                // Add the script association, checking for
+                                                // errors
+                                                continueOnAssociationError = addImportedScriptAssociation(continueOnAssociationError,
+                                                                                                          associations,
+                                                                                                          new String[] {columnValues[AssociationsColumn.NAME.ordinal()],
+                                                                                                                        columnValues[AssociationsColumn.DESCRIPTION.ordinal()],
+                                                                                                                        columnValues[AssociationsColumn.SCRIPT_FILE.ordinal()],
+                                                                                                                        CcddScriptHandler.convertAssociationMembersFormat(columnValues[AssociationsColumn.MEMBERS.ordinal()],
+                                                                                                                                                                          true)},
+                                                                                                          importFile.getAbsolutePath(),
+                                                                                                          scriptHandler,
+                                                                                                          parent);
                                             }
+                                        }
 
-                                            break;
+                                        break;
 
-                                        case INPUT_TYPE:
-                                        case CELL_DATA:
-                                        case COLUMN_DATA:
-                                        case DATA_FIELD:
-                                        case DESCRIPTION:
-                                        case NAME_TYPE:
-                                            break;
+                                    case INPUT_TYPE:
+                                    case CELL_DATA:
+                                    case COLUMN_DATA:
+                                    case DATA_FIELD:
+                                    case DESCRIPTION:
+                                    case NAME_TYPE:
+                                        break;
 
-                                        default:
-                                            // Inform the user that no tag appears in the file
-                                            // before other data
-                                            throw new CCDDException("Tag information missing");
-                                    }
+                                    default:
+                                        // Inform the user that no tag appears in the file
+                                        // before other data
+                                        throw new CCDDException("Tag information missing");
                                 }
-                                // This is the third pass
-                                else
+                            }
+                            // This is the third pass
+                            else
+                            {
+                                switch (importTag)
                                 {
-                                    switch (importTag)
-                                    {
-                                        case NAME_TYPE:
-                                            // Check if the expected number of inputs is present
-                                            // (the third value, the system name, is optional and
-                                            // not used)
-                                            if (columnValues.length == 2 || columnValues.length == 3)
-                                            {
-                                                // Get the table's type definition. If importing
-                                                // into an existing table then use its type
-                                                // definition
-                                                typeDefn = importType == ImportType.IMPORT_ALL
-                                                                                               ? tableTypeHandler.getTypeDefinition(columnValues[1])
-                                                                                               : targetTypeDefn;
-
-                                                // Check if the table type doesn't exist
-                                                if (typeDefn == null)
-                                                {
-                                                    throw new CCDDException("Unknown table type '</b>"
-                                                                            + columnValues[1]
-                                                                            + "<b>'");
-                                                }
-
-                                                // Use the table name (with path, if applicable)
-                                                // and type to build the parent, path, and type for
-                                                // the table information class
-                                                tablePath = columnValues[0];
-                                                tableDefn.setName(tablePath);
-                                                tableDefn.setTypeName(columnValues[1]);
-
-                                                // Get the number of expected columns (the hidden
-                                                // columns, primary key and row index, should not
-                                                // be included in the CSV file)
-                                                numColumns = typeDefn.getColumnCountVisible();
-                                            }
-                                            // Incorrect number of inputs
-                                            else
+                                    case NAME_TYPE:
+                                        // Check if the expected number of inputs is present
+                                        // (the third value, the system name, is optional and
+                                        // not used)
+                                        if (columnValues.length == 2 || columnValues.length == 3)
+                                        {
+                                            // Get the table's type definition. If importing
+                                            // into an existing table then use its type
+                                            // definition
+                                            typeDefn = importType == ImportType.IMPORT_ALL
+                                                                                           ? tableTypeHandler.getTypeDefinition(columnValues[1])
+                                                                                           : targetTypeDefn;
+
+                                            // Check if the table type doesn't exist
+                                            if (typeDefn == null)
                                             {
-                                                throw new CCDDException("Too many/few table name and type inputs");
+                                                throw new CCDDException("Unknown table type '</b>"
+                                                                        + columnValues[1]
+                                                                        + "<b>'");
                                             }
 
-                                            break;
+                                            // Use the table name (with path, if applicable)
+                                            // and type to build the parent, path, and type for
+                                            // the table information class
+                                            tablePath = columnValues[0];
+                                            tableDefn.setName(tablePath);
+                                            tableDefn.setTypeName(columnValues[1]);
+
+                                            // Get the number of expected columns (the hidden
+                                            // columns, primary key and row index, should not
+                                            // be included in the CSV file)
+                                            numColumns = typeDefn.getColumnCountVisible();
+                                        }
+                                        // Incorrect number of inputs
+                                        else
+                                        {
+                                            throw new CCDDException("Too many/few table name and type inputs");
+                                        }
+
+                                        break;
 
-                                        case DESCRIPTION:
-                                            // Store the table description
-                                            tableDefn.setDescription(columnValues[0]);
-                                            break;
+                                    case DESCRIPTION:
+                                        // Store the table description
+                                        tableDefn.setDescription(columnValues[0]);
+                                        break;
 
-                                        case COLUMN_DATA:
-                                            // Check if any column names exist
-                                            if (columnValues.length != 0)
-                                            {
-                                                // Number of columns in an import file that match
-                                                // the target table
-                                                int numValidColumns = 0;
+                                    case COLUMN_DATA:
+                                        // Check if any column names exist
+                                        if (columnValues.length != 0)
+                                        {
+                                            // Number of columns in an import file that match
+                                            // the target table
+                                            int numValidColumns = 0;
+
+                                            // Create storage for the column indices
+                                            columnIndex = new int[columnValues.length];
 
-                                                // Create storage for the column indices
-                                                columnIndex = new int[columnValues.length];
+                                            // Step through each column name
+                                            for (int index = 0; index < columnValues.length; index++)
+                                            {
+                                                // Get the index for this column name
+                                                columnIndex[index] = typeDefn.getVisibleColumnIndexByUserName(columnValues[index]);
 
-                                                // Step through each column name
-                                                for (int index = 0; index < columnValues.length; index++)
+                                                // Check if the column name in the file matches
+                                                // that of a column in the table
+                                                if (columnIndex[index] != -1)
                                                 {
-                                                    // Get the index for this column name
-                                                    columnIndex[index] = typeDefn.getVisibleColumnIndexByUserName(columnValues[index]);
-
-                                                    // Check if the column name in the file matches
-                                                    // that of a column in the table
-                                                    if (columnIndex[index] != -1)
-                                                    {
-                                                        // Increment the counter that tracks the
-                                                        // number of matched columns
-                                                        numValidColumns++;
-                                                    }
-                                                    // The number of inputs is incorrect
-                                                    else
-                                                    {
-                                                        // Check if the error should be ignored or
-                                                        // the import canceled
-                                                        continueOnColumnError = getErrorResponse(continueOnColumnError,
-                                                                                                 "<html><b>Table '</b>"
-                                                                                                                        + tableDefn.getName()
-                                                                                                                        + "<b>' column name '</b>"
-                                                                                                                        + columnValues[index]
-                                                                                                                        + "<b>' unrecognized in import file '</b>"
-                                                                                                                        + importFile.getAbsolutePath()
-                                                                                                                        + "<b>'; continue?",
-                                                                                                 "Column Error",
-                                                                                                 "Ignore this invalid column name",
-                                                                                                 "Ignore this and any remaining invalid column names",
-                                                                                                 "Stop importing",
-                                                                                                 parent);
-                                                    }
+                                                    // Increment the counter that tracks the
+                                                    // number of matched columns
+                                                    numValidColumns++;
                                                 }
-
-                                                // Check if no column names in the file match those
-                                                // in the table
-                                                if (numValidColumns == 0)
+                                                // The number of inputs is incorrect
+                                                else
                                                 {
-                                                    throw new CCDDException("No columns match those in the target table",
-                                                                            JOptionPane.WARNING_MESSAGE);
+                                                    // Check if the error should be ignored or
+                                                    // the import canceled
+                                                    continueOnColumnError = getErrorResponse(continueOnColumnError,
+                                                                                             "<html><b>Table '</b>"
+                                                                                                                    + tableDefn.getName()
+                                                                                                                    + "<b>' column name '</b>"
+                                                                                                                    + columnValues[index]
+                                                                                                                    + "<b>' unrecognized in import file '</b>"
+                                                                                                                    + importFile.getAbsolutePath()
+                                                                                                                    + "<b>'; continue?",
+                                                                                             "Column Error",
+                                                                                             "Ignore this invalid column name",
+                                                                                             "Ignore this and any remaining invalid column names",
+                                                                                             "Stop importing",
+                                                                                             parent);
                                                 }
                                             }
-                                            // The file contains no column data
-                                            else
+
+                                            // Check if no column names in the file match those
+                                            // in the table
+                                            if (numValidColumns == 0)
                                             {
-                                                throw new CCDDException("File format invalid");
+                                                throw new CCDDException("No columns match those in the target table",
+                                                                        JOptionPane.WARNING_MESSAGE);
                                             }
+                                        }
+                                        // The file contains no column data
+                                        else
+                                        {
+                                            throw new CCDDException("File format invalid");
+                                        }
 
-                                            // Set the import tag to look for cell data
-                                            importTag = CSVTags.CELL_DATA;
-                                            break;
-
-                                        case CELL_DATA:
-                                            // Create storage for the row of cell data and
-                                            // initialize the values to nulls (a null indicates
-                                            // that the pasted cell value won't overwrite the
-                                            // current table value if overwriting; if inserting the
-                                            // pasted value is changed to a space)
-                                            String[] rowData = new String[numColumns];
-                                            Arrays.fill(rowData, null);
+                                        // Set the import tag to look for cell data
+                                        importTag = CSVTags.CELL_DATA;
+                                        break;
 
-                                            // Step through each column in the row
-                                            for (int index = 0; index < columnValues.length; index++)
+                                    case CELL_DATA:
+                                        // Create storage for the row of cell data and
+                                        // initialize the values to nulls (a null indicates
+                                        // that the pasted cell value won't overwrite the
+                                        // current table value if overwriting; if inserting the
+                                        // pasted value is changed to a space)
+                                        String[] rowData = new String[numColumns];
+                                        Arrays.fill(rowData, null);
+
+                                        // Step through each column in the row
+                                        for (int index = 0; index < columnValues.length; index++)
+                                        {
+                                            // Check if the column exists
+                                            if (index < columnIndex.length
+                                                && columnIndex[index] != -1)
                                             {
-                                                // Check if the column exists
-                                                if (index < columnIndex.length
-                                                    && columnIndex[index] != -1)
-                                                {
-                                                    // Store the cell data in the column matching
-                                                    // the one in the target table
-                                                    rowData[columnIndex[index]] = columnValues[index];
-                                                }
+                                                // Store the cell data in the column matching
+                                                // the one in the target table
+                                                rowData[columnIndex[index]] = columnValues[index];
                                             }
+                                        }
 
-                                            // Add the row of data read in from the file to the
-                                            // cell data list
-                                            tableDefn.addData(rowData);
-                                            break;
+                                        // Add the row of data read in from the file to the
+                                        // cell data list
+                                        tableDefn.addData(rowData);
+                                        break;
 
-                                        case DATA_FIELD:
-                                            // Append empty columns as needed to fill out the
-                                            // expected number of inputs
-                                            columnValues = CcddUtilities.appendArrayColumns(columnValues,
-                                                                                            FieldsColumn.values().length
-                                                                                                          - 1
-                                                                                                          - columnValues.length);
+                                    case DATA_FIELD:
+                                        // Append empty columns as needed to fill out the
+                                        // expected number of inputs
+                                        columnValues = CcddUtilities.appendArrayColumns(columnValues,
+                                                                                        FieldsColumn.values().length
+                                                                                                      - 1
+                                                                                                      - columnValues.length);
+
+                                        // Add the data field definition, checking for (and if
+                                        // possible, correcting) errors
+                                        continueOnDataFieldError = addImportedDataFieldDefinition(continueOnDataFieldError,
+                                                                                                  tableDefn,
+                                                                                                  new String[] {tableDefn.getName(),
+                                                                                                                columnValues[FieldsColumn.FIELD_NAME.ordinal() - 1],
+                                                                                                                columnValues[FieldsColumn.FIELD_DESC.ordinal() - 1],
+                                                                                                                columnValues[FieldsColumn.FIELD_SIZE.ordinal() - 1],
+                                                                                                                columnValues[FieldsColumn.FIELD_TYPE.ordinal() - 1],
+                                                                                                                columnValues[FieldsColumn.FIELD_REQUIRED.ordinal() - 1],
+                                                                                                                columnValues[FieldsColumn.FIELD_APPLICABILITY.ordinal() - 1],
+                                                                                                                columnValues[FieldsColumn.FIELD_VALUE.ordinal() - 1],
+                                                                                                                columnValues[FieldsColumn.FIELD_INHERITED.ordinal() - 1]},
+                                                                                                  importFile.getAbsolutePath(),
+                                                                                                  inputTypeHandler,
+                                                                                                  fieldHandler,
+                                                                                                  parent);
 
-                                            // Add the data field definition, checking for (and if
-                                            // possible, correcting) errors
-                                            continueOnDataFieldError = addImportedDataFieldDefinition(continueOnDataFieldError,
-                                                                                                      tableDefn,
-                                                                                                      new String[] {tableDefn.getName(),
-                                                                                                                    columnValues[FieldsColumn.FIELD_NAME.ordinal() - 1],
-                                                                                                                    columnValues[FieldsColumn.FIELD_DESC.ordinal() - 1],
-                                                                                                                    columnValues[FieldsColumn.FIELD_SIZE.ordinal() - 1],
-                                                                                                                    columnValues[FieldsColumn.FIELD_TYPE.ordinal() - 1],
-                                                                                                                    columnValues[FieldsColumn.FIELD_REQUIRED.ordinal() - 1],
-                                                                                                                    columnValues[FieldsColumn.FIELD_APPLICABILITY.ordinal() - 1],
-                                                                                                                    columnValues[FieldsColumn.FIELD_VALUE.ordinal() - 1],
-                                                                                                                    columnValues[FieldsColumn.FIELD_INHERITED.ordinal() - 1]},
-                                                                                                      importFile.getAbsolutePath(),
-                                                                                                      inputTypeHandler,
-                                                                                                      fieldHandler,
-                                                                                                      parent);
-
-                                            break;
-
-                                        case DATA_TYPE:
-                                        case INPUT_TYPE:
-                                        case MACRO:
-                                        case TABLE_TYPE:
-                                        case TABLE_TYPE_DATA_FIELD:
-                                        case RESERVED_MSG_IDS:
-                                        case PROJECT_DATA_FIELD:
-                                        case GROUP:
-                                        case GROUP_DATA_FIELD:
-                                        case SCRIPT_ASSOCIATION:
-                                            break;
-
-                                        default:
-                                            // Inform the user that no tag appears in the file
-                                            // before other data
-                                            throw new CCDDException("Tag information missing");
-                                    }
+                                        break;
+
+                                    case DATA_TYPE:
+                                    case INPUT_TYPE:
+                                    case MACRO:
+                                    case TABLE_TYPE:
+                                    case TABLE_TYPE_DATA_FIELD:
+                                    case RESERVED_MSG_IDS:
+                                    case PROJECT_DATA_FIELD:
+                                    case GROUP:
+                                    case GROUP_DATA_FIELD:
+                                    case SCRIPT_ASSOCIATION:
+                                        break;
+
+                                    default:
+                                        // Inform the user that no tag appears in the file
+                                        // before other data
+                                        throw new CCDDException("Tag information missing");
                                 }
                             }
                         }
 
-                        // Read next line in file
-                        line = br.readLine();
+                        // Go to the next row in the file
+                        rowIndex++;
                     }
 
                     // Check if this is the third pass
@@ -1179,26 +1594,8 @@ public class CcddCSVHandler extends CcddImportSupportHandler implements CcddImpo
         }
         finally
         {
-            try
-            {
-                // Check that the buffered reader exists
-                if (br != null)
-                {
-                    // Close the file
-                    br.close();
-                }
-            }
-            catch (IOException ioe)
-            {
-                // Inform the user that the file cannot be closed
-                new CcddDialogHandler().showMessageDialog(parent,
-                                                          "<html><b>Cannot close import file '</b>"
-                                                                  + importFile.getAbsolutePath()
-                                                                  + "<b>'",
-                                                          "File Warning",
-                                                          JOptionPane.WARNING_MESSAGE,
-                                                          DialogOption.OK_OPTION);
-            }
+            // Release the file's rows
+            importRows = null;
         }
     }
 
@@ -1512,162 +1909,423 @@ public class CcddCSVHandler extends CcddImportSupportHandler implements CcddImpo
                 }
             }
 
-            // Check if any table types are referenced (or all are included)
-            if (!referencedTableTypes.isEmpty())
+            // Output the referenced table type definitions, if any. The table type definitions
+            // are common to each file of a multiple file export if all of the definitions are
+            // included
+            writeSection(pw,
+                         ExportSectionType.TABLE_TYPES,
+                         includeAllTableTypes,
+                         referencedTableTypes,
+                         referencedDataTypes,
+                         referencedMacros,
+                         referencedInputTypes);
+
+            // Output the referenced primitive data type definitions, if any
+            writeSection(pw,
+                         ExportSectionType.DATA_TYPES,
+                         includeAllDataTypes,
+                         referencedTableTypes,
+                         referencedDataTypes,
+                         referencedMacros,
+                         referencedInputTypes);
+
+            // Output the referenced macro definitions, if any
+            writeSection(pw,
+                         ExportSectionType.MACROS,
+                         includeAllMacros,
+                         referencedTableTypes,
+                         referencedDataTypes,
+                         referencedMacros,
+                         referencedInputTypes);
+
+            // Check if the user elected to store the reserved message IDs
+            if (includeReservedMsgIDs)
             {
-                // Step through each referenced table type
-                for (String tableType : referencedTableTypes)
+                // Output the reserved message IDs, if any
+                writeSection(pw,
+                             ExportSectionType.RESERVED_MSG_IDS,
+                             true,
+                             referencedTableTypes,
+                             referencedDataTypes,
+                             referencedMacros,
+                             referencedInputTypes);
+            }
+
+            // Check if the user elected to store the project-level data fields
+            if (includeProjectFields)
+            {
+                // Output the project-level data fields, if any
+                writeSection(pw,
+                             ExportSectionType.PROJECT_FIELDS,
+                             true,
+                             referencedTableTypes,
+                             referencedDataTypes,
+                             referencedMacros,
+                             referencedInputTypes);
+            }
+
+            // Check if the user elected to store the groups
+            if (includeGroups)
+            {
+                // Output the groups, if any
+                writeSection(pw,
+                             ExportSectionType.GROUPS,
+                             true,
+                             referencedTableTypes,
+                             referencedDataTypes,
+                             referencedMacros,
+                             referencedInputTypes);
+            }
+
+            // Check if the user elected to store the script associations
+            if (includeAssociations)
+            {
+                // Output the script associations, if any
+                writeSection(pw,
+                             ExportSectionType.ASSOCIATIONS,
+                             true,
+                             referencedTableTypes,
+                             referencedDataTypes,
+                             referencedMacros,
+                             referencedInputTypes);
+            }
+
+            // Output the referenced user-defined input type definitions, if any
+            writeSection(pw,
+                         ExportSectionType.INPUT_TYPES,
+                         includeAllInputTypes,
+                         referencedTableTypes,
+                         referencedDataTypes,
+                         referencedMacros,
+                         referencedInputTypes);
+
+            // Check if variable paths are to be output and that any exist
+            if (includeVariablePaths && !variablePaths.isEmpty())
+            {
+                // Output the variable path marker
+                pw.printf("\n" + CSVTags.VARIABLE_PATHS.getTag() + "\n");
+
+                // Step through each variable path
+                for (String[] variablePath : variablePaths)
                 {
-                    // Get the table type definition based on the type name
-                    TypeDefinition tableTypeDefn = tableTypeHandler.getTypeDefinition(tableType);
+                    // Output the variable path in application and user-defined formats
+                    pw.printf("%s\n",
+                              CcddUtilities.addEmbeddedQuotesAndCommas(variablePath[0],
+                                                                       variablePath[1]));
+                }
+            }
+        }
+        catch (IOException ioe)
+        {
+            throw new CCDDException(ioe.getMessage());
+        }
+        finally
+        {
+            // Check if the PrintWriter was opened
+            if (pw != null)
+            {
+                // Close the file
+                pw.close();
+            }
+
+            try
+            {
+                // Check if the BufferedWriter was opened
+                if (bw != null)
+                {
+                    // Close the file
+                    bw.close();
+                }
+
+                // Check if the FileWriter was opened
+                if (fw != null)
+                {
+                    // Close the file
+                    fw.close();
+                }
+            }
+            catch (IOException ioe)
+            {
+                // Inform the user that the data file cannot be closed
+                new CcddDialogHandler().showMessageDialog(parent,
+                                                          "<html><b>Cannot close export file '</b>"
+                                                                  + exportFile.getAbsolutePath()
+                                                                  + "<b>'",
+                                                          "File Warning",
+                                                          JOptionPane.WARNING_MESSAGE,
+                                                          DialogOption.OK_OPTION);
+            }
+        }
+    }
 
-                    // Step through each table type column input type
-                    for (InputType inputType : tableTypeDefn.getInputTypes())
+    /**********************************************************************************************
+     * Write an export file section. If the section is common to each file of a multiple file
+     * export then the section is generated and formatted once, and the formatted text is written
+     * for each file
+     *
+     * @param pw
+     *            export file PrintWriter
+     *
+     * @param sectionType
+     *            export file section type
+     *
+     * @param isCommon
+     *            true if the section is the same in each file of a multiple file export
+     *
+     * @param referencedTableTypes
+     *            list of the names of the table types referenced in the export file
+     *
+     * @param referencedDataTypes
+     *            list of the names of the data types referenced in the export file
+     *
+     * @param referencedMacros
+     *            list of the names of the macros referenced in the export file
+     *
+     * @param referencedInputTypes
+     *            list of the names of the user-defined input types referenced in the export file;
+     *            any input types referenced by the section are added to the list
+     *********************************************************************************************/
+    private void writeSection(PrintWriter pw,
+                              final ExportSectionType sectionType,
+                              boolean isCommon,
+                              final List<String> referencedTableTypes,
+                              final List<String> referencedDataTypes,
+                              final List<String> referencedMacros,
+                              List<String> referencedInputTypes)
+    {
+        // Check if the section is common to each file of a multiple file export
+        if (isCommon && exportContext != null)
+        {
+            // Create the formatter that generates the section if this is the first file to output
+            // it
+            ExportSectionFormatter<RuntimeException> formatter = new ExportSectionFormatter<RuntimeException>()
+            {
+                /**********************************************************************************
+                 * Output the section to a string
+                 *********************************************************************************/
+                @Override
+                protected String format(List<String> sectionInputTypes)
+                {
+                    StringWriter sectionText = new StringWriter();
+                    PrintWriter sectionPw = new PrintWriter(sectionText);
+                    outputSection(sectionPw,
+                                  sectionType,
+                                  referencedTableTypes,
+                                  referencedDataTypes,
+                                  referencedMacros,
+                                  sectionInputTypes);
+                    sectionPw.flush();
+                    return sectionText.toString();
+                }
+            };
+
+            // Output the formatted section
+            pw.print(getCommonSectionText(sectionType, referencedInputTypes, formatter));
+        }
+        // The section is generated for each file
+        else
+        {
+            outputSection(pw,
+                          sectionType,
+                          referencedTableTypes,
+                          referencedDataTypes,
+                          referencedMacros,
+                          referencedInputTypes);
+        }
+    }
+
+    /**********************************************************************************************
+     * Output an export file section
+     *
+     * @param pw
+     *            PrintWriter to which to output the section
+     *
+     * @param sectionType
+     *            export file section type
+     *
+     * @param referencedTableTypes
+     *            list of the names of the table types referenced in the export file
+     *
+     * @param referencedDataTypes
+     *            list of the names of the data types referenced in the export file
+     *
+     * @param referencedMacros
+     *            list of the names of the macros referenced in the export file
+     *
+     * @param referencedInputTypes
+     *            list of the names of the user-defined input types referenced in the export file;
+     *            any input types referenced by the section are added to the list
+     *********************************************************************************************/
+    private void outputSection(PrintWriter pw,
+                               ExportSectionType sectionType,
+                               List<String> referencedTableTypes,
+                               List<String> referencedDataTypes,
+                               List<String> referencedMacros,
+                               List<String> referencedInputTypes)
+    {
+        switch (sectionType)
+        {
+            case TABLE_TYPES:
+                // Check if any table types are referenced (or all are included)
+                if (!referencedTableTypes.isEmpty())
+                {
+                    // Step through each referenced table type
+                    for (String tableType : referencedTableTypes)
                     {
-                        // Check if the input type is user-defined and this input type is not
-                        // already output
-                        if (inputType.isCustomInput()
-                            && !referencedInputTypes.contains(inputType.getInputName()))
+                        // Get the table type definition based on the type name
+                        TypeDefinition tableTypeDefn = tableTypeHandler.getTypeDefinition(tableType);
+
+                        // Step through each table type column input type
+                        for (InputType inputType : tableTypeDefn.getInputTypes())
                         {
-                            // Add the input type to the list of those referenced
-                            referencedInputTypes.add(inputType.getInputName());
+                            // Check if the input type is user-defined and this input type is not
+                            // already output
+                            if (inputType.isCustomInput()
+                                && !referencedInputTypes.contains(inputType.getInputName()))
+                            {
+                                // Add the input type to the list of those referenced
+                                referencedInputTypes.add(inputType.getInputName());
+                            }
                         }
-                    }
 
-                    // Step through each data field belonging to the table type
-                    for (FieldInformation fieldInfo : fieldHandler.getFieldInformationByOwner(CcddFieldHandler.getFieldTypeName(tableTypeDefn.getName())))
-                    {
-                        // Check if if the input type is user-defined and this input type is not
-                        // already output
-                        if (fieldInfo.getInputType().isCustomInput()
-                            && !referencedInputTypes.contains(fieldInfo.getInputType().getInputName()))
+                        // Step through each data field belonging to the table type
+                        for (FieldInformation fieldInfo : fieldHandler.getFieldInformationByOwner(CcddFieldHandler.getFieldTypeName(tableTypeDefn.getName())))
                         {
-                            // Add the input type to the list of those referenced
-                            referencedInputTypes.add(fieldInfo.getInputType().getInputName());
+                            // Check if if the input type is user-defined and this input type is not
+                            // already output
+                            if (fieldInfo.getInputType().isCustomInput()
+                                && !referencedInputTypes.contains(fieldInfo.getInputType().getInputName()))
+                            {
+                                // Add the input type to the list of those referenced
+                                referencedInputTypes.add(fieldInfo.getInputType().getInputName());
+                            }
                         }
-                    }
 
-                    // Output the table type tag, and the type name and
-                    // description
-                    pw.printf("\n" + CSVTags.TABLE_TYPE.getTag() + "\n%s\n",
-                              CcddUtilities.addEmbeddedQuotesAndCommas(tableTypeDefn.getName(),
-                                                                       tableTypeDefn.getDescription()));
+                        // Output the table type tag, and the type name and
+                        // description
+                        pw.printf("\n" + CSVTags.TABLE_TYPE.getTag() + "\n%s\n",
+                                  CcddUtilities.addEmbeddedQuotesAndCommas(tableTypeDefn.getName(),
+                                                                           tableTypeDefn.getDescription()));
 
-                    // Step through each column defined for the table type, skipping the primary
-                    // key and row index columns
-                    for (int column = NUM_HIDDEN_COLUMNS; column < tableTypeDefn.getColumnCountDatabase(); column++)
-                    {
-                        // Output the column definition
-                        pw.printf("%s\n",
-                                  CcddUtilities.addEmbeddedQuotesAndCommas(tableTypeDefn.getColumnNamesUser()[column],
-                                                                           tableTypeDefn.getColumnToolTips()[column],
-                                                                           tableTypeDefn.getInputTypes()[column].getInputName(),
-                                                                           tableTypeDefn.isRowValueUnique()[column].toString(),
-                                                                           tableTypeDefn.isRequired()[column].toString(),
-                                                                           tableTypeDefn.isStructureAllowed()[column].toString(),
-                                                                           tableTypeDefn.isPointerAllowed()[column].toString()));
+                        // Step through each column defined for the table type, skipping the primary
+                        // key and row index columns
+                        for (int column = NUM_HIDDEN_COLUMNS; column < tableTypeDefn.getColumnCountDatabase(); column++)
+                        {
+                            // Output the column definition
+                            pw.printf("%s\n",
+                                      CcddUtilities.addEmbeddedQuotesAndCommas(tableTypeDefn.getColumnNamesUser()[column],
+                                                                               tableTypeDefn.getColumnToolTips()[column],
+                                                                               tableTypeDefn.getInputTypes()[column].getInputName(),
+                                                                               tableTypeDefn.isRowValueUnique()[column].toString(),
+                                                                               tableTypeDefn.isRequired()[column].toString(),
+                                                                               tableTypeDefn.isStructureAllowed()[column].toString(),
+                                                                               tableTypeDefn.isPointerAllowed()[column].toString()));
+                        }
+
+                        // Build the data field information for this table type
+                        List<FieldInformation> fieldInformation = fieldHandler.getFieldInformationByOwner(CcddFieldHandler.getFieldTypeName(tableType));
+
+                        // Check if the table type contains any data fields
+                        if (!fieldInformation.isEmpty())
+                        {
+                            // Output the data field marker
+                            pw.printf(CSVTags.TABLE_TYPE_DATA_FIELD.getTag() + "\n");
+
+                            // Step through each data field
+                            for (FieldInformation fieldInfo : fieldInformation)
+                            {
+                                // Output the field information
+                                pw.printf("%s\n",
+                                          CcddUtilities.addEmbeddedQuotesAndCommas(fieldInfo.getFieldName(),
+                                                                                   fieldInfo.getDescription(),
+                                                                                   Integer.toString(fieldInfo.getSize()),
+                                                                                   fieldInfo.getInputType().getInputName(),
+                                                                                   Boolean.toString(fieldInfo.isRequired()),
+                                                                                   fieldInfo.getApplicabilityType().getApplicabilityName(),
+                                                                                   fieldInfo.getValue()));
+                            }
+                        }
                     }
+                }
+                break;
 
-                    // Build the data field information for this table type
-                    List<FieldInformation> fieldInformation = fieldHandler.getFieldInformationByOwner(CcddFieldHandler.getFieldTypeName(tableType));
+            case DATA_TYPES:
+                // Check if any primitive data types are referenced (or all are included)
+                if (!referencedDataTypes.isEmpty())
+                {
+                    // Output the data type marker
+                    pw.printf("\n" + CSVTags.DATA_TYPE.getTag() + "\n");
 
-                    // Check if the table type contains any data fields
-                    if (!fieldInformation.isEmpty())
+                    // Step through each data type
+                    for (String[] dataType : dataTypeHandler.getDataTypeData())
                     {
-                        // Output the data field marker
-                        pw.printf(CSVTags.TABLE_TYPE_DATA_FIELD.getTag() + "\n");
-
-                        // Step through each data field
-                        for (FieldInformation fieldInfo : fieldInformation)
+                        // Check if the data type is referenced in the table
+                        if (referencedDataTypes.contains(CcddDataTypeHandler.getDataTypeName(dataType)))
                         {
-                            // Output the field information
+                            // Output the data type definition
                             pw.printf("%s\n",
-                                      CcddUtilities.addEmbeddedQuotesAndCommas(fieldInfo.getFieldName(),
-                                                                               fieldInfo.getDescription(),
-                                                                               Integer.toString(fieldInfo.getSize()),
-                                                                               fieldInfo.getInputType().getInputName(),
-                                                                               Boolean.toString(fieldInfo.isRequired()),
-                                                                               fieldInfo.getApplicabilityType().getApplicabilityName(),
-                                                                               fieldInfo.getValue()));
+                                      CcddUtilities.addEmbeddedQuotesAndCommas(dataType[DataTypesColumn.USER_NAME.ordinal()],
+                                                                               dataType[DataTypesColumn.C_NAME.ordinal()],
+                                                                               dataType[DataTypesColumn.SIZE.ordinal()],
+                                                                               dataType[DataTypesColumn.BASE_TYPE.ordinal()]));
                         }
                     }
                 }
-            }
-
-            // Check if any primitive data types are referenced (or all are included)
-            if (!referencedDataTypes.isEmpty())
-            {
-                // Output the data type marker
-                pw.printf("\n" + CSVTags.DATA_TYPE.getTag() + "\n");
+                break;
 
-                // Step through each data type
-                for (String[] dataType : dataTypeHandler.getDataTypeData())
+            case MACROS:
+                // Check if any macros are referenced (or all are included)
+                if (!referencedMacros.isEmpty())
                 {
-                    // Check if the data type is referenced in the table
-                    if (referencedDataTypes.contains(CcddDataTypeHandler.getDataTypeName(dataType)))
+                    // Output the macro marker
+                    pw.printf("\n" + CSVTags.MACRO.getTag() + "\n");
+
+                    // Step through each macro
+                    for (String[] macro : macroHandler.getMacroData())
                     {
-                        // Output the data type definition
-                        pw.printf("%s\n",
-                                  CcddUtilities.addEmbeddedQuotesAndCommas(dataType[DataTypesColumn.USER_NAME.ordinal()],
-                                                                           dataType[DataTypesColumn.C_NAME.ordinal()],
-                                                                           dataType[DataTypesColumn.SIZE.ordinal()],
-                                                                           dataType[DataTypesColumn.BASE_TYPE.ordinal()]));
+                        // Check if all macros are to be included or if the macro is referenced in
+                        // the table
+                        if (referencedMacros.contains(macro[MacrosColumn.MACRO_NAME.ordinal()]))
+                        {
+                            // Output the macro definition
+                            pw.printf("%s\n",
+                                      CcddUtilities.addEmbeddedQuotesAndCommas(macro[MacrosColumn.MACRO_NAME.ordinal()],
+                                                                               macro[MacrosColumn.VALUE.ordinal()]));
+                        }
                     }
                 }
-            }
+                break;
 
-            // Check if any macros are referenced (or all are included)
-            if (!referencedMacros.isEmpty())
-            {
-                // Output the macro marker
-                pw.printf("\n" + CSVTags.MACRO.getTag() + "\n");
-
-                // Step through each macro
-                for (String[] macro : macroHandler.getMacroData())
+            case RESERVED_MSG_IDS:
+                // Check if there are any reserved message IDs defined
+                if (!rsvMsgIDHandler.getReservedMsgIDData().isEmpty())
                 {
-                    // Check if all macros are to be included or if the macro is referenced in the
-                    // table
-                    if (referencedMacros.contains(macro[MacrosColumn.MACRO_NAME.ordinal()]))
+                    // Output the reserved message ID marker
+                    pw.printf("\n" + CSVTags.RESERVED_MSG_IDS.getTag() + "\n");
+
+                    // Step through each reserved message ID
+                    for (String[] reservedMsgID : rsvMsgIDHandler.getReservedMsgIDData())
                     {
-                        // Output the macro definition
+                        // Output the reserved message ID definition
                         pw.printf("%s\n",
-                                  CcddUtilities.addEmbeddedQuotesAndCommas(macro[MacrosColumn.MACRO_NAME.ordinal()],
-                                                                           macro[MacrosColumn.VALUE.ordinal()]));
+                                  CcddUtilities.addEmbeddedQuotesAndCommas(reservedMsgID[ReservedMsgIDsColumn.MSG_ID.ordinal()],
+                                                                           reservedMsgID[ReservedMsgIDsColumn.DESCRIPTION.ordinal()]));
                     }
                 }
-            }
-
-            // Check if the user elected to store the reserved message IDs and if there are any
-            // reserved message IDs defined
-            if (includeReservedMsgIDs && !rsvMsgIDHandler.getReservedMsgIDData().isEmpty())
-            {
-                // Output the reserved message ID marker
-                pw.printf("\n" + CSVTags.RESERVED_MSG_IDS.getTag() + "\n");
-
-                // Step through each reserved message ID
-                for (String[] reservedMsgID : rsvMsgIDHandler.getReservedMsgIDData())
-                {
-                    // Output the reserved message ID definition
-                    pw.printf("%s\n",
-                              CcddUtilities.addEmbeddedQuotesAndCommas(reservedMsgID[ReservedMsgIDsColumn.MSG_ID.ordinal()],
-                                                                       reservedMsgID[ReservedMsgIDsColumn.DESCRIPTION.ordinal()]));
-                }
-            }
+                break;
 
-            // Check if the user elected to store the project-level data fields
-            if (includeProjectFields)
-            {
+            case PROJECT_FIELDS:
                 // Build the data field information for the project
-                List<FieldInformation> fieldInformation = fieldHandler.getFieldInformationByOwner(CcddFieldHandler.getFieldProjectName());
+                List<FieldInformation> projectFieldInformation = fieldHandler.getFieldInformationByOwner(CcddFieldHandler.getFieldProjectName());
 
                 // Check if the project contains any data fields
-                if (!fieldInformation.isEmpty())
+                if (!projectFieldInformation.isEmpty())
                 {
                     // Output the project data field marker
                     pw.printf("\n" + CSVTags.PROJECT_DATA_FIELD.getTag() + "\n");
 
                     // Step through each data field
-                    for (FieldInformation fieldInfo : fieldInformation)
+                    for (FieldInformation fieldInfo : projectFieldInformation)
                     {
                         // Check if if the input type is user-defined and this input type is not
                         // already output
@@ -1689,11 +2347,9 @@ public class CcddCSVHandler extends CcddImportSupportHandler implements CcddImpo
                                                                            fieldInfo.getValue()));
                     }
                 }
-            }
+                break;
 
-            // Check if the user elected to store the groups
-            if (includeGroups)
-            {
+            case GROUPS:
                 // Get the group's information for the project
                 List<GroupInformation> groupInformation = groupHandler.getGroupInformation();
 
@@ -1759,11 +2415,9 @@ public class CcddCSVHandler extends CcddImportSupportHandler implements CcddImpo
                         }
                     }
                 }
-            }
+                break;
 
-            // Check if the user elected to store the script associations
-            if (includeAssociations)
-            {
+            case ASSOCIATIONS:
                 // Get the script association information
                 associations = scriptHandler.getScriptAssociations(parent);
 
@@ -1785,86 +2439,31 @@ public class CcddCSVHandler extends CcddImportSupportHandler implements CcddImpo
                                                                                                                              false)));
                     }
                 }
-            }
-
-            // Check if any custom input types are referenced (or all are included)
-            if (!referencedInputTypes.isEmpty())
-            {
-                // Output the input type marker
-                pw.printf("\n" + CSVTags.INPUT_TYPE.getTag() + "\n");
-
-                // Step through each referenced input type
-                for (String inputTypeName : referencedInputTypes)
-                {
-                    // Get the input type definition
-                    InputType inputType = inputTypeHandler.getInputTypeByName(inputTypeName);
-
-                    // Output the input type definition
-                    pw.printf("%s\n",
-                              CcddUtilities.addEmbeddedQuotesAndCommas(inputType.getInputName(),
-                                                                       inputType.getInputDescription(),
-                                                                       inputType.getInputMatch(),
-                                                                       InputType.convertItemListToString(inputType.getInputItems()),
-                                                                       inputType.getInputFormat().getFormatName()));
-                }
-            }
-
-            // Check if variable paths are to be output and that any exist
-            if (includeVariablePaths && !variablePaths.isEmpty())
-            {
-                // Output the variable path marker
-                pw.printf("\n" + CSVTags.VARIABLE_PATHS.getTag() + "\n");
+                break;
 
-                // Step through each variable path
-                for (String[] variablePath : variablePaths)
+            case INPUT_TYPES:
+                // Check if any custom input types are referenced (or all are included)
+                if (!referencedInputTypes.isEmpty())
                 {
-                    // Output the variable path in application and user-defined formats
-                    pw.printf("%s\n",
-                              CcddUtilities.addEmbeddedQuotesAndCommas(variablePath[0],
-                                                                       variablePath[1]));
-                }
-            }
-        }
-        catch (IOException ioe)
-        {
-            throw new CCDDException(ioe.getMessage());
-        }
-        finally
-        {
-            // Check if the PrintWriter was opened
-            if (pw != null)
-            {
-                // Close the file
-                pw.close();
-            }
+                    // Output the input type marker
+                    pw.printf("\n" + CSVTags.INPUT_TYPE.getTag() + "\n");
 
-            try
-            {
-                // Check if the BufferedWriter was opened
-                if (bw != null)
-                {
-                    // Close the file
-                    bw.close();
-                }
+                    // Step through each referenced input type
+                    for (String inputTypeName : referencedInputTypes)
+                    {
+                        // Get the input type definition
+                        InputType inputType = inputTypeHandler.getInputTypeByName(inputTypeName);
 
-                // Check if the FileWriter was opened
-                if (fw != null)
-                {
-                    // Close the file
-                    fw.close();
+                        // Output the input type definition
+                        pw.printf("%s\n",
+                                  CcddUtilities.addEmbeddedQuotesAndCommas(inputType.getInputName(),
+                                                                           inputType.getInputDescription(),
+                                                                           inputType.getInputMatch(),
+                                                                           InputType.convertItemListToString(inputType.getInputItems()),
+                                                                           inputType.getInputFormat().getFormatName()));
+                    }
                 }
-            }
-            catch (IOException ioe)
-            {
-                // Inform the user that the data file cannot be closed
-                new CcddDialogHandler().showMessageDialog(parent,
-                                                          "<html><b>Cannot close export file '</b>"
-                                                                  + exportFile.getAbsolutePath()
-                                                                  + "<b>'",
-                                                          "File Warning",
-                                                          JOptionPane.WARNING_MESSAGE,
-                                                          DialogOption.OK_OPTION);
-            }
+                break;
         }
     }
 }
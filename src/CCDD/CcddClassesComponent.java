@@ -54,7 +54,19 @@ import java.awt.event.WindowFocusListener;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -62,6 +74,8 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.regex.Pattern;
 
 import javax.swing.BorderFactory;
@@ -106,8 +120,16 @@ import javax.swing.text.JTextComponent;
 import javax.swing.text.PlainDocument;
 import javax.swing.text.Position;
 import javax.swing.tree.DefaultMutableTreeNode;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
 
+import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
+import org.json.simple.parser.ContentHandler;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
 
 import CCDD.CcddConstants.ArrayListMultipleSortType;
 import CCDD.CcddConstants.ModifiableColorInfo;
@@ -262,6 +284,17 @@ public class CcddClassesComponent
         {
             return toolTipText;
         }
+
+        /******************************************************************************************
+         * Check if the node's child nodes have yet to be created. Override for nodes that build
+         * their children on demand
+         *
+         * @return true if the node has children that haven't been created; false otherwise
+         *****************************************************************************************/
+        protected boolean isChildrenPending()
+        {
+            return false;
+        }
     }
 
     /**********************************************************************************************
@@ -1654,6 +1687,469 @@ public class CcddClassesComponent
         }
     }
 
+    /**********************************************************************************************
+     * Output file writer class. The text written is accumulated in a large buffer before being
+     * written to the file. Optionally the buffered text is written to the file by a background
+     * thread so that the file output overlaps with the generation of the text, and optionally the
+     * text is written to a temporary file that replaces the output file when the writer is closed
+     * so that the output file is never left partially written
+     *********************************************************************************************/
+    protected static class OutputFileWriter extends Writer
+    {
+        // Number of characters buffered before the text is written to the file
+        private static final int BUFFER_SIZE = 256 * 1024;
+
+        // Maximum number of full buffers queued for the background writing thread before the
+        // thread that's writing the text waits for the background thread to catch up
+        private static final int MAX_QUEUED_BUFFERS = 4;
+
+        // Buffer used to indicate to the background writing thread that the file is closed
+        private static final char[] END_OF_FILE = new char[0];
+
+        private final File outputFile;
+        private final File writeFile;
+        private final Writer fileWriter;
+        private final BlockingQueue<char[]> writeQueue;
+        private final Thread writeThread;
+        private char[] buffer;
+        private int count;
+        private boolean isClosed;
+
+        // Error that occurred while writing to the file. Once set the text remaining to be
+        // written is discarded, and the error is reported when the writer is closed
+        private volatile IOException writeError;
+
+        /******************************************************************************************
+         * Output file writer class constructor
+         *
+         * @param outputFile
+         *            output file. For a non-replacing writer the file must already exist and be
+         *            empty
+         *
+         * @param replaceOnClose
+         *            true to write the text to a temporary file in the output file's folder which
+         *            replaces the output file when the writer is closed; false to write directly
+         *            to the output file
+         *
+         * @param writeInBackground
+         *            true to write the buffered text to the file using a background thread; false
+         *            to write the text using the thread that supplies it
+         *
+         * @throws IOException
+         *             If the output or temporary file can't be opened
+         *****************************************************************************************/
+        OutputFileWriter(File outputFile,
+                         boolean replaceOnClose,
+                         boolean writeInBackground) throws IOException
+        {
+            this.outputFile = outputFile;
+
+            // Check if the output file is replaced when the writer is closed
+            if (replaceOnClose)
+            {
+                // Create the temporary file in the output file's folder so that it can be renamed
+                // to the output file
+                writeFile = File.createTempFile(outputFile.getName() + ".",
+                                                ".tmp",
+                                                outputFile.getAbsoluteFile().getParentFile());
+            }
+            // The text is written directly to the output file
+            else
+            {
+                writeFile = outputFile;
+            }
+
+            fileWriter = new OutputStreamWriter(new FileOutputStream(writeFile));
+            buffer = new char[BUFFER_SIZE];
+            count = 0;
+            isClosed = false;
+
+            // Check if the text is written to the file using a background thread
+            if (writeInBackground)
+            {
+                writeQueue = new ArrayBlockingQueue<char[]>(MAX_QUEUED_BUFFERS);
+
+                // Create the thread that writes the queued buffers to the file
+                writeThread = new Thread(new Runnable()
+                {
+                    /******************************************************************************
+                     * Write the queued buffers to the file until the writer is closed
+                     *****************************************************************************/
+                    @Override
+                    public void run()
+                    {
+                        try
+                        {
+                            char[] text;
+
+                            // Get the next buffer to write and check if the writer isn't closed
+                            while ((text = writeQueue.take()) != END_OF_FILE)
+                            {
+                                // Check if no error has occurred writing to the file
+                                if (writeError == null)
+                                {
+                                    try
+                                    {
+                                        // Write the buffer's text to the file
+                                        fileWriter.write(text);
+                                    }
+                                    catch (IOException ioe)
+                                    {
+                                        // Store the error so that it's reported to the thread
+                                        // supplying the text. The remaining buffers are discarded
+                                        writeError = ioe;
+                                    }
+                                }
+                            }
+                        }
+                        catch (InterruptedException ie)
+                        {
+                            // Store the interruption as an error so that the file isn't treated as
+                            // complete
+                            writeError = new InterruptedIOException("File write interrupted");
+                        }
+                    }
+                }, "Output file writer - " + outputFile.getName());
+
+                writeThread.setDaemon(true);
+                writeThread.start();
+            }
+            // The text is written to the file by the thread supplying it
+            else
+            {
+                writeQueue = null;
+                writeThread = null;
+            }
+        }
+
+        /******************************************************************************************
+         * Write a portion of an array of characters
+         *
+         * @param text
+         *            array of characters
+         *
+         * @param offset
+         *            offset in the array from which to start writing characters
+         *
+         * @param length
+         *            number of characters to write
+         *
+         * @throws IOException
+         *             If an error occurs writing to the file
+         *****************************************************************************************/
+        @Override
+        public void write(char[] text, int offset, int length) throws IOException
+        {
+            synchronized (lock)
+            {
+                checkOpen();
+
+                // Continue to copy the text until all of it is in the buffer
+                while (length > 0)
+                {
+                    // Copy as much of the text as fits into the buffer
+                    int numChars = Math.min(length, buffer.length - count);
+                    System.arraycopy(text, offset, buffer, count, numChars);
+                    count += numChars;
+                    offset += numChars;
+                    length -= numChars;
+
+                    // Check if the buffer is full
+                    if (count == buffer.length)
+                    {
+                        // Write the buffer to the file
+                        writeBuffer();
+                    }
+                }
+            }
+        }
+
+        /******************************************************************************************
+         * Write a portion of a string. The characters are copied directly into the buffer
+         *
+         * @param text
+         *            string
+         *
+         * @param offset
+         *            offset in the string from which to start writing characters
+         *
+         * @param length
+         *            number of characters to write
+         *
+         * @throws IOException
+         *             If an error occurs writing to the file
+         *****************************************************************************************/
+        @Override
+        public void write(String text, int offset, int length) throws IOException
+        {
+            synchronized (lock)
+            {
+                checkOpen();
+
+                // Continue to copy the text until all of it is in the buffer
+                while (length > 0)
+                {
+                    // Copy as much of the text as fits into the buffer
+                    int numChars = Math.min(length, buffer.length - count);
+                    text.getChars(offset, offset + numChars, buffer, count);
+                    count += numChars;
+                    offset += numChars;
+                    length -= numChars;
+
+                    // Check if the buffer is full
+                    if (count == buffer.length)
+                    {
+                        // Write the buffer to the file
+                        writeBuffer();
+                    }
+                }
+            }
+        }
+
+        /******************************************************************************************
+         * Write the buffered text to the file. If a background thread is writing the file then the
+         * buffered text is queued for the thread and isn't necessarily written when this method
+         * returns
+         *
+         * @throws IOException
+         *             If an error occurs writing to the file
+         *****************************************************************************************/
+        @Override
+        public void flush() throws IOException
+        {
+            synchronized (lock)
+            {
+                checkOpen();
+                writeBuffer();
+
+                // Check if the text is written by the thread supplying it
+                if (writeThread == null)
+                {
+                    fileWriter.flush();
+                }
+            }
+        }
+
+        /******************************************************************************************
+         * Write any buffered text and close the file. If the output file is replaced on closing
+         * then the temporary file replaces the output file, unless an error occurred writing the
+         * text, in which case the temporary file is deleted and the output file is left unchanged
+         *
+         * @throws IOException
+         *             If an error occurs writing to or replacing the file
+         *****************************************************************************************/
+        @Override
+        public void close() throws IOException
+        {
+            synchronized (lock)
+            {
+                // Check if the file is already closed
+                if (isClosed)
+                {
+                    return;
+                }
+
+                isClosed = true;
+
+                try
+                {
+                    try
+                    {
+                        // Write any text remaining in the buffer
+                        writeBuffer();
+
+                        // Check if a background thread is writing the file
+                        if (writeThread != null)
+                        {
+                            // Indicate the end of the text to the background thread and wait for
+                            // it to write the queued buffers
+                            writeQueue.put(END_OF_FILE);
+                            writeThread.join();
+                        }
+                    }
+                    finally
+                    {
+                        fileWriter.close();
+                    }
+
+                    // Check if an error occurred in the background writing thread
+                    if (writeError != null)
+                    {
+                        throw writeError;
+                    }
+
+                    // Check if the output file is replaced by the temporary file
+                    if (writeFile != outputFile)
+                    {
+                        try
+                        {
+                            // Replace the output file with the temporary file in a single step
+                            Files.move(writeFile.toPath(),
+                                       outputFile.toPath(),
+                                       StandardCopyOption.REPLACE_EXISTING,
+                                       StandardCopyOption.ATOMIC_MOVE);
+                        }
+                        catch (AtomicMoveNotSupportedException amnse)
+                        {
+                            // The file system doesn't support an atomic move; replace the output
+                            // file using a standard move
+                            Files.move(writeFile.toPath(),
+                                       outputFile.toPath(),
+                                       StandardCopyOption.REPLACE_EXISTING);
+                        }
+                    }
+                }
+                catch (InterruptedException ie)
+                {
+                    // Discard the temporary file, if any
+                    discardWriteFile();
+                    throw new InterruptedIOException("File close interrupted");
+                }
+                catch (IOException ioe)
+                {
+                    // Discard the temporary file, if any
+                    discardWriteFile();
+                    throw ioe;
+                }
+            }
+        }
+
+        /******************************************************************************************
+         * Close the file without writing any buffered text, stopping the background writing
+         * thread, if any. If the output file is replaced on closing then the temporary file is
+         * deleted and the output file is left unchanged. This is used to abandon a file that
+         * wasn't closed by the thread supplying the text
+         *****************************************************************************************/
+        protected void discard()
+        {
+            synchronized (lock)
+            {
+                // Check if the file is already closed
+                if (isClosed)
+                {
+                    return;
+                }
+
+                isClosed = true;
+                count = 0;
+
+                // Check if a background thread is writing the file
+                if (writeThread != null)
+                {
+                    // Stop the background thread. Any buffers remaining in the queue are discarded
+                    writeThread.interrupt();
+                }
+
+                try
+                {
+                    fileWriter.close();
+                }
+                catch (IOException ioe)
+                {
+                    // Ignore the error since the file is being discarded
+                }
+
+                // Discard the temporary file, if any
+                discardWriteFile();
+            }
+        }
+
+        /******************************************************************************************
+         * Get the output file
+         *
+         * @return Output file
+         *****************************************************************************************/
+        protected File getOutputFile()
+        {
+            return outputFile;
+        }
+
+        /******************************************************************************************
+         * Write the buffered text to the file, or queue it for the background writing thread
+         *
+         * @throws IOException
+         *             If an error occurs writing to the file
+         *****************************************************************************************/
+        private void writeBuffer() throws IOException
+        {
+            // Check if an error occurred writing to the file
+            if (writeError != null)
+            {
+                throw writeError;
+            }
+
+            // Check if the buffer contains any text
+            if (count != 0)
+            {
+                // Check if a background thread is writing the file
+                if (writeThread != null)
+                {
+                    try
+                    {
+                        // Queue the buffered text for the background thread. A full buffer is
+                        // handed off and replaced; a partial buffer's text is copied
+                        writeQueue.put(count == buffer.length
+                                                              ? buffer
+                                                              : Arrays.copyOf(buffer, count));
+                    }
+                    catch (InterruptedException ie)
+                    {
+                        throw new InterruptedIOException("File write interrupted");
+                    }
+
+                    // Check if the buffer was handed off
+                    if (count == buffer.length)
+                    {
+                        buffer = new char[BUFFER_SIZE];
+                    }
+                }
+                // The text is written by the thread supplying it
+                else
+                {
+                    try
+                    {
+                        fileWriter.write(buffer, 0, count);
+                    }
+                    catch (IOException ioe)
+                    {
+                        // Store the error so that the file isn't treated as complete when closed
+                        writeError = ioe;
+                        throw ioe;
+                    }
+                }
+
+                count = 0;
+            }
+        }
+
+        /******************************************************************************************
+         * Check that the writer hasn't been closed
+         *
+         * @throws IOException
+         *             If the writer is closed
+         *****************************************************************************************/
+        private void checkOpen() throws IOException
+        {
+            // Check if the writer is closed
+            if (isClosed)
+            {
+                throw new IOException("Output file '" + outputFile.getName() + "' is closed");
+            }
+        }
+
+        /******************************************************************************************
+         * Delete the temporary file if the output file is replaced when the writer is closed
+         *****************************************************************************************/
+        private void discardWriteFile()
+        {
+            // Check if a temporary file is used
+            if (writeFile != outputFile)
+            {
+                writeFile.delete();
+            }
+        }
+    }
+
     /**********************************************************************************************
      * Selected table cell class
      *********************************************************************************************/
@@ -1939,6 +2435,16 @@ public class CcddClassesComponent
             this.compareColumn = compareColumn;
         }
 
+        /******************************************************************************************
+         * Get the comparison column(s)
+         *
+         * @return Array of comparison column indices
+         ******************************************************************************************/
+        protected int[] getComparisonColumn()
+        {
+            return compareColumn;
+        }
+
         /******************************************************************************************
          * Override the contains method. Compare the input object to the string in the comparison
          * column in each array member in the list and return true is a match is found
@@ -2029,41 +2535,240 @@ public class CcddClassesComponent
     }
 
     /**********************************************************************************************
-     * WrapLayout layout manager class (by Rob Camick; tips4java.wordpress.com; public domain)
-     *
-     * This open source code modifies the standard FlowLayout manager to include wrapping
-     * components to new lines if the container is resized smaller than that needed to display the
-     * components. The original code is reformatted and amended to account for a scroll pane
-     * sharing the container in which the WrapLayout container is located; without the update the
-     * wrapping is negated whenever the scroll pane's horizontal scroll bar appears
+     * Indexed array list class with string arrays. This behaves the same as ArrayListMultiple, but
+     * maintains a map of comparison column value to the index of the first array containing the
+     * value so that indexOf() and contains() don't search the list. Arrays appended to the end of
+     * the list are added to the map as they're added; any other change to the list (insertion,
+     * removal, replacement, or sorting) causes the map to be rebuilt on the next search. Changing
+     * the comparison column value of an array already in the list isn't detected; such arrays
+     * must be replaced using set() instead
      *********************************************************************************************/
     @SuppressWarnings("serial")
-    protected static class WrapLayout extends FlowLayout
+    protected static class IndexedArrayListMultiple extends ArrayListMultiple
     {
+        // Map of comparison column value to the index of the first array containing the value
+        private Map<String, Integer> valueIndex;
+
+        // List modification count when the map was last updated
+        private int indexedCount;
+
+        // Number of arrays replaced using set()
+        private int setCount;
+
         /******************************************************************************************
-         * WrapLayout constructor. Creates a new WrapLayout with a left alignment and a default
-         * 5-unit horizontal and vertical gap.
-         *****************************************************************************************/
-        WrapLayout()
+         * Indexed array list class constructor with string arrays; sets the comparison column
+         *
+         * @param compareColumn
+         *            index of the column for indexOf(), contains(), and sort() comparisons. If
+         *            multiple columns are specified only the first is used for indexOf() and
+         *            contains() calls; the sort() is based on the items in the column sequence
+         *            provided
+         ******************************************************************************************/
+        protected IndexedArrayListMultiple(int... compareColumn)
         {
-            super();
+            super(compareColumn);
         }
 
         /******************************************************************************************
-         * Constructs a new FlowLayout with the specified alignment and a default 5-unit horizontal
-         * and vertical gap. The value of the alignment argument must be one of WrapLayout.LEFT,
-         * WrapLayout.RIGHT, or WrapLayout.CENTER
-         *
-         * @param align
-         *            the alignment value
-         *****************************************************************************************/
-        WrapLayout(int align)
+         * Indexed array list class constructor with string arrays; assumes the first column is the
+         * comparison column
+         ******************************************************************************************/
+        protected IndexedArrayListMultiple()
         {
-            super(align);
+            this(0);
         }
 
         /******************************************************************************************
-         * Returns the preferred dimensions for this layout given the visible components in the
+         * Set the comparison column(s). The map is rebuilt on the next search
+         *
+         * @param compareColumn
+         *            index of the column for indexOf(), contains(), and sort() comparisons. If
+         *            multiple columns are specified only the first is used for indexOf() and
+         *            contains() calls; the sort() is based on the items in the column sequence
+         *            provided
+         ******************************************************************************************/
+        @Override
+        protected void setComparisonColumn(int... compareColumn)
+        {
+            super.setComparisonColumn(compareColumn);
+            valueIndex = null;
+        }
+
+        /******************************************************************************************
+         * Get the number of times the list has been modified
+         *
+         * @return Number of times the list has been modified
+         *****************************************************************************************/
+        private int getModificationCount()
+        {
+            return modCount + setCount;
+        }
+
+        /******************************************************************************************
+         * Check if the map reflects the current list contents
+         *
+         * @return true if the map reflects the current list contents
+         *****************************************************************************************/
+        private boolean isIndexCurrent()
+        {
+            return valueIndex != null && indexedCount == getModificationCount();
+        }
+
+        /******************************************************************************************
+         * Add the comparison column value of the specified array to the map if the value isn't
+         * already in the map
+         *
+         * @param item
+         *            string array
+         *
+         * @param index
+         *            index of the array in the list
+         *****************************************************************************************/
+        private void addToIndex(String[] item, int index)
+        {
+            String value = item[getComparisonColumn()[0]];
+
+            if (!valueIndex.containsKey(value))
+            {
+                valueIndex.put(value, index);
+            }
+        }
+
+        /******************************************************************************************
+         * Get the map of comparison column value to array index, rebuilding it if the list has
+         * changed since the map was last updated
+         *
+         * @return Map of comparison column value to the index of the first array containing the
+         *         value
+         *****************************************************************************************/
+        private Map<String, Integer> getValueIndex()
+        {
+            // Check if the map is out of date
+            if (!isIndexCurrent())
+            {
+                valueIndex = new HashMap<String, Integer>(size() * 2);
+
+                // Step through each string array in the list
+                for (int index = 0; index < size(); index++)
+                {
+                    // Add the comparison column value to the map
+                    addToIndex(get(index), index);
+                }
+
+                indexedCount = getModificationCount();
+            }
+
+            return valueIndex;
+        }
+
+        /******************************************************************************************
+         * Override the add method. Append the array to the list and, if the map is current, add
+         * the array's comparison column value to the map
+         *****************************************************************************************/
+        @Override
+        public boolean add(String[] item)
+        {
+            boolean isCurrent = isIndexCurrent();
+            super.add(item);
+
+            // Check if the map was current prior to adding the array
+            if (isCurrent)
+            {
+                // Add the array to the map and mark the map as current
+                addToIndex(item, size() - 1);
+                indexedCount = getModificationCount();
+            }
+
+            return true;
+        }
+
+        /******************************************************************************************
+         * Override the addAll method. Append the arrays to the list and, if the map is current,
+         * add the arrays' comparison column values to the map
+         *****************************************************************************************/
+        @Override
+        public boolean addAll(Collection<? extends String[]> items)
+        {
+            boolean isCurrent = isIndexCurrent();
+            int index = size();
+            boolean isChanged = super.addAll(items);
+
+            // Check if the map was current prior to adding the arrays
+            if (isCurrent)
+            {
+                // Step through each added array
+                for (; index < size(); index++)
+                {
+                    // Add the array to the map
+                    addToIndex(get(index), index);
+                }
+
+                // Mark the map as current
+                indexedCount = getModificationCount();
+            }
+
+            return isChanged;
+        }
+
+        /******************************************************************************************
+         * Override the set method. Replace the array at the specified index; the map is rebuilt
+         * on the next search
+         *****************************************************************************************/
+        @Override
+        public String[] set(int index, String[] item)
+        {
+            setCount++;
+            return super.set(index, item);
+        }
+
+        /******************************************************************************************
+         * Override the indexOf method. Return the index of the first array with the input object
+         * in the comparison column, or -1 if no match is found
+         *****************************************************************************************/
+        @Override
+        public int indexOf(Object obj)
+        {
+            Integer index = getValueIndex().get(obj);
+            return index == null ? -1 : index;
+        }
+    }
+
+    /**********************************************************************************************
+     * WrapLayout layout manager class (by Rob Camick; tips4java.wordpress.com; public domain)
+     *
+     * This open source code modifies the standard FlowLayout manager to include wrapping
+     * components to new lines if the container is resized smaller than that needed to display the
+     * components. The original code is reformatted and amended to account for a scroll pane
+     * sharing the container in which the WrapLayout container is located; without the update the
+     * wrapping is negated whenever the scroll pane's horizontal scroll bar appears
+     *********************************************************************************************/
+    @SuppressWarnings("serial")
+    protected static class WrapLayout extends FlowLayout
+    {
+        /******************************************************************************************
+         * WrapLayout constructor. Creates a new WrapLayout with a left alignment and a default
+         * 5-unit horizontal and vertical gap.
+         *****************************************************************************************/
+        WrapLayout()
+        {
+            super();
+        }
+
+        /******************************************************************************************
+         * Constructs a new FlowLayout with the specified alignment and a default 5-unit horizontal
+         * and vertical gap. The value of the alignment argument must be one of WrapLayout.LEFT,
+         * WrapLayout.RIGHT, or WrapLayout.CENTER
+         *
+         * @param align
+         *            the alignment value
+         *****************************************************************************************/
+        WrapLayout(int align)
+        {
+            super(align);
+        }
+
+        /******************************************************************************************
+         * Returns the preferred dimensions for this layout given the visible components in the
          * specified target container
          *
          * @param target
@@ -4684,6 +5389,1592 @@ public class CcddClassesComponent
         }
     }
 
+    /**********************************************************************************************
+     * JSON stream writer class. JSON objects, arrays, and values are written directly to the
+     * output as they're supplied, indented two spaces per level, so that a large JSON document
+     * doesn't need to be assembled in memory before it's output. The formatting matches that of
+     * the JavaScript JSON.stringify() function with an indentation of two spaces
+     *********************************************************************************************/
+    protected static class JSONStreamWriter
+    {
+        // Number of spaces to indent each nesting level
+        private static final int INDENT = 2;
+
+        private final Writer writer;
+
+        // Number of members written so far to each open object or array, and whether each is an
+        // object (versus an array). The last element of each is for the innermost object or array
+        private int[] memberCount;
+        private boolean[] isObject;
+        private int depth;
+
+        // Flag indicating if a key has been written and the key's value is expected next
+        private boolean isValueExpected;
+
+        /******************************************************************************************
+         * JSON stream writer class constructor
+         *
+         * @param writer
+         *            writer to which to output the JSON text
+         *****************************************************************************************/
+        JSONStreamWriter(Writer writer)
+        {
+            this.writer = writer;
+            memberCount = new int[16];
+            isObject = new boolean[16];
+            depth = 0;
+            isValueExpected = false;
+        }
+
+        /******************************************************************************************
+         * Start a new line and indent it to the current nesting level
+         *
+         * @throws IOException
+         *             If an error occurs writing to the output
+         *****************************************************************************************/
+        private void writeNewLine() throws IOException
+        {
+            writer.write('\n');
+
+            for (int index = depth * INDENT; index > 0; index--)
+            {
+                writer.write(' ');
+            }
+        }
+
+        /******************************************************************************************
+         * Prepare the output for a new member of the innermost object or array
+         *
+         * @throws IOException
+         *             If an error occurs writing to the output
+         *****************************************************************************************/
+        private void beginMember() throws IOException
+        {
+            // Check if an object or array is open
+            if (depth != 0)
+            {
+                // Check if this isn't the first member
+                if (memberCount[depth - 1] != 0)
+                {
+                    writer.write(',');
+                }
+
+                memberCount[depth - 1]++;
+                writeNewLine();
+            }
+        }
+
+        /******************************************************************************************
+         * Prepare the output for a value. The value either follows a key in an object, or is a
+         * new member of an array (or the top level value)
+         *
+         * @throws IOException
+         *             If an error occurs writing to the output
+         *****************************************************************************************/
+        private void beginValue() throws IOException
+        {
+            // Check if the value follows a key
+            if (isValueExpected)
+            {
+                isValueExpected = false;
+            }
+            // The value is an array member or the top level value
+            else
+            {
+                beginMember();
+            }
+        }
+
+        /******************************************************************************************
+         * Open a new object or array
+         *
+         * @param isObj
+         *            true if an object is opened; false if an array is opened
+         *
+         * @throws IOException
+         *             If an error occurs writing to the output
+         *****************************************************************************************/
+        private void open(boolean isObj) throws IOException
+        {
+            beginValue();
+            writer.write(isObj
+                               ? '{'
+                               : '[');
+
+            // Check if the nesting level storage is full
+            if (depth == memberCount.length)
+            {
+                // Increase the nesting level storage
+                memberCount = Arrays.copyOf(memberCount, depth * 2);
+                isObject = Arrays.copyOf(isObject, depth * 2);
+            }
+
+            memberCount[depth] = 0;
+            isObject[depth] = isObj;
+            depth++;
+        }
+
+        /******************************************************************************************
+         * Close the innermost object or array
+         *
+         * @throws IOException
+         *             If an error occurs writing to the output
+         *****************************************************************************************/
+        private void close() throws IOException
+        {
+            depth--;
+
+            // Check if the object or array has any members (an empty object or array is output
+            // on a single line)
+            if (memberCount[depth] != 0)
+            {
+                writeNewLine();
+            }
+
+            writer.write(isObject[depth]
+                                         ? '}'
+                                         : ']');
+        }
+
+        /******************************************************************************************
+         * Open a new object
+         *
+         * @return This JSON stream writer
+         *
+         * @throws IOException
+         *             If an error occurs writing to the output
+         *****************************************************************************************/
+        protected JSONStreamWriter beginObject() throws IOException
+        {
+            open(true);
+            return this;
+        }
+
+        /******************************************************************************************
+         * Close the innermost object
+         *
+         * @return This JSON stream writer
+         *
+         * @throws IOException
+         *             If an error occurs writing to the output
+         *****************************************************************************************/
+        protected JSONStreamWriter endObject() throws IOException
+        {
+            close();
+            return this;
+        }
+
+        /******************************************************************************************
+         * Open a new array
+         *
+         * @return This JSON stream writer
+         *
+         * @throws IOException
+         *             If an error occurs writing to the output
+         *****************************************************************************************/
+        protected JSONStreamWriter beginArray() throws IOException
+        {
+            open(false);
+            return this;
+        }
+
+        /******************************************************************************************
+         * Close the innermost array
+         *
+         * @return This JSON stream writer
+         *
+         * @throws IOException
+         *             If an error occurs writing to the output
+         *****************************************************************************************/
+        protected JSONStreamWriter endArray() throws IOException
+        {
+            close();
+            return this;
+        }
+
+        /******************************************************************************************
+         * Write a key in the innermost object. The key must be followed by its value
+         *
+         * @param key
+         *            object key
+         *
+         * @return This JSON stream writer
+         *
+         * @throws IOException
+         *             If an error occurs writing to the output
+         *****************************************************************************************/
+        protected JSONStreamWriter key(String key) throws IOException
+        {
+            beginMember();
+            writeString(key);
+            writer.write(": ");
+            isValueExpected = true;
+            return this;
+        }
+
+        /******************************************************************************************
+         * Write a value. A map is written as an object and a collection or array as an array, with
+         * their members written recursively; a string is quoted and escaped; a number, boolean,
+         * or null is written as is; any other object is written as the string returned by its
+         * toString() method
+         *
+         * @param value
+         *            value to write
+         *
+         * @return This JSON stream writer
+         *
+         * @throws IOException
+         *             If an error occurs writing to the output
+         *****************************************************************************************/
+        protected JSONStreamWriter value(Object value) throws IOException
+        {
+            // Check if the value is a map
+            if (value instanceof Map)
+            {
+                // Write the map's key:value pairs as an object
+                beginObject();
+
+                for (Entry<?, ?> entry : ((Map<?, ?>) value).entrySet())
+                {
+                    key(String.valueOf(entry.getKey()));
+                    value(entry.getValue());
+                }
+
+                endObject();
+            }
+            // Check if the value is a collection
+            else if (value instanceof Collection)
+            {
+                // Write the collection's members as an array
+                beginArray();
+
+                for (Object member : (Collection<?>) value)
+                {
+                    value(member);
+                }
+
+                endArray();
+            }
+            // Check if the value is an array of objects
+            else if (value instanceof Object[])
+            {
+                // Write the array's members as an array
+                value(Arrays.asList((Object[]) value));
+            }
+            // The value isn't a container
+            else
+            {
+                beginValue();
+
+                // Check if the value is null
+                if (value == null)
+                {
+                    writer.write("null");
+                }
+                // Check if the value is a boolean
+                else if (value instanceof Boolean)
+                {
+                    writer.write(value.toString());
+                }
+                // Check if the value is a number
+                else if (value instanceof Number)
+                {
+                    writeNumber((Number) value);
+                }
+                // The value is a string or other object
+                else
+                {
+                    writeString(value.toString());
+                }
+            }
+
+            return this;
+        }
+
+        /******************************************************************************************
+         * Write a key:value pair in the innermost object
+         *
+         * @param key
+         *            object key
+         *
+         * @param value
+         *            value to write; see value()
+         *
+         * @return This JSON stream writer
+         *
+         * @throws IOException
+         *             If an error occurs writing to the output
+         *****************************************************************************************/
+        protected JSONStreamWriter keyValue(String key, Object value) throws IOException
+        {
+            key(key);
+            return value(value);
+        }
+
+        /******************************************************************************************
+         * Write the key:value pairs from the supplied map as members of the innermost object
+         *
+         * @param members
+         *            map containing the key:value pairs to write
+         *
+         * @return This JSON stream writer
+         *
+         * @throws IOException
+         *             If an error occurs writing to the output
+         *****************************************************************************************/
+        protected JSONStreamWriter members(Map<?, ?> members) throws IOException
+        {
+            for (Entry<?, ?> entry : members.entrySet())
+            {
+                keyValue(String.valueOf(entry.getKey()), entry.getValue());
+            }
+
+            return this;
+        }
+
+        /******************************************************************************************
+         * Write members, formatted by formatMembers(), to the top level object. This allows the
+         * same members to be output to several JSON documents without reformatting them
+         *
+         * @param formattedMembers
+         *            members formatted by formatMembers()
+         *
+         * @return This JSON stream writer
+         *
+         * @throws IOException
+         *             If an error occurs writing to the output
+         *****************************************************************************************/
+        protected JSONStreamWriter formattedMembers(String formattedMembers) throws IOException
+        {
+            // Check if there are any members to write
+            if (!formattedMembers.isEmpty())
+            {
+                beginMember();
+                writer.write(formattedMembers);
+            }
+
+            return this;
+        }
+
+        /******************************************************************************************
+         * Format the key:value pairs from the supplied map as members of a top level object, for
+         * output using formattedMembers()
+         *
+         * @param members
+         *            map containing the key:value pairs to format
+         *
+         * @return Formatted members; an empty string if the map is empty
+         *****************************************************************************************/
+        protected static String formatMembers(Map<?, ?> members)
+        {
+            String formattedMembers = "";
+
+            // Check if there are any members to format
+            if (!members.isEmpty())
+            {
+                StringWriter stringWriter = new StringWriter();
+
+                try
+                {
+                    // Format the members within an object
+                    new JSONStreamWriter(stringWriter).beginObject().members(members).endObject();
+                }
+                catch (IOException ioe)
+                {
+                    // A string writer doesn't throw an I/O exception
+                }
+
+                // Remove the object's braces, and the line break and indentation preceding the
+                // first member
+                formattedMembers = stringWriter.toString();
+                formattedMembers = formattedMembers.substring(2 + INDENT,
+                                                              formattedMembers.length() - 2);
+            }
+
+            return formattedMembers;
+        }
+
+        /******************************************************************************************
+         * Write a number. Integral floating point values are written without a fractional part,
+         * and non-finite values are written as null
+         *
+         * @param number
+         *            number to write
+         *
+         * @throws IOException
+         *             If an error occurs writing to the output
+         *****************************************************************************************/
+        private void writeNumber(Number number) throws IOException
+        {
+            // Check if the number is a floating point value
+            if (number instanceof Double || number instanceof Float)
+            {
+                double dValue = number.doubleValue();
+
+                // Check if the value isn't a finite number
+                if (Double.isNaN(dValue) || Double.isInfinite(dValue))
+                {
+                    writer.write("null");
+                }
+                // Check if the value is integral
+                else if (dValue == Math.rint(dValue) && Math.abs(dValue) < 1e21)
+                {
+                    writer.write(Long.toString((long) dValue));
+                }
+                // The value has a fractional part
+                else
+                {
+                    writer.write(number.toString());
+                }
+            }
+            // The number is an integer type
+            else
+            {
+                writer.write(number.toString());
+            }
+        }
+
+        /******************************************************************************************
+         * Write a string, bounded by double quotes, with the double quote, backslash, and control
+         * characters escaped
+         *
+         * @param text
+         *            text to write
+         *
+         * @throws IOException
+         *             If an error occurs writing to the output
+         *****************************************************************************************/
+        private void writeString(String text) throws IOException
+        {
+            writer.write('"');
+
+            int length = text.length();
+            int start = 0;
+
+            // Step through each character in the text
+            for (int index = 0; index < length; index++)
+            {
+                char ch = text.charAt(index);
+                String escape = null;
+
+                // Check if the character must be escaped
+                if (ch < 0x20 || ch == '"' || ch == '\\')
+                {
+                    switch (ch)
+                    {
+                        case '"':
+                            escape = "\\\"";
+                            break;
+
+                        case '\\':
+                            escape = "\\\\";
+                            break;
+
+                        case '\b':
+                            escape = "\\b";
+                            break;
+
+                        case '\f':
+                            escape = "\\f";
+                            break;
+
+                        case '\n':
+                            escape = "\\n";
+                            break;
+
+                        case '\r':
+                            escape = "\\r";
+                            break;
+
+                        case '\t':
+                            escape = "\\t";
+                            break;
+
+                        default:
+                            escape = String.format("\\u%04x", (int) ch);
+                            break;
+                    }
+
+                    // Write the text preceding the character, followed by the escaped character
+                    writer.write(text, start, index - start);
+                    writer.write(escape);
+                    start = index + 1;
+                }
+            }
+
+            // Write the remaining text
+            writer.write(text, start, length - start);
+            writer.write('"');
+        }
+    }
+
+    /**********************************************************************************************
+     * JSON stream reader class. The JSON text is parsed incrementally, so that only the portion of
+     * the JSON document currently of interest is held in memory. The top level object can be read
+     * while skipping over a (large) member, and the members of a top level array can be read one
+     * at a time. The JSON objects and arrays returned are the same as those produced by the
+     * JSONParser when parsing the entire document
+     *********************************************************************************************/
+    protected static class JSONStreamReader implements ContentHandler
+    {
+        // Reading modes: read the top level object, find a top level array, or read the next
+        // member of the array
+        private static enum ReadMode
+        {
+            READ_OBJECT,
+            FIND_ARRAY,
+            NEXT_MEMBER
+        }
+
+        private final Reader reader;
+        private final JSONParser parser;
+
+        // Objects and arrays being built, and the keys for the values being built in the objects.
+        // The last element of each is for the innermost object or array
+        private final List<Object> containers;
+        private final List<String> keys;
+
+        // Current reading mode
+        private ReadMode readMode;
+
+        // Key of the top level object member being skipped when reading the top level object, or
+        // of the top level array to find
+        private String targetKey;
+
+        // Key of the top level object member currently being parsed; null if not within a member
+        private String topLevelKey;
+
+        // Number of objects and arrays currently open in the parsed text
+        private int depth;
+
+        // Last complete value read: the top level object, or an array member
+        private Object value;
+
+        // Flags indicating if parsing has begun, the end of the document is reached, the target
+        // array is found, and the end of the target array is reached
+        private boolean isStarted;
+        private boolean isEnd;
+        private boolean isArrayFound;
+        private boolean isArrayEnd;
+
+        /******************************************************************************************
+         * JSON stream reader class constructor
+         *
+         * @param reader
+         *            reader from which to input the JSON text
+         *****************************************************************************************/
+        JSONStreamReader(Reader reader)
+        {
+            this.reader = reader;
+            parser = new JSONParser();
+            containers = new ArrayList<Object>();
+            keys = new ArrayList<String>();
+            depth = 0;
+            isStarted = false;
+            isEnd = false;
+        }
+
+        /******************************************************************************************
+         * Read the top level object, skipping over the specified member. The member's value isn't
+         * stored, so the member can be large without affecting memory usage. The document is read
+         * to its end
+         *
+         * @param skipKey
+         *            key of the top level member to skip; null to read all of the members
+         *
+         * @return Top level object, without the skipped member
+         *
+         * @throws IOException
+         *             If an error occurs reading the input
+         *
+         * @throws ParseException
+         *             If the JSON text can't be parsed or the top level value isn't an object
+         *****************************************************************************************/
+        protected JSONObject readObject(String skipKey) throws IOException, ParseException
+        {
+            readMode = ReadMode.READ_OBJECT;
+            targetKey = skipKey;
+            value = null;
+            parse();
+
+            // Check if the top level value isn't an object
+            if (!(value instanceof JSONObject))
+            {
+                throw new ParseException(ParseException.ERROR_UNEXPECTED_TOKEN);
+            }
+
+            return (JSONObject) value;
+        }
+
+        /******************************************************************************************
+         * Find the array that's the value of the specified top level object member. Use
+         * nextObject() to read the array's members
+         *
+         * @param arrayKey
+         *            key of the top level member that contains the array
+         *
+         * @return true if the array is found; false if the end of the document is reached
+         *
+         * @throws IOException
+         *             If an error occurs reading the input
+         *
+         * @throws ParseException
+         *             If the JSON text can't be parsed
+         *****************************************************************************************/
+        protected boolean findArray(String arrayKey) throws IOException, ParseException
+        {
+            readMode = ReadMode.FIND_ARRAY;
+            targetKey = arrayKey;
+            isArrayFound = false;
+            isArrayEnd = false;
+            parse();
+            return isArrayFound;
+        }
+
+        /******************************************************************************************
+         * Read the next object in the array located using findArray(). Array members that aren't
+         * objects are skipped
+         *
+         * @return Next object in the array; null if the end of the array is reached
+         *
+         * @throws IOException
+         *             If an error occurs reading the input
+         *
+         * @throws ParseException
+         *             If the JSON text can't be parsed
+         *****************************************************************************************/
+        protected JSONObject nextObject() throws IOException, ParseException
+        {
+            JSONObject member = null;
+
+            readMode = ReadMode.NEXT_MEMBER;
+
+            // Continue to read array members until an object is found or the end of the array is
+            // reached
+            while (member == null && isArrayFound && !isArrayEnd && !isEnd)
+            {
+                value = null;
+                parse();
+
+                // Check if the member is an object
+                if (value instanceof JSONObject)
+                {
+                    member = (JSONObject) value;
+                }
+            }
+
+            return member;
+        }
+
+        /******************************************************************************************
+         * Parse the JSON text, starting from where the previous parse paused, until the parsing
+         * pauses again or the end of the document is reached
+         *
+         * @throws IOException
+         *             If an error occurs reading the input
+         *
+         * @throws ParseException
+         *             If the JSON text can't be parsed
+         *****************************************************************************************/
+        private void parse() throws IOException, ParseException
+        {
+            // Check if the end of the document isn't reached
+            if (!isEnd)
+            {
+                parser.parse(reader, this, isStarted);
+                isStarted = true;
+            }
+        }
+
+        /******************************************************************************************
+         * Check if the value starting at the current parse position is stored
+         *
+         * @return true if the value is stored
+         *****************************************************************************************/
+        private boolean isStoreValue()
+        {
+            boolean isStore = false;
+
+            switch (readMode)
+            {
+                case READ_OBJECT:
+                    // Store all values except those within the member being skipped
+                    isStore = depth == 0 || topLevelKey == null || !topLevelKey.equals(targetKey);
+                    break;
+
+                case NEXT_MEMBER:
+                    // Store the values within the array
+                    isStore = depth >= 2;
+                    break;
+
+                case FIND_ARRAY:
+                    break;
+            }
+
+            return isStore;
+        }
+
+        /******************************************************************************************
+         * Add a completed value to the object or array containing it. If the value isn't
+         * contained in another value then it's stored as the value read and parsing is paused
+         *
+         * @param completeValue
+         *            completed value
+         *
+         * @return true to continue parsing; false to pause
+         *****************************************************************************************/
+        @SuppressWarnings("unchecked")
+        private boolean addValue(Object completeValue)
+        {
+            boolean isContinue = true;
+
+            // Check if the value isn't contained in another value
+            if (containers.isEmpty())
+            {
+                // Store the value and pause parsing
+                value = completeValue;
+                isContinue = false;
+            }
+            // Check if the value is an object member
+            else if (containers.get(containers.size() - 1) instanceof JSONObject)
+            {
+                ((JSONObject) containers.get(containers.size() - 1)).put(keys.remove(keys.size() - 1),
+                                                                         completeValue);
+            }
+            // The value is an array member
+            else
+            {
+                ((JSONArray) containers.get(containers.size() - 1)).add(completeValue);
+            }
+
+            return isContinue;
+        }
+
+        /******************************************************************************************
+         * Handle the start of the JSON document
+         *****************************************************************************************/
+        @Override
+        public void startJSON()
+        {
+        }
+
+        /******************************************************************************************
+         * Handle the end of the JSON document
+         *****************************************************************************************/
+        @Override
+        public void endJSON()
+        {
+            isEnd = true;
+        }
+
+        /******************************************************************************************
+         * Handle the start of an object
+         *
+         * @return true to continue parsing
+         *****************************************************************************************/
+        @Override
+        public boolean startObject()
+        {
+            // Check if the object is stored
+            if (isStoreValue())
+            {
+                containers.add(new JSONObject());
+            }
+
+            depth++;
+            return true;
+        }
+
+        /******************************************************************************************
+         * Handle the end of an object
+         *
+         * @return true to continue parsing; false to pause
+         *****************************************************************************************/
+        @Override
+        public boolean endObject()
+        {
+            depth--;
+
+            return isStoreValue()
+                                  ? addValue(containers.remove(containers.size() - 1))
+                                  : true;
+        }
+
+        /******************************************************************************************
+         * Handle the start of an object member
+         *
+         * @param key
+         *            member key
+         *
+         * @return true to continue parsing
+         *****************************************************************************************/
+        @Override
+        public boolean startObjectEntry(String key)
+        {
+            // Check if this is a member of the top level object
+            if (depth == 1)
+            {
+                topLevelKey = key;
+            }
+
+            // Check if the member's value is stored
+            if (isStoreValue())
+            {
+                keys.add(key);
+            }
+
+            return true;
+        }
+
+        /******************************************************************************************
+         * Handle the end of an object member
+         *
+         * @return true to continue parsing
+         *****************************************************************************************/
+        @Override
+        public boolean endObjectEntry()
+        {
+            // Check if this is a member of the top level object
+            if (depth == 1)
+            {
+                topLevelKey = null;
+            }
+
+            return true;
+        }
+
+        /******************************************************************************************
+         * Handle the start of an array
+         *
+         * @return true to continue parsing; false to pause
+         *****************************************************************************************/
+        @Override
+        public boolean startArray()
+        {
+            boolean isContinue = true;
+
+            // Check if the array is stored
+            if (isStoreValue())
+            {
+                containers.add(new JSONArray());
+            }
+
+            depth++;
+
+            // Check if this is the array being searched for
+            if (readMode == ReadMode.FIND_ARRAY && depth == 2 && targetKey.equals(topLevelKey))
+            {
+                // Set the flag to indicate the array is found and pause parsing
+                isArrayFound = true;
+                isContinue = false;
+            }
+
+            return isContinue;
+        }
+
+        /******************************************************************************************
+         * Handle the end of an array
+         *
+         * @return true to continue parsing; false to pause
+         *****************************************************************************************/
+        @Override
+        public boolean endArray()
+        {
+            boolean isContinue = true;
+
+            depth--;
+
+            // Check if this is the end of the array being read
+            if (readMode == ReadMode.NEXT_MEMBER && depth == 1)
+            {
+                // Set the flag to indicate the end of the array is reached and pause parsing
+                isArrayEnd = true;
+                isContinue = false;
+            }
+            // Check if the array is stored
+            else if (isStoreValue())
+            {
+                isContinue = addValue(containers.remove(containers.size() - 1));
+            }
+
+            return isContinue;
+        }
+
+        /******************************************************************************************
+         * Handle a string, number, boolean, or null value
+         *
+         * @param primitive
+         *            value
+         *
+         * @return true to continue parsing; false to pause
+         *****************************************************************************************/
+        @Override
+        public boolean primitive(Object primitive)
+        {
+            return isStoreValue()
+                                  ? addValue(primitive)
+                                  : true;
+        }
+    }
+
+    /**********************************************************************************************
+     * Indenting XML stream writer class. The XML elements, attributes, and text supplied (e.g., by
+     * a JAXB marshaller) are passed to an XML stream writer obtained from the JDK's XML output
+     * factory, which writes them directly to the output so that a large XML document doesn't need
+     * to be assembled in memory (as with a DOM tree) before it's output. The JDK writer provides
+     * the character escaping and namespace handling; this class adds the formatting. Each element
+     * is placed on a new line and indented according to its nesting level; there is no limit on
+     * the number of levels. An element with no content is written as an empty element tag
+     *********************************************************************************************/
+    protected static class IndentingXMLStreamWriter implements XMLStreamWriter
+    {
+        private final XMLStreamWriter writer;
+
+        // Text with which to indent each nesting level
+        private final String indent;
+
+        // Flags indicating if each open element contains a child element. The last flag is for
+        // the innermost element
+        private boolean[] hasChild;
+        private int depth;
+
+        // Flag indicating if anything has been written to the output
+        private boolean isOutputStarted;
+
+        // Start tag, and its attributes and namespace declarations, of the innermost element. The
+        // start tag isn't passed to the JDK writer until the element's content (if any) is
+        // supplied, so that an element with no content can be written as an empty element tag
+        private DeferredCall deferredStart;
+        private final List<DeferredCall> deferredAttributes;
+
+        /******************************************************************************************
+         * XML stream writer method call types that can be deferred
+         *****************************************************************************************/
+        private enum DeferredType
+        {
+            START_ELEMENT,
+            START_ELEMENT_NAMESPACE,
+            START_ELEMENT_PREFIX,
+            ATTRIBUTE,
+            ATTRIBUTE_NAMESPACE,
+            ATTRIBUTE_PREFIX,
+            NAMESPACE,
+            DEFAULT_NAMESPACE
+        }
+
+        /******************************************************************************************
+         * Deferred XML stream writer method call class. Contains the method call type and the
+         * arguments with which to call the method
+         *****************************************************************************************/
+        private static class DeferredCall
+        {
+            private final DeferredType type;
+            private final String[] arguments;
+
+            /**************************************************************************************
+             * Deferred XML stream writer method call class constructor
+             *
+             * @param type
+             *            method call type
+             *
+             * @param arguments
+             *            method call arguments
+             *************************************************************************************/
+            DeferredCall(DeferredType type, String... arguments)
+            {
+                this.type = type;
+                this.arguments = arguments;
+            }
+        }
+
+        /******************************************************************************************
+         * Indenting XML stream writer class constructor
+         *
+         * @param writer
+         *            writer to which to output the XML text
+         *
+         * @param indentAmount
+         *            number of spaces to indent each nesting level
+         *
+         * @throws XMLStreamException
+         *             If the JDK's XML stream writer can't be created
+         *****************************************************************************************/
+        IndentingXMLStreamWriter(Writer writer, int indentAmount) throws XMLStreamException
+        {
+            this.writer = XMLOutputFactory.newInstance().createXMLStreamWriter(writer);
+            indent = String.format("%" + indentAmount + "s", "");
+            hasChild = new boolean[16];
+            depth = 0;
+            isOutputStarted = false;
+            deferredStart = null;
+            deferredAttributes = new ArrayList<DeferredCall>();
+        }
+
+        /******************************************************************************************
+         * Pass the deferred start tag, and its attributes and namespace declarations, if any, to
+         * the JDK writer
+         *
+         * @param isEmpty
+         *            true if the element has no content and is written as an empty element tag
+         *
+         * @throws XMLStreamException
+         *             If an error occurs writing to the output
+         *****************************************************************************************/
+        private void writeDeferred(boolean isEmpty) throws XMLStreamException
+        {
+            // Check if a start tag is deferred
+            if (deferredStart != null)
+            {
+                String[] args = deferredStart.arguments;
+
+                switch (deferredStart.type)
+                {
+                    case START_ELEMENT:
+                        if (isEmpty)
+                        {
+                            writer.writeEmptyElement(args[0]);
+                        }
+                        else
+                        {
+                            writer.writeStartElement(args[0]);
+                        }
+
+                        break;
+
+                    case START_ELEMENT_NAMESPACE:
+                        if (isEmpty)
+                        {
+                            writer.writeEmptyElement(args[0], args[1]);
+                        }
+                        else
+                        {
+                            writer.writeStartElement(args[0], args[1]);
+                        }
+
+                        break;
+
+                    default:
+                        if (isEmpty)
+                        {
+                            writer.writeEmptyElement(args[0], args[1], args[2]);
+                        }
+                        else
+                        {
+                            writer.writeStartElement(args[0], args[1], args[2]);
+                        }
+
+                        break;
+                }
+
+                // Step through each of the start tag's attributes and namespace declarations
+                for (DeferredCall attribute : deferredAttributes)
+                {
+                    args = attribute.arguments;
+
+                    switch (attribute.type)
+                    {
+                        case ATTRIBUTE:
+                            writer.writeAttribute(args[0], args[1]);
+                            break;
+
+                        case ATTRIBUTE_NAMESPACE:
+                            writer.writeAttribute(args[0], args[1], args[2]);
+                            break;
+
+                        case ATTRIBUTE_PREFIX:
+                            writer.writeAttribute(args[0], args[1], args[2], args[3]);
+                            break;
+
+                        case NAMESPACE:
+                            writer.writeNamespace(args[0], args[1]);
+                            break;
+
+                        default:
+                            writer.writeDefaultNamespace(args[0]);
+                            break;
+                    }
+                }
+
+                deferredStart = null;
+                deferredAttributes.clear();
+            }
+        }
+
+        /******************************************************************************************
+         * Start a new line, indented to the current nesting level, if anything precedes it in the
+         * output. The line is flagged as a child of the innermost open element (if any) so that
+         * the element's end tag is placed on a new line
+         *
+         * @throws XMLStreamException
+         *             If an error occurs writing to the output
+         *****************************************************************************************/
+        private void writeNewLine() throws XMLStreamException
+        {
+            writeDeferred(false);
+
+            // Check if this line is within an element
+            if (depth != 0)
+            {
+                // Flag the element as containing a child
+                hasChild[depth - 1] = true;
+            }
+
+            // Check if anything has been written
+            if (isOutputStarted)
+            {
+                StringBuilder text = new StringBuilder("\n");
+
+                for (int index = 0; index < depth; index++)
+                {
+                    text.append(indent);
+                }
+
+                writer.writeCharacters(text.toString());
+            }
+
+            isOutputStarted = true;
+        }
+
+        /******************************************************************************************
+         * Begin a new element. The element's start tag is deferred until its content (if any) is
+         * supplied
+         *
+         * @param type
+         *            start element method call type
+         *
+         * @param arguments
+         *            start element method call arguments
+         *
+         * @throws XMLStreamException
+         *             If an error occurs writing to the output
+         *****************************************************************************************/
+        private void startElement(DeferredType type, String... arguments) throws XMLStreamException
+        {
+            writeNewLine();
+
+            // Check if the open element flag array is full
+            if (depth == hasChild.length)
+            {
+                // Increase the size of the open element flag array
+                hasChild = Arrays.copyOf(hasChild, depth * 2);
+            }
+
+            hasChild[depth] = false;
+            depth++;
+            deferredStart = new DeferredCall(type, arguments);
+        }
+
+        /******************************************************************************************
+         * Add an attribute or namespace declaration to the start tag of the innermost element
+         *
+         * @param type
+         *            attribute or namespace method call type
+         *
+         * @param arguments
+         *            attribute or namespace method call arguments
+         *
+         * @throws XMLStreamException
+         *             If an error occurs writing to the output
+         *****************************************************************************************/
+        private void attribute(DeferredType type, String... arguments) throws XMLStreamException
+        {
+            // Check if the start tag is deferred
+            if (deferredStart != null)
+            {
+                // Add the attribute to the deferred start tag
+                deferredAttributes.add(new DeferredCall(type, arguments));
+            }
+            // The start tag has been passed to the JDK writer (e.g., for an empty element supplied
+            // by the caller)
+            else
+            {
+                switch (type)
+                {
+                    case ATTRIBUTE:
+                        writer.writeAttribute(arguments[0], arguments[1]);
+                        break;
+
+                    case ATTRIBUTE_NAMESPACE:
+                        writer.writeAttribute(arguments[0], arguments[1], arguments[2]);
+                        break;
+
+                    case ATTRIBUTE_PREFIX:
+                        writer.writeAttribute(arguments[0],
+                                              arguments[1],
+                                              arguments[2],
+                                              arguments[3]);
+                        break;
+
+                    case NAMESPACE:
+                        writer.writeNamespace(arguments[0], arguments[1]);
+                        break;
+
+                    default:
+                        writer.writeDefaultNamespace(arguments[0]);
+                        break;
+                }
+            }
+        }
+
+        /******************************************************************************************
+         * Write the start tag for a new element
+         *****************************************************************************************/
+        @Override
+        public void writeStartElement(String localName) throws XMLStreamException
+        {
+            startElement(DeferredType.START_ELEMENT, localName);
+        }
+
+        /******************************************************************************************
+         * Write the start tag for a new element
+         *****************************************************************************************/
+        @Override
+        public void writeStartElement(String namespaceURI,
+                                      String localName) throws XMLStreamException
+        {
+            startElement(DeferredType.START_ELEMENT_NAMESPACE, namespaceURI, localName);
+        }
+
+        /******************************************************************************************
+         * Write the start tag for a new element
+         *****************************************************************************************/
+        @Override
+        public void writeStartElement(String prefix,
+                                      String localName,
+                                      String namespaceURI) throws XMLStreamException
+        {
+            startElement(DeferredType.START_ELEMENT_PREFIX, prefix, localName, namespaceURI);
+        }
+
+        /******************************************************************************************
+         * Write an empty element tag
+         *****************************************************************************************/
+        @Override
+        public void writeEmptyElement(String localName) throws XMLStreamException
+        {
+            writeNewLine();
+            writer.writeEmptyElement(localName);
+        }
+
+        /******************************************************************************************
+         * Write an empty element tag
+         *****************************************************************************************/
+        @Override
+        public void writeEmptyElement(String namespaceURI,
+                                      String localName) throws XMLStreamException
+        {
+            writeNewLine();
+            writer.writeEmptyElement(namespaceURI, localName);
+        }
+
+        /******************************************************************************************
+         * Write an empty element tag
+         *****************************************************************************************/
+        @Override
+        public void writeEmptyElement(String prefix,
+                                      String localName,
+                                      String namespaceURI) throws XMLStreamException
+        {
+            writeNewLine();
+            writer.writeEmptyElement(prefix, localName, namespaceURI);
+        }
+
+        /******************************************************************************************
+         * Write the end tag for the innermost element. An element with no content is written as an
+         * empty element tag, and the end tag of an element containing child elements is placed on
+         * a new line
+         *****************************************************************************************/
+        @Override
+        public void writeEndElement() throws XMLStreamException
+        {
+            // Check if no element is open
+            if (depth == 0)
+            {
+                throw new XMLStreamException("no element to end");
+            }
+
+            depth--;
+
+            // Check if the element has no content
+            if (deferredStart != null)
+            {
+                writeDeferred(true);
+            }
+            // The element has content
+            else
+            {
+                // Check if the element contains a child element
+                if (hasChild[depth])
+                {
+                    // Place the end tag on a new line
+                    writeNewLine();
+                }
+
+                writer.writeEndElement();
+            }
+        }
+
+        /******************************************************************************************
+         * Close any open elements and end the document
+         *****************************************************************************************/
+        @Override
+        public void writeEndDocument() throws XMLStreamException
+        {
+            // Step through each open element
+            while (depth != 0)
+            {
+                writeEndElement();
+            }
+
+            writer.writeEndDocument();
+            writer.writeCharacters("\n");
+        }
+
+        /******************************************************************************************
+         * Close the writer
+         *****************************************************************************************/
+        @Override
+        public void close() throws XMLStreamException
+        {
+            writer.close();
+        }
+
+        /******************************************************************************************
+         * Flush the output
+         *****************************************************************************************/
+        @Override
+        public void flush() throws XMLStreamException
+        {
+            writer.flush();
+        }
+
+        /******************************************************************************************
+         * Write an attribute to the open start tag
+         *****************************************************************************************/
+        @Override
+        public void writeAttribute(String localName, String value) throws XMLStreamException
+        {
+            attribute(DeferredType.ATTRIBUTE, localName, value);
+        }
+
+        /******************************************************************************************
+         * Write an attribute to the open start tag
+         *****************************************************************************************/
+        @Override
+        public void writeAttribute(String prefix,
+                                   String namespaceURI,
+                                   String localName,
+                                   String value) throws XMLStreamException
+        {
+            attribute(DeferredType.ATTRIBUTE_PREFIX, prefix, namespaceURI, localName, value);
+        }
+
+        /******************************************************************************************
+         * Write an attribute to the open start tag
+         *****************************************************************************************/
+        @Override
+        public void writeAttribute(String namespaceURI,
+                                   String localName,
+                                   String value) throws XMLStreamException
+        {
+            attribute(DeferredType.ATTRIBUTE_NAMESPACE, namespaceURI, localName, value);
+        }
+
+        /******************************************************************************************
+         * Write a namespace declaration to the open start tag
+         *****************************************************************************************/
+        @Override
+        public void writeNamespace(String prefix, String namespaceURI) throws XMLStreamException
+        {
+            attribute(DeferredType.NAMESPACE, prefix, namespaceURI);
+        }
+
+        /******************************************************************************************
+         * Write the default namespace declaration to the open start tag
+         *****************************************************************************************/
+        @Override
+        public void writeDefaultNamespace(String namespaceURI) throws XMLStreamException
+        {
+            attribute(DeferredType.DEFAULT_NAMESPACE, namespaceURI);
+        }
+
+        /******************************************************************************************
+         * Write a comment on a new line
+         *****************************************************************************************/
+        @Override
+        public void writeComment(String data) throws XMLStreamException
+        {
+            writeNewLine();
+            writer.writeComment(data);
+        }
+
+        /******************************************************************************************
+         * Write a processing instruction on a new line
+         *****************************************************************************************/
+        @Override
+        public void writeProcessingInstruction(String target) throws XMLStreamException
+        {
+            writeNewLine();
+            writer.writeProcessingInstruction(target);
+        }
+
+        /******************************************************************************************
+         * Write a processing instruction on a new line
+         *****************************************************************************************/
+        @Override
+        public void writeProcessingInstruction(String target,
+                                               String data) throws XMLStreamException
+        {
+            writeNewLine();
+            writer.writeProcessingInstruction(target, data);
+        }
+
+        /******************************************************************************************
+         * Write a CDATA section
+         *****************************************************************************************/
+        @Override
+        public void writeCData(String data) throws XMLStreamException
+        {
+            writeDeferred(false);
+            writer.writeCData(data);
+            isOutputStarted = true;
+        }
+
+        /******************************************************************************************
+         * Write a document type declaration on a new line
+         *****************************************************************************************/
+        @Override
+        public void writeDTD(String dtd) throws XMLStreamException
+        {
+            writeNewLine();
+            writer.writeDTD(dtd);
+        }
+
+        /******************************************************************************************
+         * Write an entity reference
+         *****************************************************************************************/
+        @Override
+        public void writeEntityRef(String name) throws XMLStreamException
+        {
+            writeDeferred(false);
+            writer.writeEntityRef(name);
+            isOutputStarted = true;
+        }
+
+        /******************************************************************************************
+         * Write the XML declaration. The declaration includes the encoding, which is UTF-8
+         *****************************************************************************************/
+        @Override
+        public void writeStartDocument() throws XMLStreamException
+        {
+            writer.writeStartDocument("UTF-8", "1.0");
+            isOutputStarted = true;
+        }
+
+        /******************************************************************************************
+         * Write the XML declaration
+         *****************************************************************************************/
+        @Override
+        public void writeStartDocument(String version) throws XMLStreamException
+        {
+            writer.writeStartDocument(version);
+            isOutputStarted = true;
+        }
+
+        /******************************************************************************************
+         * Write the XML declaration
+         *****************************************************************************************/
+        @Override
+        public void writeStartDocument(String encoding, String version) throws XMLStreamException
+        {
+            writer.writeStartDocument(encoding, version);
+            isOutputStarted = true;
+        }
+
+        /******************************************************************************************
+         * Write the text content of the innermost element
+         *****************************************************************************************/
+        @Override
+        public void writeCharacters(String text) throws XMLStreamException
+        {
+            writeDeferred(false);
+            writer.writeCharacters(text);
+            isOutputStarted = true;
+        }
+
+        /******************************************************************************************
+         * Write the text content of the innermost element
+         *****************************************************************************************/
+        @Override
+        public void writeCharacters(char[] text, int start, int len) throws XMLStreamException
+        {
+            writeDeferred(false);
+            writer.writeCharacters(text, start, len);
+            isOutputStarted = true;
+        }
+
+        /******************************************************************************************
+         * Get the prefix bound to the namespace URI
+         *****************************************************************************************/
+        @Override
+        public String getPrefix(String namespaceURI) throws XMLStreamException
+        {
+            // Pass any deferred start tag to the JDK writer so that its namespace declarations are
+            // in effect
+            writeDeferred(false);
+            return writer.getPrefix(namespaceURI);
+        }
+
+        /******************************************************************************************
+         * Bind a prefix to a namespace URI
+         *****************************************************************************************/
+        @Override
+        public void setPrefix(String prefix, String namespaceURI) throws XMLStreamException
+        {
+            // Pass any deferred start tag to the JDK writer so that the prefix is bound in the
+            // scope of the innermost element
+            writeDeferred(false);
+            writer.setPrefix(prefix, namespaceURI);
+        }
+
+        /******************************************************************************************
+         * Bind the default namespace URI
+         *****************************************************************************************/
+        @Override
+        public void setDefaultNamespace(String namespaceURI) throws XMLStreamException
+        {
+            writeDeferred(false);
+            writer.setDefaultNamespace(namespaceURI);
+        }
+
+        /******************************************************************************************
+         * Set the namespace context used to determine the namespace prefixes
+         *****************************************************************************************/
+        @Override
+        public void setNamespaceContext(NamespaceContext context) throws XMLStreamException
+        {
+            writer.setNamespaceContext(context);
+        }
+
+        /******************************************************************************************
+         * Get the namespace context
+         *****************************************************************************************/
+        @Override
+        public NamespaceContext getNamespaceContext()
+        {
+            return writer.getNamespaceContext();
+        }
+
+        /******************************************************************************************
+         * Get the value of a JDK writer property
+         *****************************************************************************************/
+        @Override
+        public Object getProperty(String name) throws IllegalArgumentException
+        {
+            return writer.getProperty(name);
+        }
+    }
+
     /**********************************************************************************************
      * The standard JSONObject uses a HashMap and does not retain the order in which the key:value
      * pairs are stored. This custom JSON object uses a LinkedHashMap, so it maintains the
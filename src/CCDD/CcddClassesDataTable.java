@@ -15,7 +15,11 @@ import static CCDD.CcddConstants.TLM_SCH_SEPARATOR;
 import java.awt.Component;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 import javax.swing.JOptionPane;
 
@@ -647,6 +651,16 @@ public class CcddClassesDataTable
             return variableNames;
         }
 
+        /******************************************************************************************
+         * Get the list of this table's bit lengths associated with the variables
+         *
+         * @return List of this table's bit lengths
+         *****************************************************************************************/
+        protected List<String> getBitLengths()
+        {
+            return bitLengths;
+        }
+
         /******************************************************************************************
          * Get the list of this table's rates associated with the variables
          *
@@ -1218,6 +1232,12 @@ public class CcddClassesDataTable
         private final InputTypeFormat inputFormat;
         private final boolean isInputCustom;
 
+        // Compiled input match pattern and selection item validator, created when first needed.
+        // The item validator is used in place of the pattern when the pattern is the one
+        // generated from the selection items
+        private volatile Pattern inputPattern;
+        private volatile SelectionListValidator itemValidator;
+
         /******************************************************************************************
          * Input type class constructor
          *
@@ -1324,6 +1344,83 @@ public class CcddClassesDataTable
             {
                 this.inputItems = null;
             }
+
+            // Discard the item validator so that it's rebuilt for the new items
+            itemValidator = null;
+        }
+
+        /******************************************************************************************
+         * Check if the supplied value is valid for this input type. If the input type's matching
+         * regular expression is the one generated from its selection items then the value is
+         * checked against the item set; otherwise the value is matched using the (cached)
+         * compiled regular expression
+         *
+         * @param value
+         *            value to check
+         *
+         * @return true if the value is valid for this input type
+         *****************************************************************************************/
+        protected boolean isInputValid(String value)
+        {
+            boolean isValid;
+
+            // Get the selection item validator
+            SelectionListValidator validator = getItemValidator();
+
+            // Check if the selection items determine the valid values
+            if (validator != null)
+            {
+                isValid = validator.isValid(value);
+            }
+            // The regular expression determines the valid values
+            else
+            {
+                Pattern pattern = inputPattern;
+
+                // Check if the regular expression hasn't been compiled
+                if (pattern == null)
+                {
+                    pattern = Pattern.compile(inputMatch);
+                    inputPattern = pattern;
+                }
+
+                isValid = pattern.matcher(value).matches();
+            }
+
+            return isValid;
+        }
+
+        /******************************************************************************************
+         * Get the selection item validator, creating it if needed
+         *
+         * @return Selection item validator; null if the input type has no selection items or if
+         *         the input match regular expression isn't the one generated from the selection
+         *         items
+         *****************************************************************************************/
+        private SelectionListValidator getItemValidator()
+        {
+            SelectionListValidator validator = itemValidator;
+
+            // Check if the validator hasn't been created and that the input type has selection
+            // items
+            if (validator == null && inputItems != null)
+            {
+                // Get the items, skipping the blank item that's automatically prepended to the
+                // list
+                List<String> items = inputItems.subList(1, inputItems.size());
+
+                // Create the validator. If the regular expression wasn't generated from the
+                // selection items then the validator is disabled and the regular expression is
+                // used instead. The regular expression is compared to the items without
+                // generating the regular expression from them
+                validator = new SelectionListValidator(items,
+                                                       true,
+                                                       CcddInputTypeHandler.isItemRegEx(inputMatch,
+                                                                                        items));
+                itemValidator = validator;
+            }
+
+            return validator == null || !validator.isEnabled() ? null : validator;
         }
 
         /******************************************************************************************
@@ -1466,6 +1563,72 @@ public class CcddClassesDataTable
         }
     }
 
+    /**********************************************************************************************
+     * Selection list validator class. Validates a value by checking for its presence in a set of
+     * selection items, in place of matching a regular expression consisting of every item
+     *********************************************************************************************/
+    protected static class SelectionListValidator
+    {
+        private final Set<String> items;
+        private final boolean isCaseSensitive;
+        private final boolean isEnabled;
+
+        /******************************************************************************************
+         * Selection list validator class constructor
+         *
+         * @param items
+         *            selection items that are valid values
+         *
+         * @param isCaseSensitive
+         *            true if a value must match an item's case to be valid
+         *
+         * @param isEnabled
+         *            true if the validator is used for validating input values
+         *****************************************************************************************/
+        SelectionListValidator(Collection<String> items,
+                               boolean isCaseSensitive,
+                               boolean isEnabled)
+        {
+            this.isCaseSensitive = isCaseSensitive;
+            this.isEnabled = isEnabled;
+            this.items = new HashSet<String>(items.size() * 2);
+
+            // Check if the validator is used
+            if (isEnabled)
+            {
+                // Step through each selection item
+                for (String item : items)
+                {
+                    // Store the item, converted to lower case if case is ignored
+                    this.items.add(isCaseSensitive ? item : item.toLowerCase());
+                }
+            }
+        }
+
+        /******************************************************************************************
+         * Check if the validator is used for validating input values
+         *
+         * @return true if the validator is used for validating input values
+         *****************************************************************************************/
+        protected boolean isEnabled()
+        {
+            return isEnabled;
+        }
+
+        /******************************************************************************************
+         * Check if the supplied value is one of the selection items
+         *
+         * @param value
+         *            value to check
+         *
+         * @return true if the value is one of the selection items
+         *****************************************************************************************/
+        protected boolean isValid(String value)
+        {
+            return items.contains(isCaseSensitive ? value : value.toLowerCase());
+        }
+    }
+
     /**********************************************************************************************
      * Project definition class. Contains the information necessary to construct the project-level
      * data fields derived from a CSV, EDS, JSON, or XTCE import file, or group data fields derived
@@ -1790,6 +1953,24 @@ public class CcddClassesDataTable
         }
     }
 
+    /******************************************************************************************
+     * Data field key listener interface. Implemented by an index of data field information in
+     * order to be informed when an indexed field's owner name, field name, or input type changes
+     *****************************************************************************************/
+    protected interface FieldKeyListener
+    {
+        /******************************************************************************************
+         * Handle a change to a field's owner name, field name, or input type
+         *
+         * @param fieldInfo
+         *            reference to the field information that changed
+         *
+         * @param oldOwnerName
+         *            field's owner name prior to the change
+         *****************************************************************************************/
+        abstract void fieldKeyChanged(FieldInformation fieldInfo, String oldOwnerName);
+    }
+
     /******************************************************************************************
      * Data field information class
      *****************************************************************************************/
@@ -1807,6 +1988,10 @@ public class CcddClassesDataTable
         private Component inputFld;
         private int id;
 
+        // Index informed when the field's owner name, field name, or input type is changed; null
+        // if the field isn't in a field information index
+        private FieldKeyListener keyListener;
+
         /******************************************************************************************
          * Data field information class constructor
          *
@@ -1890,7 +2075,9 @@ public class CcddClassesDataTable
          *****************************************************************************************/
         protected void setOwnerName(String ownerName)
         {
+            String oldOwnerName = this.ownerName;
             this.ownerName = ownerName;
+            keyChanged(oldOwnerName);
         }
 
         /******************************************************************************************
@@ -1912,6 +2099,7 @@ public class CcddClassesDataTable
         protected void setFieldName(String fieldName)
         {
             this.fieldName = fieldName;
+            keyChanged(ownerName);
         }
 
         /******************************************************************************************
@@ -2083,6 +2271,37 @@ public class CcddClassesDataTable
         protected void setInputType(InputType inputType)
         {
             this.inputType = inputType;
+            keyChanged(ownerName);
+        }
+
+        /******************************************************************************************
+         * Set the index to inform when the field's owner name, field name, or input type is
+         * changed. This is used to keep an index built on these values up to date
+         *
+         * @param keyListener
+         *            index containing the field; null if the field isn't indexed
+         *****************************************************************************************/
+        protected void setKeyListener(FieldKeyListener keyListener)
+        {
+            this.keyListener = keyListener;
+        }
+
+        /******************************************************************************************
+         * Inform the index containing the field, if any, that the field's owner name, field name,
+         * or input type changed
+         *
+         * @param oldOwnerName
+         *            field's owner name prior to the change
+         *****************************************************************************************/
+        private void keyChanged(String oldOwnerName)
+        {
+            FieldKeyListener listener = keyListener;
+
+            // Check if the field is in an index
+            if (listener != null)
+            {
+                listener.fieldKeyChanged(this, oldOwnerName);
+            }
         }
 
         /******************************************************************************************
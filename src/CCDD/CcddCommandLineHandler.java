@@ -37,6 +37,7 @@ import CCDD.CcddConstants.EventLogMessageType;
 import CCDD.CcddConstants.FileExtension;
 import CCDD.CcddConstants.InternalTable.AssociationsColumn;
 import CCDD.CcddConstants.ModifiablePathInfo;
+import CCDD.CcddConstants.ModifiableSizeInfo;
 
 /**************************************************************************************************
  * CFS Command and Data Dictionary command line argument handler class
@@ -66,6 +67,16 @@ public class CcddCommandLineHandler
     // Flag that indicates if the command line usage information should be displayed
     private boolean showUsage;
 
+    // Flag that indicates if the commands are a job received by the batch server
+    private final boolean isBatchJob;
+
+    // Port on which the batch server receives job requests; 0 if the batch server isn't used
+    private int batchPort;
+
+    // Names of the commands, in addition to the project-specific commands, that are valid for a
+    // batch job
+    private static final String[] BATCH_JOB_COMMANDS = new String[] {"backup", "shutdown"};
+
     // Import command parameters
     private final List<FileEnvVar> dataFile;
     private boolean replaceExistingTables;
@@ -418,9 +429,29 @@ public class CcddCommandLineHandler
      *            array of command line arguments and associated parameters
      *********************************************************************************************/
     CcddCommandLineHandler(final CcddMain ccddMain, String[] args)
+    {
+        this(ccddMain, args, false);
+    }
+
+    /**********************************************************************************************
+     * Command line argument handler class constructor
+     *
+     * @param ccddMain
+     *            main class reference
+     *
+     * @param args
+     *            array of command line arguments and associated parameters
+     *
+     * @param isBatchJob
+     *            true if the commands are a job received by the batch server. Only the
+     *            project-specific, backup, and shutdown commands are valid for a job, and the
+     *            application isn't terminated when the job completes
+     *********************************************************************************************/
+    CcddCommandLineHandler(final CcddMain ccddMain, String[] args, boolean isBatchJob)
     {
         this.ccddMain = ccddMain;
         this.args = args;
+        this.isBatchJob = isBatchJob;
 
         // Step through each command line argument
         for (int index = 0; index < args.length; index++)
@@ -472,6 +503,7 @@ public class CcddCommandLineHandler
         stopProcessingCommands = false;
         shutdownWhenComplete = false;
         showUsage = false;
+        batchPort = 0;
 
         // Get the variable path separators and the show/hide data type flag from the program
         // preferences
@@ -553,12 +585,70 @@ public class CcddCommandLineHandler
                                         CommandLinePriority.SET_UP.getStartPriority())
         {
             /**************************************************************************************
-             * Backup the project database when first connected
+             * Backup the project database when first connected. For a batch job the project
+             * database is already connected, so the backup is performed immediately
+             *************************************************************************************/
+            @Override
+            protected void doCommand(Object parmVal) throws Exception
+            {
+                // Check if the command is part of a batch job
+                if (isBatchJob)
+                {
+                    String backupFileName = (String) parmVal;
+
+                    // Check if the backup file name is missing the extension
+                    if (!backupFileName.endsWith(FileExtension.DBU.getExtension()))
+                    {
+                        // Append the backup file extension to the file name
+                        backupFileName += FileExtension.DBU.getExtension();
+                    }
+
+                    // Backup the project database
+                    if (ccddMain.getDbControlHandler().backupDatabase(ccddMain.getDbControlHandler().getProjectName(),
+                                                                      new FileEnvVar(backupFileName)))
+                    {
+                        throw new Exception("Project backup failed");
+                    }
+                }
+                // The command is from the application command line
+                else
+                {
+                    ccddMain.getDbControlHandler().setBackupFileName((String) parmVal);
+                }
+            }
+        });
+
+        // Batch server command
+        argument.add(new CommandHandler("batchPort",
+                                        "Keep the project open after\n"
+                                                     + "  completing the command line\n"
+                                                     + "  commands and execute batch jobs\n"
+                                                     + "  received on this local port. A\n"
+                                                     + "  job is a line containing the job\n"
+                                                     + "  token (read from the file\n"
+                                                     + "  .ccdd_batch_<port>.token in the\n"
+                                                     + "  user's home folder), followed by\n"
+                                                     + "  a line containing project-\n"
+                                                     + "  specific, backup, or shutdown\n"
+                                                     + "  commands. The GUI is not\n"
+                                                     + "  displayed",
+                                        "1 - 65535",
+                                        CommandLineType.MINMAX,
+                                        CommandLinePriority.SET_UP.getStartPriority(),
+                                        new Object[] {1, 65535})
+        {
+            /**************************************************************************************
+             * Set the batch server port and the flag to hide the user interface
              *************************************************************************************/
             @Override
             protected void doCommand(Object parmVal)
             {
-                ccddMain.getDbControlHandler().setBackupFileName((String) parmVal);
+                // Set the flag that hides the GUI so that dialog messages are redirected to the
+                // command line
+                ccddMain.setGUIHidden(true);
+
+                // Store the port on which to receive batch job requests
+                batchPort = (Integer) parmVal;
             }
         });
 
@@ -859,6 +949,30 @@ public class CcddCommandLineHandler
             }
         });
 
+        // Script execution threads command
+        argument.add(new CommandHandler("scriptThreads",
+                                        "Set the maximum number of script\n"
+                                                         + "  associations to execute at the\n"
+                                                         + "  same time. This number is in effect\n"
+                                                         + "  for the current session only",
+                                        ModifiableSizeInfo.SCRIPT_EXECUTION_THREADS.getMinimum()
+                                                                                  + " - "
+                                                                                  + ModifiableSizeInfo.SCRIPT_EXECUTION_THREADS.getMaximum(),
+                                        CommandLineType.MINMAX,
+                                        CommandLinePriority.DB_DEPENDENT.getStartPriority(),
+                                        new Object[] {ModifiableSizeInfo.SCRIPT_EXECUTION_THREADS.getMinimum(),
+                                                      ModifiableSizeInfo.SCRIPT_EXECUTION_THREADS.getMaximum()})
+        {
+            /**************************************************************************************
+             * Set the number of script associations to execute at the same time
+             *************************************************************************************/
+            @Override
+            protected void doCommand(Object parmVal)
+            {
+                ccddMain.getScriptHandler().setScriptThreads((Integer) parmVal);
+            }
+        });
+
         // Shutdown the application following execution of the post-database connection commands
         argument.add(new CommandHandler("shutdown",
                                         "Shutdown the application after\n"
@@ -873,14 +987,20 @@ public class CcddCommandLineHandler
         {
             /**************************************************************************************
              * Set the flags to hide the user interface and shutdown the application following
-             * completion of the command line commands
+             * completion of the command line commands. For a batch job the batch server is
+             * stopped and the application shut down once the job completes
              *************************************************************************************/
             @Override
             protected void doCommand(Object parmVal)
             {
-                // Set the flag that hides the GUI so that dialog messages are redirected to the
-                // command line
-                ccddMain.setGUIHidden(true);
+                // Check if the command is from the application command line (the GUI is already
+                // hidden if the command is part of a batch job)
+                if (!isBatchJob)
+                {
+                    // Set the flag that hides the GUI so that dialog messages are redirected to
+                    // the command line
+                    ccddMain.setGUIHidden(true);
+                }
 
                 // Set the flag that indicates the application should exit following execution of
                 // the command line commands
@@ -2274,10 +2394,71 @@ public class CcddCommandLineHandler
             {
                 // Perform any clean-up steps required after processing the command line commands
                 postCommandCleanUp(0);
+
+                // Check if the commands completed successfully and the batch server port is set
+                if (!stopProcessingCommands && batchPort != 0)
+                {
+                    // Start the batch server, keeping the project open to execute batch jobs.
+                    // Exit the application if the server can't be started
+                    if (new CcddBatchServer(ccddMain, batchPort).startServer())
+                    {
+                        ccddMain.exitApplication(false, 1);
+                    }
+                }
             }
         }
     }
 
+    /**********************************************************************************************
+     * Parse and execute the commands for a job received by the batch server. The project database
+     * is already open, so the commands are executed in priority order without waiting for the
+     * database connection. The settings a job's commands can change for the session (the table
+     * export and script output paths and the number of script execution threads) are restored
+     * once the job completes, whether or not it's successful, so that they don't affect later
+     * jobs
+     *
+     * @return 0 if all of the job's commands executed successfully; 1 if an error occurred
+     *********************************************************************************************/
+    protected int executeBatchJob()
+    {
+        // Store the number of script execution threads, in case it's changed by the job
+        int numScriptThreads = ccddMain.getScriptHandler().getScriptThreads();
+        boolean isComplete = false;
+
+        try
+        {
+            // Execute all of the job's commands
+            parseCommand(-1, -1, args, argument);
+            isComplete = true;
+        }
+        finally
+        {
+            // Perform any clean-up steps required after processing the job's commands. This
+            // restores the paths changed by the job. If an error occurred then the clean-up steps
+            // may have already been performed; repeating them has no effect
+            postCommandCleanUp(stopProcessingCommands || !isComplete
+                                                                     ? 1
+                                                                     : 0);
+
+            // Restore the number of script execution threads
+            ccddMain.getScriptHandler().setScriptThreads(numScriptThreads);
+        }
+
+        return stopProcessingCommands
+                                      ? 1
+                                      : 0;
+    }
+
+    /**********************************************************************************************
+     * Check if the application should exit once the command line commands complete
+     *
+     * @return true if the shutdown command is present
+     *********************************************************************************************/
+    protected boolean isShutdownWhenComplete()
+    {
+        return shutdownWhenComplete;
+    }
+
     /**********************************************************************************************
      * Parse and execute the command line argument(s)
      *
@@ -2348,6 +2529,19 @@ public class CcddCommandLineHandler
                         {
                             String parm = null;
 
+                            // Check if the command is part of a batch job, and is not a
+                            // project-specific command or one of the other commands valid for a
+                            // batch job
+                            if (isBatchJob
+                                && commandArgument == argument
+                                && cmd.priority < CommandLinePriority.DB_DEPENDENT.getStartPriority()
+                                && !Arrays.asList(BATCH_JOB_COMMANDS).contains(cmd.command))
+                            {
+                                throw new Exception("Command '"
+                                                    + arg
+                                                    + "' is not valid for a batch job");
+                            }
+
                             // Set the flag to indicate this is a recognized command
                             isValidCmd = true;
 
@@ -2435,11 +2629,20 @@ public class CcddCommandLineHandler
                                     false,
                                     ModifiablePathInfo.SESSION_LOG_FILE_PATH);
 
+        // Check if the commands are a batch job. The application isn't terminated by a job;
+        // instead the batch server shuts down the application if the job requests it
+        if (isBatchJob)
+        {
+            // Restore the original table export and script output paths in case either of these
+            // were changed by the job
+            ccddMain.restoreTableExportPath();
+            ccddMain.restoreScriptOutputPath();
+        }
         // Check if the application should be terminated following execution of the
         // project-specific commands (script execution, export, or import) (note that the GUI is
         // hidden if this flag is set), or if an error occurred and the GUI is hidden (if the GUI
         // is visible then the error is handled via error dialog and event log message)
-        if (shutdownWhenComplete || (exitStatus == 1 && ccddMain.isGUIHidden()))
+        else if (shutdownWhenComplete || (exitStatus == 1 && ccddMain.isGUIHidden()))
         {
             // Restore the original table export and script output paths (in case either of these
             // were changed via a command line command). If the GUI is visible then the script
@@ -386,8 +386,10 @@ public class CcddCommonTreeHandler extends JTree
         // Get the node for this path
         TreeNode node = (TreeNode) path.getLastPathComponent();
 
-        // Check if the node has any child nodes
-        if (node.getChildCount() >= 0)
+        // Check if the node's child nodes have been created (nodes with children that are built
+        // on demand have never been expanded) and if the node has any child nodes
+        if (!(node instanceof ToolTipTreeNode && ((ToolTipTreeNode) node).isChildrenPending())
+            && node.getChildCount() >= 0)
         {
             // Step through each child node
             for (Enumeration<?> e = node.children(); e.hasMoreElements();)
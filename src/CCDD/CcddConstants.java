@@ -70,6 +70,7 @@ public class CcddConstants
     protected static final String TYPE_NAME_SEPARATOR = "TypeNameSeparator";
     protected static final String HIDE_DATA_TYPE = "HideDataType";
     protected static final String HIDE_SCRIPT_PATH = "HideScriptPath";
+    protected static final String PROFILE_SCRIPT_ACCESS = "ProfileScriptAccess";
 
     // Default server information
     protected static final String DEFAULT_POSTGRESQL_HOST = "localhost";
@@ -1280,7 +1281,10 @@ public class CcddConstants
         MAX_GRID_WIDTH("Maximum radio button/check box grid width", "Maximum number of radio buttons or check boxes to display in a column in a dialog", "MaximumGridWidth", 5, 1, 20),
         MAX_STORED_CONVERSIONS("Maximum number of stored variable name conversion lists", "Maximum number of variable name conversion lists to maintain in memory", "MaximumConversionLists", 10, 1, 100),
         TAB_MOVE_LOCATION_INDICATOR_WIDTH("Tab move location indicator width", "Tabbed pane tab move location indicator width in pixels", "TabMoveLocationIndicatorWidth", 3, 1, 15),
-        POSTGRESQL_CONNECTION_TIMEOUT("PostgreSQL Server Timeout", "Number of seconds allowed to validate the PostgreSQL server connection", "MaximumServerTimeout", 5, 1, 60);
+        POSTGRESQL_CONNECTION_TIMEOUT("PostgreSQL Server Timeout", "Number of seconds allowed to validate the PostgreSQL server connection", "MaximumServerTimeout", 5, 1, 60),
+        SCRIPT_EXECUTION_THREADS("Script execution threads", "Maximum number of script associations to execute at the same time; 1 executes the associations one at a time", "ScriptExecutionThreads", 1, 1, 64),
+        EXPORT_THREADS("Table export threads", "Maximum number of tables to export at the same time when exporting tables to individual CSV or JSON files; 1 exports the tables one at a time", "ExportThreads", 1, 1, 64),
+        IMPORT_THREADS("Import file read threads", "Maximum number of CSV files to read at the same time when importing multiple files; the files are read ahead of the file being imported. 1 reads each file as it's imported", "ImportThreads", 1, 1, 64);
 
         private final String name;
         private final String description;
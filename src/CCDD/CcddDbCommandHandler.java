@@ -41,9 +41,19 @@ public class CcddDbCommandHandler
     // PostgreSQL database statement
     private Statement statement;
 
+    // PostgreSQL database statement used in place of the shared statement by the current thread;
+    // null if the thread uses the shared statement. This allows threads that execute in parallel
+    // to use their own (read) connection
+    private final ThreadLocal<Statement> threadStatement = new ThreadLocal<Statement>();
+
     // Save point for transaction roll backs
     private Savepoint savePoint;
 
+    // Number of database update and command statements issued, roll backs, and the number of
+    // times the connection has changed. This is used to detect when information loaded from the
+    // database may be out of date
+    private volatile int modificationCount;
+
     /**********************************************************************************************
      * Database command handler class constructor
      *
@@ -76,6 +86,19 @@ public class CcddDbCommandHandler
     protected void setConnection(Connection connection)
     {
         this.connection = connection;
+        modificationCount++;
+    }
+
+    /**********************************************************************************************
+     * Get the database modification count. The count is incremented whenever an update or command
+     * statement is issued, changes are rolled back, or the database connection changes, and so can
+     * be used to determine if information previously loaded from the database may be out of date
+     *
+     * @return Database modification count
+     *********************************************************************************************/
+    protected int getModificationCount()
+    {
+        return modificationCount;
     }
 
     /**********************************************************************************************
@@ -89,6 +112,29 @@ public class CcddDbCommandHandler
         this.statement = statement;
     }
 
+    /**********************************************************************************************
+     * Set the statement used in place of the shared connection statement by the current thread.
+     * The statement's connection must use auto-commit; commands executed using the statement are
+     * neither committed nor rolled back by this handler
+     *
+     * @param statement
+     *            statement to use for the current thread's database commands; null to use the
+     *            shared connection statement
+     *********************************************************************************************/
+    protected void setThreadStatement(Statement statement)
+    {
+        // Check if a statement is supplied
+        if (statement != null)
+        {
+            threadStatement.set(statement);
+        }
+        // Revert to the shared statement
+        else
+        {
+            threadStatement.remove();
+        }
+    }
+
     /**********************************************************************************************
      * Execute a database query command and log the command to the session log
      *
@@ -171,9 +217,26 @@ public class CcddDbCommandHandler
     {
         Object result = null;
 
+        // Get the statement for the current thread, if it doesn't use the shared statement
+        Statement dbStatement = threadStatement.get();
+        boolean isSharedStatement = dbStatement == null;
+
+        // Check if the current thread uses the shared statement
+        if (isSharedStatement)
+        {
+            dbStatement = statement;
+        }
+
         // Log the command
         eventLog.logEvent(COMMAND_MSG, command);
 
+        // Check if the command can alter the database
+        if (commandType != DbCommandType.QUERY)
+        {
+            // Update the modification count
+            modificationCount++;
+        }
+
         // Check if no valid database connection exists
         if (!ccddMain.getDbControlHandler().isServerConnected())
         {
@@ -186,22 +249,23 @@ public class CcddDbCommandHandler
             {
                 case QUERY:
                     // Execute the query command
-                    result = statement.executeQuery(command);
+                    result = dbStatement.executeQuery(command);
                     break;
 
                 case COMMAND:
                     // Execute the command
-                    result = statement.execute(command);
+                    result = dbStatement.execute(command);
                     break;
 
                 case UPDATE:
                     // Execute the update command
-                    result = statement.executeUpdate(command);
+                    result = dbStatement.executeUpdate(command);
                     break;
             }
 
-            // Check if auto-commit is disabled and a save point isn't established
-            if (connection.getAutoCommit() == false && savePoint == null)
+            // Check if the shared statement is used, auto-commit is disabled, and a save point
+            // isn't established
+            if (isSharedStatement && connection.getAutoCommit() == false && savePoint == null)
             {
                 // Commit the change to the database
                 connection.commit();
@@ -209,6 +273,14 @@ public class CcddDbCommandHandler
         }
         catch (SQLException se)
         {
+            // Check if the current thread uses its own connection. The connection uses
+            // auto-commit, so there's nothing to roll back, and the thread is responsible for
+            // handling the loss of its connection
+            if (!isSharedStatement)
+            {
+                throw new SQLException("Invalid SQL command; " + se.getMessage());
+            }
+
             try
             {
                 // Check if auto-commit is disabled. Roll-backs aren't allowed if auto-commit
@@ -244,6 +316,11 @@ public class CcddDbCommandHandler
                     finally
                     {
                         savePoint = null;
+
+                        // Update the modification count. The roll back reverts changes made
+                        // since the transaction or save point began, so information loaded from
+                        // the database in the meantime may be out of date
+                        modificationCount++;
                     }
                 }
 
@@ -314,6 +391,11 @@ public class CcddDbCommandHandler
             }
             finally
             {
+                // Update the modification count. The roll back reverts changes made since the
+                // save point was established, so information loaded from the database in the
+                // meantime may be out of date
+                modificationCount++;
+
                 // Release the save point
                 releaseSavePoint(component);
             }
@@ -46,6 +46,7 @@ import java.sql.DatabaseMetaData;
 import java.sql.DriverManager;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -2534,6 +2535,47 @@ public class CcddDbControlHandler
         return connectToDatabase(activeProject, activeDatabase, true);
     }
 
+    /**********************************************************************************************
+     * Open an additional connection to the active database for use by a thread that reads from
+     * the database in parallel with other threads (see CcddDbCommandHandler.setThreadStatement()).
+     * The connection uses auto-commit and has its own temporary table for use by the database
+     * functions. The caller is responsible for closing the connection
+     *
+     * @return Connection to the active database
+     *
+     * @throws SQLException
+     *             If the connection can't be established or the temporary table can't be created
+     *********************************************************************************************/
+    protected Connection openReadConnection() throws SQLException
+    {
+        // Connect to the active database using the active user's credentials
+        Connection readConnection = DriverManager.getConnection(getDatabaseURL(activeDatabase),
+                                                                activeUser,
+                                                                activePassword);
+
+        try
+        {
+            readConnection.setAutoCommit(true);
+
+            // Create the temporary table for storing the results returned by the database
+            // functions (the temporary table is specific to the connection)
+            Statement readStatement = readConnection.createStatement();
+            readStatement.execute("CREATE TEMPORARY TABLE "
+                                  + TEMP_TABLE_NAME
+                                  + " (temp_result text); "
+                                  + buildOwnerCommand(DatabaseObject.TABLE, TEMP_TABLE_NAME));
+            readStatement.close();
+        }
+        catch (SQLException se)
+        {
+            // Close the connection and re-throw the exception so that the caller can handle it
+            readConnection.close();
+            throw se;
+        }
+
+        return readConnection;
+    }
+
     /**********************************************************************************************
      * Open a database. Create the database functions
      *
@@ -30,7 +30,14 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 import javax.swing.JOptionPane;
@@ -128,9 +135,92 @@ public class CcddDbTableCommandHandler
     // updated as needed, is used in place of querying for the list as needed
     private List<String> rootStructures;
 
+    // Table member snapshots, one for each combination of member type and sort order. A snapshot
+    // is replaced whenever the database or data types change
+    private final TableMembersSnapshot[] tableMembersSnapshots = new TableMembersSnapshot[TableMemberType.values().length * 2];
+
     // Characters used to create a unique delimiter for literal strings stored in the database
     private final static String DELIMITER_CHARACTERS = "_ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
 
+    // Maximum number of tables combined in a single query when prefetching table data
+    private final static int PREFETCH_TABLES_PER_QUERY = 100;
+
+    /**********************************************************************************************
+     * Table members snapshot class. Contains an unmodifiable list of the table members loaded from
+     * the database, along with the database modification count and data type definitions in
+     * effect when the members were loaded
+     *********************************************************************************************/
+    private static class TableMembersSnapshot
+    {
+        private final List<TableMembers> tableMembers;
+        private final int modificationCount;
+        private final List<String[]> dataTypes;
+
+        /******************************************************************************************
+         * Table members snapshot class constructor
+         *
+         * @param tableMembers
+         *            list of table members
+         *
+         * @param modificationCount
+         *            database modification count when the table members were loaded
+         *
+         * @param dataTypes
+         *            data type definitions used when the table members were loaded
+         *****************************************************************************************/
+        TableMembersSnapshot(List<TableMembers> tableMembers,
+                             int modificationCount,
+                             List<String[]> dataTypes)
+        {
+            List<TableMembers> members = new ArrayList<TableMembers>(tableMembers.size());
+
+            // Step through each table's members
+            for (TableMembers member : tableMembers)
+            {
+                // Store an unmodifiable version of the table's members
+                members.add(new TableMembers(member.getTableName(),
+                                             member.getTableType(),
+                                             Collections.unmodifiableList(member.getDataTypes()),
+                                             Collections.unmodifiableList(member.getVariableNames()),
+                                             Collections.unmodifiableList(member.getBitLengths()),
+                                             Collections.unmodifiableList(member.getRates())));
+            }
+
+            this.tableMembers = Collections.unmodifiableList(members);
+            this.modificationCount = modificationCount;
+            this.dataTypes = dataTypes;
+        }
+
+        /******************************************************************************************
+         * Check if the snapshot reflects the current database contents and data types
+         *
+         * @param modificationCount
+         *            current database modification count
+         *
+         * @param dataTypes
+         *            current data type definitions
+         *
+         * @return true if the snapshot is current
+         *****************************************************************************************/
+        private boolean isCurrent(int modificationCount, List<String[]> dataTypes)
+        {
+            return this.modificationCount == modificationCount && this.dataTypes == dataTypes;
+        }
+    }
+
+    /**********************************************************************************************
+     * Prefetched table data class. Contains the data for a set of prototype tables, along with the
+     * custom values for their instances, from which the table information for any instance of the
+     * prototypes is assembled without accessing the database. The contents aren't altered once
+     * the data is loaded
+     *********************************************************************************************/
+    protected static class TableDataPrefetch
+    {
+        private final Map<String, String> prototypeTypes = new HashMap<String, String>();
+        private final Map<String, List<Object[]>> prototypeRows = new HashMap<String, List<Object[]>>();
+        private final Map<String, List<String[]>> customValues = new HashMap<String, List<String[]>>();
+    }
+
     /**********************************************************************************************
      * Database table command handler class constructor
      *
@@ -2184,34 +2274,9 @@ public class CcddDbTableCommandHandler
             // Step through each of the query results
             while (rowData.next())
             {
-                // Create an array to contain the column values
-                Object[] columnValues = new Object[typeDefn.getColumnCountDatabase()];
-
-                // Step through each column in the row
-                for (int column = 0; column < typeDefn.getColumnCountDatabase(); column++)
-                {
-                    // Add the column value to the array. Note that the first column's index in
-                    // the database is 1, not 0
-                    columnValues[column] = rowData.getString(column + 1);
-
-                    // Check if the value is null
-                    if (columnValues[column] == null)
-                    {
-                        // Replace the null with a blank
-                        columnValues[column] = "";
-                    }
-                    // Check if the input type for this column is a boolean
-                    else if (typeDefn.getInputTypes()[column].getInputFormat() == InputTypeFormat.BOOLEAN)
-                    {
-                        // Store the column value as a boolean
-                        columnValues[column] = columnValues[column].toString().equalsIgnoreCase("true")
-                                                                                                        ? true
-                                                                                                        : false;
-                    }
-                }
-
-                // Add the row data to the list
-                dbRows.add(columnValues);
+                // Add the row data to the list. Note that the first column's index in the database
+                // is 1, not 0
+                dbRows.add(getRowColumnValues(rowData, 1, typeDefn));
             }
 
             rowData.close();
@@ -2240,25 +2305,12 @@ public class CcddDbTableCommandHandler
             // must be loaded
             if (varNameIndex != -1 && dataTypeIndex != -1 && tablePath.contains(","))
             {
-                // Get the column index for the variable path
-                int varPathIndex = typeDefn.getColumnIndexByInputType(DefaultInputType.VARIABLE_PATH);
-
-                // Check if the variable path column is present
-                if (varPathIndex != -1)
-                {
-                    // Step through each row in the table
-                    for (int row = 0; row < tableInfo.getData().length; row++)
-                    {
-                        // Blank the variable path. This prevents the child table from inheriting a
-                        // user-defined variable path from the prototype
-                        tableInfo.getData()[row][varPathIndex] = "";
-                    }
-                }
+                List<String[]> customValues = new ArrayList<String[]>();
 
                 // Place double back slashes before each square brace character in an array index
                 // so that the brackets are interpreted correctly in the query's regular expression
                 // comparisons
-                tablePath = tablePath.replaceAll("\\[(\\d+)\\]", "\\\\\\\\[$1\\\\\\\\]");
+                String pathRegex = tablePath.replaceAll("\\[(\\d+)\\]", "\\\\\\\\[$1\\\\\\\\]");
 
                 // Get the rows from the custom values table that match the specified parent table
                 // and variable path. These values replace those loaded for the prototype of this
@@ -2268,7 +2320,7 @@ public class CcddDbTableCommandHandler
                                                    + " WHERE "
                                                    + ValuesColumn.TABLE_PATH.getColumnName()
                                                    + " ~ E'^"
-                                                   + tablePath
+                                                   + pathRegex
                                                    + ",[^,]+$' AND "
                                                    + ValuesColumn.COLUMN_NAME.getColumnName()
                                                    + " != '';",
@@ -2277,56 +2329,16 @@ public class CcddDbTableCommandHandler
                 // Step through each of the query results
                 while (rowData.next())
                 {
-                    // Get the variable name that will have its value replaced
-                    String variableName = rowData.getString(ValuesColumn.TABLE_PATH.getColumnName());
-
-                    // Get the index of the last data type/variable name separator character (if
-                    // present)
-                    int varIndex = variableName.lastIndexOf(".");
-
-                    // Check if a variable name exists
-                    if (varIndex != -1)
-                    {
-                        // Get the row index for the referenced variable
-                        int row = typeDefn.getRowIndexByColumnValue(tableInfo.getData(),
-                                                                    variableName.substring(varIndex + 1),
-                                                                    varNameIndex);
-
-                        // Check if the table contains the variable and if the data type of the
-                        // variable in the table matches the data type in the path from the custom
-                        // values table
-                        if (row != -1
-                            && tableInfo.getData()[row][dataTypeIndex].equals(variableName.subSequence(variableName.lastIndexOf(",")
-                                                                                                       + 1,
-                                                                                                       varIndex)))
-                        {
-                            // Get the index of the column that will have its data replaced
-                            int column = typeDefn.getColumnIndexByUserName(rowData.getString(ValuesColumn.COLUMN_NAME.getColumnName()));
-
-                            // Check if the table contains the column
-                            if (column != -1)
-                            {
-                                // Check if the input type for this column is a boolean
-                                if (typeDefn.getInputTypes()[column].getInputFormat() == InputTypeFormat.BOOLEAN)
-                                {
-                                    // Store the column value as a boolean
-                                    tableInfo.getData()[row][column] = rowData.getString(ValuesColumn.VALUE.getColumnName()).equalsIgnoreCase("true")
-                                                                                                                                                      ? true
-                                                                                                                                                      : false;
-                                }
-                                // Not a boolean
-                                else
-                                {
-                                    // Replace the value in the table with the one from the custom
-                                    // values table
-                                    tableInfo.getData()[row][column] = rowData.getString(ValuesColumn.VALUE.getColumnName());
-                                }
-                            }
-                        }
-                    }
+                    // Add the variable path, column name, and value to the list
+                    customValues.add(new String[] {rowData.getString(ValuesColumn.TABLE_PATH.getColumnName()),
+                                                   rowData.getString(ValuesColumn.COLUMN_NAME.getColumnName()),
+                                                   rowData.getString(ValuesColumn.VALUE.getColumnName())});
                 }
 
                 rowData.close();
+
+                // Replace the prototype's values with those of the child table
+                setChildTableValues(tableInfo, typeDefn, customValues);
             }
         }
         catch (SQLException | CCDDException se)
@@ -2351,6 +2363,456 @@ public class CcddDbTableCommandHandler
         return tableInfo;
     }
 
+    /**********************************************************************************************
+     * Get the table information for the specified table using the supplied prefetched table data.
+     * The table's data is assembled from the prefetched prototype data and custom values without
+     * accessing the database. If the table's prototype isn't in the prefetched data then the
+     * table is loaded from the database
+     *
+     * @param tablePath
+     *            table path in the format rootTable[,dataType1.variable1[,dataType2
+     *            .variable2[,...]]]
+     *
+     * @param prefetch
+     *            prefetched table data; null to load the table from the database
+     *
+     * @param parent
+     *            GUI component over which to center any error dialog
+     *
+     * @return TableInformation class containing the table data. If the error flag is set the an
+     *         error occurred and the data is invalid
+     *********************************************************************************************/
+    protected TableInformation loadTableData(String tablePath,
+                                             TableDataPrefetch prefetch,
+                                             Component parent)
+    {
+        TableInformation tableInfo;
+
+        // Get the table's prototype table name
+        String prototypeName = TableInformation.getPrototypeName(tablePath);
+
+        // Check if the prototype's data is in the prefetched table data
+        if (prefetch != null && prefetch.prototypeRows.containsKey(prototypeName))
+        {
+            String tableType = prefetch.prototypeTypes.get(prototypeName);
+            List<Object[]> rows = prefetch.prototypeRows.get(prototypeName);
+            Object[][] data = new Object[rows.size()][];
+
+            // Step through each of the prototype's rows
+            for (int row = 0; row < data.length; row++)
+            {
+                // Copy the row so that changes to this table don't affect other instances of the
+                // prototype
+                data[row] = rows.get(row).clone();
+            }
+
+            // Create the table information handler for this table
+            tableInfo = new TableInformation(tableType,
+                                             tablePath,
+                                             data,
+                                             "",
+                                             "",
+                                             fieldHandler.getFieldInformationByOwnerCopy(tablePath));
+
+            // Get the table type definition for this table
+            TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(tableType);
+
+            // Check if the variable name and data type columns exist, and if the table has a path
+            // (i.e., it's a child table). If so it may have values in the custom values table that
+            // must be applied
+            if (typeDefn.getColumnIndexByInputType(DefaultInputType.VARIABLE) != -1
+                && typeDefn.getColumnIndexByInputType(DefaultInputType.PRIM_AND_STRUCT) != -1
+                && tablePath.contains(","))
+            {
+                // Get the custom values for this table's variables
+                List<String[]> customValues = prefetch.customValues.get(tablePath);
+
+                // Replace the prototype's values with those of the child table
+                setChildTableValues(tableInfo,
+                                    typeDefn,
+                                    customValues != null
+                                                         ? customValues
+                                                         : new ArrayList<String[]>(0));
+            }
+        }
+        // The prototype's data wasn't prefetched
+        else
+        {
+            // Load the table from the database
+            tableInfo = loadTableData(tablePath, false, false, parent);
+        }
+
+        return tableInfo;
+    }
+
+    /**********************************************************************************************
+     * Get the column values for the current row of the supplied query results. Null values are
+     * replaced with blanks and the values in boolean columns are converted to booleans
+     *
+     * @param rowData
+     *            query results positioned at the row to get
+     *
+     * @param firstColumn
+     *            index of the query results column containing the table's first column value. The
+     *            first column's index in the query results is 1, not 0
+     *
+     * @param typeDefn
+     *            table type definition of the table from which the row is obtained
+     *
+     * @return Array containing the column values for the row
+     *
+     * @throws SQLException
+     *             If an error occurs getting the column values from the query results
+     *********************************************************************************************/
+    private Object[] getRowColumnValues(ResultSet rowData,
+                                        int firstColumn,
+                                        TypeDefinition typeDefn) throws SQLException
+    {
+        // Create an array to contain the column values
+        Object[] columnValues = new Object[typeDefn.getColumnCountDatabase()];
+
+        // Step through each column in the row
+        for (int column = 0; column < typeDefn.getColumnCountDatabase(); column++)
+        {
+            // Add the column value to the array
+            columnValues[column] = rowData.getString(column + firstColumn);
+
+            // Check if the value is null
+            if (columnValues[column] == null)
+            {
+                // Replace the null with a blank
+                columnValues[column] = "";
+            }
+            // Check if the input type for this column is a boolean
+            else if (typeDefn.getInputTypes()[column].getInputFormat() == InputTypeFormat.BOOLEAN)
+            {
+                // Store the column value as a boolean
+                columnValues[column] = columnValues[column].toString().equalsIgnoreCase("true")
+                                                                                                ? true
+                                                                                                : false;
+            }
+        }
+
+        return columnValues;
+    }
+
+    /**********************************************************************************************
+     * Replace the values loaded for a child table's prototype with those for the child table. The
+     * variable paths are blanked and the values from the custom values table are substituted
+     *
+     * @param tableInfo
+     *            table information for the child table; the table data is updated
+     *
+     * @param typeDefn
+     *            table type definition for the child table
+     *
+     * @param customValues
+     *            list containing the custom values table rows (variable path, column name, and
+     *            value) for the child table's variables
+     *********************************************************************************************/
+    private void setChildTableValues(TableInformation tableInfo,
+                                     TypeDefinition typeDefn,
+                                     List<String[]> customValues)
+    {
+        // Get the index of the variable name, data type, and variable path columns
+        int varNameIndex = typeDefn.getColumnIndexByInputType(DefaultInputType.VARIABLE);
+        int dataTypeIndex = typeDefn.getColumnIndexByInputType(DefaultInputType.PRIM_AND_STRUCT);
+        int varPathIndex = typeDefn.getColumnIndexByInputType(DefaultInputType.VARIABLE_PATH);
+
+        // Check if the variable path column is present
+        if (varPathIndex != -1)
+        {
+            // Step through each row in the table
+            for (int row = 0; row < tableInfo.getData().length; row++)
+            {
+                // Blank the variable path. This prevents the child table from inheriting a
+                // user-defined variable path from the prototype
+                tableInfo.getData()[row][varPathIndex] = "";
+            }
+        }
+
+        // Step through each of the custom values
+        for (String[] customValue : customValues)
+        {
+            // Get the variable name that will have its value replaced
+            String variableName = customValue[ValuesColumn.TABLE_PATH.ordinal()];
+
+            // Get the index of the last data type/variable name separator character (if present)
+            int varIndex = variableName.lastIndexOf(".");
+
+            // Check if a variable name exists
+            if (varIndex != -1)
+            {
+                // Get the row index for the referenced variable
+                int row = typeDefn.getRowIndexByColumnValue(tableInfo.getData(),
+                                                            variableName.substring(varIndex + 1),
+                                                            varNameIndex);
+
+                // Check if the table contains the variable and if the data type of the variable
+                // in the table matches the data type in the path from the custom values table
+                if (row != -1
+                    && tableInfo.getData()[row][dataTypeIndex].equals(variableName.subSequence(variableName.lastIndexOf(",")
+                                                                                               + 1,
+                                                                                               varIndex)))
+                {
+                    // Get the index of the column that will have its data replaced
+                    int column = typeDefn.getColumnIndexByUserName(customValue[ValuesColumn.COLUMN_NAME.ordinal()]);
+
+                    // Check if the table contains the column
+                    if (column != -1)
+                    {
+                        // Check if the input type for this column is a boolean
+                        if (typeDefn.getInputTypes()[column].getInputFormat() == InputTypeFormat.BOOLEAN)
+                        {
+                            // Store the column value as a boolean
+                            tableInfo.getData()[row][column] = customValue[ValuesColumn.VALUE.ordinal()].equalsIgnoreCase("true")
+                                                                                                                              ? true
+                                                                                                                              : false;
+                        }
+                        // Not a boolean
+                        else
+                        {
+                            // Replace the value in the table with the one from the custom values
+                            // table
+                            tableInfo.getData()[row][column] = customValue[ValuesColumn.VALUE.ordinal()];
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**********************************************************************************************
+     * Load the data needed to assemble the table information for the specified tables and all of
+     * their descendant tables. The prototype tables in the tables' hierarchies are determined from
+     * the table members. The prototypes' data is loaded with one query per group of prototypes
+     * sharing a table type, and the custom values with a single query, in place of the several
+     * queries per table needed to load each table individually
+     *
+     * @param tablePaths
+     *            list of table paths, in the format rootTable[,dataType1.variable1[,dataType2
+     *            .variable2[,...]]], for which to prefetch the table data
+     *
+     * @param parent
+     *            GUI component over which to center any error dialog
+     *
+     * @return Prefetched table data. The prefetched data is empty if an error occurs loading the
+     *         data, in which case each table is loaded from the database as it's requested
+     *********************************************************************************************/
+    protected TableDataPrefetch prefetchTableData(List<String> tablePaths, Component parent)
+    {
+        TableDataPrefetch prefetch = new TableDataPrefetch();
+
+        try
+        {
+            // Get the table members, which define the child tables of each prototype
+            List<TableMembers> tableMembers = loadTableMembers(TableMemberType.TABLES_ONLY,
+                                                               false,
+                                                               parent);
+
+            // Check if the table members failed to load
+            if (tableMembers == null)
+            {
+                throw new CCDDException("Cannot load table members");
+            }
+
+            Map<String, TableMembers> memberMap = new HashMap<String, TableMembers>();
+
+            // Step through each table's members
+            for (TableMembers member : tableMembers)
+            {
+                // Store the members by the prototype table name
+                memberMap.put(member.getTableName(), member);
+            }
+
+            Set<String> prototypeNames = new HashSet<String>();
+            Map<String, List<String>> typePrototypes = new LinkedHashMap<String, List<String>>();
+            List<String> pendingNames = new ArrayList<String>();
+            Set<String> rootNames = new LinkedHashSet<String>();
+
+            // Step through each table path
+            for (String tablePath : tablePaths)
+            {
+                // Add the table's prototype to the list of those to check
+                pendingNames.add(TableInformation.getPrototypeName(tablePath));
+
+                // Add the table's root table to the list of those for which custom values are
+                // loaded
+                rootNames.add(tablePath.split(",", 2)[0]);
+            }
+
+            // Continue to step through the prototypes until all of the descendants are found
+            while (!pendingNames.isEmpty())
+            {
+                // Get the next prototype and its members
+                String prototypeName = pendingNames.remove(pendingNames.size() - 1);
+                TableMembers member = memberMap.get(prototypeName);
+
+                // Check if the prototype exists and hasn't already been found
+                if (member != null && prototypeNames.add(prototypeName))
+                {
+                    // Get the list of prototypes for the table's type
+                    List<String> names = typePrototypes.get(member.getTableType());
+
+                    // Check if this is the first prototype of this type
+                    if (names == null)
+                    {
+                        // Create the list of prototypes for this type
+                        names = new ArrayList<String>();
+                        typePrototypes.put(member.getTableType(), names);
+                    }
+
+                    names.add(prototypeName);
+
+                    // Add the prototypes of the table's child tables to the list of those to
+                    // check
+                    pendingNames.addAll(member.getDataTypes());
+                }
+            }
+
+            // Step through each table type referenced by the prototypes
+            for (Entry<String, List<String>> typeEntry : typePrototypes.entrySet())
+            {
+                // Get the table type definition
+                TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(typeEntry.getKey());
+
+                // Check if the table type definition is valid. Tables with an invalid type aren't
+                // prefetched so that the error is reported when the table is loaded
+                if (typeDefn != null)
+                {
+                    // Get a comma-separated list of the columns for this table type
+                    String columnNames = CcddUtilities.convertArrayToString(typeDefn.getColumnNamesDatabaseQuoted());
+                    List<String> names = typeEntry.getValue();
+
+                    // Step through the prototypes of this type in groups
+                    for (int start = 0; start < names.size(); start += PREFETCH_TABLES_PER_QUERY)
+                    {
+                        String command = "";
+
+                        // Step through each prototype in the group
+                        for (String name : names.subList(start,
+                                                         Math.min(start + PREFETCH_TABLES_PER_QUERY,
+                                                                  names.size())))
+                        {
+                            // Create the storage for the prototype's rows
+                            prefetch.prototypeTypes.put(name, typeEntry.getKey());
+                            prefetch.prototypeRows.put(name, new ArrayList<Object[]>());
+
+                            // Append the command to obtain the rows for this prototype, tagged with
+                            // the prototype's name
+                            command += "(SELECT "
+                                       + delimitText(name)
+                                       + " AS prototype_table, "
+                                       + columnNames
+                                       + " FROM "
+                                       + dbControl.getQuotedName(name)
+                                       + ") UNION ALL ";
+                        }
+
+                        // Get the rows for the prototypes in the group, sorted by prototype and
+                        // row index. The table must have all of its table type's columns or else
+                        // it fails to load
+                        ResultSet rowData = dbCommand.executeDbQuery(CcddUtilities.removeTrailer(command,
+                                                                                                 " UNION ALL ")
+                                                                     + " ORDER BY prototype_table, "
+                                                                     + DefaultColumn.ROW_INDEX.getDbName()
+                                                                     + ";",
+                                                                     parent);
+
+                        // Step through each of the query results
+                        while (rowData.next())
+                        {
+                            // Add the row data to the prototype's list. The table's column
+                            // values follow the prototype name
+                            prefetch.prototypeRows.get(rowData.getString(1))
+                                                  .add(getRowColumnValues(rowData, 2, typeDefn));
+                        }
+
+                        rowData.close();
+                    }
+                }
+            }
+
+            List<String> roots = new ArrayList<String>(rootNames);
+
+            // Step through the root tables in groups
+            for (int start = 0; start < roots.size(); start += PREFETCH_TABLES_PER_QUERY)
+            {
+                String rootList = "";
+
+                // Step through each root table in the group
+                for (String rootName : roots.subList(start,
+                                                     Math.min(start + PREFETCH_TABLES_PER_QUERY,
+                                                              roots.size())))
+                {
+                    // Add the root table name to the list of those to match
+                    rootList += delimitText(rootName) + ", ";
+                }
+
+                // Get the rows from the custom values table, for the variables belonging to the
+                // root tables in the group, that replace a column value
+                ResultSet rowData = dbCommand.executeDbQuery("SELECT * FROM "
+                                                             + InternalTable.VALUES.getTableName()
+                                                             + " WHERE split_part("
+                                                             + ValuesColumn.TABLE_PATH.getColumnName()
+                                                             + ", ',', 1) IN ("
+                                                             + CcddUtilities.removeTrailer(rootList,
+                                                                                           ", ")
+                                                             + ") AND "
+                                                             + ValuesColumn.COLUMN_NAME.getColumnName()
+                                                             + " != '';",
+                                                             parent);
+
+                // Step through each of the query results
+                while (rowData.next())
+                {
+                    // Get the variable path
+                    String variablePath = rowData.getString(ValuesColumn.TABLE_PATH.getColumnName());
+                    int index = variablePath.lastIndexOf(",");
+
+                    // Check if the variable path includes the parent table path
+                    if (index != -1)
+                    {
+                        // Get the path of the table containing the variable
+                        String tablePath = variablePath.substring(0, index);
+
+                        // Get the list of custom values for the table
+                        List<String[]> customValues = prefetch.customValues.get(tablePath);
+
+                        // Check if this is the first custom value for the table
+                        if (customValues == null)
+                        {
+                            // Create the list of custom values for the table
+                            customValues = new ArrayList<String[]>();
+                            prefetch.customValues.put(tablePath, customValues);
+                        }
+
+                        // Add the variable path, column name, and value to the table's list
+                        customValues.add(new String[] {variablePath,
+                                                       rowData.getString(ValuesColumn.COLUMN_NAME.getColumnName()),
+                                                       rowData.getString(ValuesColumn.VALUE.getColumnName())});
+                    }
+                }
+
+                rowData.close();
+            }
+        }
+        catch (SQLException | CCDDException se)
+        {
+            // Inform the user that prefetching the table data failed
+            eventLog.logFailEvent(parent,
+                                  "Cannot prefetch table data; cause '"
+                                          + se.getMessage()
+                                          + "'",
+                                  "<html><b>Cannot prefetch table data");
+
+            // Discard any partially loaded data so that the tables are loaded individually
+            prefetch = new TableDataPrefetch();
+        }
+
+        return prefetch;
+    }
+
     /**********************************************************************************************
      * Perform the database query to load the rows from the custom values table that match the
      * specified column name and column value
@@ -2460,7 +2922,9 @@ public class CcddDbTableCommandHandler
      * Create a list of all prototype tables with their child tables (prototypes and instances),
      * and primitive variables (if specified). The table must contain all of the protected columns
      * defined for a structure in order for its members to be determined. Non-structure tables are
-     * included in the returned list, but by definition have no members
+     * included in the returned list, but by definition have no members. The members are taken
+     * from a project-wide snapshot that's reloaded from the database only when the database or
+     * data types have changed since the snapshot was created
      *
      * @param memberType
      *            Type of table members to load: TABLES_ONLY to exclude primitive variables or
@@ -2474,13 +2938,146 @@ public class CcddDbTableCommandHandler
      * @param parent
      *            GUI component over which to center any error dialog
      *
-     * @return List containing the table member information. For structure tables the member tables
-     *         are included, along with primitive variables (if specified), sorted by variable name
-     *         or row index as specified
+     * @return Unmodifiable list containing the table member information. For structure tables the
+     *         member tables are included, along with primitive variables (if specified), sorted by
+     *         variable name or row index as specified. The list is shared by all callers until the
+     *         database or data types change, at which point the next call reloads it; null if an
+     *         error occurs loading the members
      *********************************************************************************************/
     protected List<TableMembers> loadTableMembers(TableMemberType memberType,
                                                   boolean sortByName,
                                                   final Component parent)
+    {
+        List<TableMembers> tableMembers = null;
+
+        // Get the database modification count and data types prior to loading the table members
+        // so that a change made while loading causes the snapshot to be replaced on the next load
+        int modificationCount = dbCommand.getModificationCount();
+        List<String[]> dataTypes = dataTypeHandler.getDataTypeData();
+
+        // Get the index of the snapshot for this member type and sort order
+        int snapshotIndex = memberType.ordinal() * 2 + (sortByName ? 1 : 0);
+
+        synchronized (tableMembersSnapshots)
+        {
+            // Check if the snapshot for this member type and sort order is current
+            if (tableMembersSnapshots[snapshotIndex] != null
+                && tableMembersSnapshots[snapshotIndex].isCurrent(modificationCount, dataTypes))
+            {
+                // Use the table members from the snapshot
+                tableMembers = tableMembersSnapshots[snapshotIndex].tableMembers;
+            }
+            // Check if only tables are requested and the snapshot that includes primitive
+            // variables is current
+            else if (memberType == TableMemberType.TABLES_ONLY)
+            {
+                TableMembersSnapshot primSnapshot = tableMembersSnapshots[TableMemberType.INCLUDE_PRIMITIVES.ordinal()
+                                                                          * 2
+                                                                          + (sortByName ? 1 : 0)];
+
+                if (primSnapshot != null && primSnapshot.isCurrent(modificationCount, dataTypes))
+                {
+                    // Create the table-only members by removing the primitive variables from the
+                    // members that include them
+                    tableMembers = removePrimitiveMembers(primSnapshot.tableMembers);
+                }
+            }
+        }
+
+        // Check if the table members aren't available from a snapshot
+        if (tableMembers == null)
+        {
+            // Load the table members from the database
+            tableMembers = queryTableMembers(memberType, sortByName, parent);
+        }
+
+        // Check if the table members loaded successfully and if these aren't the ones in the
+        // current snapshot
+        if (tableMembers != null
+            && (tableMembersSnapshots[snapshotIndex] == null
+                || tableMembersSnapshots[snapshotIndex].tableMembers != tableMembers))
+        {
+            // Replace the snapshot with one containing the updated table members
+            TableMembersSnapshot snapshot = new TableMembersSnapshot(tableMembers,
+                                                                     modificationCount,
+                                                                     dataTypes);
+
+            synchronized (tableMembersSnapshots)
+            {
+                tableMembersSnapshots[snapshotIndex] = snapshot;
+            }
+
+            tableMembers = snapshot.tableMembers;
+        }
+
+        return tableMembers;
+    }
+
+    /**********************************************************************************************
+     * Create a copy of the supplied table members with the primitive variables removed
+     *
+     * @param primMembers
+     *            list of table members that includes primitive variables
+     *
+     * @return Copy of the table members with the primitive variables removed
+     *********************************************************************************************/
+    private List<TableMembers> removePrimitiveMembers(List<TableMembers> primMembers)
+    {
+        List<TableMembers> tableMembers = new ArrayList<TableMembers>(primMembers.size());
+
+        // Step through each table's members
+        for (TableMembers member : primMembers)
+        {
+            List<String> dataTypes = new ArrayList<String>();
+            List<String> variableNames = new ArrayList<String>();
+            List<String> bitLengths = new ArrayList<String>();
+            List<String[]> rates = new ArrayList<String[]>();
+
+            // Step through each of the table's variables
+            for (int index = 0; index < member.getDataTypes().size(); index++)
+            {
+                // Check if the variable's data type isn't a primitive
+                if (!dataTypeHandler.isPrimitive(member.getDataTypes().get(index)))
+                {
+                    // Add the variable to the table-only member lists
+                    dataTypes.add(member.getDataTypes().get(index));
+                    variableNames.add(member.getVariableNames().get(index));
+                    bitLengths.add(member.getBitLengths().get(index));
+                    rates.add(member.getRates().get(index));
+                }
+            }
+
+            tableMembers.add(new TableMembers(member.getTableName(),
+                                              member.getTableType(),
+                                              dataTypes,
+                                              variableNames,
+                                              bitLengths,
+                                              rates));
+        }
+
+        return tableMembers;
+    }
+
+    /**********************************************************************************************
+     * Query the database for the list of all prototype tables with their child tables (prototypes
+     * and instances), and primitive variables (if specified)
+     *
+     * @param memberType
+     *            Type of table members to load: TABLES_ONLY to exclude primitive variables or
+     *            INCLUDE_PRIMITIVES to include tables and primitive variables
+     *
+     * @param sortByName
+     *            true to return the table members in alphabetical order; false to return the
+     *            members sorted by row index
+     *
+     * @param parent
+     *            GUI component over which to center any error dialog
+     *
+     * @return List containing the table member information; null if an error occurs
+     *********************************************************************************************/
+    private List<TableMembers> queryTableMembers(TableMemberType memberType,
+                                                 boolean sortByName,
+                                                 final Component parent)
     {
         List<TableMembers> tableMembers = new ArrayList<TableMembers>();
 
@@ -7347,7 +7944,7 @@ public class CcddDbTableCommandHandler
                         boolean hasSharedRate = false;
 
                         // Step through each rate column in the table type definition
-                        for (int column : originalDefn.getColumnIndicesByInputType(DefaultInputType.RATE))
+                        for (int column : originalDefn.getColumnIndexArrayByInputType(DefaultInputType.RATE))
                         {
                             // Get the rate column name (as seen by the user)
                             String rateName = originalDefn.getColumnNamesUser()[column];
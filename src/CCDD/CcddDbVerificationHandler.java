@@ -2276,7 +2276,7 @@ public class CcddDbVerificationHandler
             && !(column == variableNameIndex
                  && ArrayVariable.isArrayMember(data))
             && typeDefn.getInputTypes()[column] != null
-            && !data.matches(typeDefn.getInputTypes()[column].getInputMatch()))
+            && !typeDefn.getInputTypes()[column].isInputValid(data))
         {
             // Value doesn't match the input type specified in the type definition
             issues.add(new TableIssue("Table '"
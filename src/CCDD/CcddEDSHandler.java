@@ -20,7 +20,9 @@ import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 import javax.swing.JOptionPane;
@@ -30,12 +32,6 @@ import javax.xml.bind.JAXBException;
 import javax.xml.bind.MarshalException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMResult;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
 
 import org.ccsds.schema.sois.seds.ArrayDataType;
 import org.ccsds.schema.sois.seds.ArrayDimensionsType;
@@ -138,6 +134,15 @@ public class CcddEDSHandler extends CcddImportSupportHandler implements CcddImpo
     private DeviceType device;
     private DataSheetType dataSheet;
 
+    // Index of the data sheet's name spaces, keyed by the name space name. This is used to locate
+    // a name space without searching the data sheet's name space list
+    private Map<String, NamespaceType> namespaceIndex;
+
+    // JAXB context for the EDS classes. Creating the context is time consuming, so it's created
+    // once and shared by all EDS handlers (the context is thread-safe; the marshaller and
+    // unmarshaller created from it aren't, so each handler creates its own)
+    private static JAXBContext edsContext = null;
+
     // Names of the system paths for the common header for all command tables
     private String cmdHeaderPath;
 
@@ -217,7 +222,7 @@ public class CcddEDSHandler extends CcddImportSupportHandler implements CcddImpo
         try
         {
             // Create the XML marshaller used to convert the CCDD project data into EDS XML format
-            JAXBContext context = JAXBContext.newInstance("org.ccsds.schema.sois.seds");
+            JAXBContext context = getEDSContext();
             marshaller = context.createMarshaller();
             marshaller.setProperty(Marshaller.JAXB_SCHEMA_LOCATION,
                                    ModifiableOtherSettingInfo.EDS_SCHEMA_LOCATION_URL.getValue());
@@ -239,6 +244,25 @@ public class CcddEDSHandler extends CcddImportSupportHandler implements CcddImpo
         }
     }
 
+    /**********************************************************************************************
+     * Get the JAXB context for the EDS classes, creating it if this is the first request
+     *
+     * @return JAXB context for the EDS classes
+     *
+     * @throws JAXBException
+     *             If an error occurs creating the context
+     *********************************************************************************************/
+    private static synchronized JAXBContext getEDSContext() throws JAXBException
+    {
+        // Check if the context hasn't been created
+        if (edsContext == null)
+        {
+            edsContext = JAXBContext.newInstance("org.ccsds.schema.sois.seds");
+        }
+
+        return edsContext;
+    }
+
     /**********************************************************************************************
      * Get the imported table definitions
      *
@@ -2179,15 +2203,16 @@ public class CcddEDSHandler extends CcddImportSupportHandler implements CcddImpo
                            (EndianType) extraInfo[0],
                            (boolean) extraInfo[1]);
 
-        // Output the XML to the specified file. The Marshaller has a hard-coded limit of 8
-        // levels; once exceeded it starts back at the first column. Therefore, a Transformer
-        // is used to set the indentation amount (it doesn't have an indentation level limit)
-        DOMResult domResult = new DOMResult();
-        marshaller.marshal(project, domResult);
-        Transformer transformer = TransformerFactory.newInstance().newTransformer();
-        transformer.setOutputProperty(OutputKeys.INDENT, "yes");
-        transformer.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "3");
-        transformer.transform(new DOMSource(domResult.getNode()), new StreamResult(exportFile));
+        try
+        {
+            // Output the XML to the specified file
+            marshalToFile(marshaller, project, exportFile);
+        }
+        finally
+        {
+            // Release the name space index
+            namespaceIndex = null;
+        }
     }
 
     /**********************************************************************************************
@@ -2217,6 +2242,7 @@ public class CcddEDSHandler extends CcddImportSupportHandler implements CcddImpo
         dataSheet = factory.createDataSheetType();
         project = factory.createDataSheet(dataSheet);
         device = factory.createDeviceType();
+        namespaceIndex = new HashMap<String, NamespaceType>();
 
         // The device name, built from the project name, is restricted as to format, so replace all
         // invalid characters in the project name with an underscore
@@ -2686,6 +2712,14 @@ public class CcddEDSHandler extends CcddImportSupportHandler implements CcddImpo
         // Add the new names space
         dataSheet.getNamespace().add(childSpace);
 
+        // Check if no name space with this name is in the index (if more than one name space has
+        // the same name then the first one is the one located by a search)
+        if (!namespaceIndex.containsKey(childSpace.getName()))
+        {
+            // Add the name space to the index
+            namespaceIndex.put(childSpace.getName(), childSpace);
+        }
+
         return childSpace;
     }
 
@@ -2703,27 +2737,12 @@ public class CcddEDSHandler extends CcddImportSupportHandler implements CcddImpo
      *********************************************************************************************/
     private NamespaceType searchNamespacesForName(String systemPath, String namespaceName)
     {
-        NamespaceType foundNamespace = null;
-
-        // Prepend the system path, if present
-        namespaceName = (systemPath != null
-                                            ? systemPath + "/"
-                                            : "")
-                        + namespaceName;
-
-        // Step through each name space
-        for (NamespaceType namespace : dataSheet.getNamespace())
-        {
-            // Check if the current name space's name matches the search name
-            if (namespace.getName().equals(namespaceName))
-            {
-                // Store the reference to the matching name space
-                foundNamespace = namespace;
-                break;
-            }
-        }
-
-        return foundNamespace;
+        // Prepend the system path, if present, and get the name space with this name from the
+        // name space index
+        return namespaceIndex.get((systemPath != null
+                                                      ? systemPath + "/"
+                                                      : "")
+                                  + namespaceName);
     }
 
     /**********************************************************************************************
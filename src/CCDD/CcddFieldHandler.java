@@ -13,9 +13,14 @@ import static CCDD.CcddConstants.TYPE_DATA_FIELD_IDENT;
 
 import java.awt.Component;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import CCDD.CcddClassesDataTable.FieldInformation;
+import CCDD.CcddClassesDataTable.FieldKeyListener;
 import CCDD.CcddClassesDataTable.InputType;
 import CCDD.CcddConstants.ApplicabilityType;
 import CCDD.CcddConstants.DefaultInputType;
@@ -33,7 +38,548 @@ public class CcddFieldHandler
     private final CcddInputTypeHandler inputTypeHandler;
 
     // List of field information
-    private List<FieldInformation> fieldInformation;
+    private FieldInformationList fieldInformation;
+
+    /**********************************************************************************************
+     * Owner field information class. Contains the fields belonging to an owner, and the owner's
+     * fields keyed by field name and by input type
+     *********************************************************************************************/
+    private static class OwnerFields
+    {
+        // Owner's fields, in the order these appear in the field information list
+        private final List<FieldInformation> fields;
+
+        // Owner's fields keyed by the field name in lower case, and by the input type. Only the
+        // first field with a given name or input type is stored, matching the behavior of a
+        // search of the list. Null if these must be rebuilt from the owner's fields
+        private Map<String, FieldInformation> byName;
+        private Map<InputType, FieldInformation> byInputType;
+
+        /******************************************************************************************
+         * Owner field information class constructor
+         *****************************************************************************************/
+        OwnerFields()
+        {
+            fields = new ArrayList<FieldInformation>();
+            byName = null;
+            byInputType = null;
+        }
+
+        /******************************************************************************************
+         * Get the position of the specified field in the owner's list of fields
+         *
+         * @param fieldInfo
+         *            reference to the field information
+         *
+         * @return Position of the field in the owner's list of fields; -1 if the field isn't in
+         *         the list
+         *****************************************************************************************/
+        private int indexOf(FieldInformation fieldInfo)
+        {
+            int position = -1;
+
+            // Step through the owner's fields
+            for (int index = 0; index < fields.size(); index++)
+            {
+                // Check if this is the specified field
+                if (fields.get(index) == fieldInfo)
+                {
+                    position = index;
+                    break;
+                }
+            }
+
+            return position;
+        }
+
+        /******************************************************************************************
+         * Build the owner's field name and input type keys, if these need to be rebuilt
+         *****************************************************************************************/
+        private void buildKeys()
+        {
+            // Check if the keys need to be built
+            if (byName == null)
+            {
+                byName = new HashMap<String, FieldInformation>();
+                byInputType = new HashMap<InputType, FieldInformation>();
+
+                // Step through the owner's fields
+                for (FieldInformation info : fields)
+                {
+                    // Store the field by name and by input type if no preceding field has the
+                    // same name or input type
+                    String nameKey = info.getFieldName().toLowerCase();
+
+                    if (!byName.containsKey(nameKey))
+                    {
+                        byName.put(nameKey, info);
+                    }
+
+                    if (!byInputType.containsKey(info.getInputType()))
+                    {
+                        byInputType.put(info.getInputType(), info);
+                    }
+                }
+            }
+        }
+    }
+
+    /**********************************************************************************************
+     * Field information list class. This is an array list that maintains an index of its fields
+     * by owner name, by owner and field name, and by owner and input type (owner and field names
+     * are case insensitive). The index is updated as fields are appended, replaced, and removed,
+     * and as an indexed field's owner name, field name, or input type is changed, including
+     * changes made to the list outside of the field handler. A change that can't be applied to
+     * the index in place (e.g., inserting a field ahead of others, sorting the list, or moving a
+     * field to a different owner) causes the index to be rebuilt when next used
+     *********************************************************************************************/
+    @SuppressWarnings("serial")
+    private static class FieldInformationList extends ArrayList<FieldInformation> implements FieldKeyListener
+    {
+        // Fields keyed by the owner name in lower case; null if the index must be rebuilt
+        private Map<String, OwnerFields> byOwner;
+
+        // List modification count reflected by the index. A structural change to the list that
+        // isn't applied to the index causes it to be rebuilt
+        private int indexedModCount;
+
+        /******************************************************************************************
+         * Field information list class constructor
+         *****************************************************************************************/
+        FieldInformationList()
+        {
+            byOwner = null;
+        }
+
+        /******************************************************************************************
+         * Field information list class constructor
+         *
+         * @param fieldInfo
+         *            field information with which to populate the list
+         *****************************************************************************************/
+        FieldInformationList(Collection<FieldInformation> fieldInfo)
+        {
+            super(fieldInfo);
+            byOwner = null;
+        }
+
+        /******************************************************************************************
+         * Discard the index so that it's rebuilt when next used
+         *****************************************************************************************/
+        protected synchronized void invalidateIndex()
+        {
+            byOwner = null;
+        }
+
+        /******************************************************************************************
+         * Get the index, building it if it doesn't exist or the list has been changed in a
+         * manner not reflected in the index
+         *
+         * @return Fields keyed by the owner name in lower case
+         *****************************************************************************************/
+        private Map<String, OwnerFields> getIndex()
+        {
+            // Check if the index doesn't exist or is out of date
+            if (byOwner == null || indexedModCount != modCount)
+            {
+                byOwner = new HashMap<String, OwnerFields>();
+
+                // Step through each field
+                for (FieldInformation info : this)
+                {
+                    // Add the field to its owner's fields
+                    addToIndex(info);
+                }
+
+                indexedModCount = modCount;
+            }
+
+            return byOwner;
+        }
+
+        /******************************************************************************************
+         * Add a field to the end of its owner's fields in the index, and have the field report
+         * changes to its key values to the list
+         *
+         * @param fieldInfo
+         *            reference to the field information to add
+         *****************************************************************************************/
+        private void addToIndex(FieldInformation fieldInfo)
+        {
+            String ownerKey = fieldInfo.getOwnerName().toLowerCase();
+            OwnerFields ownerFields = byOwner.get(ownerKey);
+
+            // Check if this is the owner's first field
+            if (ownerFields == null)
+            {
+                ownerFields = new OwnerFields();
+                byOwner.put(ownerKey, ownerFields);
+            }
+
+            ownerFields.fields.add(fieldInfo);
+            ownerFields.byName = null;
+            fieldInfo.setKeyListener(this);
+        }
+
+        /******************************************************************************************
+         * Remove a field from its owner's fields in the index
+         *
+         * @param fieldInfo
+         *            reference to the field information to remove
+         *
+         * @param ownerName
+         *            name of the field's owner in the index
+         *
+         * @return true if the field is removed; false if the field isn't in the index
+         *****************************************************************************************/
+        private boolean removeFromIndex(FieldInformation fieldInfo, String ownerName)
+        {
+            boolean isRemoved = false;
+            String ownerKey = ownerName.toLowerCase();
+            OwnerFields ownerFields = byOwner.get(ownerKey);
+
+            // Check if the owner has fields
+            if (ownerFields != null)
+            {
+                int position = ownerFields.indexOf(fieldInfo);
+
+                // Check if the field is in the owner's fields
+                if (position != -1)
+                {
+                    // Remove the field, and the owner if it has no other fields
+                    ownerFields.fields.remove(position);
+                    ownerFields.byName = null;
+                    isRemoved = true;
+
+                    if (ownerFields.fields.isEmpty())
+                    {
+                        byOwner.remove(ownerKey);
+                    }
+                }
+            }
+
+            return isRemoved;
+        }
+
+        /******************************************************************************************
+         * Check if the index exists and reflects the list prior to a change that's applied to
+         * the index in place
+         *
+         * @param expectedModCount
+         *            list modification count prior to the change
+         *
+         * @return true if the index can be updated in place
+         *****************************************************************************************/
+        private boolean isIndexCurrent(int expectedModCount)
+        {
+            return byOwner != null && indexedModCount == expectedModCount;
+        }
+
+        /******************************************************************************************
+         * Append a field to the list
+         *
+         * @param fieldInfo
+         *            reference to the field information to append
+         *
+         * @return true
+         *****************************************************************************************/
+        @Override
+        public synchronized boolean add(FieldInformation fieldInfo)
+        {
+            boolean isCurrent = isIndexCurrent(modCount);
+            super.add(fieldInfo);
+
+            // Check if the index can be updated in place
+            if (isCurrent)
+            {
+                addToIndex(fieldInfo);
+                indexedModCount = modCount;
+            }
+
+            return true;
+        }
+
+        /******************************************************************************************
+         * Append the supplied fields to the list
+         *
+         * @param fieldInfo
+         *            fields to append
+         *
+         * @return true if any fields are appended
+         *****************************************************************************************/
+        @Override
+        public synchronized boolean addAll(Collection<? extends FieldInformation> fieldInfo)
+        {
+            // Step through each field to append, using a copy in case the fields are from this
+            // list
+            for (FieldInformation info : new ArrayList<FieldInformation>(fieldInfo))
+            {
+                add(info);
+            }
+
+            return !fieldInfo.isEmpty();
+        }
+
+        /******************************************************************************************
+         * Replace the field information at the specified position in the list
+         *
+         * @param index
+         *            position in the list
+         *
+         * @param fieldInfo
+         *            field information to store
+         *
+         * @return Field information previously at the specified position
+         *****************************************************************************************/
+        @Override
+        public synchronized FieldInformation set(int index, FieldInformation fieldInfo)
+        {
+            FieldInformation oldFieldInfo = super.set(index, fieldInfo);
+
+            // Check if the index exists
+            if (byOwner != null)
+            {
+                OwnerFields ownerFields = byOwner.get(oldFieldInfo.getOwnerName().toLowerCase());
+                int position = ownerFields == null
+                                                   ? -1
+                                                   : ownerFields.indexOf(oldFieldInfo);
+
+                // Check if the replacement field has the same owner as the field it replaces, so
+                // that it occupies the same position in the owner's fields
+                if (position != -1
+                    && oldFieldInfo.getOwnerName().equalsIgnoreCase(fieldInfo.getOwnerName()))
+                {
+                    // Replace the field in the owner's fields
+                    ownerFields.fields.set(position, fieldInfo);
+                    ownerFields.byName = null;
+                    fieldInfo.setKeyListener(this);
+                }
+                // The field's position in its owner's fields isn't known
+                else
+                {
+                    // Rebuild the index when next used
+                    byOwner = null;
+                }
+            }
+
+            return oldFieldInfo;
+        }
+
+        /******************************************************************************************
+         * Remove the field at the specified position in the list
+         *
+         * @param index
+         *            position in the list
+         *
+         * @return Field information removed from the list
+         *****************************************************************************************/
+        @Override
+        public synchronized FieldInformation remove(int index)
+        {
+            boolean isCurrent = isIndexCurrent(modCount);
+            FieldInformation fieldInfo = super.remove(index);
+
+            // Check if the index can be updated in place
+            if (isCurrent)
+            {
+                removeFromIndex(fieldInfo, fieldInfo.getOwnerName());
+                indexedModCount = modCount;
+            }
+
+            return fieldInfo;
+        }
+
+        /******************************************************************************************
+         * Remove the specified field from the list
+         *
+         * @param fieldInfo
+         *            reference to the field information to remove
+         *
+         * @return true if the field is in the list
+         *****************************************************************************************/
+        @Override
+        public synchronized boolean remove(Object fieldInfo)
+        {
+            int index = indexOf(fieldInfo);
+
+            // Check if the field is in the list
+            if (index != -1)
+            {
+                remove(index);
+            }
+
+            return index != -1;
+        }
+
+        /******************************************************************************************
+         * Remove the specified fields from the list
+         *
+         * @param fieldInfo
+         *            fields to remove
+         *
+         * @return true if any fields are removed
+         *****************************************************************************************/
+        @Override
+        public synchronized boolean removeAll(Collection<?> fieldInfo)
+        {
+            boolean isCurrent = isIndexCurrent(modCount);
+            boolean isRemoved = super.removeAll(fieldInfo);
+
+            // Check if the index can be updated in place
+            if (isCurrent && isRemoved)
+            {
+                // Step through the fields to remove
+                for (Object info : fieldInfo)
+                {
+                    // Check if this is field information
+                    if (info instanceof FieldInformation)
+                    {
+                        // Remove every occurrence of the field from its owner's fields
+                        while (removeFromIndex((FieldInformation) info,
+                                               ((FieldInformation) info).getOwnerName()))
+                        {
+                        }
+                    }
+                }
+
+                indexedModCount = modCount;
+            }
+
+            return isRemoved;
+        }
+
+        /******************************************************************************************
+         * Remove all of the fields from the list
+         *****************************************************************************************/
+        @Override
+        public synchronized void clear()
+        {
+            super.clear();
+            byOwner = null;
+        }
+
+        /******************************************************************************************
+         * Handle a change to an indexed field's owner name, field name, or input type
+         *
+         * @param fieldInfo
+         *            reference to the field information that changed
+         *
+         * @param oldOwnerName
+         *            field's owner name prior to the change
+         *****************************************************************************************/
+        @Override
+        public synchronized void fieldKeyChanged(FieldInformation fieldInfo, String oldOwnerName)
+        {
+            // Check if the index exists
+            if (byOwner != null)
+            {
+                OwnerFields ownerFields = byOwner.get(oldOwnerName.toLowerCase());
+
+                // Check if the field is in the index
+                if (ownerFields != null && ownerFields.indexOf(fieldInfo) != -1)
+                {
+                    // Check if the field's owner is unchanged
+                    if (oldOwnerName.equalsIgnoreCase(fieldInfo.getOwnerName()))
+                    {
+                        // Rebuild the owner's field name and input type keys when next used
+                        ownerFields.byName = null;
+                    }
+                    // The field belongs to a different owner and its position in the new owner's
+                    // fields isn't known
+                    else
+                    {
+                        // Rebuild the index when next used
+                        byOwner = null;
+                    }
+                }
+            }
+        }
+
+        /******************************************************************************************
+         * Get the list of fields belonging to the specified owner
+         *
+         * @param ownerName
+         *            name of the data field owner (case insensitive)
+         *
+         * @return List of fields belonging to the specified owner, in the order these appear in
+         *         the field information list; an empty list if the owner has no fields or the
+         *         owner name is null
+         *****************************************************************************************/
+        protected synchronized List<FieldInformation> getOwnerFields(String ownerName)
+        {
+            OwnerFields ownerFields = ownerName == null
+                                                        ? null
+                                                        : getIndex().get(ownerName.toLowerCase());
+            return ownerFields == null
+                                       ? Collections.<FieldInformation> emptyList()
+                                       : ownerFields.fields;
+        }
+
+        /******************************************************************************************
+         * Get the first field belonging to the specified owner with the specified name
+         *
+         * @param ownerName
+         *            name of the data field owner (case insensitive)
+         *
+         * @param fieldName
+         *            name of the field (case insensitive)
+         *
+         * @return Reference to the first field with the specified owner and name; null if no
+         *         field matches or if the owner or field name is null
+         *****************************************************************************************/
+        protected synchronized FieldInformation getFieldByName(String ownerName, String fieldName)
+        {
+            FieldInformation fieldInfo = null;
+
+            // Check if the owner and field names are provided
+            if (ownerName != null && fieldName != null)
+            {
+                OwnerFields ownerFields = getIndex().get(ownerName.toLowerCase());
+
+                // Check if the owner has fields
+                if (ownerFields != null)
+                {
+                    ownerFields.buildKeys();
+                    fieldInfo = ownerFields.byName.get(fieldName.toLowerCase());
+                }
+            }
+
+            return fieldInfo;
+        }
+
+        /******************************************************************************************
+         * Get the first field belonging to the specified owner with the specified input type
+         *
+         * @param ownerName
+         *            name of the data field owner (case insensitive)
+         *
+         * @param inputType
+         *            input type of the field
+         *
+         * @return Reference to the first field with the specified owner and input type; null if
+         *         no field matches or if the owner name is null
+         *****************************************************************************************/
+        protected synchronized FieldInformation getFieldByInputType(String ownerName,
+                                                                    InputType inputType)
+        {
+            FieldInformation fieldInfo = null;
+
+            // Check if the owner name is provided
+            if (ownerName != null)
+            {
+                OwnerFields ownerFields = getIndex().get(ownerName.toLowerCase());
+
+                // Check if the owner has fields
+                if (ownerFields != null)
+                {
+                    ownerFields.buildKeys();
+                    fieldInfo = ownerFields.byInputType.get(inputType);
+                }
+            }
+
+            return fieldInfo;
+        }
+    }
 
     /**********************************************************************************************
      * Field handler class constructor
@@ -48,7 +594,7 @@ public class CcddFieldHandler
         inputTypeHandler = ccddMain.getInputTypeHandler();
 
         // Create storage for the field information
-        fieldInformation = new ArrayList<FieldInformation>();
+        fieldInformation = new FieldInformationList();
 
         // Use the field definitions to create the data field information
         buildFieldInformation(ccddMain.getMainFrame());
@@ -124,8 +670,20 @@ public class CcddFieldHandler
         // Check if fields are defined in the supplied field information
         if (fieldInfo != null)
         {
-            // Set the data field information to a copy of that supplied
-            fieldInformation = fieldInfo;
+            // Check if the supplied list is a field information list
+            if (fieldInfo instanceof FieldInformationList)
+            {
+                // Use the supplied list. Its index is rebuilt since its fields may have been
+                // indexed by another list since the index was built
+                fieldInformation = (FieldInformationList) fieldInfo;
+                fieldInformation.invalidateIndex();
+            }
+            // The supplied list isn't a field information list
+            else
+            {
+                // Set the data field information to a copy of that supplied
+                fieldInformation = new FieldInformationList(fieldInfo);
+            }
         }
         // No field information is supplied
         else
@@ -167,7 +725,7 @@ public class CcddFieldHandler
         {
             // Get the list containing the field information based on the supplied field
             // definitions
-            fieldInformation = getFieldInformationFromDefinitions(fieldDefinitions);
+            fieldInformation = new FieldInformationList(getFieldInformationFromDefinitions(fieldDefinitions));
         }
     }
 
@@ -270,7 +828,7 @@ public class CcddFieldHandler
             fldInfo.setInputType(inputTypeHandler.getInputTypeByName(inputTypeName));
 
             // Check if the field value doesn't conform to the input type match regular expression
-            if (!fldInfo.getValue().matches(fldInfo.getInputType().getInputMatch()))
+            if (!fldInfo.getInputType().isInputValid(fldInfo.getValue()))
             {
                 // Set the field value to a blank
                 fldInfo.setValue("");
@@ -294,7 +852,7 @@ public class CcddFieldHandler
      *********************************************************************************************/
     protected FieldInformation getFieldInformationByName(String ownerName, String fieldName)
     {
-        return getFieldInformationByName(fieldInformation, ownerName, fieldName);
+        return fieldInformation.getFieldByName(ownerName, fieldName);
     }
 
     /**********************************************************************************************
@@ -320,16 +878,27 @@ public class CcddFieldHandler
     {
         FieldInformation fieldInfo = null;
 
-        // Step through each field
-        for (FieldInformation info : fieldInformationList)
+        // Check if the list is indexed (e.g., the field handler's field information list)
+        if (fieldInformationList instanceof FieldInformationList)
+        {
+            // Get the field from the list's index
+            fieldInfo = ((FieldInformationList) fieldInformationList).getFieldByName(ownerName,
+                                                                                      fieldName);
+        }
+        // The list isn't indexed
+        else
         {
-            // Check if the owner and field names match the ones supplied (case insensitive)
-            if (info.getOwnerName().equalsIgnoreCase(ownerName)
-                && info.getFieldName().equalsIgnoreCase(fieldName))
+            // Step through each field
+            for (FieldInformation info : fieldInformationList)
             {
-                // Store the field information reference and stop searching
-                fieldInfo = info;
-                break;
+                // Check if the owner and field names match the ones supplied (case insensitive)
+                if (info.getOwnerName().equalsIgnoreCase(ownerName)
+                    && info.getFieldName().equalsIgnoreCase(fieldName))
+                {
+                    // Store the field information reference and stop searching
+                    fieldInfo = info;
+                    break;
+                }
             }
         }
 
@@ -353,22 +922,7 @@ public class CcddFieldHandler
     protected FieldInformation getFieldInformationByInputType(String ownerName,
                                                               InputType inputType)
     {
-        FieldInformation fieldInfo = null;
-
-        // Step through each field
-        for (FieldInformation info : fieldInformation)
-        {
-            // Check if the owner and field types match the ones supplied (case insensitive)
-            if (info.getOwnerName().equalsIgnoreCase(ownerName)
-                && info.getInputType().equals(inputType))
-            {
-                // Store the field information reference and stop searching
-                fieldInfo = info;
-                break;
-            }
-        }
-
-        return fieldInfo;
+        return fieldInformation.getFieldByInputType(ownerName, inputType);
     }
 
     /**********************************************************************************************
@@ -388,10 +942,10 @@ public class CcddFieldHandler
         // Check if the owner name is provided
         if (ownerName != null)
         {
-            // Step through each data field
-            for (FieldInformation fieldInfo : fieldInformation)
+            // Step through each data field belonging to the owner (case insensitive)
+            for (FieldInformation fieldInfo : fieldInformation.getOwnerFields(ownerName))
             {
-                // Check if the owner names match
+                // Check if the owner names match (case sensitive)
                 if (fieldInfo.getOwnerName().equals(ownerName))
                 {
                     // Add the field to the list belonging to the specified owner
@@ -760,14 +1314,9 @@ public class CcddFieldHandler
                 || fieldInfo.isRequired() != updateInfo.isRequired()
                 || !fieldInfo.getValue().equals(updateInfo.getValue())))
         {
-            // Get the position of the field within the list
-            int index = fieldInformation.indexOf(fieldInfo);
-
-            // Remove the existing field from the list
-            fieldInformation.remove(fieldInfo);
-
-            // Add the updated field information to the list at the same position as the old field
-            fieldInformation.add(index, updateInfo);
+            // Replace the existing field with the updated field information at the same
+            // position in the list
+            fieldInformation.set(fieldInformation.indexOf(fieldInfo), updateInfo);
 
             // Set the flag to indicate a match exists
             isUpdate = true;
@@ -992,8 +1541,8 @@ public class CcddFieldHandler
     {
         int count = 0;
 
-        // Step through each field definition
-        for (FieldInformation fieldInfo : fieldInformation)
+        // Step through each field definition belonging to the owner (case insensitive)
+        for (FieldInformation fieldInfo : fieldInformation.getOwnerFields(fieldOwner))
         {
             // Check if the field type matches the specified owner and input type
             if (fieldInfo.getOwnerName().equals(fieldOwner)
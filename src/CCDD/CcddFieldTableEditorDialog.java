@@ -1176,7 +1176,7 @@ public class CcddFieldTableEditorDialog extends CcddFrameHandler
                         // Check if the value entered matches the pattern selected by the user for
                         // this data field
                         if (fieldInfo.getInputType().getInputMatch().isEmpty()
-                            || newValueS.matches(fieldInfo.getInputType().getInputMatch()))
+                            || fieldInfo.getInputType().isInputValid(newValueS))
                         {
                             // Check is the input type isn't a boolean. Booleans are displayed as a
                             // check box in the table
@@ -30,6 +30,7 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.net.URLDecoder;
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -37,7 +38,14 @@ import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
 import javax.script.ScriptEngine;
@@ -51,7 +59,9 @@ import javax.swing.filechooser.FileNameExtensionFilter;
 import javax.xml.bind.JAXBException;
 
 import CCDD.CcddBackgroundCommand.BackgroundCommand;
+import CCDD.CcddCSVHandler.ImportFileReader;
 import CCDD.CcddClassesComponent.FileEnvVar;
+import CCDD.CcddClassesComponent.OutputFileWriter;
 import CCDD.CcddClassesDataTable.CCDDException;
 import CCDD.CcddClassesDataTable.FieldInformation;
 import CCDD.CcddClassesDataTable.TableDefinition;
@@ -78,6 +88,7 @@ import CCDD.CcddConstants.ModifiableSpacingInfo;
 import CCDD.CcddConstants.ServerPropertyDialogType;
 import CCDD.CcddConstants.TableTreeType;
 import CCDD.CcddImportExportInterface.ImportType;
+import CCDD.CcddImportSupportHandler.ExportContext;
 import CCDD.CcddTableTypeHandler.TypeDefinition;
 
 /**************************************************************************************************
@@ -100,6 +111,10 @@ public class CcddFileIOHandler
     private final CcddEventLogDialog eventLog;
     private CcddHaltDialog haltDlg;
 
+    // Output file writers for the output files that are open, keyed by the PrintWriter used to
+    // write to the file
+    private final Map<PrintWriter, OutputFileWriter> outputFileWriters;
+
     /**********************************************************************************************
      * File I/O handler class constructor
      *
@@ -115,6 +130,7 @@ public class CcddFileIOHandler
         dbControl = ccddMain.getDbControlHandler();
         dbTable = ccddMain.getDbTableCommandHandler();
         eventLog = ccddMain.getSessionEventLog();
+        outputFileWriters = Collections.synchronizedMap(new HashMap<PrintWriter, OutputFileWriter>());
     }
 
     /**********************************************************************************************
@@ -934,8 +950,10 @@ public class CcddFileIOHandler
         String filePath = null;
         CcddImportExportInterface ioHandler = null;
         List<TableDefinition> allTableDefinitions = new ArrayList<TableDefinition>();
+        Set<String> allTableNames = new HashSet<String>();
         List<String> duplicateDefinitions = new ArrayList<String>();
         List<String> fileNames = new ArrayList<String>();
+        ImportFileReader fileReader = null;
 
         // Store the current table type, data type, macro, reserved message ID, and data field
         // information in case it needs to be restored
@@ -982,9 +1000,22 @@ public class CcddFileIOHandler
             // Create a save point in case an error occurs while creating or modifying a table
             dbCommand.createSavePoint(parent);
 
+            // Check if more than one file is imported and the files can be read at the same time
+            if (dataFiles.length > 1 && ModifiableSizeInfo.IMPORT_THREADS.getSize() > 1)
+            {
+                // Start reading the CSV files in the background. Reading and separating a file's
+                // rows doesn't depend on the project's definitions, so the files are read while
+                // the preceding files are imported
+                fileReader = new ImportFileReader(dataFiles,
+                                                  Math.min(ModifiableSizeInfo.IMPORT_THREADS.getSize(),
+                                                           dataFiles.length));
+            }
+
             // Step through each selected file
-            for (FileEnvVar file : dataFiles)
+            for (int fileIndex = 0; fileIndex < dataFiles.length; fileIndex++)
             {
+                FileEnvVar file = dataFiles[fileIndex];
+
                 // Store the file path
                 filePath = file.getAbsolutePath();
 
@@ -1014,7 +1045,16 @@ public class CcddFileIOHandler
                 if (filePath.endsWith(FileExtension.CSV.getExtension()))
                 {
                     // Create a CSV handler
-                    ioHandler = new CcddCSVHandler(ccddMain, groupHandler, parent);
+                    CcddCSVHandler csvHandler = new CcddCSVHandler(ccddMain, groupHandler, parent);
+
+                    // Check if the files are read in the background
+                    if (fileReader != null)
+                    {
+                        // Use the rows read from the file
+                        csvHandler.setImportRows(fileReader.getFileRows(fileIndex));
+                    }
+
+                    ioHandler = csvHandler;
                 }
                 // Check if the file to import is in EDS format based on the extension
                 else if (filePath.endsWith(FileExtension.EDS.getExtension()))
@@ -1078,34 +1118,21 @@ public class CcddFileIOHandler
                 // Step through each table definition from the import file
                 for (TableDefinition newDefn : ioHandler.getTableDefinitions())
                 {
-                    boolean isFound = false;
-
-                    // Step through each table definition already in the list
-                    for (TableDefinition existingDefn : allTableDefinitions)
-                    {
-                        // Check if the table is already defined in the list
-                        if (newDefn.getName().equals(existingDefn.getName()))
-                        {
-                            // Add the table name and associated file name to the list of
-                            // duplicates
-                            duplicateDefinitions.add(newDefn.getName()
-                                                     + " (file: "
-                                                     + file.getName()
-                                                     + ")");
-
-                            // Set the flag indicating the table definition is a duplicate and stop
-                            // searching
-                            isFound = true;
-                            break;
-                        }
-                    }
-
                     // Check if the table is not already defined
-                    if (!isFound)
+                    if (allTableNames.add(newDefn.getName()))
                     {
                         // Add the table definition to the list
                         allTableDefinitions.add(newDefn);
                     }
+                    // The table is already defined in the list
+                    else
+                    {
+                        // Add the table name and associated file name to the list of duplicates
+                        duplicateDefinitions.add(newDefn.getName()
+                                                 + " (file: "
+                                                 + file.getName()
+                                                 + ")");
+                    }
                 }
             }
 
@@ -1225,6 +1252,15 @@ public class CcddFileIOHandler
             CcddUtilities.displayException(e, parent);
             errorFlag = true;
         }
+        finally
+        {
+            // Check if the files were read in the background
+            if (fileReader != null)
+            {
+                // Stop reading the files (if the import stopped early) and release any files read
+                fileReader.stop();
+            }
+        }
 
         // Check if an error occurred
         if (errorFlag)
@@ -1277,59 +1313,106 @@ public class CcddFileIOHandler
     }
 
     /**********************************************************************************************
-     * Check the supplied list of tables in the order they are referenced for the specified
-     * prototype structure table name. If not present add the table to the list at the current
-     * insertion index. Update the insertion index to the immediately after the specified table
-     *
-     * @param protoStructName
-     *            name of the prototype structure table
+     * Get the tables referenced by the specified table that are in the list of tables to create.
+     * A child table references its prototype if the prototype is in the list; otherwise the table
+     * references the structures used as a data type or referenced in a sizeof() call by a macro
+     * in the table's data
      *
-     * @param orderedTableNames
-     *            current list of table names in the order referenced (the prototype structure is
-     *            added if not already in the list)
+     * @param tableDefn
+     *            definition of the table for which to get the references
      *
-     * @param insertionIndex
-     *            index at which to insert the table name
+     * @param tableIndices
+     *            map of the names of the tables to create to the table's index in the list of
+     *            table definitions
      *
-     * @return The updated insertion point
+     * @return Set containing the list indices of the tables referenced by the table
      *********************************************************************************************/
-    private int getStructureInsertionIndex(String protoStructName,
-                                           List<String> orderedTableNames,
-                                           int insertionIndex)
+    private Set<Integer> getTableReferences(TableDefinition tableDefn,
+                                            Map<String, Integer> tableIndices)
     {
-        // Get the index of the structure in the list of reference ordered table names
-        int protoStructIndex = orderedTableNames.indexOf(protoStructName);
+        Set<Integer> references = new HashSet<Integer>();
+        Integer referenceIndex = null;
 
-        // Check if the structure isn't in the list
-        if (protoStructIndex == -1)
+        // Check if the table is an instance (child)
+        if (tableDefn.getName().contains(","))
         {
-            // Add the structure to the list at the current insertion point (the end of the list if
-            // no insertion point has been set)
-            orderedTableNames.add((insertionIndex == -1
-                                                        ? orderedTableNames.size()
-                                                        : insertionIndex),
-                                  protoStructName);
+            // Get the index in the list for the table's prototype
+            referenceIndex = tableIndices.get(TableInformation.getPrototypeName(tableDefn.getName()));
+        }
 
-            // Check if an insertion point has been set
-            if (insertionIndex != -1)
-            {
-                // Increment the insertion point to account for a table being added to the list
-                insertionIndex++;
-            }
+        // Check if the table is a child whose prototype is in the list
+        if (referenceIndex != null)
+        {
+            references.add(referenceIndex);
         }
-        // Check if the current insertion point is prior to the prototype's place in the list
-        else if (insertionIndex != -1 && protoStructIndex > insertionIndex)
+        // The table is a prototype or is a child whose prototype isn't in the list
+        else
         {
-            // Set the insertion index to after this structure
-            insertionIndex = protoStructIndex + 1;
+            int column = 0;
+
+            // Get the table's type definition and the index of its data type column
+            TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(tableDefn.getTypeName());
+            int dataTypeColumn = CcddTableTypeHandler.getVisibleColumnIndex(typeDefn.getColumnIndexByInputType(DefaultInputType.PRIM_AND_STRUCT));
+
+            // Step through each cell value in the table
+            for (String cellValue : tableDefn.getData())
+            {
+                // Check if the cell value is present
+                if (cellValue != null && !cellValue.isEmpty())
+                {
+                    // Check if this is a structure reference in the data type column
+                    if (column == dataTypeColumn && !dataTypeHandler.isPrimitive(cellValue))
+                    {
+                        // Get the index in the list of the referenced structure
+                        referenceIndex = tableIndices.get(cellValue);
+
+                        // Check if the structure is in the list
+                        if (referenceIndex != null)
+                        {
+                            references.add(referenceIndex);
+                        }
+                    }
+                    // This isn't a structure reference in the data type column
+                    else
+                    {
+                        // Step through each macro referenced in the cell value
+                        for (String macroName : macroHandler.getReferencedMacros(cellValue))
+                        {
+                            // Step through each structure referenced by the macro
+                            for (String structureName : macroHandler.getStructureReferences(macroName))
+                            {
+                                // Get the index in the list of the referenced structure
+                                referenceIndex = tableIndices.get(structureName);
+
+                                // Check if the structure is in the list
+                                if (referenceIndex != null)
+                                {
+                                    references.add(referenceIndex);
+                                }
+                            }
+                        }
+                    }
+                }
+
+                // Update the table data column index. When the end of the row is reached then
+                // reset to the first column
+                column++;
+
+                if (column == typeDefn.getColumnCountVisible())
+                {
+                    column = 0;
+                }
+            }
         }
 
-        return insertionIndex;
+        return references;
     }
 
     /**********************************************************************************************
      * Reorder the list of table definitions so that tables referenced as a data type or in a
-     * sizeof() call appear in the list prior to the table that references them
+     * sizeof() call appear in the list prior to the table that references them. The references
+     * between the tables form a directed graph, which is sorted topologically; tables that don't
+     * depend on each other remain in order by table name
      *
      * @param tableDefinitions
      *            list of table definitions for the table(s) to create
@@ -1339,10 +1422,11 @@ public class CcddFileIOHandler
      *********************************************************************************************/
     private List<TableDefinition> orderTableDefinitionsByReference(List<TableDefinition> tableDefinitions)
     {
-        // TODO THIS MAY CAN BE OPTIMIZED
-
-        List<TableDefinition> orderedTableDefinitions = new ArrayList<TableDefinition>();
-        List<String> orderedTableNames = new ArrayList<String>();
+        int numTables = tableDefinitions.size();
+        List<TableDefinition> orderedTableDefinitions = new ArrayList<TableDefinition>(numTables);
+        Map<String, Integer> tableIndices = new HashMap<String, Integer>(numTables * 2);
+        List<List<Integer>> referencedBy = new ArrayList<List<Integer>>(numTables);
+        int[] numReferences = new int[numTables];
 
         // Sort the table definitions by the table path+names. This is to ensure a prototype isn't
         // created as an ancestor when a child already exists that defines the prototype (if the
@@ -1371,96 +1455,73 @@ public class CcddFileIOHandler
         });
 
         // Step through each table definition
-        for (TableDefinition tableDefn : tableDefinitions)
+        for (int index = 0; index < numTables; index++)
         {
-            int insertIndex = -1;
+            // Store the table's index in the list
+            tableIndices.put(tableDefinitions.get(index).getName(), index);
+            referencedBy.add(new ArrayList<Integer>());
+        }
 
-            // Check if the table is an instance (child)
-            if (tableDefn.getName().contains(","))
+        // Step through each table definition
+        for (int index = 0; index < numTables; index++)
+        {
+            // Step through each table in the list that's referenced by this table
+            for (int referenceIndex : getTableReferences(tableDefinitions.get(index), tableIndices))
             {
-                // Get the index in the list for the table's prototype
-                insertIndex = orderedTableNames.indexOf(TableInformation.getPrototypeName(tableDefn.getName()));
+                // Check if the table doesn't reference itself
+                if (referenceIndex != index)
+                {
+                    // Add the reference between the tables
+                    referencedBy.get(referenceIndex).add(index);
+                    numReferences[index]++;
+                }
             }
+        }
 
-            // Check if the table is a prototype or is a child whose prototype isn't in the list
-            if (insertIndex == -1)
+        // Create the queue of tables for which all of the referenced tables are ordered. The table
+        // earliest in the name order is taken first
+        PriorityQueue<Integer> readyTables = new PriorityQueue<Integer>();
+
+        // Step through each table definition
+        for (int index = 0; index < numTables; index++)
+        {
+            // Check if the table doesn't reference any other table in the list
+            if (numReferences[index] == 0)
             {
-                int column = 0;
+                readyTables.add(index);
+            }
+        }
 
-                // Get the table's type definition
-                TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(tableDefn.getTypeName());
+        // Continue while a table remains for which all of the referenced tables are ordered
+        while (!readyTables.isEmpty())
+        {
+            // Add the next table to the ordered list
+            int index = readyTables.poll();
+            orderedTableDefinitions.add(tableDefinitions.get(index));
 
-                // Step through each cell value in the table
-                for (String cellValue : tableDefn.getData())
+            // Step through each table that references this table
+            for (int referencingIndex : referencedBy.get(index))
+            {
+                // Check if all of the tables referenced by the referencing table are now ordered
+                if (--numReferences[referencingIndex] == 0)
                 {
-                    // Check if the cell value is present
-                    if (cellValue != null && !cellValue.isEmpty())
-                    {
-                        // Check if this is a structure reference in the data type column
-                        if (column == CcddTableTypeHandler.getVisibleColumnIndex(typeDefn.getColumnIndexByInputType(DefaultInputType.PRIM_AND_STRUCT))
-                            && !dataTypeHandler.isPrimitive(cellValue))
-                        {
-                            // Insert the referenced structure, if not already in the list, and
-                            // update the insertion index
-                            insertIndex = getStructureInsertionIndex(cellValue,
-                                                                     orderedTableNames,
-                                                                     insertIndex);
-                        }
-                        // This isn't a structure reference in the data type column
-                        else
-                        {
-                            // Step through each macro referenced in the cell value
-                            for (String macroName : macroHandler.getReferencedMacros(cellValue))
-                            {
-                                // Step through each structure referenced by the macro
-                                for (String structureName : macroHandler.getStructureReferences(macroName))
-                                {
-                                    // Insert the referenced structure, if not already in the list,
-                                    // and update the insertion index
-                                    insertIndex = getStructureInsertionIndex(structureName,
-                                                                             orderedTableNames,
-                                                                             insertIndex);
-                                }
-                            }
-                        }
-                    }
-
-                    // Update the table data column index. When the end of the row is reached then
-                    // reset to the first column
-                    column++;
-
-                    if (column == typeDefn.getColumnCountVisible())
-                    {
-                        column = 0;
-                    }
+                    readyTables.add(referencingIndex);
                 }
             }
-
-            // Check if the table hasn't been added to the list already
-            if (!orderedTableNames.contains(tableDefn.getName()))
-            {
-                // Add the table name to the list, inserted so that any table it references is
-                // prior to it in the list
-                orderedTableNames.add((insertIndex == -1
-                                                         ? orderedTableNames.size()
-                                                         : insertIndex),
-                                      tableDefn.getName());
-            }
         }
 
-        // Step through each table name in the order it's referenced
-        for (String tableName : orderedTableNames)
+        // Check if any tables weren't ordered. This only occurs if the tables reference each
+        // other in a loop
+        if (orderedTableDefinitions.size() != numTables)
         {
             // Step through each table definition
-            for (TableDefinition tableDefn : tableDefinitions)
+            for (int index = 0; index < numTables; index++)
             {
-                // Check if the table names match
-                if (tableName.equals(tableDefn.getName()))
+                // Check if the table wasn't ordered
+                if (numReferences[index] != 0)
                 {
-                    // Add the table definition to the list in the order it's referenced and stop
-                    // searching
-                    orderedTableDefinitions.add(tableDefn);
-                    break;
+                    // Add the table to the end of the list
+                    orderedTableDefinitions.add(tableDefinitions.get(index));
                 }
             }
         }
@@ -2714,6 +2775,8 @@ public class CcddFileIOHandler
         boolean errorFlag = false;
         FileEnvVar file = null;
         CcddImportExportInterface ioHandler = null;
+        CcddGroupHandler groupHandler = null;
+        ExportContext exportContext = null;
         List<String> skippedTables = new ArrayList<String>();
         ScriptEngine scriptEngine = null;
 
@@ -2786,9 +2849,8 @@ public class CcddFileIOHandler
             if (fileExtn == FileExtension.CSV)
             {
                 // Create a CSV handler
-                ioHandler = new CcddCSVHandler(ccddMain,
-                                               new CcddGroupHandler(ccddMain, null, parent),
-                                               parent);
+                groupHandler = new CcddGroupHandler(ccddMain, null, parent);
+                ioHandler = new CcddCSVHandler(ccddMain, groupHandler, parent);
             }
             // Check if the output format is EDS XML
             else if (fileExtn == FileExtension.EDS)
@@ -2800,9 +2862,8 @@ public class CcddFileIOHandler
             else if (fileExtn == FileExtension.JSON)
             {
                 // Create an JSON handler
-                ioHandler = new CcddJSONHandler(ccddMain,
-                                                new CcddGroupHandler(ccddMain, null, parent),
-                                                parent);
+                groupHandler = new CcddGroupHandler(ccddMain, null, parent);
+                ioHandler = new CcddJSONHandler(ccddMain, groupHandler, parent);
             }
             // Check if the output format is XTCE XML
             else if (fileExtn == FileExtension.XTCE)
@@ -2811,6 +2872,16 @@ public class CcddFileIOHandler
                 ioHandler = new CcddXTCEHandler(ccddMain, scriptEngine, parent);
             }
 
+            // Check if the tables are to be exported to individual CSV or JSON files
+            if (!singleFile
+                && (fileExtn == FileExtension.CSV || fileExtn == FileExtension.JSON))
+            {
+                // Create the export context so that the sections common to each file are
+                // generated only once
+                exportContext = new ExportContext();
+                ((CcddImportSupportHandler) ioHandler).setExportContext(exportContext);
+            }
+
             // Check if the tables are to be exported to a single file
             if (singleFile)
             {
@@ -2856,6 +2927,64 @@ public class CcddFileIOHandler
                     skippedTables.addAll(Arrays.asList(tablePaths));
                 }
             }
+            // Check if the tables are to be exported to individual files in parallel. Only the CSV
+            // and JSON handlers support parallel export
+            else if ((fileExtn == FileExtension.CSV || fileExtn == FileExtension.JSON)
+                     && ModifiableSizeInfo.EXPORT_THREADS.getSize() > 1
+                     && tablePaths.length > 1)
+            {
+                List<String> exportTables = new ArrayList<String>();
+                List<FileEnvVar> exportFiles = new ArrayList<FileEnvVar>();
+
+                // Step through each table
+                for (String tablePath : tablePaths)
+                {
+                    // Create the file using a name derived from the table name
+                    file = new FileEnvVar(path
+                                          + tablePath.replaceAll("[,\\.\\[\\]]", "_")
+                                          + fileExtn.getExtension());
+
+                    // Check if the file doesn't exist, or if it does and the user elects to
+                    // overwrite it. This is done for all of the files before exporting so that
+                    // any user interaction occurs prior to the parallel export
+                    if (isOverwriteExportFileIfExists(file, overwriteFile, parent))
+                    {
+                        // Add the table and its file to the lists of those to export
+                        exportTables.add(tablePath);
+                        exportFiles.add(file);
+                    }
+                    // The table is skipped
+                    else
+                    {
+                        // Add the skipped table to the list
+                        skippedTables.add(tablePath);
+                    }
+                }
+
+                // Clear the file reference so that an export error isn't attributed to the last
+                // file checked above
+                file = null;
+
+                // Export the tables to their files in parallel
+                file = exportTablesInParallel(exportTables,
+                                              exportFiles,
+                                              fileExtn,
+                                              exportContext,
+                                              includeBuildInformation,
+                                              replaceMacros,
+                                              includeAllTableTypes,
+                                              includeAllDataTypes,
+                                              includeAllInputTypes,
+                                              includeAllMacros,
+                                              includeReservedMsgIDs,
+                                              includeProjectFields,
+                                              includeGroups,
+                                              includeAssociations,
+                                              includeVariablePaths,
+                                              variableHandler,
+                                              separators,
+                                              parent);
+            }
             // Export the table(s) to individual files
             else
             {
@@ -2947,10 +3076,13 @@ public class CcddFileIOHandler
         }
         catch (JAXBException | CCDDException jce)
         {
-            // Inform the user that the export operation failed
+            // Inform the user that the export operation failed. If the file isn't known (e.g., an
+            // error occurred during a parallel export) then the export folder is reported
             new CcddDialogHandler().showMessageDialog(parent,
                                                       "<html><b>Cannot export to file '</b>"
-                                                              + file.getAbsolutePath()
+                                                              + (file != null
+                                                                              ? file.getAbsolutePath()
+                                                                              : new FileEnvVar(path).getAbsolutePath())
                                                               + "<b>': "
                                                               + jce.getMessage(),
                                                       "Export Error",
@@ -2968,6 +3100,302 @@ public class CcddFileIOHandler
         return errorFlag;
     }
 
+    /**********************************************************************************************
+     * Export tables to individual CSV or JSON files in parallel. The tables are divided among a
+     * number of worker threads (see ModifiableSizeInfo.EXPORT_THREADS), each with its own export
+     * handler, group handler, and database read connection. The project information (table types,
+     * data types, macros, and fields) is shared by the workers and isn't altered during the
+     * export. If an additional database connection can't be opened then the tables are exported
+     * one at a time using the shared connection
+     *
+     * @param exportTables
+     *            list of the table paths to export
+     *
+     * @param exportFiles
+     *            list of the files to which the tables are exported, one for each table path
+     *
+     * @param fileExtn
+     *            file extension type: FileExtension.CSV or FileExtension.JSON
+     *
+     * @param exportContext
+     *            export context containing the sections common to each file, shared by the
+     *            workers
+     *
+     * @param includeBuildInformation
+     *            true to include the CCDD version, project, host, and user information
+     *
+     * @param replaceMacros
+     *            true to replace macros with their corresponding values; false to leave the macros
+     *            intact
+     *
+     * @param includeAllTableTypes
+     *            true to include the all table type definitions in the export file
+     *
+     * @param includeAllDataTypes
+     *            true to include the all data type definitions in the export file
+     *
+     * @param includeAllInputTypes
+     *            true to include the all user-defined input type definitions in the export file
+     *
+     * @param includeAllMacros
+     *            true to include the all macro definitions in the export file
+     *
+     * @param includeReservedMsgIDs
+     *            true to include the contents of the reserved message ID table in the export file
+     *
+     * @param includeProjectFields
+     *            true to include the project-level data field definitions in the export file
+     *
+     * @param includeGroups
+     *            true to include the groups and group data field definitions in the export file
+     *
+     * @param includeAssociations
+     *            true to include the script associations in the export file
+     *
+     * @param includeVariablePaths
+     *            true to include the variable path for each variable in a structure table, both in
+     *            application format and using the user-defined separator characters
+     *
+     * @param variableHandler
+     *            variable handler class reference; null if includeVariablePaths is false
+     *
+     * @param separators
+     *            string array containing the variable path separator character(s), show/hide data
+     *            types flag ('true' or 'false'), and data type/variable name separator
+     *            character(s); null if includeVariablePaths is false
+     *
+     * @param parent
+     *            GUI component over which to center any error dialog
+     *
+     * @return Reference to the last file exported; null if no tables are exported
+     *
+     * @throws Exception
+     *             If an error occurs exporting a table. The remaining tables aren't exported
+     *********************************************************************************************/
+    private FileEnvVar exportTablesInParallel(final List<String> exportTables,
+                                              final List<FileEnvVar> exportFiles,
+                                              final FileExtension fileExtn,
+                                              final ExportContext exportContext,
+                                              final boolean includeBuildInformation,
+                                              final boolean replaceMacros,
+                                              final boolean includeAllTableTypes,
+                                              final boolean includeAllDataTypes,
+                                              final boolean includeAllInputTypes,
+                                              final boolean includeAllMacros,
+                                              final boolean includeReservedMsgIDs,
+                                              final boolean includeProjectFields,
+                                              final boolean includeGroups,
+                                              final boolean includeAssociations,
+                                              final boolean includeVariablePaths,
+                                              final CcddVariableHandler variableHandler,
+                                              final String[] separators,
+                                              final Component parent) throws Exception
+    {
+        final AtomicInteger nextIndex = new AtomicInteger(0);
+        final AtomicBoolean isFailed = new AtomicBoolean(false);
+        final Exception[] failure = new Exception[1];
+        final FileEnvVar[] currentFile = new FileEnvVar[1];
+        List<Connection> readConnections = new ArrayList<Connection>();
+
+        // Get the number of tables to export at the same time
+        int numThreads = Math.min(ModifiableSizeInfo.EXPORT_THREADS.getSize(), exportTables.size());
+
+        // Step through each worker thread
+        for (int index = 0; index < numThreads; index++)
+        {
+            try
+            {
+                // Open a read connection for the worker
+                readConnections.add(dbControl.openReadConnection());
+            }
+            catch (SQLException se)
+            {
+                // Inform the user that the read connection couldn't be opened. The tables are
+                // exported using the connections opened successfully, if any
+                eventLog.logEvent(EventLogMessageType.STATUS_MSG,
+                                  "Cannot open database read connection for parallel export; cause '"
+                                                                  + se.getMessage()
+                                                                  + "'");
+                break;
+            }
+        }
+
+        // Get the number of workers. If no read connections were opened then a single worker uses
+        // the shared connection
+        int numWorkers = Math.max(readConnections.size(), 1);
+        Thread[] workers = new Thread[numWorkers];
+
+        // Step through each worker
+        for (int index = 0; index < numWorkers; index++)
+        {
+            final Connection readConnection = readConnections.isEmpty()
+                                                                        ? null
+                                                                        : readConnections.get(index);
+
+            // Create a thread to export tables
+            workers[index] = new Thread(new Runnable()
+            {
+                /**********************************************************************************
+                 * Export tables until all of the tables are exported or an error occurs
+                 *********************************************************************************/
+                @Override
+                public void run()
+                {
+                    int tableIndex;
+                    FileEnvVar exportFile = null;
+
+                    try
+                    {
+                        // Check if the worker has its own read connection
+                        if (readConnection != null)
+                        {
+                            // Use the read connection for this thread's database commands
+                            dbCommand.setThreadStatement(readConnection.createStatement());
+                        }
+
+                        // Create the group handler for this worker. The group handler's lookup
+                        // methods aren't thread-safe, so each worker uses its own
+                        CcddGroupHandler groupHandler = new CcddGroupHandler(ccddMain, null, parent);
+
+                        // Create the export handler for this worker
+                        CcddImportExportInterface workerHandler = fileExtn == FileExtension.CSV
+                                                                                                 ? new CcddCSVHandler(ccddMain,
+                                                                                                                      groupHandler,
+                                                                                                                      parent)
+                                                                                                 : new CcddJSONHandler(ccddMain,
+                                                                                                                       groupHandler,
+                                                                                                                       parent);
+
+                        // Share the sections common to each file with the other workers
+                        ((CcddImportSupportHandler) workerHandler).setExportContext(exportContext);
+
+                        // Get the index of the next table to export and continue while a table
+                        // remains and no error has occurred
+                        while (!isFailed.get()
+                               && (tableIndex = nextIndex.getAndIncrement()) < exportTables.size())
+                        {
+                            exportFile = exportFiles.get(tableIndex);
+
+                            // Export the formatted table data; the file name is derived from the
+                            // table name
+                            workerHandler.exportToFile(exportFile,
+                                                       new String[] {exportTables.get(tableIndex)},
+                                                       includeBuildInformation,
+                                                       replaceMacros,
+                                                       includeAllTableTypes,
+                                                       includeAllDataTypes,
+                                                       includeAllInputTypes,
+                                                       includeAllMacros,
+                                                       includeReservedMsgIDs,
+                                                       includeProjectFields,
+                                                       includeGroups,
+                                                       includeAssociations,
+                                                       includeVariablePaths,
+                                                       variableHandler,
+                                                       separators);
+
+                            // Check if the file is empty following the export. This occurs if an
+                            // error halts output to the file
+                            if (exportFile.length() == 0)
+                            {
+                                // Delete the empty file
+                                exportFile.delete();
+                            }
+
+                            synchronized (failure)
+                            {
+                                // Store the last file exported
+                                currentFile[0] = exportFile;
+                            }
+                        }
+                    }
+                    catch (Exception e)
+                    {
+                        synchronized (failure)
+                        {
+                            // Check if this is the first error
+                            if (!isFailed.getAndSet(true))
+                            {
+                                // Store the error
+                                failure[0] = e;
+                            }
+                        }
+                    }
+                    finally
+                    {
+                        // Revert the thread to the shared statement
+                        dbCommand.setThreadStatement(null);
+                    }
+                }
+            });
+        }
+
+        try
+        {
+            // Check if more than one worker is used
+            if (numWorkers > 1)
+            {
+                // Step through each worker thread
+                for (Thread worker : workers)
+                {
+                    worker.start();
+                }
+
+                // Step through each worker thread
+                for (Thread worker : workers)
+                {
+                    // Wait for the worker to complete exporting its tables
+                    worker.join();
+                }
+            }
+            // A single worker is used
+            else
+            {
+                // Export the tables using the current thread
+                workers[0].run();
+            }
+        }
+        catch (InterruptedException ie)
+        {
+            // Restore the interrupt status
+            Thread.currentThread().interrupt();
+
+            synchronized (failure)
+            {
+                // Check if no error has occurred
+                if (!isFailed.getAndSet(true))
+                {
+                    // Store the cause for the export not completing
+                    failure[0] = new CCDDException("Table export interrupted");
+                }
+            }
+        }
+        finally
+        {
+            // Step through each read connection
+            for (Connection readConnection : readConnections)
+            {
+                try
+                {
+                    // Close the read connection
+                    readConnection.close();
+                }
+                catch (SQLException se)
+                {
+                    // Ignore the error if the connection can't be closed
+                }
+            }
+        }
+
+        // Check if an error occurred exporting a table
+        if (failure[0] != null)
+        {
+            throw failure[0];
+        }
+
+        return currentFile[0];
+    }
+
     /**********************************************************************************************
      * Check if the specified data file exists and isn't empty, and if so, whether or not the user
      * elects to overwrite it
@@ -3289,7 +3717,8 @@ public class CcddFileIOHandler
     }
 
     /**********************************************************************************************
-     * Open the specified file for writing
+     * Open the specified file for writing. The text written is buffered and written to the file by
+     * the thread supplying the text
      *
      * @param outputFileName
      *            output file path + name
@@ -3297,30 +3726,68 @@ public class CcddFileIOHandler
      * @return PrintWriter object; null if the file could not be opened
      *********************************************************************************************/
     public PrintWriter openOutputFile(String outputFileName)
+    {
+        return openOutputFile(outputFileName, false, false);
+    }
+
+    /**********************************************************************************************
+     * Open the specified file for writing. The text written is buffered
+     *
+     * @param outputFileName
+     *            output file path + name
+     *
+     * @param replaceOnClose
+     *            true to write the text to a temporary file that replaces the output file when the
+     *            file is closed, so that an existing output file is unchanged until the new
+     *            contents are complete; false to replace any existing output file immediately
+     *
+     * @param writeInBackground
+     *            true to write the buffered text to the file using a background thread; false to
+     *            write the text using the thread supplying it
+     *
+     * @return PrintWriter object; null if the file could not be opened
+     *********************************************************************************************/
+    public PrintWriter openOutputFile(String outputFileName,
+                                      boolean replaceOnClose,
+                                      boolean writeInBackground)
     {
         PrintWriter printWriter = null;
 
         try
         {
+            OutputFileWriter outputFileWriter;
+
             // Create the file object
             FileEnvVar outputFile = new FileEnvVar(outputFileName);
 
+            // Check if the output file is replaced when the file is closed
+            if (replaceOnClose)
+            {
+                // Create the output file writer. The existing file, if any, is replaced when the
+                // file is closed
+                outputFileWriter = new OutputFileWriter(outputFile, true, writeInBackground);
+            }
             // Check if the file already exists, and if so that it is successfully deleted
-            if (outputFile.exists() && !outputFile.delete())
+            else if (outputFile.exists() && !outputFile.delete())
             {
                 throw new CCDDException("Cannot replace");
             }
             // Check if the output file is successfully created
             else if (outputFile.createNewFile())
             {
-                // Create the PrintWriter object
-                printWriter = new PrintWriter(outputFile);
+                // Create the output file writer
+                outputFileWriter = new OutputFileWriter(outputFile, false, writeInBackground);
             }
             // The output file cannot be created
             else
             {
                 throw new CCDDException("Cannot create");
             }
+
+            // Create the PrintWriter object and store the output file writer it uses so that any
+            // error writing the file can be reported when the file is closed
+            printWriter = new PrintWriter(outputFileWriter);
+            outputFileWriters.put(printWriter, outputFileWriter);
         }
         catch (CCDDException ce)
         {
@@ -3389,6 +3856,30 @@ public class CcddFileIOHandler
         }
     }
 
+    /**********************************************************************************************
+     * Write the supplied lines of text to the specified output file PrintWriter object, appending
+     * a line feed character to each line
+     *
+     * @param printWriter
+     *            output file PrintWriter object
+     *
+     * @param lines
+     *            array of text lines to write to the output file
+     *********************************************************************************************/
+    public void writeLines(PrintWriter printWriter, String[] lines)
+    {
+        // Check if the PrintWriter object and the lines exist
+        if (printWriter != null && lines != null)
+        {
+            // Step through each line
+            for (String line : lines)
+            {
+                // Output the line to the file, followed by a line feed
+                printWriter.println(line);
+            }
+        }
+    }
+
     /**********************************************************************************************
      * Write the supplied text in the indicated format to the specified output file PrintWriter
      * object
@@ -3413,7 +3904,8 @@ public class CcddFileIOHandler
     }
 
     /**********************************************************************************************
-     * Close the specified output file
+     * Close the specified output file. An error writing the file, or replacing the output file
+     * with the file's temporary file, is logged
      *
      * @param printWriter
      *            output file PrintWriter object
@@ -3423,8 +3915,58 @@ public class CcddFileIOHandler
         // Check if the PrintWriter object exists
         if (printWriter != null)
         {
+            // Get the output file writer used by the PrintWriter, if the file was opened by
+            // openOutputFile()
+            OutputFileWriter outputFileWriter = outputFileWriters.remove(printWriter);
+
+            // Check if the output file writer exists
+            if (outputFileWriter != null)
+            {
+                try
+                {
+                    // Close the file using the output file writer. The PrintWriter doesn't report
+                    // an error that occurs when writing or closing the file
+                    outputFileWriter.close();
+                }
+                catch (IOException ioe)
+                {
+                    // Inform the user that the output file cannot be written
+                    eventLog.logFailEvent(ccddMain.getMainFrame(),
+                                          "File Error",
+                                          "Cannot write output file '"
+                                                        + outputFileWriter.getOutputFile().getAbsolutePath()
+                                                        + "'; cause '"
+                                                        + ioe.getMessage()
+                                                        + "'",
+                                          "<html><b>Cannot write output file '</b>"
+                                                 + outputFileWriter.getOutputFile().getAbsolutePath()
+                                                 + "<b>'");
+                }
+            }
+
             // Close the file
             printWriter.close();
         }
     }
+
+    /**********************************************************************************************
+     * Close the specified output file without writing any text not yet written to the file. If
+     * the output file is replaced when closed then the existing output file is left unchanged
+     *
+     * @param printWriter
+     *            output file PrintWriter object
+     *********************************************************************************************/
+    protected void discardFile(PrintWriter printWriter)
+    {
+        // Get the output file writer used by the PrintWriter, if the file was opened by
+        // openOutputFile()
+        OutputFileWriter outputFileWriter = outputFileWriters.remove(printWriter);
+
+        // Check if the output file writer exists
+        if (outputFileWriter != null)
+        {
+            // Close the file, discarding the unwritten text
+            outputFileWriter.discard();
+        }
+    }
 }
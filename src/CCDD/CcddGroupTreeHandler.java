@@ -40,6 +40,7 @@ import javax.swing.tree.DefaultTreeModel;
 import javax.swing.tree.TreePath;
 
 import CCDD.CcddClassesComponent.ArrayListMultiple;
+import CCDD.CcddClassesComponent.IndexedArrayListMultiple;
 import CCDD.CcddClassesComponent.ToolTipTreeNode;
 import CCDD.CcddClassesDataTable.FieldInformation;
 import CCDD.CcddClassesDataTable.GroupInformation;
@@ -168,7 +169,7 @@ public class CcddGroupTreeHandler extends CcddInformationTreeHandler
         scheduleRate = "";
 
         // Get the list of table comments
-        tableComments = new ArrayListMultiple(TableCommentIndex.NAME.ordinal());
+        tableComments = new IndexedArrayListMultiple(TableCommentIndex.NAME.ordinal());
         tableComments.addAll(Arrays.asList(ccddMain.getDbTableCommandHandler()
                                                    .queryDataTableComments(ccddMain.getMainFrame())));
     }
@@ -12,10 +12,24 @@ import static CCDD.CcddConstants.CANCEL_BUTTON;
 import static CCDD.CcddConstants.IGNORE_BUTTON;
 
 import java.awt.Component;
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.stream.XMLStreamException;
+
+import CCDD.CcddClassesComponent.FileEnvVar;
+import CCDD.CcddClassesComponent.IndentingXMLStreamWriter;
 import CCDD.CcddClassesDataTable.CCDDException;
 import CCDD.CcddClassesDataTable.FieldInformation;
 import CCDD.CcddClassesDataTable.GroupInformation;
@@ -49,6 +63,10 @@ public class CcddImportSupportHandler
     protected String applicationIDName;
     protected String cmdFuncCodeName;
 
+    // Export context containing the file sections common to each file of an export to multiple
+    // files; null if the sections are generated for each file
+    protected ExportContext exportContext;
+
     // Basic primitive data types
     protected static enum BasePrimitiveDataType
     {
@@ -89,6 +107,286 @@ public class CcddImportSupportHandler
         }
     }
 
+    /**********************************************************************************************
+     * Export file sections that are the same in each file of an export to multiple files when all
+     * of the corresponding definitions are included
+     *********************************************************************************************/
+    protected static enum ExportSectionType
+    {
+        TABLE_TYPES,
+        DATA_TYPES,
+        MACROS,
+        INPUT_TYPES,
+        RESERVED_MSG_IDS,
+        PROJECT_FIELDS,
+        GROUPS,
+        ASSOCIATIONS
+    }
+
+    /**********************************************************************************************
+     * Export file section class. Contains the formatted text of a section and the user-defined
+     * input types referenced by the section
+     *********************************************************************************************/
+    protected static class ExportSection
+    {
+        private final String text;
+        private final List<String> inputTypes;
+
+        /******************************************************************************************
+         * Export file section class constructor
+         *
+         * @param text
+         *            formatted text of the section
+         *
+         * @param inputTypes
+         *            list of the names of the user-defined input types referenced by the section,
+         *            in the order referenced
+         *****************************************************************************************/
+        ExportSection(String text, List<String> inputTypes)
+        {
+            this.text = text;
+            this.inputTypes = new ArrayList<String>(inputTypes);
+        }
+
+        /******************************************************************************************
+         * Get the formatted text of the section
+         *
+         * @return Formatted text of the section
+         *****************************************************************************************/
+        protected String getText()
+        {
+            return text;
+        }
+
+        /******************************************************************************************
+         * Add the user-defined input types referenced by the section to the supplied list of
+         * referenced input types, skipping any already in the list
+         *
+         * @param referencedInputTypes
+         *            list of the names of the input types referenced in the export file
+         *****************************************************************************************/
+        protected void addReferencedInputTypes(List<String> referencedInputTypes)
+        {
+            // Step through each input type referenced by the section
+            for (String inputType : inputTypes)
+            {
+                // Check if the input type isn't already in the list
+                if (!referencedInputTypes.contains(inputType))
+                {
+                    // Add the input type to the list of those referenced
+                    referencedInputTypes.add(inputType);
+                }
+            }
+        }
+    }
+
+    /**********************************************************************************************
+     * Export context class. An export context is shared by the handlers exporting the files of a
+     * single export operation to multiple files. The first file to output a section that's the
+     * same in every file stores the formatted section, and the remaining files output the stored
+     * text in place of regenerating the section
+     *********************************************************************************************/
+    protected static class ExportContext
+    {
+        private final Map<ExportSectionType, ExportSection> sections;
+
+        /******************************************************************************************
+         * Export context class constructor
+         *****************************************************************************************/
+        ExportContext()
+        {
+            sections = new EnumMap<ExportSectionType, ExportSection>(ExportSectionType.class);
+        }
+
+        /******************************************************************************************
+         * Get the stored export file section. A handler that finds no stored section should
+         * generate and store it while synchronized on the context so that the section is only
+         * generated once when the files are exported in parallel
+         *
+         * @param sectionType
+         *            export file section type
+         *
+         * @return Stored export file section; null if the section hasn't been stored
+         *****************************************************************************************/
+        protected synchronized ExportSection getSection(ExportSectionType sectionType)
+        {
+            return sections.get(sectionType);
+        }
+
+        /******************************************************************************************
+         * Store an export file section
+         *
+         * @param sectionType
+         *            export file section type
+         *
+         * @param section
+         *            export file section
+         *****************************************************************************************/
+        protected synchronized void putSection(ExportSectionType sectionType, ExportSection section)
+        {
+            sections.put(sectionType, section);
+        }
+    }
+
+    /**********************************************************************************************
+     * Export file section formatter class. Generates the formatted text of a section that's the
+     * same in each file of an export to multiple files
+     *
+     * @param <E>
+     *            type of exception thrown if an error occurs generating the section
+     *********************************************************************************************/
+    abstract static class ExportSectionFormatter<E extends Exception>
+    {
+        /******************************************************************************************
+         * Generate the formatted text of the section
+         *
+         * @param sectionInputTypes
+         *            list of the names of the user-defined input types referenced in the export
+         *            file; any input types referenced by the section are added to the list
+         *
+         * @return Formatted text of the section
+         *
+         * @throws E
+         *             If an error occurs generating the section
+         *****************************************************************************************/
+        protected abstract String format(List<String> sectionInputTypes) throws E;
+    }
+
+    /**********************************************************************************************
+     * Get the formatted text of an export file section that's the same in each file of an export
+     * to multiple files. The first file to request the section generates and stores it; the
+     * remaining files use the stored text. The input types referenced by the section are added to
+     * the file's list of referenced input types
+     *
+     * @param <E>
+     *            type of exception thrown if an error occurs generating the section
+     *
+     * @param sectionType
+     *            export file section type
+     *
+     * @param referencedInputTypes
+     *            list of the names of the user-defined input types referenced in the export file
+     *
+     * @param formatter
+     *            export file section formatter used to generate the section if it hasn't been
+     *            stored
+     *
+     * @return Formatted text of the section
+     *
+     * @throws E
+     *             If an error occurs generating the section
+     *********************************************************************************************/
+    protected <E extends Exception> String getCommonSectionText(ExportSectionType sectionType,
+                                                                List<String> referencedInputTypes,
+                                                                ExportSectionFormatter<E> formatter) throws E
+    {
+        ExportSection section;
+
+        synchronized (exportContext)
+        {
+            // Get the section stored by a previous file
+            section = exportContext.getSection(sectionType);
+
+            // Check if the section hasn't been stored
+            if (section == null)
+            {
+                // Generate the section. The input types referenced by the section are collected
+                // separately so that they can be added to each file's list. The input type
+                // section only reads the list, so it's given a copy of this file's list; the
+                // section doesn't retain a reference to the list, which the file continues to
+                // update
+                List<String> sectionInputTypes = sectionType == ExportSectionType.INPUT_TYPES
+                                                                                               ? new ArrayList<String>(referencedInputTypes)
+                                                                                               : new ArrayList<String>();
+                section = new ExportSection(formatter.format(sectionInputTypes),
+                                            sectionInputTypes);
+                exportContext.putSection(sectionType, section);
+            }
+        }
+
+        // Add the input types referenced by the section to the file's list
+        section.addReferencedInputTypes(referencedInputTypes);
+
+        return section.getText();
+    }
+
+    /**********************************************************************************************
+     * Marshal an XML document to an export file. The XML is written directly to the file as it's
+     * marshalled, which avoids creating a (DOM) copy of the entire document in memory. The stream
+     * writer sets the indentation amount (the Marshaller's own formatting has a hard-coded limit
+     * of 8 levels; once exceeded it starts back at the first column). Since the file is written
+     * as the document is marshalled, the partially written file is deleted if an error occurs
+     *
+     * @param marshaller
+     *            XML marshaller
+     *
+     * @param document
+     *            root element of the XML document to marshal
+     *
+     * @param exportFile
+     *            reference to the export file
+     *
+     * @throws JAXBException
+     *             If an error occurs marshalling the document
+     *
+     * @throws IOException
+     *             If an error occurs writing to or closing the export file
+     *********************************************************************************************/
+    protected static void marshalToFile(Marshaller marshaller,
+                                        Object document,
+                                        FileEnvVar exportFile) throws JAXBException,
+                                                               IOException
+    {
+        boolean isComplete = false;
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(exportFile),
+                                                                          StandardCharsets.UTF_8));
+
+        try
+        {
+            IndentingXMLStreamWriter xmlWriter = new IndentingXMLStreamWriter(writer, 3);
+            marshaller.marshal(document, xmlWriter);
+            xmlWriter.flush();
+            writer.close();
+            isComplete = true;
+        }
+        catch (XMLStreamException xse)
+        {
+            throw new JAXBException(xse);
+        }
+        finally
+        {
+            // Check if the document wasn't completely written
+            if (!isComplete)
+            {
+                try
+                {
+                    writer.close();
+                }
+                catch (IOException ioe)
+                {
+                    // Ignore the error if the file can't be closed; the original error is
+                    // reported
+                }
+
+                // Delete the partially written file so that a truncated document isn't left in
+                // its place
+                exportFile.delete();
+            }
+        }
+    }
+
+    /**********************************************************************************************
+     * Set the export context used to share the common sections between the files of an export to
+     * multiple files
+     *
+     * @param exportContext
+     *            export context; null to generate every section for each file
+     *********************************************************************************************/
+    protected void setExportContext(ExportContext exportContext)
+    {
+        this.exportContext = exportContext;
+    }
+
     /**********************************************************************************************
      * Add a table type column definition after verifying the input parameters
      *
@@ -1033,7 +1033,7 @@ public abstract class CcddInputFieldPanelHandler
                                         // Check if the field contains an illegal character
                                         if (!fieldInfo.getInputType().getInputMatch().isEmpty()
                                             && !inputTxt.isEmpty()
-                                            && !inputTxt.matches(fieldInfo.getInputType().getInputMatch()))
+                                            && !fieldInfo.getInputType().isInputValid(inputTxt))
                                         {
                                             // Inform the user that the data field contents is
                                             // invalid
@@ -508,32 +508,109 @@ public class CcddInputTypeHandler
      *********************************************************************************************/
     protected static String convertItemsToRegEx(String itemString)
     {
-        String itemRegEx = null;
+        // Convert the selection item string to a list and create the regular expression from it
+        // (null is returned if the item list string is empty)
+        return convertItemsToRegEx(InputType.convertItemStringToList(itemString.trim()));
+    }
 
-        // Convert the selection item string to a list
-        List<String> itemList = InputType.convertItemStringToList(itemString.trim());
+    /**********************************************************************************************
+     * Convert the supplied input selection item list to the corresponding input match regular
+     * expression
+     *
+     * @param itemList
+     *            list containing the acceptable values for this input type; null if the input type
+     *            doesn't constrain the inputs to items from a list
+     *
+     * @return Regular expression that matches only the items in the selection list; null if the
+     *         item list is null
+     *********************************************************************************************/
+    protected static String convertItemsToRegEx(List<String> itemList)
+    {
+        String itemRegEx = null;
 
-        // Check if the regular expression was created (null is returned if the item list string is
-        // empty)
+        // Check if the item list exists
         if (itemList != null)
         {
-            itemRegEx = "";
+            StringBuilder regEx = new StringBuilder();
 
             // Step through each selection item
             for (String item : itemList)
             {
+                // Check if this isn't the first item
+                if (regEx.length() != 0)
+                {
+                    regEx.append("|");
+                }
+
                 // Append the selection item to the regular expression. Each item is flagged as a
                 // literal string to allow special regular expression characters in the item text
-                itemRegEx += Pattern.quote(item) + "|";
+                regEx.append(Pattern.quote(item));
             }
 
-            // Remove the trailing '|' character
-            itemRegEx = CcddUtilities.removeTrailer(itemRegEx, "|");
+            itemRegEx = regEx.toString();
         }
 
         return itemRegEx;
     }
 
+    /**********************************************************************************************
+     * Check if the supplied regular expression is the one generated from the supplied input
+     * selection item list by convertItemsToRegEx(). The regular expression is compared item by
+     * item, so the comparison stops at the first difference and the regular expression for the
+     * entire list isn't built
+     *
+     * @param regEx
+     *            regular expression to check
+     *
+     * @param itemList
+     *            list containing the acceptable values for this input type
+     *
+     * @return true if the regular expression is the one generated from the item list
+     *********************************************************************************************/
+    protected static boolean isItemRegEx(String regEx, List<String> itemList)
+    {
+        boolean isMatch = regEx != null && itemList != null;
+        int index = 0;
+
+        // Check if the regular expression and the item list exist
+        if (isMatch)
+        {
+            // Step through each selection item
+            for (String item : itemList)
+            {
+                // Check if this isn't the first item
+                if (index != 0)
+                {
+                    // Check if the item separator is missing
+                    if (index == regEx.length() || regEx.charAt(index) != '|')
+                    {
+                        isMatch = false;
+                        break;
+                    }
+
+                    index++;
+                }
+
+                // Get the selection item as it appears in the regular expression
+                String quotedItem = Pattern.quote(item);
+
+                // Check if the regular expression doesn't contain the item at this point
+                if (!regEx.startsWith(quotedItem, index))
+                {
+                    isMatch = false;
+                    break;
+                }
+
+                index += quotedItem.length();
+            }
+
+            // Check that the entire regular expression is accounted for by the items
+            isMatch = isMatch && index == regEx.length();
+        }
+
+        return isMatch;
+    }
+
     /**********************************************************************************************
      * Get an array of all of the input type names, excluding separators and breaks
      *
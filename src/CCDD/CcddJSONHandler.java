@@ -16,7 +16,6 @@ import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
-import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
@@ -25,18 +24,16 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 
-import javax.script.ScriptEngine;
-import javax.script.ScriptEngineManager;
-import javax.script.ScriptException;
 import javax.swing.JOptionPane;
 
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
-import org.json.simple.JSONValue;
 import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
 
 import CCDD.CcddClassesComponent.FileEnvVar;
+import CCDD.CcddClassesComponent.JSONStreamReader;
+import CCDD.CcddClassesComponent.JSONStreamWriter;
 import CCDD.CcddClassesComponent.OrderedJSONObject;
 import CCDD.CcddClassesDataTable.ArrayVariable;
 import CCDD.CcddClassesDataTable.CCDDException;
@@ -353,9 +350,14 @@ public class CcddJSONHandler extends CcddImportSupportHandler implements CcddImp
             boolean continueOnGroupError = ignoreErrors;
             boolean continueOnAssociationError = ignoreErrors;
 
-            // Create a JSON parser and use it to parse the import file contents
-            JSONParser jsonParser = new JSONParser();
-            JSONObject jsonObject = (JSONObject) jsonParser.parse(new FileReader(importFile));
+            // Parse the import file contents, other than the table definitions. The table
+            // definitions depend on the other definitions, and can make up the majority of the
+            // file, so these are read separately below, one table at a time, once the other
+            // definitions are processed
+            br = new BufferedReader(new FileReader(importFile));
+            JSONObject jsonObject = new JSONStreamReader(br).readObject(JSONTags.TABLE_DEFN.getTag());
+            br.close();
+            br = null;
 
             // Get the input type definitions JSON object
             Object defn = jsonObject.get(JSONTags.INPUT_TYPE_DEFN.getTag());
@@ -917,14 +919,18 @@ public class CcddJSONHandler extends CcddImportSupportHandler implements CcddImp
                 buildProjectAndGroupDataFields(fieldHandler, projectDefn.getDataFields());
             }
 
-            // Get the table definitions JSON object
-            defn = jsonObject.get(JSONTags.TABLE_DEFN.getTag());
+            // Reopen the import file and locate the table definitions. Only the table definition
+            // currently being processed is held in memory
+            br = new BufferedReader(new FileReader(importFile));
+            JSONStreamReader tableReader = new JSONStreamReader(br);
 
             // Check if the table definitions exist
-            if (defn != null && defn instanceof JSONArray)
+            if (tableReader.findArray(JSONTags.TABLE_DEFN.getTag()))
             {
+                JSONObject tableJO;
+
                 // Step through each table definition
-                for (JSONObject tableJO : parseJSONArray(defn))
+                while ((tableJO = tableReader.nextObject()) != null)
                 {
                     // Get the table definition components
                     String tableName = getString(tableJO, JSONTags.TABLE_NAME.getTag());
@@ -1142,7 +1148,7 @@ public class CcddJSONHandler extends CcddImportSupportHandler implements CcddImp
      *            unused
      *
      * @throws CCDDException
-     *             If a file I/O or JSON JavaScript parsing error occurs
+     *             If a file I/O error occurs
      *
      * @throws Exception
      *             If an unanticipated error occurs
@@ -1229,31 +1235,35 @@ public class CcddJSONHandler extends CcddImportSupportHandler implements CcddImp
             bw = new BufferedWriter(fw);
             pw = new PrintWriter(bw);
 
-            // Use of the JSONObject does not retain the order that the key:value pairs are stored.
-            // This custom JSON object is used so that the stored order is reflected in the output
-            OrderedJSONObject outputJO = new OrderedJSONObject();
+            // The JSON output is written to the file as each portion is created, in place of
+            // building the entire JSON object and then formatting it, so that only the portion
+            // being output is held in memory. The writer retains the order in which the key:value
+            // pairs are written
+            JSONStreamWriter jsonWriter = new JSONStreamWriter(pw);
+            jsonWriter.beginObject();
 
             // Check if the build information is to be output
             if (includeBuildInformation)
             {
                 // Create the file creation comment
-                outputJO.put(JSONTags.FILE_DESCRIPTION.getTag(),
-                             "Created "
-                                                                 + new Date().toString()
-                                                                 + " : CCDD version = "
-                                                                 + ccddMain.getCCDDVersionInformation()
-                                                                 + " : project = "
-                                                                 + dbControl.getProjectName()
-                                                                 + " : host = "
-                                                                 + dbControl.getServer()
-                                                                 + " : user = "
-                                                                 + dbControl.getUser());
+                jsonWriter.keyValue(JSONTags.FILE_DESCRIPTION.getTag(),
+                                    "Created "
+                                              + new Date().toString()
+                                              + " : CCDD version = "
+                                              + ccddMain.getCCDDVersionInformation()
+                                              + " : project = "
+                                              + dbControl.getProjectName()
+                                              + " : host = "
+                                              + dbControl.getServer()
+                                              + " : user = "
+                                              + dbControl.getUser());
             }
 
             // Check if any tables are provided
             if (tableNames.length != 0)
             {
-                JSONArray tableJA = new JSONArray();
+                // Start the table information output
+                jsonWriter.key(JSONTags.TABLE_DEFN.getTag()).beginArray();
 
                 // Sort the array of table names alphabetically, accounting for array dimension
                 // values within the table names. This causes the tables to be placed in the JSON
@@ -1303,8 +1313,8 @@ public class CcddJSONHandler extends CcddImportSupportHandler implements CcddImp
                     // Check if the table's data successfully loaded
                     if (tableInfoJO != null && !tableInfoJO.isEmpty())
                     {
-                        // Add the wrapper for the table
-                        tableJA.add(tableInfoJO);
+                        // Output the table information
+                        jsonWriter.value(tableInfoJO);
 
                         // Get the table type definition based on the type name
                         TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(tableInfo.getType());
@@ -1394,86 +1404,121 @@ public class CcddJSONHandler extends CcddImportSupportHandler implements CcddImp
                     }
                 }
 
-                // Check if any tables were processed successfully
-                if (tableJA != null)
-                {
-                    // Add the table information to the JSON output
-                    outputJO.put(JSONTags.TABLE_DEFN.getTag(), tableJA);
-                }
+                // End the table information output
+                jsonWriter.endArray();
             }
 
-            // Add the referenced table type definition(s), if any, to the output
-            outputJO = getTableTypeDefinitions(referencedTableTypes,
-                                               referencedInputTypes,
-                                               outputJO);
+            // Add the referenced table type definition(s), if any, to the output. The table type
+            // definitions are common to each file of a multiple file export if all of the
+            // definitions are included
+            writeSection(jsonWriter,
+                         ExportSectionType.TABLE_TYPES,
+                         includeAllTableTypes,
+                         referencedTableTypes,
+                         referencedDataTypes,
+                         referencedMacros,
+                         referencedInputTypes);
 
             // Add the referenced data type definition(s), if any, to the output
-            outputJO = getDataTypeDefinitions(referencedDataTypes, outputJO);
+            writeSection(jsonWriter,
+                         ExportSectionType.DATA_TYPES,
+                         includeAllDataTypes,
+                         referencedTableTypes,
+                         referencedDataTypes,
+                         referencedMacros,
+                         referencedInputTypes);
 
             // Add the referenced macro definition(s), if any, to the output
-            outputJO = getMacroDefinitions(referencedMacros, outputJO);
+            writeSection(jsonWriter,
+                         ExportSectionType.MACROS,
+                         includeAllMacros,
+                         referencedTableTypes,
+                         referencedDataTypes,
+                         referencedMacros,
+                         referencedInputTypes);
 
             // Add the referenced input type definition(s), if any, to the output
-            outputJO = getInputTypeDefinitions(referencedInputTypes, outputJO);
+            writeSection(jsonWriter,
+                         ExportSectionType.INPUT_TYPES,
+                         includeAllInputTypes,
+                         referencedTableTypes,
+                         referencedDataTypes,
+                         referencedMacros,
+                         referencedInputTypes);
 
             // Check if the user elected to store the reserved message IDs
             if (includeReservedMsgIDs)
             {
                 // Add the reserved message ID definition(s), if any, to the output
-                outputJO = getReservedMsgIDDefinitions(outputJO);
+                writeSection(jsonWriter,
+                             ExportSectionType.RESERVED_MSG_IDS,
+                             true,
+                             referencedTableTypes,
+                             referencedDataTypes,
+                             referencedMacros,
+                             referencedInputTypes);
             }
 
             // Check if the user elected to store the project-level data fields
             if (includeProjectFields)
             {
                 // Add the project-level data field(s), if any, to the output
-                outputJO = getDataFields(CcddFieldHandler.getFieldProjectName(),
-                                         JSONTags.PROJECT_FIELD.getTag(),
-                                         referencedInputTypes,
-                                         outputJO);
+                writeSection(jsonWriter,
+                             ExportSectionType.PROJECT_FIELDS,
+                             true,
+                             referencedTableTypes,
+                             referencedDataTypes,
+                             referencedMacros,
+                             referencedInputTypes);
             }
 
             // Check if the user elected to store the groups
             if (includeGroups)
             {
-                // Get the group information
-                String groupInfo = getGroupInformation("", false, referencedInputTypes);
-
-                // Check if any groups exist
-                if (groupInfo != null)
-                {
-                    // Add the group information, if any, to the output
-                    JSONParser parser = new JSONParser();
-                    outputJO.put(JSONTags.GROUP.getTag(), parser.parse(groupInfo));
-                }
+                // Add the group information, if any, to the output
+                writeSection(jsonWriter,
+                             ExportSectionType.GROUPS,
+                             true,
+                             referencedTableTypes,
+                             referencedDataTypes,
+                             referencedMacros,
+                             referencedInputTypes);
             }
 
             // Check if the user elected to store the script associations
             if (includeAssociations)
             {
                 // Add the script association(s), if any, to the output
-                getScriptAssociations(outputJO);
+                writeSection(jsonWriter,
+                             ExportSectionType.ASSOCIATIONS,
+                             true,
+                             referencedTableTypes,
+                             referencedDataTypes,
+                             referencedMacros,
+                             referencedInputTypes);
             }
 
             // Check if variable paths are to be output
             if (includeVariablePaths)
             {
                 // Add the variable paths, if any, to the output
-                outputJO = getVariablePaths(variablePaths, outputJO);
+                jsonWriter.members(getVariablePaths(variablePaths, new OrderedJSONObject()));
             }
 
-            // Create a JavaScript engine for use in formatting the JSON output
-            ScriptEngineManager manager = new ScriptEngineManager();
-            ScriptEngine scriptEngine = manager.getEngineByName("JavaScript");
+            // Complete the JSON output
+            jsonWriter.endObject();
+            pw.println();
 
-            // Output the ordered and formatted JSON object to the file
-            StringWriter orderedOutput = new StringWriter();
-            JSONValue.writeJSONString(outputJO, orderedOutput);
-            scriptEngine.put("jsonString", orderedOutput.toString());
-            scriptEngine.eval("result = JSON.stringify(JSON.parse(jsonString), null, 2)");
-            pw.println((String) scriptEngine.get("result"));
+            // Check if an error occurred writing to the file (the PrintWriter doesn't throw an
+            // exception)
+            if (pw.checkError())
+            {
+                throw new IOException("Error writing to export file '"
+                                      + exportFile.getAbsolutePath()
+                                      + "'");
+            }
         }
-        catch (IOException | ScriptException iose)
+        catch (IOException iose)
         {
             throw new CCDDException(iose.getMessage());
         }
@@ -1516,6 +1561,181 @@ public class CcddJSONHandler extends CcddImportSupportHandler implements CcddImp
         }
     }
 
+    /**********************************************************************************************
+     * Write an export file section. If the section is common to each file of a multiple file
+     * export then the section is generated and formatted once, and the formatted text is written
+     * for each file
+     *
+     * @param jsonWriter
+     *            JSON stream writer for the export file
+     *
+     * @param sectionType
+     *            export file section type
+     *
+     * @param isCommon
+     *            true if the section is the same in each file of a multiple file export
+     *
+     * @param referencedTableTypes
+     *            list of the names of the table types referenced in the export file
+     *
+     * @param referencedDataTypes
+     *            list of the names of the data types referenced in the export file
+     *
+     * @param referencedMacros
+     *            list of the names of the macros referenced in the export file
+     *
+     * @param referencedInputTypes
+     *            list of the names of the user-defined input types referenced in the export file;
+     *            any input types referenced by the section are added to the list
+     *
+     * @throws IOException
+     *             If an error occurs writing to the export file
+     *
+     * @throws ParseException
+     *             If an error occurs parsing the group information
+     *
+     * @throws CCDDException
+     *             If an error occurs obtaining the group information
+     *
+     * @throws Exception
+     *             If an unanticipated error occurs generating a common section
+     *********************************************************************************************/
+    private void writeSection(JSONStreamWriter jsonWriter,
+                              final ExportSectionType sectionType,
+                              boolean isCommon,
+                              final List<String> referencedTableTypes,
+                              final List<String> referencedDataTypes,
+                              final List<String> referencedMacros,
+                              List<String> referencedInputTypes) throws IOException,
+                                                                 ParseException,
+                                                                 CCDDException,
+                                                                 Exception
+    {
+        // Check if the section is common to each file of a multiple file export
+        if (isCommon && exportContext != null)
+        {
+            // Create the formatter that generates the section if this is the first file to output
+            // it
+            ExportSectionFormatter<Exception> formatter = new ExportSectionFormatter<Exception>()
+            {
+                /**********************************************************************************
+                 * Generate the section's JSON object and format it
+                 *********************************************************************************/
+                @Override
+                protected String format(List<String> sectionInputTypes) throws Exception
+                {
+                    return JSONStreamWriter.formatMembers(getSection(sectionType,
+                                                                     referencedTableTypes,
+                                                                     referencedDataTypes,
+                                                                     referencedMacros,
+                                                                     sectionInputTypes));
+                }
+            };
+
+            // Output the formatted section
+            jsonWriter.formattedMembers(getCommonSectionText(sectionType,
+                                                             referencedInputTypes,
+                                                             formatter));
+        }
+        // The section is generated for each file
+        else
+        {
+            jsonWriter.members(getSection(sectionType,
+                                          referencedTableTypes,
+                                          referencedDataTypes,
+                                          referencedMacros,
+                                          referencedInputTypes));
+        }
+    }
+
+    /**********************************************************************************************
+     * Get the JSON object for an export file section
+     *
+     * @param sectionType
+     *            export file section type
+     *
+     * @param referencedTableTypes
+     *            list of the names of the table types referenced in the export file
+     *
+     * @param referencedDataTypes
+     *            list of the names of the data types referenced in the export file
+     *
+     * @param referencedMacros
+     *            list of the names of the macros referenced in the export file
+     *
+     * @param referencedInputTypes
+     *            list of the names of the user-defined input types referenced in the export file;
+     *            any input types referenced by the section are added to the list
+     *
+     * @return JSON object containing the section's key:value pairs; an empty object if the
+     *         section has no content
+     *
+     * @throws ParseException
+     *             If an error occurs parsing the group information
+     *
+     * @throws CCDDException
+     *             If an error occurs obtaining the group information
+     *********************************************************************************************/
+    @SuppressWarnings("unchecked")
+    private OrderedJSONObject getSection(ExportSectionType sectionType,
+                                         List<String> referencedTableTypes,
+                                         List<String> referencedDataTypes,
+                                         List<String> referencedMacros,
+                                         List<String> referencedInputTypes) throws ParseException,
+                                                                            CCDDException
+    {
+        OrderedJSONObject sectionJO = new OrderedJSONObject();
+
+        switch (sectionType)
+        {
+            case TABLE_TYPES:
+                getTableTypeDefinitions(referencedTableTypes, referencedInputTypes, sectionJO);
+                break;
+
+            case DATA_TYPES:
+                getDataTypeDefinitions(referencedDataTypes, sectionJO);
+                break;
+
+            case MACROS:
+                getMacroDefinitions(referencedMacros, sectionJO);
+                break;
+
+            case INPUT_TYPES:
+                getInputTypeDefinitions(referencedInputTypes, sectionJO);
+                break;
+
+            case RESERVED_MSG_IDS:
+                getReservedMsgIDDefinitions(sectionJO);
+                break;
+
+            case PROJECT_FIELDS:
+                getDataFields(CcddFieldHandler.getFieldProjectName(),
+                              JSONTags.PROJECT_FIELD.getTag(),
+                              referencedInputTypes,
+                              sectionJO);
+                break;
+
+            case GROUPS:
+                // Get the group information
+                String groupInfo = getGroupInformation("", false, referencedInputTypes);
+
+                // Check if any groups exist
+                if (groupInfo != null)
+                {
+                    // Add the group information to the section
+                    sectionJO.put(JSONTags.GROUP.getTag(), new JSONParser().parse(groupInfo));
+                }
+
+                break;
+
+            case ASSOCIATIONS:
+                getScriptAssociations(sectionJO);
+                break;
+        }
+
+        return sectionJO;
+    }
+
     /**********************************************************************************************
      * Get the data for the specified data table
      *
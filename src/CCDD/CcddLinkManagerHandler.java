@@ -45,6 +45,7 @@ import javax.swing.tree.TreeSelectionModel;
 
 import CCDD.CcddClassesComponent.ArrayListMultiple;
 import CCDD.CcddClassesComponent.CustomSplitPane;
+import CCDD.CcddClassesComponent.IndexedArrayListMultiple;
 import CCDD.CcddClassesComponent.PaddedComboBox;
 import CCDD.CcddClassesComponent.ToolTipTreeNode;
 import CCDD.CcddClassesDataTable.LinkInformation;
@@ -1162,7 +1163,7 @@ public class CcddLinkManagerHandler
                 checkedLinks.add(linkName);
 
                 // Get the link definitions for this link name
-                ArrayListMultiple oldDefns = new ArrayListMultiple(LinksColumn.MEMBER.ordinal());
+                ArrayListMultiple oldDefns = new IndexedArrayListMultiple(LinksColumn.MEMBER.ordinal());
                 oldDefns.addAll(oldLinkHndlr.getLinkDefinitionsByName(linkName, rateName));
 
                 // Check if the link had any variables assigned to it
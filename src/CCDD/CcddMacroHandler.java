@@ -316,7 +316,7 @@ public class CcddMacroHandler
      * Clear the list of expanded macro values. This should be done following any change to a
      * macro's unexpanded value so that the unexpanded value is reevaluated when next requested
      *********************************************************************************************/
-    protected void clearStoredValues()
+    protected synchronized void clearStoredValues()
     {
         expandedMacroValues = new ArrayList<String>(macros.size());
 
@@ -506,7 +506,7 @@ public class CcddMacroHandler
      *
      * @return true if a recursive reference is detected in the macro's value
      *********************************************************************************************/
-    protected boolean isMacroRecursive(String macroName)
+    protected synchronized boolean isMacroRecursive(String macroName)
     {
         // Get the macro's value, checking for recursion
         getMacroValue(macroName);
@@ -517,7 +517,9 @@ public class CcddMacroHandler
     /**********************************************************************************************
      * Get the expanded value associated with the specified macro name. If the expanded value is
      * already known (from a previous value request) then this known value is used; otherwise the
-     * macro's expanded value is evaluated from its unexpanded value
+     * macro's expanded value is evaluated from its unexpanded value. The expansion state (the
+     * recursion flag and the stored expanded values) is shared with getMacroExpansion(), so only
+     * one value or expansion is evaluated at a time
      *
      * @param macroName
      *            name of the macro for which the value is needed
@@ -526,7 +528,7 @@ public class CcddMacroHandler
      *         doesn't exist. The isMacroRecursive flag will be set to true if the macro contains a
      *         recursive reference
      *********************************************************************************************/
-    protected String getMacroValue(String macroName)
+    protected synchronized String getMacroValue(String macroName)
     {
         // TODO NEED TO HANDLE MACROS IN THE FORMAT name(a[,b[,...]])
 
@@ -746,7 +748,8 @@ public class CcddMacroHandler
     /**********************************************************************************************
      * Replace any macro names and sizeof() calls embedded in the supplied text with the associated
      * macro values and data type sizes. If a list of invalid data types is supplied, sizeof()
-     * calls set an error flag if the referenced data type is in the list
+     * calls set an error flag if the referenced data type is in the list. The expansion state is
+     * shared, so only one expansion is performed at a time
      *
      * @param text
      *            text string possibly containing macro names and/or sizeof() calls
@@ -759,7 +762,7 @@ public class CcddMacroHandler
      *         associated macro values and data type sizes; if no macro or sizeof() call is present
      *         the text is returned unchanged
      *********************************************************************************************/
-    protected String getMacroExpansion(String text, List<String> invalidDataTypes)
+    protected synchronized String getMacroExpansion(String text, List<String> invalidDataTypes)
     {
         isMacroRecursive = false;
 
@@ -1367,7 +1370,7 @@ public class CcddMacroHandler
 
                     // Check if the expanded value of the updated macro doesn't match the input
                     // type required by the macro's user
-                    if (!newMacroHandler.getMacroExpansion(refContext[columnIndex]).matches(inputType.getInputMatch()))
+                    if (!inputType.isInputValid(newMacroHandler.getMacroExpansion(refContext[columnIndex])))
                     {
                         // Add the affected table name to the list
                         tableNames.add(refNameAndType[0]);
@@ -1581,7 +1584,7 @@ public class CcddMacroHandler
 
                 // Check if the text component's text, with the macro's value inserted, is allowed
                 // in the target text component based on the component's input type
-                if ((text.isEmpty() || text.matches(inputType.getInputMatch()))
+                if ((text.isEmpty() || inputType.isInputValid(text))
                     && !isMacroRecursive)
                 {
                     // Add the macro name to the list with its value as the item's tool tip text
@@ -380,10 +380,16 @@ public class CcddMain
                 boolean errorFlag = dbControl.openDatabase(projectName)
                                     || !projectName.equals(DEFAULT_DATABASE);
 
-                // Perform any clean-up steps and exit the application
-                cmdLnHandler.postCommandCleanUp(errorFlag
-                                                          ? 1
-                                                          : 0);
+                // Check if the project-specific commands weren't executed (the handler reference
+                // is set to null once these are executed; if the batch server is started then the
+                // application remains running)
+                if (cmdLnHandler != null)
+                {
+                    // Perform any clean-up steps and exit the application
+                    cmdLnHandler.postCommandCleanUp(errorFlag
+                                                              ? 1
+                                                              : 0);
+                }
             }
         }
     }
@@ -20,6 +20,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import CCDD.CcddClassesComponent.ArrayListMultiple;
+import CCDD.CcddClassesComponent.IndexedArrayListMultiple;
 import CCDD.CcddClassesDataTable.Message;
 import CCDD.CcddClassesDataTable.TableInformation;
 import CCDD.CcddConstants.ArrayListMultipleSortType;
@@ -76,8 +77,8 @@ public class CcddMessageIDHandler
 
         // Create the lists
         idsInUse = new ArrayList<Integer>();
-        duplicates = new ArrayListMultiple(1);
-        potentialDuplicates = new ArrayListMultiple(1);
+        duplicates = new IndexedArrayListMultiple(1);
+        potentialDuplicates = new IndexedArrayListMultiple(1);
         structureTables = new ArrayList<String>();
         commandTables = new ArrayList<String>();
         otherTables = new ArrayList<String>();
@@ -264,7 +265,7 @@ public class CcddMessageIDHandler
         for (TypeDefinition typeDefn : tableTypeHandler.getTypeDefinitions())
         {
             // Step through each column that contains a message name & ID
-            for (int idColumn : typeDefn.getColumnIndicesByInputType(DefaultInputType.MESSAGE_NAME_AND_ID))
+            for (int idColumn : typeDefn.getColumnIndexArrayByInputType(DefaultInputType.MESSAGE_NAME_AND_ID))
             {
                 // Query the database for those values in the specified message ID column that are
                 // in use in any table, including any references in the custom values table
@@ -477,7 +478,7 @@ public class CcddMessageIDHandler
         for (TypeDefinition typeDefn : tableTypeHandler.getTypeDefinitions())
         {
             // Step through each column that contains a message name & ID
-            for (int idColumn : typeDefn.getColumnIndicesByInputType(DefaultInputType.MESSAGE_NAME_AND_ID))
+            for (int idColumn : typeDefn.getColumnIndexArrayByInputType(DefaultInputType.MESSAGE_NAME_AND_ID))
             {
                 // Query the database for those values in the specified message ID name column that
                 // are in use in any table, including any references in the custom values table
@@ -537,7 +538,7 @@ public class CcddMessageIDHandler
         // table. This query returns only those the message names with the sub-message index
         // appended, so for parent messages without any sub-messages this retrieves the 'default'
         // sub-message name
-        ArrayListMultiple tlmMsgs = new ArrayListMultiple(1);
+        ArrayListMultiple tlmMsgs = new IndexedArrayListMultiple(1);
         tlmMsgs.addAll(dbTable.queryDatabase("SELECT DISTINCT ON (3,2) 'Tlm:' || "
                                              + InternalTable.TLM_SCHEDULER.getColumnName(TlmSchedulerColumn.RATE_NAME.ordinal())
                                              + ", regexp_replace("
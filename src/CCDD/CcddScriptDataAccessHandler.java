@@ -23,8 +23,12 @@ import java.io.File;
 import java.io.PrintWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 import javax.script.ScriptEngine;
@@ -73,7 +77,7 @@ import CCDD.CcddTableTypeHandler.TypeDefinition;
  * CFS Command and Data Dictionary script data access class. This class contains public methods
  * that are accessible to the data output scripts
  *************************************************************************************************/
-public class CcddScriptDataAccessHandler
+public class CcddScriptDataAccessHandler implements CcddScriptDataAccessInterface
 {
     // Class references
     private final CcddMain ccddMain;
@@ -96,6 +100,15 @@ public class CcddScriptDataAccessHandler
     private CcddXTCEHandler xtceHandler;
     private final CcddInputTypeHandler inputTypeHandler;
 
+    // Lock used to serialize the use of resources shared by all of the script associations (the
+    // database connection and the table tree), which are not safe for use by associations
+    // executing in parallel. The handlers created on demand read from the database when created
+    private final static Object sharedResourceLock = new Object();
+
+    // Lock used to serialize the display of the script dialogs so that only one script's dialog
+    // is displayed at a time
+    private final static Object dialogLock = new Object();
+
     // Reference to the script engine
     private final ScriptEngine scriptEngine;
 
@@ -111,6 +124,162 @@ public class CcddScriptDataAccessHandler
     // Data table information array
     private final TableInformation[] tableInformation;
 
+    // Table information, keyed by the table type name supplied by the script
+    private final Map<String, TableInformation> tableInfoByType;
+
+    // Table data row and column indices, keyed by the table information to which the indices
+    // apply
+    private final Map<TableInformation, TableDataIndex> tableDataIndices;
+
+    // Table type definitions, keyed by the table type name stored in the table data
+    private final Map<String, TypeDefinition> typeDefnByName;
+
+    // Output files opened by the script that haven't been closed
+    private final List<PrintWriter> openOutputFiles;
+
+    /**********************************************************************************************
+     * Table data index class. Contains the indices used to locate the rows in the combined table
+     * data for a table type by table path and by the contents of a column, so that the table data
+     * doesn't need to be searched for each script request
+     *********************************************************************************************/
+    private class TableDataIndex
+    {
+        private final TableInformation tableInfo;
+
+        // Table data row indices, keyed by table path
+        private final Map<String, Integer[]> rowsByPath;
+
+        // Index of the first table data row for each table path and column value, keyed by the
+        // lower case column name, then by the table path, and then by the column value. The index
+        // for a column is created when it's first referenced
+        private final Map<String, Map<String, Map<Object, Integer>>> rowsByColumnValue;
+
+        /******************************************************************************************
+         * Table data index class constructor. The table path row index is built
+         *
+         * @param tableInfo
+         *            table information
+         *****************************************************************************************/
+        TableDataIndex(TableInformation tableInfo)
+        {
+            this.tableInfo = tableInfo;
+            rowsByColumnValue = new HashMap<String, Map<String, Map<Object, Integer>>>();
+            Map<String, List<Integer>> pathRows = new LinkedHashMap<String, List<Integer>>();
+
+            // Step through the table data
+            for (int row = 0; row < tableInfo.getData().length; row++)
+            {
+                // Get the table path for this row
+                String tablePath = tableInfo.getData()[row][tableInfo.getData()[row].length
+                                                            - PATH_COLUMN_DELTA].toString();
+                List<Integer> rows = pathRows.get(tablePath);
+
+                // Check if this is the first row for the table
+                if (rows == null)
+                {
+                    // Create the row list for the table
+                    rows = new ArrayList<Integer>();
+                    pathRows.put(tablePath, rows);
+                }
+
+                // Add the row number to the table's list
+                rows.add(row);
+            }
+
+            rowsByPath = new HashMap<String, Integer[]>(pathRows.size() * 2);
+
+            // Step through each table path
+            for (Map.Entry<String, List<Integer>> pathRow : pathRows.entrySet())
+            {
+                // Store the table's row numbers
+                rowsByPath.put(pathRow.getKey(), pathRow.getValue().toArray(new Integer[0]));
+            }
+        }
+
+        /******************************************************************************************
+         * Get the table data row numbers that belong to the specified table
+         *
+         * @param tablePath
+         *            full table path
+         *
+         * @return Array of the table data row numbers that belong to the specified table; null if
+         *         the table path doesn't exist
+         *****************************************************************************************/
+        private Integer[] getRows(String tablePath)
+        {
+            return rowsByPath.get(tablePath);
+        }
+
+        /******************************************************************************************
+         * Get the first table data row belonging to the specified table that contains the
+         * matching value in the specified column
+         *
+         * @param tablePath
+         *            full table path
+         *
+         * @param columnName
+         *            name of the column containing the matching value (case insensitive)
+         *
+         * @param matchValue
+         *            value to match in the column
+         *
+         * @return Table data row number of the first row in the specified table with the matching
+         *         value in the specified column; -1 if no row matches
+         *****************************************************************************************/
+        private int getRowByColumnValue(String tablePath, String columnName, String matchValue)
+        {
+            String columnKey = columnName.toLowerCase();
+            Map<String, Map<Object, Integer>> columnIndex = rowsByColumnValue.get(columnKey);
+
+            // Check if the index for this column hasn't been built
+            if (columnIndex == null)
+            {
+                columnIndex = new HashMap<String, Map<Object, Integer>>(rowsByPath.size() * 2);
+
+                // Step through the table data
+                for (int row = 0; row < tableInfo.getData().length; row++)
+                {
+                    // Get the column index for the table type of this row
+                    int column = getTypeDefinitionByRow(tableInfo, row).getColumnIndexByUserName(columnName);
+
+                    // Check that the column exists for this table type
+                    if (column != -1)
+                    {
+                        String rowPath = tableInfo.getData()[row][tableInfo.getData()[row].length
+                                                                  - PATH_COLUMN_DELTA].toString();
+                        Map<Object, Integer> valueRows = columnIndex.get(rowPath);
+
+                        // Check if this is the first row for the table
+                        if (valueRows == null)
+                        {
+                            // Create the column value index for the table
+                            valueRows = new HashMap<Object, Integer>();
+                            columnIndex.put(rowPath, valueRows);
+                        }
+
+                        // Check if this is the first row in the table with this column value
+                        if (!valueRows.containsKey(tableInfo.getData()[row][column]))
+                        {
+                            // Store the row for the column value
+                            valueRows.put(tableInfo.getData()[row][column], row);
+                        }
+                    }
+                }
+
+                rowsByColumnValue.put(columnKey, columnIndex);
+            }
+
+            Map<Object, Integer> valueRows = columnIndex.get(tablePath);
+            Integer row = valueRows == null
+                                            ? null
+                                            : valueRows.get(matchValue);
+
+            return row == null
+                               ? -1
+                               : row;
+        }
+    }
+
     /**********************************************************************************************
      * Script data access class constructor
      *
@@ -172,6 +341,17 @@ public class CcddScriptDataAccessHandler
         tableTree = variableHandler.getVariableTree();
         copyHandler = null;
         xtceHandler = null;
+        tableInfoByType = new HashMap<String, TableInformation>();
+        typeDefnByName = new HashMap<String, TypeDefinition>();
+        tableDataIndices = new HashMap<TableInformation, TableDataIndex>();
+        openOutputFiles = Collections.synchronizedList(new ArrayList<PrintWriter>());
+
+        // Step through the available table information instances
+        for (TableInformation tableInfo : tableInformation)
+        {
+            // Build the row indices for the table type's data
+            tableDataIndices.put(tableInfo, new TableDataIndex(tableInfo));
+        }
     }
 
     /**********************************************************************************************
@@ -189,6 +369,13 @@ public class CcddScriptDataAccessHandler
      *********************************************************************************************/
     private TableInformation getTableInformation(String tableType)
     {
+        // Check if the table information for this table type name has already been determined
+        if (tableInfoByType.containsKey(tableType))
+        {
+            return tableInfoByType.get(tableType);
+        }
+
+        String requestedType = tableType;
         TableInformation tableInfo = null;
 
         // Get the type definition based on the table type name
@@ -224,9 +411,42 @@ public class CcddScriptDataAccessHandler
             }
         }
 
+        // Store the table information for subsequent requests using this table type name
+        tableInfoByType.put(requestedType, tableInfo);
+
         return tableInfo;
     }
 
+    /**********************************************************************************************
+     * Get the type definition for the table referenced on the specified row of the table data
+     *
+     * @param tableInfo
+     *            table information
+     *
+     * @param row
+     *            table data row index
+     *
+     * @return Type definition for the table referenced on the specified row; null if the table
+     *         type doesn't exist
+     *********************************************************************************************/
+    private TypeDefinition getTypeDefinitionByRow(TableInformation tableInfo, int row)
+    {
+        // Get the table type name for the specified row
+        String typeName = tableInfo.getData()[row][tableInfo.getData()[row].length
+                                                   - TYPE_COLUMN_DELTA].toString();
+        TypeDefinition typeDefn = typeDefnByName.get(typeName);
+
+        // Check if the type definition hasn't already been determined
+        if (typeDefn == null)
+        {
+            // Get the type definition and store it for subsequent requests
+            typeDefn = tableTypeHandler.getTypeDefinition(typeName);
+            typeDefnByName.put(typeName, typeDefn);
+        }
+
+        return typeDefn;
+    }
+
     /**********************************************************************************************
      * Get the name of the script file being executed
      *
@@ -274,7 +494,10 @@ public class CcddScriptDataAccessHandler
      *********************************************************************************************/
     public String getProjectDescription()
     {
-        return dbControl.getDatabaseDescription(dbControl.getDatabaseName());
+        synchronized (sharedResourceLock)
+        {
+            return dbControl.getDatabaseDescription(dbControl.getDatabaseName());
+        }
     }
 
     /**********************************************************************************************
@@ -739,11 +962,18 @@ public class CcddScriptDataAccessHandler
                 encodedType += String.valueOf(0);
             }
         }
-        // Check if the data type matches a table name (i.e., it's a structure)
-        else if (dbTable.isTableExists(dataType, ccddMain.getMainFrame()))
+        // The data type isn't a primitive
+        else
         {
-            // Use the supplied data type, unmodified, as the encoded type
-            encodedType = dataType;
+            synchronized (sharedResourceLock)
+            {
+                // Check if the data type matches a table name (i.e., it's a structure)
+                if (dbTable.isTableExists(dataType, ccddMain.getMainFrame()))
+                {
+                    // Use the supplied data type, unmodified, as the encoded type
+                    encodedType = dataType;
+                }
+            }
         }
 
         return encodedType;
@@ -1560,7 +1790,7 @@ public class CcddScriptDataAccessHandler
             TableInformation tableInfo = getTableInformation(TYPE_STRUCTURE);
 
             // Step through each enumeration column
-            for (int enumIndex : typeDefn.getColumnIndicesByInputTypeFormat(InputTypeFormat.ENUMERATION))
+            for (int enumIndex : typeDefn.getColumnIndexArrayByInputTypeFormat(InputTypeFormat.ENUMERATION))
             {
                 // Get the enumeration
                 String enumeration = tableInfo.getData()[row][enumIndex].toString();
@@ -1602,7 +1832,7 @@ public class CcddScriptDataAccessHandler
             TableInformation tableInfo = getTableInformation(TYPE_STRUCTURE);
 
             // Step through each rate column
-            for (int rateIndex : typeDefn.getColumnIndicesByInputType(DefaultInputType.RATE))
+            for (int rateIndex : typeDefn.getColumnIndexArrayByInputType(DefaultInputType.RATE))
             {
                 // Add the rate to the list
                 rates.add(tableInfo.getData()[row][rateIndex].toString());
@@ -2686,18 +2916,16 @@ public class CcddScriptDataAccessHandler
         // Step through the available table information instances
         for (TableInformation tableInfo : tableInformation)
         {
-            // Step through each row of data for this table type
-            for (int row = 0; row < tableInfo.getData().length; row++)
+            // Get the table data rows belonging to the supplied table
+            Integer[] rows = tableDataIndices.get(tableInfo).getRows(tableName);
+
+            // Check if the table's data is in this table type's data
+            if (rows != null)
             {
-                // Check if the supplied table name matches the one for this row
-                if (tableName.equals(tableInfo.getData()[row][tableInfo.getData()[row].length
-                                                              - PATH_COLUMN_DELTA]))
-                {
-                    // Store the table's type name and stop searching
-                    typeName = tableInfo.getData()[row][tableInfo.getData()[row].length
+                // Store the table's type name and stop searching
+                typeName = tableInfo.getData()[rows[0]][tableInfo.getData()[rows[0]].length
                                                         - TYPE_COLUMN_DELTA].toString();
-                    break;
-                }
+                break;
             }
         }
 
@@ -3512,10 +3740,15 @@ public class CcddScriptDataAccessHandler
         // Check if a structure name is provided
         if (structureName != null && !structureName.isEmpty())
         {
-            // Get the list root table paths for which the target structure is a member
-            List<Object[]> memberPaths = tableTree.getTableTreePathArray(structureName,
-                                                                         tableTree.getNodeByNodeName(DEFAULT_INSTANCE_NODE_NAME),
-                                                                         -1);
+            List<Object[]> memberPaths;
+
+            synchronized (sharedResourceLock)
+            {
+                // Get the list root table paths for which the target structure is a member
+                memberPaths = tableTree.getTableTreePathArray(structureName,
+                                                              tableTree.getNodeByNodeName(DEFAULT_INSTANCE_NODE_NAME),
+                                                              -1);
+            }
 
             // Check that the target structure appears in at least two paths
             if (memberPaths.size() > 1)
@@ -4110,8 +4343,7 @@ public class CcddScriptDataAccessHandler
         if (tableInfo != null && row < tableInfo.getData().length)
         {
             // Get the type definition based on the table's specific type name
-            TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(getTypeNameByRow(tableType,
-                                                                                          row));
+            TypeDefinition typeDefn = getTypeDefinitionByRow(tableInfo, row);
 
             // Get the column index matching the requested column name
             int column = typeDefn.getColumnIndexByUserName(columnName);
@@ -4189,7 +4421,7 @@ public class CcddScriptDataAccessHandler
      *********************************************************************************************/
     public Integer[] getTableRowIndices(String tableType, String tablePath)
     {
-        List<Integer> tableRows = new ArrayList<Integer>();
+        Integer[] tableRows = null;
 
         // Get the reference to the table information class for the requested table type
         TableInformation tableInfo = getTableInformation(tableType);
@@ -4197,20 +4429,14 @@ public class CcddScriptDataAccessHandler
         // Check that the table type exists
         if (tableInfo != null)
         {
-            // Step through the table data
-            for (int row = 0; row < tableInfo.getData().length; row++)
-            {
-                // Check if the table name matches the target table
-                if (tableInfo.getData()[row][tableInfo.getData()[row].length
-                                             - PATH_COLUMN_DELTA].equals(tablePath))
-                {
-                    // Add the row number to the list
-                    tableRows.add(row);
-                }
-            }
+            // Get the table data rows belonging to the table
+            tableRows = tableDataIndices.get(tableInfo).getRows(tablePath);
         }
 
-        return tableRows.toArray(new Integer[0]);
+        // Return a copy of the row numbers so that the index isn't altered by the script
+        return tableRows == null
+                                 ? new Integer[0]
+                                 : Arrays.copyOf(tableRows, tableRows.length);
     }
 
     /**********************************************************************************************
@@ -4401,48 +4627,42 @@ public class CcddScriptDataAccessHandler
         // Get the reference to the table information class for the requested table type
         TableInformation tableInfo = getTableInformation(tableType);
 
-        // Check that the table type exists
-        if (tableInfo != null)
+        // Check that the table type exists and the matching column name is supplied
+        if (tableInfo != null && matchColumnName != null)
         {
-            // Step through the table data
-            for (int row = 0; row < tableInfo.getData().length; row++)
+            // Get the first row in the target table with the matching name in the matching name
+            // column
+            int row = tableDataIndices.get(tableInfo).getRowByColumnValue(tablePath,
+                                                                          matchColumnName,
+                                                                          matchName);
+
+            // Check if a matching row exists
+            if (row != -1)
             {
                 // Get the type definition based on the table's specific type name
-                TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(getTypeNameByRow(tableType,
-                                                                                              row));
+                TypeDefinition typeDefn = getTypeDefinitionByRow(tableInfo, row);
 
-                // Get the index for the matching and data columns
-                int matchColumnIndex = typeDefn.getColumnIndexByUserName(matchColumnName);
+                // Get the index for the data column
                 int dataColumnIndex = typeDefn.getColumnIndexByUserName(dataColumnName);
 
-                // Check that the column names exist in the table
-                if (matchColumnIndex != -1 && dataColumnIndex != -1)
+                // Check that the data column name exists in the table
+                if (dataColumnIndex != -1)
                 {
-                    // Check if the table name matches the target table and the matching name
-                    // matches that in the matching name column
-                    if (tableInfo.getData()[row][tableInfo.getData()[row].length
-                                                 - PATH_COLUMN_DELTA].equals(tablePath)
-                        && tableInfo.getData()[row][matchColumnIndex].equals(matchName))
-                    {
-                        // Store the contents of the table at the specified row and column and stop
-                        // searching
-                        tableData = tableInfo.getData()[row][dataColumnIndex].toString();
-
-                        // Check if any macros should be expanded
-                        if (expandMacros)
-                        {
-                            // Expand any macros in the data
-                            tableData = macroHandler.getMacroExpansion(tableData);
-                        }
+                    // Store the contents of the table at the specified row and column
+                    tableData = tableInfo.getData()[row][dataColumnIndex].toString();
 
-                        // Check if the data field contains a message name and ID
-                        if (typeDefn.getInputTypes()[dataColumnIndex].equals(inputTypeHandler.getInputTypeByDefaultType(DefaultInputType.MESSAGE_NAME_AND_ID)))
-                        {
-                            // Remove the auto-assignment protection flag, if present
-                            tableData = CcddMessageIDHandler.removeProtectionFlag(tableData);
-                        }
+                    // Check if any macros should be expanded
+                    if (expandMacros)
+                    {
+                        // Expand any macros in the data
+                        tableData = macroHandler.getMacroExpansion(tableData);
+                    }
 
-                        break;
+                    // Check if the data field contains a message name and ID
+                    if (typeDefn.getInputTypes()[dataColumnIndex].equals(inputTypeHandler.getInputTypeByDefaultType(DefaultInputType.MESSAGE_NAME_AND_ID)))
+                    {
+                        // Remove the auto-assignment protection flag, if present
+                        tableData = CcddMessageIDHandler.removeProtectionFlag(tableData);
                     }
                 }
             }
@@ -4461,8 +4681,11 @@ public class CcddScriptDataAccessHandler
      *********************************************************************************************/
     public String getTableDescription(String tableName)
     {
-        // Get the description for the table
-        return dbTable.queryTableDescription(tableName, ccddMain.getMainFrame());
+        synchronized (sharedResourceLock)
+        {
+            // Get the description for the table
+            return dbTable.queryTableDescription(tableName, ccddMain.getMainFrame());
+        }
     }
 
     /**********************************************************************************************
@@ -4481,9 +4704,12 @@ public class CcddScriptDataAccessHandler
      *********************************************************************************************/
     public String getTableDescriptionByRow(String tableType, int row)
     {
-        // Get the description for the table
-        return dbTable.queryTableDescription(getPathByRow(tableType, row),
-                                             ccddMain.getMainFrame());
+        synchronized (sharedResourceLock)
+        {
+            // Get the description for the table
+            return dbTable.queryTableDescription(getPathByRow(tableType, row),
+                                                 ccddMain.getMainFrame());
+        }
     }
 
     /**********************************************************************************************
@@ -4516,12 +4742,15 @@ public class CcddScriptDataAccessHandler
      *********************************************************************************************/
     public void showInformationDialog(String text)
     {
-        // Display the supplied text in an information dialog
-        new CcddDialogHandler().showMessageDialog(parent,
-                                                  "<html><b>" + text,
-                                                  "Script Message",
-                                                  JOptionPane.INFORMATION_MESSAGE,
-                                                  DialogOption.OK_OPTION);
+        synchronized (dialogLock)
+        {
+            // Display the supplied text in an information dialog
+            new CcddDialogHandler().showMessageDialog(parent,
+                                                      "<html><b>" + text,
+                                                      "Script Message",
+                                                      JOptionPane.INFORMATION_MESSAGE,
+                                                      DialogOption.OK_OPTION);
+        }
     }
 
     /**********************************************************************************************
@@ -4534,12 +4763,15 @@ public class CcddScriptDataAccessHandler
      *********************************************************************************************/
     public void showWarningDialog(String text)
     {
-        // Display the supplied text in a warning dialog
-        new CcddDialogHandler().showMessageDialog(parent,
-                                                  "<html><b>" + text,
-                                                  "Script Warning",
-                                                  JOptionPane.WARNING_MESSAGE,
-                                                  DialogOption.OK_OPTION);
+        synchronized (dialogLock)
+        {
+            // Display the supplied text in a warning dialog
+            new CcddDialogHandler().showMessageDialog(parent,
+                                                      "<html><b>" + text,
+                                                      "Script Warning",
+                                                      JOptionPane.WARNING_MESSAGE,
+                                                      DialogOption.OK_OPTION);
+        }
     }
 
     /**********************************************************************************************
@@ -4552,12 +4784,15 @@ public class CcddScriptDataAccessHandler
      *********************************************************************************************/
     public void showErrorDialog(String text)
     {
-        // Display the supplied text in an error dialog
-        new CcddDialogHandler().showMessageDialog(parent,
-                                                  "<html><b>" + text,
-                                                  "Script Error",
-                                                  JOptionPane.ERROR_MESSAGE,
-                                                  DialogOption.OK_OPTION);
+        synchronized (dialogLock)
+        {
+            // Display the supplied text in an error dialog
+            new CcddDialogHandler().showMessageDialog(parent,
+                                                      "<html><b>" + text,
+                                                      "Script Error",
+                                                      JOptionPane.ERROR_MESSAGE,
+                                                      DialogOption.OK_OPTION);
+        }
     }
 
     /**********************************************************************************************
@@ -4614,10 +4849,7 @@ public class CcddScriptDataAccessHandler
         panel.add(typeField, gbc);
 
         // Display the input dialog
-        if (new CcddDialogHandler().showOptionsDialog(parent,
-                                                      panel,
-                                                      "Input",
-                                                      DialogOption.OK_CANCEL_OPTION) == OK_BUTTON)
+        if (showOptionsDialog(new CcddDialogHandler(), panel, "Input", false) == OK_BUTTON)
         {
             // Get the text from the input field and remove the leading and trailing white space
             input = typeField.getText().trim();
@@ -4676,11 +4908,7 @@ public class CcddScriptDataAccessHandler
         // Create a panel containing a grid of radio buttons representing the table types from
         // which to choose and display the radio button dialog
         if (dialog.addRadioButtons(null, false, buttonInfo, null, label, false, panel, gbc)
-            && dialog.showOptionsDialog(parent,
-                                        panel,
-                                        "Select",
-                                        DialogOption.OK_CANCEL_OPTION,
-                                        true) == OK_BUTTON)
+            && showOptionsDialog(dialog, panel, "Select", true) == OK_BUTTON)
         {
             // Get the text associated with the selected radio button
             selectedButton = dialog.getRadioButtonSelected();
@@ -4720,11 +4948,7 @@ public class CcddScriptDataAccessHandler
             // Create a panel containing a grid of check boxes representing the table types from
             // which to choose and display the check box dialog
             if (dialog.addCheckBoxes(null, boxInfo, null, label, false, panel)
-                && dialog.showOptionsDialog(parent,
-                                            panel,
-                                            "Select",
-                                            DialogOption.OK_CANCEL_OPTION,
-                                            true) == OK_BUTTON)
+                && showOptionsDialog(dialog, panel, "Select", true) == OK_BUTTON)
             {
                 // Create storage for the check box status(es)
                 boxStatus = new boolean[boxInfo.length];
@@ -4755,6 +4979,39 @@ public class CcddScriptDataAccessHandler
         return boxStatus;
     }
 
+    /**********************************************************************************************
+     * Display the supplied panel in a modal dialog with Okay and Cancel buttons. Only one script's
+     * dialog is displayed at a time
+     *
+     * @param dialog
+     *            dialog handler used to display the dialog
+     *
+     * @param panel
+     *            panel containing the dialog components
+     *
+     * @param title
+     *            dialog title
+     *
+     * @param resizable
+     *            true to allow the dialog to be resized
+     *
+     * @return Selected button type
+     *********************************************************************************************/
+    private int showOptionsDialog(CcddDialogHandler dialog,
+                                  JPanel panel,
+                                  String title,
+                                  boolean resizable)
+    {
+        synchronized (dialogLock)
+        {
+            return dialog.showOptionsDialog(parent,
+                                            panel,
+                                            title,
+                                            DialogOption.OK_CANCEL_OPTION,
+                                            resizable);
+        }
+    }
+
     /**********************************************************************************************
      * Perform a query on the currently open database
      *
@@ -4767,9 +5024,12 @@ public class CcddScriptDataAccessHandler
      *********************************************************************************************/
     public String[][] getDatabaseQuery(String sqlCommand)
     {
-        return dbTable.queryDatabase(sqlCommand,
-                                     ccddMain.getMainFrame())
-                      .toArray(new String[0][0]);
+        synchronized (sharedResourceLock)
+        {
+            return dbTable.queryDatabase(sqlCommand,
+                                         ccddMain.getMainFrame())
+                          .toArray(new String[0][0]);
+        }
     }
 
     /**********************************************************************************************
@@ -4944,7 +5204,55 @@ public class CcddScriptDataAccessHandler
      *********************************************************************************************/
     public PrintWriter openOutputFile(String outputFileName)
     {
-        return fileIOHandler.openOutputFile(outputFileName);
+        return addOpenOutputFile(fileIOHandler.openOutputFile(outputFileName));
+    }
+
+    /**********************************************************************************************
+     * Open the specified file for writing, with options for replacing the file and writing in the
+     * background. The PrintWriter object that is returned is used by the file writing methods to
+     * specify the output file
+     *
+     * @param outputFileName
+     *            output file path + name
+     *
+     * @param replaceOnClose
+     *            true to write the text to a temporary file that replaces the output file when the
+     *            file is closed, so that an existing output file is unchanged until the new
+     *            contents are complete; false to replace any existing output file immediately
+     *
+     * @param writeInBackground
+     *            true to write the buffered text to the file using a background thread, which
+     *            allows the script to continue generating text while the file is written; false
+     *            to write the text using the script's thread
+     *
+     * @return PrintWriter object; returns null if the file could not be opened
+     *********************************************************************************************/
+    public PrintWriter openOutputFile(String outputFileName,
+                                      boolean replaceOnClose,
+                                      boolean writeInBackground)
+    {
+        return addOpenOutputFile(fileIOHandler.openOutputFile(outputFileName,
+                                                              replaceOnClose,
+                                                              writeInBackground));
+    }
+
+    /**********************************************************************************************
+     * Add the specified output file to the list of files opened by the script
+     *
+     * @param printWriter
+     *            output file PrintWriter object; null if the file could not be opened
+     *
+     * @return The supplied PrintWriter object
+     *********************************************************************************************/
+    private PrintWriter addOpenOutputFile(PrintWriter printWriter)
+    {
+        // Check if the file was opened
+        if (printWriter != null)
+        {
+            openOutputFiles.add(printWriter);
+        }
+
+        return printWriter;
     }
 
     /**********************************************************************************************
@@ -4976,6 +5284,22 @@ public class CcddScriptDataAccessHandler
         fileIOHandler.writeToFileLn(printWriter, text);
     }
 
+    /**********************************************************************************************
+     * Write the supplied lines of text to the specified output file PrintWriter object, appending
+     * a line feed character to each line. Writing the lines in a single call is faster than
+     * writing each line separately
+     *
+     * @param printWriter
+     *            output file PrintWriter object obtained from the openOutputFile method
+     *
+     * @param lines
+     *            array of text lines to write to the output file
+     *********************************************************************************************/
+    public void writeLines(PrintWriter printWriter, String[] lines)
+    {
+        fileIOHandler.writeLines(printWriter, lines);
+    }
+
     /**********************************************************************************************
      * Write the supplied formatted text in the indicated format to the specified output file
      * PrintWriter object
@@ -5003,9 +5327,45 @@ public class CcddScriptDataAccessHandler
      *********************************************************************************************/
     public void closeFile(PrintWriter printWriter)
     {
+        openOutputFiles.remove(printWriter);
         fileIOHandler.closeFile(printWriter);
     }
 
+    /**********************************************************************************************
+     * Close any output files opened by the script that the script didn't close. This stops the
+     * background thread writing a file, if any
+     *
+     * @param isComplete
+     *            true if the script completed execution, in which case the files are closed as if
+     *            closed by the script; false if the script failed, in which case the text not yet
+     *            written to the files is discarded and any file that replaces the output file on
+     *            closing leaves the existing output file unchanged
+     *********************************************************************************************/
+    protected void closeOpenOutputFiles(boolean isComplete)
+    {
+        synchronized (openOutputFiles)
+        {
+            // Step through each output file the script didn't close
+            for (PrintWriter printWriter : openOutputFiles)
+            {
+                // Check if the script completed execution
+                if (isComplete)
+                {
+                    // Close the file, writing any remaining text
+                    fileIOHandler.closeFile(printWriter);
+                }
+                // The script failed
+                else
+                {
+                    // Close the file, discarding any remaining text
+                    fileIOHandler.discardFile(printWriter);
+                }
+            }
+
+            openOutputFiles.clear();
+        }
+    }
+
     /**********************************************************************************************
      * Get an array containing the data field information for the project
      *
@@ -5050,8 +5410,11 @@ public class CcddScriptDataAccessHandler
         // Check if a link handler isn't provided
         if (linkHandler == null)
         {
-            // Create a link handler
-            linkHandler = new CcddLinkHandler(ccddMain, parent);
+            synchronized (sharedResourceLock)
+            {
+                // Create a link handler
+                linkHandler = new CcddLinkHandler(ccddMain, parent);
+            }
         }
 
         String description = "";
@@ -5089,8 +5452,11 @@ public class CcddScriptDataAccessHandler
         // Check if a link handler isn't provided
         if (linkHandler == null)
         {
-            // Create a link handler
-            linkHandler = new CcddLinkHandler(ccddMain, parent);
+            synchronized (sharedResourceLock)
+            {
+                // Create a link handler
+                linkHandler = new CcddLinkHandler(ccddMain, parent);
+            }
         }
 
         String sampleRate = "";
@@ -5122,8 +5488,11 @@ public class CcddScriptDataAccessHandler
         // Check if a link handler isn't provided
         if (linkHandler == null)
         {
-            // Create a link handler
-            linkHandler = new CcddLinkHandler(ccddMain, parent);
+            synchronized (sharedResourceLock)
+            {
+                // Create a link handler
+                linkHandler = new CcddLinkHandler(ccddMain, parent);
+            }
         }
 
         return linkHandler.getVariableLinks(variableName, true);
@@ -5161,8 +5530,11 @@ public class CcddScriptDataAccessHandler
         // Check if a link handler isn't provided
         if (linkHandler == null)
         {
-            // Create a link handler
-            linkHandler = new CcddLinkHandler(ccddMain, parent);
+            synchronized (sharedResourceLock)
+            {
+                // Create a link handler
+                linkHandler = new CcddLinkHandler(ccddMain, parent);
+            }
         }
 
         return linkHandler.getApplicationNames(dataFieldName);
@@ -5193,8 +5565,11 @@ public class CcddScriptDataAccessHandler
         // Check if a group handler isn't provided
         if (groupHandler == null)
         {
-            // Create a group handler
-            groupHandler = new CcddGroupHandler(ccddMain, null, parent);
+            synchronized (sharedResourceLock)
+            {
+                // Create a group handler
+                groupHandler = new CcddGroupHandler(ccddMain, null, parent);
+            }
         }
 
         return groupHandler.getGroupNames(applicationOnly);
@@ -5214,8 +5589,11 @@ public class CcddScriptDataAccessHandler
         // Check if a group handler isn't provided
         if (groupHandler == null)
         {
-            // Create a group handler
-            groupHandler = new CcddGroupHandler(ccddMain, null, parent);
+            synchronized (sharedResourceLock)
+            {
+                // Create a group handler
+                groupHandler = new CcddGroupHandler(ccddMain, null, parent);
+            }
         }
 
         return groupHandler.getGroupDescription(groupName);
@@ -5236,8 +5614,11 @@ public class CcddScriptDataAccessHandler
         // Check if a group handler isn't provided
         if (groupHandler == null)
         {
-            // Create a group handler
-            groupHandler = new CcddGroupHandler(ccddMain, null, parent);
+            synchronized (sharedResourceLock)
+            {
+                // Create a group handler
+                groupHandler = new CcddGroupHandler(ccddMain, null, parent);
+            }
         }
 
         String[] groupTables = new String[0];
@@ -5271,8 +5652,11 @@ public class CcddScriptDataAccessHandler
         // Check if a group handler isn't provided
         if (groupHandler == null)
         {
-            // Create a group handler
-            groupHandler = new CcddGroupHandler(ccddMain, null, parent);
+            synchronized (sharedResourceLock)
+            {
+                // Create a group handler
+                groupHandler = new CcddGroupHandler(ccddMain, null, parent);
+            }
         }
 
         List<String[]> groupFields = new ArrayList<String[]>();
@@ -5503,15 +5887,21 @@ public class CcddScriptDataAccessHandler
         // Check if the copy table handler doesn't exist
         if (copyHandler == null)
         {
-            // Create the copy table handler
-            copyHandler = new CcddCopyTableHandler(ccddMain);
+            synchronized (sharedResourceLock)
+            {
+                // Create the copy table handler
+                copyHandler = new CcddCopyTableHandler(ccddMain);
+            }
         }
 
         // Check if a link handler isn't provided
         if (linkHandler == null)
         {
-            // Create a link handler
-            linkHandler = new CcddLinkHandler(ccddMain, parent);
+            synchronized (sharedResourceLock)
+            {
+                // Create a link handler
+                linkHandler = new CcddLinkHandler(ccddMain, parent);
+            }
         }
 
         // Check if this is a valid stream name
@@ -5547,8 +5937,11 @@ public class CcddScriptDataAccessHandler
         // Check if the copy table handler doesn't exist
         if (copyHandler == null)
         {
-            // Create the copy table handler
-            copyHandler = new CcddCopyTableHandler(ccddMain);
+            synchronized (sharedResourceLock)
+            {
+                // Create the copy table handler
+                copyHandler = new CcddCopyTableHandler(ccddMain);
+            }
         }
 
         // Check if this is a valid stream name
@@ -5573,10 +5966,13 @@ public class CcddScriptDataAccessHandler
      *********************************************************************************************/
     public String[][] getMessageOwnersNamesAndIDs()
     {
-        return ccddMain.getMessageIDHandler().getMessageOwnersNamesAndIDs(MessageIDSortOrder.BY_OWNER,
-                                                                          true,
-                                                                          parent)
-                       .toArray(new String[0][0]);
+        synchronized (sharedResourceLock)
+        {
+            return ccddMain.getMessageIDHandler().getMessageOwnersNamesAndIDs(MessageIDSortOrder.BY_OWNER,
+                                                                              true,
+                                                                              parent)
+                           .toArray(new String[0][0]);
+        }
     }
 
     /**********************************************************************************************
@@ -5617,8 +6013,11 @@ public class CcddScriptDataAccessHandler
         // Check if a group handler isn't provided
         if (groupHandler == null)
         {
-            // Create a group handler
-            groupHandler = new CcddGroupHandler(ccddMain, null, parent);
+            synchronized (sharedResourceLock)
+            {
+                // Create a group handler
+                groupHandler = new CcddGroupHandler(ccddMain, null, parent);
+            }
         }
 
         return groupHandler.getGroupNames(true);
@@ -5634,8 +6033,11 @@ public class CcddScriptDataAccessHandler
         // Check if the scheduler table handler doesn't exist
         if (schTable == null)
         {
-            // Initialize the scheduler table
-            schTable = new CcddApplicationSchedulerTableHandler(ccddMain);
+            synchronized (sharedResourceLock)
+            {
+                // Initialize the scheduler table
+                schTable = new CcddApplicationSchedulerTableHandler(ccddMain);
+            }
         }
 
         return schTable.getScheduleDefinitionTableDefines();
@@ -5654,8 +6056,11 @@ public class CcddScriptDataAccessHandler
         // Check if the scheduler table handler doesn't exist
         if (schTable == null)
         {
-            // Initialize the scheduler table
-            schTable = new CcddApplicationSchedulerTableHandler(ccddMain);
+            synchronized (sharedResourceLock)
+            {
+                // Initialize the scheduler table
+                schTable = new CcddApplicationSchedulerTableHandler(ccddMain);
+            }
         }
 
         return schTable.getScheduleDefinitionTableByRow(row);
@@ -5671,8 +6076,11 @@ public class CcddScriptDataAccessHandler
         // Check if the scheduler table handler doesn't exist
         if (schTable == null)
         {
-            // Initialize the scheduler table
-            schTable = new CcddApplicationSchedulerTableHandler(ccddMain);
+            synchronized (sharedResourceLock)
+            {
+                // Initialize the scheduler table
+                schTable = new CcddApplicationSchedulerTableHandler(ccddMain);
+            }
         }
 
         return schTable.getMessageDefinitionTable();
@@ -5688,8 +6096,11 @@ public class CcddScriptDataAccessHandler
         // Check if the scheduler table handler doesn't exist
         if (schTable == null)
         {
-            // Initialize the scheduler table
-            schTable = new CcddApplicationSchedulerTableHandler(ccddMain);
+            synchronized (sharedResourceLock)
+            {
+                // Initialize the scheduler table
+                schTable = new CcddApplicationSchedulerTableHandler(ccddMain);
+            }
         }
 
         return schTable.getNumberOfTimeSlots();
@@ -5789,58 +6200,61 @@ public class CcddScriptDataAccessHandler
                               String classification2,
                               String classification3)
     {
-        boolean errorFlag = false;
-
-        try
+        synchronized (sharedResourceLock)
         {
-            // Create the XTCE handler
-            xtceHandler = new CcddXTCEHandler(ccddMain, scriptEngine, parent);
-
-            // Export the specified tables to the specified output file in XTCE XML format
-            xtceHandler.exportToFile(new FileEnvVar(outputFileName),
-                                     getTableNames(),
-                                     true,
-                                     true, // unused for XTCE export
-                                     false, // unused for XTCE export
-                                     false, // unused for XTCE export
-                                     false, // unused for XTCE export
-                                     false, // unused for XTCE export
-                                     false, // unused for XTCE export
-                                     false, // unused for XTCE export
-                                     false, // unused for XTCE export
-                                     false, // unused for XTCE export
-                                     false, // unused for XTCE export
-                                     null, // unused for XTCE export
-                                     null, // unused for XTCE export
-                                     (isBigEndian
-                                                  ? EndianType.BIG_ENDIAN
-                                                  : EndianType.LITTLE_ENDIAN),
-                                     isHeaderBigEndian,
-                                     version,
-                                     validationStatus,
-                                     classification1,
-                                     classification2,
-                                     classification3);
-        }
-        catch (JAXBException | CCDDException jce)
-        {
-            // Inform the user that an error occurred
-            new CcddDialogHandler().showMessageDialog(parent,
-                                                      "<html><b>"
-                                                              + jce.getMessage(),
-                                                      "Export Error",
-                                                      JOptionPane.ERROR_MESSAGE,
-                                                      DialogOption.OK_OPTION);
-            errorFlag = true;
-        }
-        catch (Exception e)
-        {
-            // Display a dialog providing details on the unanticipated error
-            CcddUtilities.displayException(e, parent);
-            errorFlag = true;
-        }
+            boolean errorFlag = false;
 
-        return errorFlag;
+            try
+            {
+                // Create the XTCE handler
+                xtceHandler = new CcddXTCEHandler(ccddMain, scriptEngine, parent);
+
+                // Export the specified tables to the specified output file in XTCE XML format
+                xtceHandler.exportToFile(new FileEnvVar(outputFileName),
+                                         getTableNames(),
+                                         true,
+                                         true, // unused for XTCE export
+                                         false, // unused for XTCE export
+                                         false, // unused for XTCE export
+                                         false, // unused for XTCE export
+                                         false, // unused for XTCE export
+                                         false, // unused for XTCE export
+                                         false, // unused for XTCE export
+                                         false, // unused for XTCE export
+                                         false, // unused for XTCE export
+                                         false, // unused for XTCE export
+                                         null, // unused for XTCE export
+                                         null, // unused for XTCE export
+                                         (isBigEndian
+                                                      ? EndianType.BIG_ENDIAN
+                                                      : EndianType.LITTLE_ENDIAN),
+                                         isHeaderBigEndian,
+                                         version,
+                                         validationStatus,
+                                         classification1,
+                                         classification2,
+                                         classification3);
+            }
+            catch (JAXBException | CCDDException jce)
+            {
+                // Inform the user that an error occurred
+                new CcddDialogHandler().showMessageDialog(parent,
+                                                          "<html><b>"
+                                                                  + jce.getMessage(),
+                                                          "Export Error",
+                                                          JOptionPane.ERROR_MESSAGE,
+                                                          DialogOption.OK_OPTION);
+                errorFlag = true;
+            }
+            catch (Exception e)
+            {
+                // Display a dialog providing details on the unanticipated error
+                CcddUtilities.displayException(e, parent);
+                errorFlag = true;
+            }
+
+            return errorFlag;
+        }
     }
 
     /**********************************************************************************************
@@ -6222,14 +6636,14 @@ public class CcddScriptDataAccessHandler
      * @throws CCDDException
      *             If an error occurs executing an external (script) method
      *********************************************************************************************/
-    protected void xtceAddSpaceSystemCommands(SpaceSystemType spaceSystem,
-                                              String[][] tableData,
-                                              int cmdNameColumn,
-                                              int cmdCodeColumn,
-                                              int cmdDescColumn,
-                                              boolean isCmdHeader,
-                                              String cmdHdrSysPath,
-                                              String applicationID) throws CCDDException
+    public void xtceAddSpaceSystemCommands(SpaceSystemType spaceSystem,
+                                           String[][] tableData,
+                                           int cmdNameColumn,
+                                           int cmdCodeColumn,
+                                           int cmdDescColumn,
+                                           boolean isCmdHeader,
+                                           String cmdHdrSysPath,
+                                           String applicationID) throws CCDDException
     {
         // Check if the XTCE handler exists
         if (xtceHandler != null)
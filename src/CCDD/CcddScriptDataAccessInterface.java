@@ -0,0 +1,552 @@
+/**
+ * CFS Command and Data Dictionary script data access interface.
+ *
+ * Copyright 2017 United States Government as represented by the Administrator of the National
+ * Aeronautics and Space Administration. No copyright is claimed in the United States under Title
+ * 17, U.S. Code. All Other Rights Reserved.
+ */
+package CCDD;
+
+import java.io.PrintWriter;
+
+import org.omg.space.xtce.BaseDataType.UnitSet;
+import org.omg.space.xtce.EntryListType;
+import org.omg.space.xtce.EnumeratedDataType.EnumerationList;
+import org.omg.space.xtce.NameDescriptionType;
+import org.omg.space.xtce.SpaceSystemType;
+
+import CCDD.CcddClassesDataTable.CCDDException;
+import CCDD.CcddImportSupportHandler.BasePrimitiveDataType;
+
+/**************************************************************************************************
+ * CFS Command and Data Dictionary script data access interface. Contains the public access
+ * methods that are accessible to the data output scripts. The methods are described in the script
+ * data access class, which implements this interface. The interface allows the access methods to
+ * be called through a proxy, which is used to profile the calls made by a script
+ *************************************************************************************************/
+public interface CcddScriptDataAccessInterface
+{
+    abstract String getScriptName();
+
+    abstract String getUser();
+
+    abstract String getDatabase();
+
+    abstract String getProject();
+
+    abstract String getProjectDescription();
+
+    abstract String getOutputPath();
+
+    abstract Integer getLongestString(String[] strgArray, Integer minWidth);
+
+    abstract Integer[] getLongestStrings(String[][] strgArray, Integer[] minWidths);
+
+    abstract String getDateAndTime();
+
+    abstract String[][] getDataTypeDefinitions();
+
+    abstract boolean isDataTypePrimitive(String dataType);
+
+    abstract boolean isDataTypeInteger(String dataType);
+
+    abstract boolean isDataTypeUnsignedInt(String dataType);
+
+    abstract boolean isDataTypeFloat(String dataType);
+
+    abstract boolean isDataTypeCharacter(String dataType);
+
+    abstract boolean isDataTypeString(String dataType);
+
+    abstract String getCDataType(String dataType);
+
+    abstract String getBaseDataType(String dataType);
+
+    abstract int getDataTypeSizeInBytes(String dataType);
+
+    abstract int getDataTypeSizeInBits(String dataType);
+
+    abstract String getITOSEncodedDataType(String dataType, String encoding);
+
+    abstract String getITOSLimitName(int index);
+
+    abstract String[] getRootStructureTableNames();
+
+    abstract String[] getRootTableNames(String tableType);
+
+    abstract int getStructureTableNumRows();
+
+    abstract int getCommandTableNumRows();
+
+    abstract int getTableNumRows(String tableType);
+
+    abstract int getTableNumRows();
+
+    abstract String getStructureTableNameByRow(int row);
+
+    abstract String getCommandTableNameByRow(int row);
+
+    abstract String getTableNameByRow(String tableType, int row);
+
+    abstract String[] getStructureTablePaths();
+
+    abstract String[] getStructureTableNames();
+
+    abstract String[] getCommandTableNames();
+
+    abstract String[] getTableNames(String tableType);
+
+    abstract String[] getTableNames(String tableType, boolean prototypeOnly);
+
+    abstract String[] getTableNames();
+
+    abstract String getStructureVariableName(int row);
+
+    abstract String getStructureVariableNameWithMacros(int row);
+
+    abstract String getStructureDataType(int row);
+
+    abstract String getStructureArraySize(int row);
+
+    abstract String getStructureArraySizeWithMacros(int row);
+
+    abstract String getStructureBitLength(int row);
+
+    abstract String getStructureBitLengthWithMacros(int row);
+
+    abstract String getStructureDescription(int row);
+
+    abstract String getStructureDescriptionWithMacros(int row);
+
+    abstract String getStructureUnits(int row);
+
+    abstract String getStructureUnitsWithMacros(int row);
+
+    abstract String[] getStructureEnumerations(int row);
+
+    abstract String[] getStructureEnumerationsWithMacros(int row);
+
+    abstract String[] getStructureRates(int row);
+
+    abstract String getCommandName(int row);
+
+    abstract String getCommandNameWithMacros(int row);
+
+    abstract String getCommandCode(int row);
+
+    abstract String getCommandCodeWithMacros(int row);
+
+    abstract int getNumCommandArguments(int row);
+
+    abstract int getNumCommandArguments(String tableType);
+
+    abstract String getCommandArgName(int argumentNumber, int row);
+
+    abstract String getCommandArgNameWithMacros(int argumentNumber, int row);
+
+    abstract String getCommandArgDataType(int argumentNumber, int row);
+
+    abstract String getCommandArgArraySize(int argumentNumber, int row);
+
+    abstract String getCommandArgArraySizeWithMacros(int argumentNumber, int row);
+
+    abstract String getCommandArgBitLength(int argumentNumber, int row);
+
+    abstract String getCommandArgBitLengthWithMacros(int argumentNumber, int row);
+
+    abstract String getCommandArgEnumeration(int argumentNumber, int row);
+
+    abstract String getCommandArgEnumerationWithMacros(int argumentNumber, int row);
+
+    abstract String getCommandArgMinimum(int argumentNumber, int row);
+
+    abstract String getCommandArgMinimumWithMacros(int argumentNumber, int row);
+
+    abstract String getCommandArgMaximum(int argumentNumber, int row);
+
+    abstract String getCommandArgMaximumWithMacros(int argumentNumber, int row);
+
+    abstract String getCommandArgByColumnName(int argumentNumber, int row, String columnName);
+
+    abstract String getCommandArgByColumnNameWithMacros(int argumentNumber, int row, String columnName);
+
+    abstract String[] getCommandArgColumnNames(int argumentNumber, int row);
+
+    abstract String getStructureTypeNameByRow(int row);
+
+    abstract String getCommandTypeNameByRow(int row);
+
+    abstract String getTypeNameByRow(String tableType, int row);
+
+    abstract String getTypeNameByTable(String tableName);
+
+    abstract String[] getStructureTableColumnNames(int row);
+
+    abstract String[] getCommandTableColumnNames(int row);
+
+    abstract String[] getTableColumnNames(String tableType, int row);
+
+    abstract String[] getTableColumnNamesByType(String typeName);
+
+    abstract String[] getStructureTablesByReferenceOrder();
+
+    abstract String getFullVariableNameRaw(int row);
+
+    abstract String getFullVariableName(int row);
+
+    abstract String getFullVariableName(int row, String varPathSeparator);
+
+    abstract String getFullVariableName(int row,
+                                        String varPathSeparator,
+                                        boolean excludeDataTypes,
+                                        String typeNameSeparator);
+
+    abstract String getFullVariableName(String variablePath,
+                                        String variableName,
+                                        String varPathSeparator);
+
+    abstract String getFullVariableName(String fullName, String varPathSeparator);
+
+    abstract String getFullVariableName(String variablePath,
+                                        String variableName,
+                                        String varPathSeparator,
+                                        boolean excludeDataTypes,
+                                        String typeNameSeparator);
+
+    abstract String getFullVariableName(String fullName,
+                                        String varPathSeparator,
+                                        boolean excludeDataTypes,
+                                        String typeNameSeparator);
+
+    abstract String getStructurePathByRow(int row);
+
+    abstract String getStructurePathByRowWithMacros(int row);
+
+    abstract String getPathByRow(String tableType, int row);
+
+    abstract String getPathByRowWithMacros(String tableType, int row);
+
+    abstract String getStructureTableVariablePathByRow(int row);
+
+    abstract String getStructureTableVariablePathByRowWithMacros(int row);
+
+    abstract String getStructureTableITOSPathByRow(int row);
+
+    abstract String getStructureTableITOSPathByRowWithMacros(int row);
+
+    abstract int getStructureParentRowByChildRow(int row);
+
+    abstract boolean isStructureShared(String structureName);
+
+    abstract boolean isStructureSharedExternally(String structureName);
+
+    abstract String[] getVariablePaths();
+
+    abstract String[] getCommandInformation();
+
+    abstract String[] getTableDataFieldNames(String tableName);
+
+    abstract String[] getGroupDataFieldNames(String groupName);
+
+    abstract String[] getTypeDataFieldNames(String typeName);
+
+    abstract String[] getProjectFieldNames();
+
+    abstract String[][] getTableDataFieldValues(String fieldName);
+
+    abstract String[][] getStructureTableDataFieldValues(String fieldName);
+
+    abstract String[][] getCommandTableDataFieldValues(String fieldName);
+
+    abstract String[][] getTableDataFieldValues(String tableType, String fieldName);
+
+    abstract String getTableDataFieldValue(String tableName, String fieldName);
+
+    abstract String getGroupDataFieldValue(String groupName, String fieldName);
+
+    abstract String getTypeDataFieldValue(String typeName, String fieldName);
+
+    abstract String getProjectDataFieldValue(String fieldName);
+
+    abstract String getTableDataFieldDescription(String tableName, String fieldName);
+
+    abstract String getGroupDataFieldDescription(String groupName, String fieldName);
+
+    abstract String getTypeDataFieldDescription(String typeName, String fieldName);
+
+    abstract String getProjectDataFieldDescription(String fieldName);
+
+    abstract String getStructureTableData(String columnName, int row);
+
+    abstract String getCommandTableData(String columnName, int row);
+
+    abstract String getTableData(String tableType, String columnName, int row);
+
+    abstract String getStructureTableDataWithMacros(String columnName, int row);
+
+    abstract String getCommandTableDataWithMacros(String columnName, int row);
+
+    abstract String getTableDataWithMacros(String tableType, String columnName, int row);
+
+    abstract Integer[] getStructureTableRowIndices(String tablePath);
+
+    abstract Integer[] getCommandTableRowIndices(String tableName);
+
+    abstract Integer[] getTableRowIndices(String tableType, String tablePath);
+
+    abstract String getStructureDataByVariableName(String tablePath,
+                                                   String variableName,
+                                                   String columnName);
+
+    abstract String getTableDataByColumnName(String tableType,
+                                             String tablePath,
+                                             String matchColumnName,
+                                             String matchName,
+                                             String dataColumnName);
+
+    abstract String getStructureDataByVariableNameWithMacros(String tablePath,
+                                                             String variableName,
+                                                             String columnName);
+
+    abstract String getTableDataByColumnNameWithMacros(String tableType,
+                                                       String tablePath,
+                                                       String matchColumnName,
+                                                       String matchName,
+                                                       String dataColumnName);
+
+    abstract String getTableDescription(String tableName);
+
+    abstract String getTableDescriptionByRow(String tableType, int row);
+
+    abstract String[][] getMacroDefinitions();
+
+    abstract boolean isGUIHidden();
+
+    abstract void showInformationDialog(String text);
+
+    abstract void showWarningDialog(String text);
+
+    abstract void showErrorDialog(String text);
+
+    abstract String getInputDialog(String labelText);
+
+    abstract String getRadioButtonDialog(String label, String[][] buttonInfo);
+
+    abstract boolean[] getCheckBoxDialog(String label, String[][] boxInfo);
+
+    abstract String[][] getDatabaseQuery(String sqlCommand);
+
+    abstract void writeSuccessLogEntry(String logMessage);
+
+    abstract void writeFailLogEntry(String logMessage);
+
+    abstract void writeStatusLogEntry(String logMessage);
+
+    abstract String[][] parseEnumerationParameters(String enumeration);
+
+    abstract String[] getArrayFromString(String text, String columnSeparator);
+
+    abstract String[][] getArrayFromString(String text, String columnSeparator, String rowSeparator);
+
+    abstract PrintWriter openOutputFile(String outputFileName);
+
+    abstract PrintWriter openOutputFile(String outputFileName,
+                                        boolean replaceOnClose,
+                                        boolean writeInBackground);
+
+    abstract void writeToFile(PrintWriter printWriter, String text);
+
+    abstract void writeToFileLn(PrintWriter printWriter, String text);
+
+    abstract void writeLines(PrintWriter printWriter, String[] lines);
+
+    abstract void writeToFileFormat(PrintWriter printWriter, String format, Object... args);
+
+    abstract void closeFile(PrintWriter printWriter);
+
+    abstract String[][] getProjectFields();
+
+    abstract String getLinkDescription(String streamName, String linkName);
+
+    abstract String getLinkRate(String streamName, String linkName);
+
+    abstract String[][] getVariableLinks(String variableName);
+
+    abstract int getVariableOffset(String path);
+
+    abstract String[] getLinkApplicationNames(String dataFieldName);
+
+    abstract String[] getAssociatedGroupNames();
+
+    abstract String[] getGroupNames(boolean applicationOnly);
+
+    abstract String getGroupDescription(String groupName);
+
+    abstract String[] getGroupTables(String groupName);
+
+    abstract String[][] getGroupFields(String groupName);
+
+    abstract String[] getCopyTableColumnNames();
+
+    abstract String[][] getCopyTableEntries(String streamName,
+                                            int headerSize,
+                                            String messageIDNameField,
+                                            boolean optimize);
+
+    abstract String[][] getCopyTableEntriesWithMacros(String streamName,
+                                                      int headerSize,
+                                                      String messageIDNameField,
+                                                      boolean optimize);
+
+    abstract String[][] getCopyTableEntries(String streamName,
+                                            int headerSize,
+                                            String[][] tlmMessageIDs,
+                                            boolean optimize);
+
+    abstract String[][] getCopyTableEntriesWithMacros(String streamName,
+                                                      int headerSize,
+                                                      String[][] tlmMessageIDs,
+                                                      boolean optimize);
+
+    abstract String[][] getTelemetryMessageIDs(String streamName);
+
+    abstract String[][] getMessageOwnersNamesAndIDs();
+
+    abstract String[] parseMessageNameAndID(String msgNameAndID);
+
+    abstract String[] getDataStreamNames();
+
+    abstract String[] getApplicationNames();
+
+    abstract String[][] getApplicationScheduleDefinitionTableDefines();
+
+    abstract String[][] getApplicationScheduleDefinitionTable(int row);
+
+    abstract String[] getApplicationMessageDefinitionTable();
+
+    abstract int getNumberOfTimeSlots();
+
+    abstract String getPrototypeName(String tableName);
+
+    abstract boolean isArrayMember(Object variableName);
+
+    abstract int[] getArrayIndexFromSize(String arrayString);
+
+    abstract String formatArrayIndex(int[] arrayIndex);
+
+    abstract boolean xtceExport(String outputFileName,
+                                boolean isBigEndian,
+                                boolean isHeaderBigEndian,
+                                String version,
+                                String validationStatus,
+                                String classification1,
+                                String classification2,
+                                String classification3);
+
+    abstract void xtceAddSpaceSystemHeader(SpaceSystemType spaceSystem,
+                                           String classification,
+                                           String validationStatus,
+                                           String version,
+                                           String date) throws CCDDException;
+
+    abstract void xtceCreateTelemetryMetadata(SpaceSystemType spaceSystem);
+
+    abstract void xtceAddSpaceSystemParameters(SpaceSystemType spaceSystem,
+                                               String tableName,
+                                               String[][] tableData,
+                                               int varColumn,
+                                               int typeColumn,
+                                               int sizeColumn,
+                                               int bitColumn,
+                                               int enumColumn,
+                                               int descColumn,
+                                               int unitsColumn,
+                                               int minColumn,
+                                               int maxColumn,
+                                               boolean isTlmHdrTable,
+                                               String tlmHdrSysPath,
+                                               boolean isRootStructure,
+                                               String applicationID) throws CCDDException;
+
+    abstract void xtceAddParameterAndType(SpaceSystemType spaceSystem,
+                                          String parameterName,
+                                          String dataType,
+                                          String arraySize,
+                                          String bitLength,
+                                          String enumeration,
+                                          String units,
+                                          String minimum,
+                                          String maximum,
+                                          String description,
+                                          int stringSize) throws CCDDException;
+
+    abstract boolean xtceAddParameterSequenceEntry(SpaceSystemType spaceSystem,
+                                                   String parameterName,
+                                                   String dataType,
+                                                   String arraySize,
+                                                   EntryListType entryList,
+                                                   boolean isTlmHdrRef) throws CCDDException;
+
+    abstract void xtceSetParameterDataType(SpaceSystemType spaceSystem,
+                                           String parameterName,
+                                           String dataType,
+                                           String arraySize,
+                                           String bitLength,
+                                           String enumeration,
+                                           String units,
+                                           String minimum,
+                                           String maximum,
+                                           String description,
+                                           int stringSize) throws CCDDException;
+
+    abstract void xtceCreateCommandMetadata(SpaceSystemType spaceSystem) throws CCDDException;
+
+    abstract void xtceAddSpaceSystemCommands(SpaceSystemType spaceSystem,
+                                             String[][] tableData,
+                                             int cmdNameColumn,
+                                             int cmdCodeColumn,
+                                             int cmdDescColumn,
+                                             boolean isCmdHeader,
+                                             String cmdHdrSysPath,
+                                             String applicationID) throws CCDDException;
+
+    abstract void xtceAddCommand(SpaceSystemType spaceSystem,
+                                 String commandName,
+                                 String cmdFuncCode,
+                                 String applicationID,
+                                 boolean isCmdHeader,
+                                 String cmdHdrSysPath,
+                                 String[] argumentNames,
+                                 String[] argDataTypes,
+                                 String[] argArraySizes,
+                                 String description) throws CCDDException;
+
+    abstract NameDescriptionType xtceSetArgumentDataType(SpaceSystemType spaceSystem,
+                                                         String argumentName,
+                                                         String dataType,
+                                                         String arraySize,
+                                                         String bitLength,
+                                                         String enumeration,
+                                                         String units,
+                                                         String minimum,
+                                                         String maximum,
+                                                         String description,
+                                                         int stringSize,
+                                                         String uniqueID) throws CCDDException;
+
+    abstract void xtceAddContainerReference(String parameterName,
+                                            String dataType,
+                                            String arraySize,
+                                            Object entryList) throws CCDDException;
+
+    abstract UnitSet xtceCreateUnitSet(String units);
+
+    abstract EnumerationList xtceCreateEnumerationList(SpaceSystemType spaceSystem,
+                                                       String enumeration);
+
+    abstract BasePrimitiveDataType xmlGetBaseDataType(String dataType);
+
+    abstract String xmlCleanSystemPath(String path);
+
+    abstract void showData();
+}
@@ -0,0 +1,468 @@
+/**
+ * CFS Command and Data Dictionary script data access profiler.
+ *
+ * Copyright 2017 United States Government as represented by the Administrator of the National
+ * Aeronautics and Space Administration. No copyright is claimed in the United States under Title
+ * 17, U.S. Code. All Other Rights Reserved.
+ */
+package CCDD;
+
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**************************************************************************************************
+ * CFS Command and Data Dictionary script data access profiler class. Records the number of calls,
+ * the cumulative and maximum execution time, and the memory allocated for each script data access
+ * method called by a script. The calls are recorded by a proxy for the script data access handler
+ * that is bound to the script in place of the handler, so only the calls made by the script are
+ * recorded; an access method's statistics include the time and memory used by any other access
+ * methods it calls internally. A profiler instance is used by a single script association's
+ * proxy; the statistics for several associations are combined using addStatistics()
+ *************************************************************************************************/
+public class CcddScriptDataAccessProfiler
+{
+    // Thread management bean, used to obtain the memory allocated by the thread executing the
+    // script; null if the Java virtual machine doesn't support measuring thread memory allocation
+    private static final com.sun.management.ThreadMXBean threadBean = getThreadAllocationBean();
+
+    // Access method signatures, keyed by the access method
+    private static final Map<Method, String> methodSignatures = new ConcurrentHashMap<Method, String>();
+
+    // Access method statistics, keyed by the method signature
+    private final Map<String, MethodStatistics> methodStatistics;
+
+    /**********************************************************************************************
+     * Profiled access interface. This interface, which has no methods, is implemented by the
+     * profiling proxy along with the script data access interface. Since this interface isn't
+     * public the proxy class isn't public either, which causes the script engines to call the
+     * access methods using the public script data access interface's method definitions. The
+     * proxy class's own method definitions don't retain the variable argument list declarations
+     *********************************************************************************************/
+    interface ProfiledAccess
+    {
+    }
+
+    /**********************************************************************************************
+     * Profiling invocation handler class. Records each access method call made through the
+     * profiling proxy in the profiler, then calls the method in the script data access handler
+     *********************************************************************************************/
+    private static class ProfilingInvocationHandler implements InvocationHandler
+    {
+        private final CcddScriptDataAccessHandler accessHandler;
+        private final CcddScriptDataAccessProfiler profiler;
+
+        /******************************************************************************************
+         * Profiling invocation handler class constructor
+         *
+         * @param accessHandler
+         *            script data access handler to which the access method calls are passed
+         *****************************************************************************************/
+        ProfilingInvocationHandler(CcddScriptDataAccessHandler accessHandler)
+        {
+            this.accessHandler = accessHandler;
+            profiler = new CcddScriptDataAccessProfiler();
+        }
+
+        /******************************************************************************************
+         * Call the access method in the script data access handler and record the call's
+         * execution time and allocated memory
+         *
+         * @param proxy
+         *            profiling proxy
+         *
+         * @param method
+         *            access method called
+         *
+         * @param args
+         *            access method arguments; null if the method has no arguments
+         *
+         * @return Value returned by the access method
+         *
+         * @throws Throwable
+         *             The exception thrown by the access method
+         *****************************************************************************************/
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable
+        {
+            long startAllocation = getAllocatedBytes();
+            long startTime = System.nanoTime();
+
+            try
+            {
+                return method.invoke(accessHandler, args);
+            }
+            catch (InvocationTargetException ite)
+            {
+                // Pass the exception thrown by the access method to the script
+                throw ite.getCause();
+            }
+            finally
+            {
+                long time = System.nanoTime() - startTime;
+                profiler.addCall(getMethodSignature(method),
+                                 time,
+                                 getAllocatedBytes() - startAllocation);
+            }
+        }
+    }
+
+    /**********************************************************************************************
+     * Access method statistics class
+     *********************************************************************************************/
+    protected static class MethodStatistics
+    {
+        private final String method;
+        private long numCalls;
+        private long totalTime;
+        private long maximumTime;
+        private long allocatedBytes;
+
+        /******************************************************************************************
+         * Access method statistics class constructor
+         *
+         * @param method
+         *            access method signature
+         *****************************************************************************************/
+        MethodStatistics(String method)
+        {
+            this.method = method;
+        }
+
+        /******************************************************************************************
+         * Get the access method signature
+         *
+         * @return Access method signature
+         *****************************************************************************************/
+        protected String getMethod()
+        {
+            return method;
+        }
+
+        /******************************************************************************************
+         * Get the number of calls to the access method
+         *
+         * @return Number of calls to the access method
+         *****************************************************************************************/
+        protected long getNumCalls()
+        {
+            return numCalls;
+        }
+
+        /******************************************************************************************
+         * Get the cumulative execution time of the access method
+         *
+         * @return Cumulative execution time of the access method, in nanoseconds
+         *****************************************************************************************/
+        protected long getTotalTime()
+        {
+            return totalTime;
+        }
+
+        /******************************************************************************************
+         * Get the maximum execution time of a single call to the access method
+         *
+         * @return Maximum execution time of a single call to the access method, in nanoseconds
+         *****************************************************************************************/
+        protected long getMaximumTime()
+        {
+            return maximumTime;
+        }
+
+        /******************************************************************************************
+         * Get the memory allocated by the calls to the access method, which includes the memory
+         * for the method's results
+         *
+         * @return Memory allocated by the calls to the access method, in bytes; -1 if the
+         *         allocated memory can't be measured
+         *****************************************************************************************/
+        protected long getAllocatedBytes()
+        {
+            return threadBean == null
+                                      ? -1
+                                      : allocatedBytes;
+        }
+    }
+
+    /**********************************************************************************************
+     * Script data access profiler class constructor
+     *********************************************************************************************/
+    CcddScriptDataAccessProfiler()
+    {
+        methodStatistics = new HashMap<String, MethodStatistics>();
+    }
+
+    /**********************************************************************************************
+     * Create a profiling proxy for the specified script data access handler. The proxy is bound
+     * to the script in place of the handler. Each access method call made through the proxy is
+     * recorded in a new profiler and then passed to the handler
+     *
+     * @param accessHandler
+     *            script data access handler
+     *
+     * @return Profiling proxy for the script data access handler
+     *********************************************************************************************/
+    protected static CcddScriptDataAccessInterface createProfilingProxy(CcddScriptDataAccessHandler accessHandler)
+    {
+        return (CcddScriptDataAccessInterface) Proxy.newProxyInstance(CcddScriptDataAccessInterface.class.getClassLoader(),
+                                                                      new Class<?>[] {CcddScriptDataAccessInterface.class,
+                                                                                      ProfiledAccess.class},
+                                                                      new ProfilingInvocationHandler(accessHandler));
+    }
+
+    /**********************************************************************************************
+     * Get the script data access handler for the specified handler bound to a script
+     *
+     * @param boundHandler
+     *            script data access handler or profiling proxy bound to the script
+     *
+     * @return Script data access handler; null if the bound object isn't a script data access
+     *         handler or profiling proxy
+     *********************************************************************************************/
+    protected static CcddScriptDataAccessHandler getAccessHandler(Object boundHandler)
+    {
+        CcddScriptDataAccessHandler accessHandler = null;
+
+        // Check if the bound object is a profiling proxy
+        if (boundHandler instanceof ProfiledAccess)
+        {
+            accessHandler = ((ProfilingInvocationHandler) Proxy.getInvocationHandler(boundHandler)).accessHandler;
+        }
+        // Check if the bound object is a script data access handler
+        else if (boundHandler instanceof CcddScriptDataAccessHandler)
+        {
+            accessHandler = (CcddScriptDataAccessHandler) boundHandler;
+        }
+
+        return accessHandler;
+    }
+
+    /**********************************************************************************************
+     * Get the profiler for the specified handler bound to a script
+     *
+     * @param boundHandler
+     *            script data access handler or profiling proxy bound to the script
+     *
+     * @return Profiler containing the access method calls made through the profiling proxy; null
+     *         if the bound object isn't a profiling proxy
+     *********************************************************************************************/
+    protected static CcddScriptDataAccessProfiler getProfiler(Object boundHandler)
+    {
+        return boundHandler instanceof ProfiledAccess
+                                                      ? ((ProfilingInvocationHandler) Proxy.getInvocationHandler(boundHandler)).profiler
+                                                      : null;
+    }
+
+    /**********************************************************************************************
+     * Get the signature of the specified access method. The signature is the method name
+     * followed by the parameter type names
+     *
+     * @param method
+     *            access method
+     *
+     * @return Access method signature
+     *********************************************************************************************/
+    private static String getMethodSignature(Method method)
+    {
+        String signature = methodSignatures.get(method);
+
+        // Check if the signature hasn't been built for this method
+        if (signature == null)
+        {
+            StringBuilder builder = new StringBuilder(method.getName()).append("(");
+            Class<?>[] types = method.getParameterTypes();
+
+            // Step through each of the method's parameter types
+            for (int index = 0; index < types.length; index++)
+            {
+                // Check if this isn't the first parameter
+                if (index != 0)
+                {
+                    builder.append(", ");
+                }
+
+                // Check if this is a variable argument list parameter
+                if (method.isVarArgs() && index == types.length - 1)
+                {
+                    builder.append(types[index].getComponentType().getSimpleName()).append("...");
+                }
+                // Not a variable argument list parameter
+                else
+                {
+                    builder.append(types[index].getSimpleName());
+                }
+            }
+
+            signature = builder.append(")").toString();
+            methodSignatures.put(method, signature);
+        }
+
+        return signature;
+    }
+
+    /**********************************************************************************************
+     * Get the thread management bean if it supports measuring the memory allocated by a thread
+     *
+     * @return Thread management bean; null if measuring the memory allocated by a thread isn't
+     *         supported
+     *********************************************************************************************/
+    private static com.sun.management.ThreadMXBean getThreadAllocationBean()
+    {
+        com.sun.management.ThreadMXBean allocationBean = null;
+
+        try
+        {
+            ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+
+            // Check if the bean supports measuring the memory allocated by a thread
+            if (bean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported())
+            {
+                allocationBean = (com.sun.management.ThreadMXBean) bean;
+                allocationBean.setThreadAllocatedMemoryEnabled(true);
+            }
+        }
+        catch (Exception e)
+        {
+            // The allocated memory can't be measured; the other statistics are still recorded
+            allocationBean = null;
+        }
+
+        return allocationBean;
+    }
+
+    /**********************************************************************************************
+     * Get the memory allocated so far by the current thread
+     *
+     * @return Memory allocated by the current thread, in bytes; 0 if the allocated memory can't
+     *         be measured
+     *********************************************************************************************/
+    private static long getAllocatedBytes()
+    {
+        return threadBean == null
+                                  ? 0
+                                  : threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**********************************************************************************************
+     * Record a call to an access method
+     *
+     * @param method
+     *            access method signature
+     *
+     * @param time
+     *            execution time of the call, in nanoseconds
+     *
+     * @param allocatedBytes
+     *            memory allocated by the call, in bytes
+     *********************************************************************************************/
+    private synchronized void addCall(String method, long time, long allocatedBytes)
+    {
+        MethodStatistics stats = methodStatistics.get(method);
+
+        // Check if this is the first call to the method
+        if (stats == null)
+        {
+            stats = new MethodStatistics(method);
+            methodStatistics.put(method, stats);
+        }
+
+        // Update the method's statistics
+        stats.numCalls++;
+        stats.totalTime += time;
+        stats.maximumTime = Math.max(stats.maximumTime, time);
+        stats.allocatedBytes += allocatedBytes;
+    }
+
+    /**********************************************************************************************
+     * Add the statistics from another profiler to this profiler's statistics
+     *
+     * @param profiler
+     *            profiler containing the statistics to add
+     *********************************************************************************************/
+    protected synchronized void addStatistics(CcddScriptDataAccessProfiler profiler)
+    {
+        // Step through each of the other profiler's method statistics
+        for (MethodStatistics other : profiler.methodStatistics.values())
+        {
+            MethodStatistics stats = methodStatistics.get(other.method);
+
+            // Check if the method has no statistics in this profiler
+            if (stats == null)
+            {
+                stats = new MethodStatistics(other.method);
+                methodStatistics.put(other.method, stats);
+            }
+
+            // Combine the method's statistics
+            stats.numCalls += other.numCalls;
+            stats.totalTime += other.totalTime;
+            stats.maximumTime = Math.max(stats.maximumTime, other.maximumTime);
+            stats.allocatedBytes += other.allocatedBytes;
+        }
+    }
+
+    /**********************************************************************************************
+     * Get the access method statistics, sorted by cumulative execution time, longest first
+     *
+     * @return List of the access method statistics; an empty list if no access methods were
+     *         called
+     *********************************************************************************************/
+    protected synchronized List<MethodStatistics> getStatistics()
+    {
+        List<MethodStatistics> statistics = new ArrayList<MethodStatistics>(methodStatistics.values());
+
+        // Sort the statistics by cumulative time
+        Collections.sort(statistics, new Comparator<MethodStatistics>()
+        {
+            /**************************************************************************************
+             * Compare the cumulative execution times of two access methods
+             *************************************************************************************/
+            @Override
+            public int compare(MethodStatistics stats1, MethodStatistics stats2)
+            {
+                return Long.compare(stats2.totalTime, stats1.totalTime);
+            }
+        });
+
+        return statistics;
+    }
+
+    /**********************************************************************************************
+     * Write the access method statistics to the specified file in CSV format. The times are in
+     * milliseconds. The numbers are formatted independent of the locale so that a decimal comma
+     * isn't used
+     *
+     * @param printWriter
+     *            output file PrintWriter object
+     *********************************************************************************************/
+    protected void writeStatistics(PrintWriter printWriter)
+    {
+        printWriter.println("\"Method\",\"Calls\",\"Total (ms)\",\"Mean (ms)\",\"Maximum (ms)\",\"Allocated (bytes)\"");
+
+        // Step through each access method's statistics
+        for (MethodStatistics stats : getStatistics())
+        {
+            printWriter.printf(Locale.ROOT,
+                               "\"%s\",%d,%.3f,%.6f,%.3f,%d%n",
+                               stats.getMethod(),
+                               stats.getNumCalls(),
+                               stats.getTotalTime() / 1.0e6,
+                               stats.getTotalTime() / 1.0e6 / stats.getNumCalls(),
+                               stats.getMaximumTime() / 1.0e6,
+                               stats.getAllocatedBytes());
+        }
+    }
+}
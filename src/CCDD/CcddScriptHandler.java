@@ -20,6 +20,7 @@ import static CCDD.CcddConstants.HIDE_SCRIPT_PATH;
 import static CCDD.CcddConstants.LAF_SCROLL_BAR_WIDTH;
 import static CCDD.CcddConstants.OK_BUTTON;
 import static CCDD.CcddConstants.PATH_COLUMN_DELTA;
+import static CCDD.CcddConstants.PROFILE_SCRIPT_ACCESS;
 import static CCDD.CcddConstants.TYPE_COLUMN_DELTA;
 import static CCDD.CcddConstants.TYPE_COMMAND;
 import static CCDD.CcddConstants.TYPE_NAME_SEPARATOR;
@@ -38,17 +39,27 @@ import java.awt.event.ActionListener;
 import java.awt.event.FocusAdapter;
 import java.awt.event.FocusEvent;
 import java.io.File;
-import java.io.FileReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
 import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
 import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
 import javax.script.ScriptEngineFactory;
@@ -74,6 +85,7 @@ import javax.swing.text.JTextComponent;
 import CCDD.CcddBackgroundCommand.BackgroundCommand;
 import CCDD.CcddClassesComponent.ArrayListMultiple;
 import CCDD.CcddClassesComponent.FileEnvVar;
+import CCDD.CcddClassesComponent.IndexedArrayListMultiple;
 import CCDD.CcddClassesDataTable.ArrayVariable;
 import CCDD.CcddClassesDataTable.CCDDException;
 import CCDD.CcddClassesDataTable.FieldInformation;
@@ -89,10 +101,13 @@ import CCDD.CcddConstants.InternalTable.AssociationsColumn;
 import CCDD.CcddConstants.ModifiableColorInfo;
 import CCDD.CcddConstants.ModifiableFontInfo;
 import CCDD.CcddConstants.ModifiableOtherSettingInfo;
+import CCDD.CcddConstants.ModifiablePathInfo;
 import CCDD.CcddConstants.ModifiableSizeInfo;
 import CCDD.CcddConstants.ModifiableSpacingInfo;
 import CCDD.CcddConstants.TableSelectionMode;
 import CCDD.CcddConstants.TableTreeType;
+import CCDD.CcddDbTableCommandHandler.TableDataPrefetch;
+import CCDD.CcddScriptDataAccessProfiler.MethodStatistics;
 import CCDD.CcddTableTypeHandler.TypeDefinition;
 import CCDD.CcddUndoHandler.UndoableTableModel;
 
@@ -115,18 +130,33 @@ public class CcddScriptHandler
     // Components referenced by multiple methods
     private JCheckBox hideScriptFilePath;
     private JCheckBox hideUnavailableAssns;
+    private JCheckBox profileScriptAccess;
     private JTextField envVarOverrideFld;
     private static CcddHaltDialog haltDlg;
 
     // List of script engine factories that are available on this platform
     private final List<ScriptEngineFactory> scriptFactories;
 
-    // Global storage for the data obtained in the recursive table data reading method
-    private Object[][] combinedData;
+    // Global storage for the rows of data obtained in the recursive table data reading method.
+    // The rows are accumulated in a list and converted to an array once the table and all of its
+    // child tables are loaded
+    private List<Object[]> combinedData;
 
-    // List containing the table paths for the tables loaded for a script association. Used to
+    // Set containing the table paths for the tables loaded for a script association. Used to
     // prevent loading the same table more than once
-    private List<String> loadedTablePaths;
+    private Set<String> loadedTablePaths;
+
+    // Table data prefetched for the tables referenced by the script associations being executed
+    private TableDataPrefetch tablePrefetch;
+
+    // Dictionary of the cell values in the loaded table data. Values that repeat across rows and
+    // tables (data types, units, rates, etc.) are stored once and the rows reference the stored
+    // instance
+    private Map<String, String> tableValueDictionary;
+
+    // Script data access profiles for the scripts executed, keyed by script file name; null if
+    // profiling isn't enabled
+    private Map<String, CcddScriptDataAccessProfiler> scriptProfiles;
 
     // Array to indicate if a script association has a problem that prevents its execution
     private boolean[] isBad;
@@ -142,6 +172,140 @@ public class CcddScriptHandler
     // Row filter, used to show/hide unavailable associations
     private RowFilter<TableModel, Object> rowFilter;
 
+    // Number of script associations to execute at the same time, as set by command line command;
+    // -1 to use the number stored in the program preferences
+    private int numScriptThreads;
+
+    // Maximum number of access methods displayed in the script data access profile for a script
+    private static final int MAX_PROFILE_METHODS = 15;
+
+    // Maximum number of script files for which script engines are cached
+    private static final int MAX_CACHED_SCRIPT_FILES = 32;
+
+    // Script engines, and their compiled scripts, available for reuse, keyed by the script file
+    // path. The script file used least recently is removed when the maximum number of script files
+    // is exceeded
+    private final ScriptCache scriptCache;
+
+    /**********************************************************************************************
+     * Script cache class. Contains the script cache entries, keyed by the script file path, in
+     * order of last access. The least recently used script file's entry is removed when the
+     * maximum number of cached script files is exceeded
+     *********************************************************************************************/
+    @SuppressWarnings("serial")
+    private static class ScriptCache extends LinkedHashMap<String, ScriptCacheEntry>
+    {
+        /******************************************************************************************
+         * Script cache class constructor
+         *****************************************************************************************/
+        ScriptCache()
+        {
+            super(16, 0.75f, true);
+        }
+
+        /******************************************************************************************
+         * Remove the least recently used script file's cached script engines if the maximum number
+         * of cached script files is exceeded
+         *****************************************************************************************/
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ScriptCacheEntry> eldest)
+        {
+            return size() > MAX_CACHED_SCRIPT_FILES;
+        }
+    }
+
+    /**********************************************************************************************
+     * Cached script class. Contains a script engine used to execute a script, along with the
+     * compiled version of the script if the engine supports compilation
+     *********************************************************************************************/
+    private static class CachedScript
+    {
+        private final ScriptEngine scriptEngine;
+        private final CompiledScript compiledScript;
+
+        /******************************************************************************************
+         * Cached script class constructor
+         *
+         * @param scriptEngine
+         *            script engine
+         *
+         * @param compiledScript
+         *            compiled script; null if the engine doesn't support compilation
+         *****************************************************************************************/
+        CachedScript(ScriptEngine scriptEngine, CompiledScript compiledScript)
+        {
+            this.scriptEngine = scriptEngine;
+            this.compiledScript = compiledScript;
+        }
+    }
+
+    /**********************************************************************************************
+     * Script cache entry class. Contains the script engines available for reuse for a script file,
+     * along with the modification time of the script file version used by the engines
+     *********************************************************************************************/
+    private static class ScriptCacheEntry
+    {
+        private final long lastModified;
+        private final List<CachedScript> idleScripts;
+
+        /******************************************************************************************
+         * Script cache entry class constructor
+         *
+         * @param lastModified
+         *            modification time of the script file version
+         *****************************************************************************************/
+        ScriptCacheEntry(long lastModified)
+        {
+            this.lastModified = lastModified;
+            idleScripts = new ArrayList<CachedScript>();
+        }
+    }
+
+    /**********************************************************************************************
+     * Script association execution class. Contains the information needed to execute a script
+     * association in a worker thread, along with the result of the execution
+     *********************************************************************************************/
+    private static class AssociationExecution
+    {
+        private final String scriptFileName;
+        private final String progressText;
+        private final TableInformation[] tableInformation;
+        private final List<String> groupNames;
+        private boolean isComplete;
+        private String errorMessage;
+        private Exception exception;
+
+        /******************************************************************************************
+         * Script association execution class constructor
+         *
+         * @param scriptFileName
+         *            script file name, with any environment variables expanded
+         *
+         * @param progressText
+         *            text to display in the progress bar when the association is executed
+         *
+         * @param tableInformation
+         *            array of table information for the association's tables, combined by table
+         *            type
+         *
+         * @param groupNames
+         *            list containing the names of any groups referenced in the script association
+         *****************************************************************************************/
+        AssociationExecution(String scriptFileName,
+                             String progressText,
+                             TableInformation[] tableInformation,
+                             List<String> groupNames)
+        {
+            this.scriptFileName = scriptFileName;
+            this.progressText = progressText;
+            this.tableInformation = tableInformation;
+            this.groupNames = groupNames;
+            isComplete = false;
+            errorMessage = null;
+            exception = null;
+        }
+    }
+
     /**********************************************************************************************
      * Script handler class constructor
      *
@@ -160,6 +324,8 @@ public class CcddScriptHandler
         scriptFactories = new ScriptEngineManager().getEngineFactories();
 
         scriptDialog = null;
+        numScriptThreads = -1;
+        scriptCache = new ScriptCache();
     }
 
     /**********************************************************************************************
@@ -172,6 +338,30 @@ public class CcddScriptHandler
         variableHandler = ccddMain.getVariableHandler();
     }
 
+    /**********************************************************************************************
+     * Set the number of script associations to execute at the same time. This overrides the
+     * number stored in the program preferences for the current session
+     *
+     * @param numScriptThreads
+     *            number of script associations to execute at the same time
+     *********************************************************************************************/
+    protected void setScriptThreads(int numScriptThreads)
+    {
+        this.numScriptThreads = numScriptThreads;
+    }
+
+    /**********************************************************************************************
+     * Get the number of script associations to execute at the same time, as set for the current
+     * session
+     *
+     * @return Number of script associations to execute at the same time; -1 if the number stored
+     *         in the program preferences is used
+     *********************************************************************************************/
+    protected int getScriptThreads()
+    {
+        return numScriptThreads;
+    }
+
     /**********************************************************************************************
      * Set the reference to the active script manager or executive dialog. This should be null when
      * the script manager or executive isn't open
@@ -250,7 +440,7 @@ public class CcddScriptHandler
         List<String[]> committedAssociations = getScriptAssociations(parent);
 
         // Get the list of table names and their associated table type
-        ArrayListMultiple protoNamesAndTableTypes = new ArrayListMultiple();
+        ArrayListMultiple protoNamesAndTableTypes = new IndexedArrayListMultiple();
         protoNamesAndTableTypes.addAll(dbTable.queryTableAndTypeList(parent));
 
         // Load the group information from the database
@@ -785,6 +975,32 @@ public class CcddScriptHandler
         gbc.gridy++;
         assnsPnl.add(hideUnavailableAssns, gbc);
 
+        // Create the check box for enabling/disabling profiling of the script data access methods
+        profileScriptAccess = new JCheckBox("Profile script data access",
+                                            ccddMain.getProgPrefs().getBoolean(PROFILE_SCRIPT_ACCESS,
+                                                                               false));
+        profileScriptAccess.setFont(ModifiableFontInfo.LABEL_BOLD.getFont());
+        profileScriptAccess.setBorder(BorderFactory.createEmptyBorder());
+        profileScriptAccess.setToolTipText(CcddUtilities.wrapText("Record the number of calls, execution time, and memory allocated for each data access method called by the script(s). The results are displayed and written to a file in the script output folder",
+                                                                  ModifiableSizeInfo.MAX_TOOL_TIP_LENGTH.getSize()));
+
+        // Add a listener for check box selection changes
+        profileScriptAccess.addActionListener(new ActionListener()
+        {
+            /**************************************************************************************
+             * Handle a change in the profile script data access check box state
+             *************************************************************************************/
+            @Override
+            public void actionPerformed(ActionEvent ae)
+            {
+                ccddMain.getProgPrefs().putBoolean(PROFILE_SCRIPT_ACCESS,
+                                                   profileScriptAccess.isSelected());
+            }
+        });
+
+        gbc.gridy++;
+        assnsPnl.add(profileScriptAccess, gbc);
+
         // Create a panel to contain the environment variable override label and field
         JPanel envVarOverridePnl = new JPanel(new GridBagLayout());
         JLabel envVarOverrideLbl = new JLabel("Environment variable override");
@@ -1379,6 +1595,13 @@ public class CcddScriptHandler
                 {
                     // Enable the script manager or executive dialog's controls
                     ((CcddFrameHandler) dialog).setControlsEnabled(true);
+
+                    // Check if profiling is enabled and at least one script was executed
+                    if (scriptProfiles != null && !scriptProfiles.isEmpty())
+                    {
+                        // Display the script data access profiles
+                        showScriptProfiles(dialog);
+                    }
                 }
                 // The script was executed via the command line
                 else
@@ -1432,6 +1655,11 @@ public class CcddScriptHandler
         excludeDataTypes = Boolean.parseBoolean(ccddMain.getProgPrefs().get(HIDE_DATA_TYPE,
                                                                             DEFAULT_HIDE_DATA_TYPE));
 
+        // Create storage for the script data access profiles if profiling is enabled
+        scriptProfiles = ccddMain.getProgPrefs().getBoolean(PROFILE_SCRIPT_ACCESS, false)
+                                                                                          ? new LinkedHashMap<String, CcddScriptDataAccessProfiler>()
+                                                                                          : null;
+
         // Check if the script execution was initiated via command line command (and not from the
         // script manager or executive dialog)
         if (!(parent instanceof CcddFrameHandler))
@@ -1449,7 +1677,7 @@ public class CcddScriptHandler
 
         // Create storage for the individual tables' data and table path+names
         List<TableInformation> tableInformation = new ArrayList<TableInformation>();
-        loadedTablePaths = new ArrayList<String>();
+        loadedTablePaths = new HashSet<String>();
 
         // Get the link assignment information, if any
         CcddLinkHandler linkHandler = new CcddLinkHandler(ccddMain, parent);
@@ -1457,9 +1685,27 @@ public class CcddScriptHandler
         // Load the group information from the database
         CcddGroupHandler groupHandler = new CcddGroupHandler(ccddMain, null, parent);
 
-        // Get the list of the table paths in the order of appearance in the table tree. This
-        // is used to sort the association table paths
-        final List<String> allTablePaths = tableTree.getTableTreePathList(null);
+        // Store the table tree reference. The table tree provides the position of each table path
+        // in the tree, which is used to sort the association table paths
+        final CcddTableTreeHandler pathTree = tableTree;
+
+        List<String> prefetchPaths = new ArrayList<String>();
+
+        // Step through each script association definition
+        for (Object[] assn : associations)
+        {
+            // Add the association's table paths to the list of those to prefetch
+            prefetchPaths.addAll(getAssociationTablePaths(assn[AssociationsColumn.MEMBERS.ordinal()].toString(),
+                                                          groupHandler,
+                                                          false,
+                                                          parent));
+        }
+
+        // Load the data for the associated tables and their descendants in bulk. The table
+        // information for each table is then assembled from this data instead of being loaded from
+        // the database one table at a time
+        tablePrefetch = dbTable.prefetchTableData(prefetchPaths, parent);
+        tableValueDictionary = new HashMap<String, String>();
 
         // To reduce database access and speed script execution when executing multiple
         // associations, first load all of the associated tables, making sure each is loaded only
@@ -1498,8 +1744,8 @@ public class CcddScriptHandler
                             int result = 0;
 
                             // Get the indices of the two paths within the table tree
-                            int index1 = allTablePaths.indexOf(path1);
-                            int index2 = allTablePaths.indexOf(path2);
+                            int index1 = pathTree.getTablePathOrdinal(path1);
+                            int index2 = pathTree.getTablePathOrdinal(path2);
 
                             // Compare the indices and set the result so that they are sorted with
                             // the lowest index first
@@ -1519,8 +1765,9 @@ public class CcddScriptHandler
                     // Step through each table path+name
                     for (String tablePath : tablePaths)
                     {
-                        // Initialize the array for each of the tables to load from the database
-                        combinedData = new Object[0][0];
+                        // Initialize the row storage for each of the tables to load from the
+                        // database
+                        combinedData = new ArrayList<Object[]>();
 
                         // Read the table and child table data from the database and store the
                         // results from the last table loaded. This builds the combined data with
@@ -1544,7 +1791,7 @@ public class CcddScriptHandler
                             else
                             {
                                 // Store the data for the table and its child table(s)
-                                tableInfo.setData(combinedData);
+                                tableInfo.setData(combinedData.toArray(new Object[combinedData.size()][]));
 
                                 // Get the type definition based on the table type name
                                 TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(tableInfo.getType());
@@ -1608,6 +1855,20 @@ public class CcddScriptHandler
             assnIndex++;
         }
 
+        // Release the prefetched table data and value dictionary now that the table information
+        // is assembled
+        tablePrefetch = null;
+        tableValueDictionary = null;
+
+        // Get the number of script associations to execute at the same time
+        int numThreads = Math.min(numScriptThreads != -1
+                                                         ? numScriptThreads
+                                                         : ModifiableSizeInfo.SCRIPT_EXECUTION_THREADS.getSize(),
+                                  associations.size());
+
+        // Create storage for the information needed to execute each association in parallel
+        AssociationExecution[] executions = new AssociationExecution[associations.size()];
+
         assnIndex = 0;
 
         // Once all table information is loaded then gather the data for each association and
@@ -1676,7 +1937,7 @@ public class CcddScriptHandler
                     for (int typeIndex = 0; typeIndex < tableTypes.size(); typeIndex++)
                     {
                         String tableName = "";
-                        Object[][] allTableData = new Object[0][0];
+                        List<Object[]> allTableData = new ArrayList<Object[]>();
 
                         // Step through each associated table. This combines the table data for a
                         // given table type in the order that the table appears in the association
@@ -1700,9 +1961,8 @@ public class CcddScriptHandler
                                             tableName = tablePath;
                                         }
 
-                                        // Append the table data to the combined data array
-                                        allTableData = CcddUtilities.concatenateArrays(allTableData,
-                                                                                       tableInfo.getData());
+                                        // Append the table data to the combined data
+                                        allTableData.addAll(Arrays.asList(tableInfo.getData()));
                                     }
 
                                     // Stop searching the table information list since since the
@@ -1716,7 +1976,7 @@ public class CcddScriptHandler
                         // database
                         combinedTableInfo[typeIndex] = new TableInformation(tableTypes.get(typeIndex),
                                                                             tableName,
-                                                                            allTableData,
+                                                                            allTableData.toArray(new Object[allTableData.size()][]),
                                                                             null,
                                                                             null,
                                                                             new ArrayList<FieldInformation>(0));
@@ -1740,55 +2000,272 @@ public class CcddScriptHandler
                 String scriptFileName = FileEnvVar.expandEnvVars(assn[AssociationsColumn.SCRIPT_FILE.ordinal()].toString(),
                                                                  envVarMap);
 
-                try
+                // Get the text to display in the progress bar. Display the association name; if
+                // the name is blank then display the script (with full path)
+                String progressText = !assn[AssociationsColumn.NAME.ordinal()].toString().isEmpty()
+                                                                                                    ? assn[AssociationsColumn.NAME.ordinal()].toString()
+                                                                                                    : scriptFileName;
+
+                // Check if the associations are executed in parallel
+                if (numThreads > 1)
+                {
+                    // Store the association's information so that it can be executed by a worker
+                    // thread once the information for all of the associations is gathered
+                    executions[assnIndex] = new AssociationExecution(scriptFileName,
+                                                                     progressText,
+                                                                     combinedTableInfo,
+                                                                     groupNames);
+                }
+                // The associations are executed one at a time
+                else
+                {
+                    try
+                    {
+                        // Check if the cancellation dialog is displayed
+                        if (haltDlg != null)
+                        {
+                            // Update the progress bar
+                            haltDlg.updateProgressBar(progressText,
+                                                      haltDlg.getNumDivisionPerStep() * step);
+                            step++;
+                        }
+
+                        // Execute the script using the indicated table data
+                        executeScript(scriptFileName,
+                                      combinedTableInfo,
+                                      groupNames,
+                                      linkHandler,
+                                      groupHandler,
+                                      parent);
+                    }
+                    catch (CCDDException ce)
+                    {
+                        // Inform the user that script execution failed
+                        logScriptError(scriptFileName,
+                                       assn[AssociationsColumn.MEMBERS.ordinal()].toString(),
+                                       ce.getMessage(),
+                                       parent);
+
+                        // Set the flag for this association indicating it can't be executed
+                        isBad[assnIndex] = true;
+                    }
+                    catch (Exception e)
+                    {
+                        // Check if script execution wasn't canceled by the user (halting a running
+                        // script can generate errors; these 'explained' errors are ignored)
+                        if (haltDlg == null || !haltDlg.isHalted())
+                        {
+                            // Display a dialog providing details on the unanticipated error
+                            CcddUtilities.displayException(e, ccddMain.getMainFrame());
+                        }
+                    }
+                }
+            }
+
+            assnIndex++;
+        }
+
+        // Check if the associations are executed in parallel and script execution isn't canceled
+        if (numThreads > 1 && (haltDlg == null || !haltDlg.isHalted()))
+        {
+            // Execute the associations using the worker threads
+            executeScriptsInParallel(associations,
+                                     executions,
+                                     numThreads,
+                                     linkHandler,
+                                     groupHandler,
+                                     parent,
+                                     isBad);
+        }
+
+        // Check if profiling is enabled and at least one script was executed
+        if (scriptProfiles != null && !scriptProfiles.isEmpty())
+        {
+            // Write the script data access profiles
+            writeScriptProfiles();
+        }
+
+        return isBad;
+    }
+
+    /**********************************************************************************************
+     * Execute the script associations using the specified number of worker threads. Each
+     * association is executed using its own script engine and script data access handler. The
+     * table information is shared by the associations but isn't altered by script execution.
+     * Errors are reported after all of the associations complete, in association order, so that
+     * the results are logged in the same order regardless of the order in which the associations
+     * complete
+     *
+     * @param associations
+     *            list of script associations to execute
+     *
+     * @param executions
+     *            array containing the execution information for each association; an entry is
+     *            null if the association isn't executed
+     *
+     * @param numThreads
+     *            number of worker threads
+     *
+     * @param linkHandler
+     *            link handler reference
+     *
+     * @param groupHandler
+     *            group handler reference
+     *
+     * @param parent
+     *            GUI component over which to center any error dialog; null if none (e.g., if
+     *            called via the command line)
+     *
+     * @param isBad
+     *            array containing flags that indicate, for each association, if the association
+     *            did not complete successfully; updated with the result of each execution
+     *********************************************************************************************/
+    @SuppressWarnings("deprecation")
+    private void executeScriptsInParallel(List<Object[]> associations,
+                                          final AssociationExecution[] executions,
+                                          int numThreads,
+                                          final CcddLinkHandler linkHandler,
+                                          final CcddGroupHandler groupHandler,
+                                          final Component parent,
+                                          boolean[] isBad)
+    {
+        final AtomicInteger nextIndex = new AtomicInteger(0);
+        final AtomicInteger step = new AtomicInteger(0);
+        Thread[] workers = new Thread[numThreads];
+
+        // Step through each worker thread
+        for (int index = 0; index < numThreads; index++)
+        {
+            // Create a thread to execute script associations
+            workers[index] = new Thread(new Runnable()
+            {
+                /**********************************************************************************
+                 * Execute script associations until all of the associations are executed
+                 *********************************************************************************/
+                @Override
+                public void run()
                 {
-                    // Check if the cancellation dialog is displayed
-                    if (haltDlg != null)
+                    int assnIndex;
+
+                    // Get the index of the next association to execute and continue while an
+                    // association remains
+                    while ((assnIndex = nextIndex.getAndIncrement()) < executions.length)
                     {
-                        // Update the progress bar. Display the association name in the progress
-                        // bar; if the name is blank then display the script (with full path)
-                        haltDlg.updateProgressBar((!assn[AssociationsColumn.NAME.ordinal()].toString().isEmpty()
-                                                                                                                 ? assn[AssociationsColumn.NAME.ordinal()].toString()
-                                                                                                                 : scriptFileName),
-                                                  haltDlg.getNumDivisionPerStep() * step);
-                        step++;
+                        AssociationExecution execution = executions[assnIndex];
+
+                        // Check if the association is to be executed
+                        if (execution != null)
+                        {
+                            // Check if the cancellation dialog is displayed
+                            if (haltDlg != null)
+                            {
+                                synchronized (haltDlg)
+                                {
+                                    // Update the progress bar
+                                    haltDlg.updateProgressBar(execution.progressText,
+                                                              haltDlg.getNumDivisionPerStep()
+                                                                                      * step.getAndIncrement());
+                                }
+                            }
+
+                            try
+                            {
+                                // Execute the script using the indicated table data
+                                executeScript(execution.scriptFileName,
+                                              execution.tableInformation,
+                                              execution.groupNames,
+                                              linkHandler,
+                                              groupHandler,
+                                              parent);
+                            }
+                            catch (CCDDException ce)
+                            {
+                                // Store the cause of the script execution failure
+                                execution.errorMessage = ce.getMessage();
+                            }
+                            catch (Exception e)
+                            {
+                                // Store the unanticipated error
+                                execution.exception = e;
+                            }
+
+                            execution.isComplete = true;
+                        }
                     }
+                }
+            });
+
+            workers[index].start();
+        }
 
-                    // Execute the script using the indicated table data
-                    executeScript(scriptFileName,
-                                  combinedTableInfo,
-                                  groupNames,
-                                  linkHandler,
-                                  groupHandler,
-                                  parent);
+        try
+        {
+            // Step through each worker thread
+            for (Thread worker : workers)
+            {
+                // Wait for the worker to complete execution of its script associations
+                worker.join();
+            }
+        }
+        catch (InterruptedException ie)
+        {
+            // Restore the interrupt status. The workers are stopped below, and any associations
+            // that didn't complete are flagged as failed
+            Thread.currentThread().interrupt();
+        }
+        finally
+        {
+            // Step through each worker thread
+            for (Thread worker : workers)
+            {
+                // Check if the worker is still executing. This occurs if script execution is
+                // canceled by the user, in which case this thread is stopped while waiting for the
+                // workers
+                if (worker.isAlive())
+                {
+                    // Forcibly stop script execution (see getDataAndExecuteScriptInBackground())
+                    worker.stop();
                 }
-                catch (CCDDException ce)
+            }
+        }
+
+        // Step through each association
+        for (int assnIndex = 0; assnIndex < executions.length; assnIndex++)
+        {
+            AssociationExecution execution = executions[assnIndex];
+
+            // Check if the association was to be executed
+            if (execution != null)
+            {
+                // Check if the script failed to execute
+                if (execution.errorMessage != null)
                 {
                     // Inform the user that script execution failed
-                    logScriptError(scriptFileName,
-                                   assn[AssociationsColumn.MEMBERS.ordinal()].toString(),
-                                   ce.getMessage(),
+                    logScriptError(execution.scriptFileName,
+                                   associations.get(assnIndex)[AssociationsColumn.MEMBERS.ordinal()].toString(),
+                                   execution.errorMessage,
                                    parent);
 
-                    // Set the flag for this association indicating it can't be executed
+                    // Set the flag for this association indicating it didn't execute
                     isBad[assnIndex] = true;
                 }
-                catch (Exception e)
+                // Check if an unanticipated error occurred and script execution wasn't canceled
+                // by the user (halting a running script can generate errors; these 'explained'
+                // errors are ignored)
+                else if (execution.exception != null
+                         && (haltDlg == null || !haltDlg.isHalted()))
                 {
-                    // Check if script execution wasn't canceled by the user (halting a running
-                    // script can generate errors; these 'explained' errors are ignored)
-                    if (haltDlg == null || !haltDlg.isHalted())
-                    {
-                        // Display a dialog providing details on the unanticipated error
-                        CcddUtilities.displayException(e, ccddMain.getMainFrame());
-                    }
+                    // Display a dialog providing details on the unanticipated error
+                    CcddUtilities.displayException(execution.exception, ccddMain.getMainFrame());
+                }
+                // Check if the script didn't complete execution
+                else if (!execution.isComplete)
+                {
+                    // Set the flag for this association indicating it didn't complete
+                    isBad[assnIndex] = true;
                 }
             }
-
-            assnIndex++;
         }
-
-        return isBad;
     }
 
     /**********************************************************************************************
@@ -2009,29 +2486,14 @@ public class CcddScriptHandler
                 // Get the script engine
                 scriptEngine = factory.getScriptEngine();
 
-                // Create an instance of the script data access handler, then use this as a
-                // reference for the version of the access handler class that contains static
-                // method calls to the non-static version. Some scripting languages work with
-                // either the non-static or static version (Python, Groovy), but others only work
-                // with the non-static (JavaScript, Ruby) or static version (Scala) (this can be
-                // Java version dependent as well).
-                CcddScriptDataAccessHandler accessHandler = new CcddScriptDataAccessHandler(ccddMain,
-                                                                                            scriptEngine,
-                                                                                            tableInformation,
-                                                                                            linkHandler,
-                                                                                            groupHandler,
-                                                                                            scriptFileName,
-                                                                                            groupNames,
-                                                                                            parent);
-                CcddScriptDataAccessHandlerStatic staticHandler = new CcddScriptDataAccessHandlerStatic(accessHandler);
-
-                // Bind the script data access handlers (non-static and static versions) to the
-                // script context so that the handlers' public access methods can be accessed by
-                // the script using the binding names ('ccdd' or 'ccdds')
-                Bindings scriptBindings = scriptEngine.createBindings();
-                scriptBindings.put("ccdd", accessHandler);
-                scriptBindings.put("ccdds", staticHandler);
-                scriptEngine.setBindings(scriptBindings, ScriptContext.ENGINE_SCOPE);
+                // Bind the script data access handlers to the script engine
+                bindScriptDataAccessHandlers(scriptEngine,
+                                             scriptFileName,
+                                             tableInformation,
+                                             linkHandler,
+                                             groupHandler,
+                                             groupNames,
+                                             parent);
 
                 // Stop searching since a match was found
                 break;
@@ -2052,7 +2514,76 @@ public class CcddScriptHandler
     }
 
     /**********************************************************************************************
-     * Execute a script
+     * Bind fresh script data access handlers for the supplied table information to the script
+     * engine. Non-static and static script data access handlers are bound so that the public
+     * access methods can be utilized. Any bindings from a previous script execution using the
+     * engine are replaced
+     *
+     * @param scriptEngine
+     *            script engine reference
+     *
+     * @param scriptFileName
+     *            script file name
+     *
+     * @param tableInformation
+     *            array of table information
+     *
+     * @param linkHandler
+     *            link handler reference
+     *
+     * @param groupHandler
+     *            group handler reference
+     *
+     * @param groupNames
+     *            list containing the names of any groups referenced in the script association
+     *
+     * @param parent
+     *            GUI component over which to center any error dialog
+     *********************************************************************************************/
+    private void bindScriptDataAccessHandlers(ScriptEngine scriptEngine,
+                                              String scriptFileName,
+                                              TableInformation[] tableInformation,
+                                              CcddLinkHandler linkHandler,
+                                              CcddGroupHandler groupHandler,
+                                              List<String> groupNames,
+                                              Component parent)
+    {
+        // Create an instance of the script data access handler, then use this as a reference for
+        // the version of the access handler class that contains static method calls to the
+        // non-static version. Some scripting languages work with either the non-static or static
+        // version (Python, Groovy), but others only work with the non-static (JavaScript, Ruby) or
+        // static version (Scala) (this can be Java version dependent as well).
+        CcddScriptDataAccessHandler accessHandler = new CcddScriptDataAccessHandler(ccddMain,
+                                                                                    scriptEngine,
+                                                                                    tableInformation,
+                                                                                    linkHandler,
+                                                                                    groupHandler,
+                                                                                    scriptFileName,
+                                                                                    groupNames,
+                                                                                    parent);
+
+        // If profiling is enabled then a profiling proxy for the access handler is bound in place
+        // of the handler, and is used by the static version
+        CcddScriptDataAccessInterface boundHandler = scriptProfiles != null
+                                                                            ? CcddScriptDataAccessProfiler.createProfilingProxy(accessHandler)
+                                                                            : accessHandler;
+        CcddScriptDataAccessHandlerStatic staticHandler = new CcddScriptDataAccessHandlerStatic(boundHandler);
+
+        // Bind the script data access handlers (non-static and static versions) to the script
+        // context so that the handlers' public access methods can be accessed by the script using
+        // the binding names ('ccdd' or 'ccdds')
+        Bindings scriptBindings = scriptEngine.createBindings();
+        scriptBindings.put("ccdd", boundHandler);
+        scriptBindings.put("ccdds", staticHandler);
+        scriptEngine.setBindings(scriptBindings, ScriptContext.ENGINE_SCOPE);
+    }
+
+    /**********************************************************************************************
+     * Execute a script. A reusable script engine previously used to execute the same, unmodified,
+     * script file is reused if one is available, with fresh bindings, along with the compiled version of
+     * the script if the engine supports compilation. Otherwise a new script engine is created and,
+     * if the engine supports it, the script is compiled. The engine is made available for reuse
+     * once the script completes execution
      *
      * @param scriptFileName
      *            script file name. The file extension is used to determine the script engine and
@@ -2083,18 +2614,70 @@ public class CcddScriptHandler
                                CcddGroupHandler groupHandler,
                                Component parent) throws CCDDException
     {
-        // Get the script engine for the supplied script file name and table information
-        ScriptEngine scriptEngine = getScriptEngine(scriptFileName,
-                                                    tableInformation,
-                                                    linkHandler,
-                                                    groupHandler,
-                                                    groupNames,
-                                                    parent);
+        // Get the script file's path and modification time. These identify the script version for
+        // a cached script engine
+        FileEnvVar scriptFile = new FileEnvVar(scriptFileName);
+        String scriptPath = scriptFile.getAbsolutePath();
+        long lastModified = scriptFile.lastModified();
+
+        // Get a cached script engine for this script version, if one is available
+        CachedScript cachedScript = getCachedScript(scriptPath, lastModified);
+        boolean isComplete = false;
 
         try
         {
-            // Execute the script
-            scriptEngine.eval(new FileReader(scriptFileName));
+            // Check if no cached script engine is available
+            if (cachedScript == null)
+            {
+                // Get the script engine for the supplied script file name and table information
+                ScriptEngine scriptEngine = getScriptEngine(scriptFileName,
+                                                            tableInformation,
+                                                            linkHandler,
+                                                            groupHandler,
+                                                            groupNames,
+                                                            parent);
+                CompiledScript compiledScript = null;
+
+                // Check if the script engine supports compiling the script
+                if (scriptEngine instanceof Compilable)
+                {
+                    // Compile the script
+                    compiledScript = ((Compilable) scriptEngine).compile(readScript(scriptFileName));
+                }
+
+                cachedScript = new CachedScript(scriptEngine, compiledScript);
+            }
+            // A cached script engine is available
+            else
+            {
+                // Replace the previous execution's bindings with ones for this execution
+                bindScriptDataAccessHandlers(cachedScript.scriptEngine,
+                                             scriptFileName,
+                                             tableInformation,
+                                             linkHandler,
+                                             groupHandler,
+                                             groupNames,
+                                             parent);
+            }
+
+            // Check if the script is compiled
+            if (cachedScript.compiledScript != null)
+            {
+                // Execute the compiled script
+                cachedScript.compiledScript.eval();
+            }
+            // The script engine doesn't support compilation
+            else
+            {
+                // Execute the script
+                cachedScript.scriptEngine.eval(readScript(scriptFileName));
+            }
+
+            isComplete = true;
+        }
+        catch (CCDDException ce)
+        {
+            throw ce;
         }
         catch (Exception e)
         {
@@ -2105,6 +2688,332 @@ public class CcddScriptHandler
                                     + e.getMessage()
                                     + "'");
         }
+        finally
+        {
+            // Check if the script engine was created or obtained from the cache
+            if (cachedScript != null)
+            {
+                // Close any output files the script left open
+                closeScriptOutputFiles(cachedScript.scriptEngine, isComplete);
+
+                // Store the script's data access profile, if profiling is enabled
+                addScriptProfile(scriptFileName, cachedScript.scriptEngine);
+
+                // Make the script engine available for reuse, if the engine type supports it. This
+                // is done whether or not the script executes successfully; an error in the script,
+                // or in reading the script file, doesn't affect subsequent executions since each
+                // execution is given fresh bindings
+                releaseCachedScript(scriptPath, lastModified, cachedScript);
+            }
+
+            // Release the static script data access class's reference to this execution's data
+            // access handler
+            CcddScriptDataAccessHandlerStatic.releaseAccessHandler();
+        }
+    }
+
+    /**********************************************************************************************
+     * Close any output files opened by a script execution that the script didn't close. This must
+     * be called prior to the script engine's bindings being cleared
+     *
+     * @param scriptEngine
+     *            script engine used to execute the script
+     *
+     * @param isComplete
+     *            true if the script completed execution; false if the script failed
+     *********************************************************************************************/
+    private void closeScriptOutputFiles(ScriptEngine scriptEngine, boolean isComplete)
+    {
+        // Get the data access handler bound to the script, either directly or by its profiling
+        // proxy
+        CcddScriptDataAccessHandler accessHandler = CcddScriptDataAccessProfiler.getAccessHandler(scriptEngine.getBindings(ScriptContext.ENGINE_SCOPE)
+                                                                                                              .get("ccdd"));
+
+        // Check if the data access handler is bound to the script
+        if (accessHandler != null)
+        {
+            accessHandler.closeOpenOutputFiles(isComplete);
+        }
+    }
+
+    /**********************************************************************************************
+     * Add the data access profile for a script execution to the profile for the script file. This
+     * must be called prior to the script engine's bindings being cleared
+     *
+     * @param scriptFileName
+     *            script file name
+     *
+     * @param scriptEngine
+     *            script engine used to execute the script
+     *********************************************************************************************/
+    private void addScriptProfile(String scriptFileName, ScriptEngine scriptEngine)
+    {
+        // Get the profiler for the profiling proxy bound to the script, if any
+        CcddScriptDataAccessProfiler profiler = CcddScriptDataAccessProfiler.getProfiler(scriptEngine.getBindings(ScriptContext.ENGINE_SCOPE)
+                                                                                                     .get("ccdd"));
+
+        // Check if profiling is enabled and the profiling proxy was used
+        if (scriptProfiles != null && profiler != null)
+        {
+            synchronized (scriptProfiles)
+            {
+                CcddScriptDataAccessProfiler profile = scriptProfiles.get(scriptFileName);
+
+                // Check if this is the first execution of the script
+                if (profile == null)
+                {
+                    profile = new CcddScriptDataAccessProfiler();
+                    scriptProfiles.put(scriptFileName, profile);
+                }
+
+                // Add the execution's access method statistics to the script's profile
+                profile.addStatistics(profiler);
+            }
+        }
+    }
+
+    /**********************************************************************************************
+     * Write the data access profile for each script executed to a CSV file in the script output
+     * folder. The file name is the script file's absolute path, without the extension, with the
+     * path separators (and any other characters not valid in a file name) replaced by underscores
+     * and '_profile.csv' appended. The path is included so that the profiles for scripts with the
+     * same name in different folders don't overwrite each other
+     *********************************************************************************************/
+    private void writeScriptProfiles()
+    {
+        // Step through each script's data access profile
+        for (Map.Entry<String, CcddScriptDataAccessProfiler> scriptProfile : scriptProfiles.entrySet())
+        {
+            // Build the profile file name from the script file path
+            String profileFileName = new FileEnvVar(scriptProfile.getKey()).getAbsolutePath()
+                                                                           .replaceFirst("\\.[^.\\\\/]*$",
+                                                                                         "")
+                                                                           .replaceAll("[^A-Za-z0-9._-]+",
+                                                                                       "_")
+                                                                           .replaceFirst("^_",
+                                                                                         "")
+                                     + "_profile.csv";
+
+            // Check if a script output folder is specified
+            if (!ModifiablePathInfo.SCRIPT_OUTPUT_PATH.getPath().isEmpty())
+            {
+                // Place the profile file in the script output folder
+                profileFileName = ModifiablePathInfo.SCRIPT_OUTPUT_PATH.getPath()
+                                  + File.separator
+                                  + profileFileName;
+            }
+
+            // Open the profile file
+            PrintWriter printWriter = ccddMain.getFileIOHandler().openOutputFile(profileFileName);
+
+            // Check if the file opened successfully
+            if (printWriter != null)
+            {
+                // Write the profile and close the file
+                scriptProfile.getValue().writeStatistics(printWriter);
+                ccddMain.getFileIOHandler().closeFile(printWriter);
+
+                eventLog.logEvent(STATUS_MSG,
+                                  "Script '"
+                                              + scriptProfile.getKey()
+                                              + "' data access profile written to '"
+                                              + profileFileName
+                                              + "'");
+            }
+        }
+    }
+
+    /**********************************************************************************************
+     * Display the access methods with the longest cumulative execution times for each script
+     * executed
+     *
+     * @param parent
+     *            GUI component over which to center the dialog
+     *********************************************************************************************/
+    private void showScriptProfiles(Component parent)
+    {
+        StringBuilder report = new StringBuilder("<html>");
+
+        // Step through each script's data access profile
+        for (Map.Entry<String, CcddScriptDataAccessProfiler> scriptProfile : scriptProfiles.entrySet())
+        {
+            List<MethodStatistics> statistics = scriptProfile.getValue().getStatistics();
+
+            report.append("<b>")
+                  .append(new File(scriptProfile.getKey()).getName())
+                  .append("</b><table><tr><th align='left'>Method</th><th>Calls</th><th>Total (ms)</th><th>Maximum (ms)</th><th>Allocated (KB)</th></tr>");
+
+            // Step through the access methods with the longest cumulative execution times
+            for (int index = 0; index < Math.min(statistics.size(), MAX_PROFILE_METHODS); index++)
+            {
+                MethodStatistics stats = statistics.get(index);
+                report.append(String.format("<tr><td>%s</td><td align='right'>%d</td><td align='right'>%.1f</td><td align='right'>%.1f</td><td align='right'>%s</td></tr>",
+                                            stats.getMethod(),
+                                            stats.getNumCalls(),
+                                            stats.getTotalTime() / 1.0e6,
+                                            stats.getMaximumTime() / 1.0e6,
+                                            stats.getAllocatedBytes() == -1
+                                                                            ? "n/a"
+                                                                            : String.valueOf(stats.getAllocatedBytes() / 1024)));
+            }
+
+            report.append("</table><br>");
+        }
+
+        // Display the profile summary
+        new CcddDialogHandler().showMessageDialog(parent,
+                                                  report.toString(),
+                                                  "Script Data Access Profile",
+                                                  JOptionPane.INFORMATION_MESSAGE,
+                                                  DialogOption.OK_OPTION);
+    }
+
+    /**********************************************************************************************
+     * Read the contents of a script file
+     *
+     * @param scriptFileName
+     *            script file name
+     *
+     * @return Contents of the script file
+     *
+     * @throws IOException
+     *             If an error occurs reading the script file
+     *********************************************************************************************/
+    private String readScript(String scriptFileName) throws IOException
+    {
+        return new String(Files.readAllBytes(Paths.get(scriptFileName)), StandardCharsets.UTF_8);
+    }
+
+    /**********************************************************************************************
+     * Get a cached script engine, and its compiled script (if any), for the specified script file
+     * version. The engine is removed from the cache so that it isn't used by more than one script
+     * execution at a time
+     *
+     * @param scriptPath
+     *            script file absolute path
+     *
+     * @param lastModified
+     *            script file modification time
+     *
+     * @return Cached script engine for the script file version; null if none is available
+     *********************************************************************************************/
+    private CachedScript getCachedScript(String scriptPath, long lastModified)
+    {
+        CachedScript cachedScript = null;
+
+        synchronized (scriptCache)
+        {
+            // Get the cached script engines for this script file
+            ScriptCacheEntry cacheEntry = scriptCache.get(scriptPath);
+
+            // Check if an engine is cached for this version of the script file
+            if (cacheEntry != null
+                && cacheEntry.lastModified == lastModified
+                && !cacheEntry.idleScripts.isEmpty())
+            {
+                // Remove the cached script engine from the list of those available
+                cachedScript = cacheEntry.idleScripts.remove(cacheEntry.idleScripts.size() - 1);
+            }
+        }
+
+        return cachedScript;
+    }
+
+    /**********************************************************************************************
+     * Check if a script engine can be reused for subsequent executions of a script. Only the
+     * Nashorn (JavaScript) engine is reused since its global variables reside in the engine scope
+     * bindings, which are replaced for each execution; other engines (e.g., Jython, JRuby) may
+     * retain interpreter state between executions
+     *
+     * @param scriptEngine
+     *            script engine
+     *
+     * @return true if the script engine can be reused
+     *********************************************************************************************/
+    private boolean isReusableScriptEngine(ScriptEngine scriptEngine)
+    {
+        return scriptEngine.getFactory().getEngineName().toLowerCase().contains("nashorn");
+    }
+
+    /**********************************************************************************************
+     * Return a script engine to the cache once its script execution completes. Only engines that
+     * can be reused are cached. The engine's bindings are cleared so that the previous execution's
+     * table data isn't retained. Engines for an earlier version of the script file are discarded,
+     * as are engines in excess of the number of script associations that can execute at the same
+     * time
+     *
+     * @param scriptPath
+     *            script file absolute path
+     *
+     * @param lastModified
+     *            script file modification time when the script was read
+     *
+     * @param cachedScript
+     *            script engine, and its compiled script (if any), to cache
+     *********************************************************************************************/
+    private void releaseCachedScript(String scriptPath,
+                                     long lastModified,
+                                     CachedScript cachedScript)
+    {
+        // Check if the script engine isn't one known to discard a previous execution's state when
+        // given fresh bindings
+        if (!isReusableScriptEngine(cachedScript.scriptEngine))
+        {
+            // Discard the script engine; a new engine is created for the next execution
+            return;
+        }
+
+        // Release the references to the previous execution's script data access handlers
+        cachedScript.scriptEngine.setBindings(cachedScript.scriptEngine.createBindings(),
+                                              ScriptContext.ENGINE_SCOPE);
+
+        synchronized (scriptCache)
+        {
+            // Get the cached script engines for this script file
+            ScriptCacheEntry cacheEntry = scriptCache.get(scriptPath);
+
+            // Check if no engine is cached for this script file, or if the cached engines are for
+            // a different version of the script file
+            if (cacheEntry == null || cacheEntry.lastModified != lastModified)
+            {
+                // Replace any cached engines with ones for this version of the script file
+                cacheEntry = new ScriptCacheEntry(lastModified);
+                scriptCache.put(scriptPath, cacheEntry);
+            }
+
+            // Check if the number of cached engines is less than the number that can be in use at
+            // the same time
+            if (cacheEntry.idleScripts.size() < Math.max(numScriptThreads,
+                                                         ModifiableSizeInfo.SCRIPT_EXECUTION_THREADS.getSize()))
+            {
+                // Make the script engine available for reuse
+                cacheEntry.idleScripts.add(cachedScript);
+            }
+        }
+    }
+
+    /**********************************************************************************************
+     * Get the table value dictionary's instance of the specified cell value. The value is added to
+     * the dictionary if not already present
+     *
+     * @param value
+     *            table cell value
+     *
+     * @return Dictionary instance of the cell value
+     *********************************************************************************************/
+    private String getDictionaryValue(String value)
+    {
+        String dictionaryValue = tableValueDictionary.get(value);
+
+        // Check if the value isn't in the dictionary
+        if (dictionaryValue == null)
+        {
+            // Add the value to the dictionary
+            tableValueDictionary.put(value, value);
+            dictionaryValue = value;
+        }
+
+        return dictionaryValue;
     }
 
     /**********************************************************************************************
@@ -2131,8 +3040,9 @@ public class CcddScriptHandler
             // Add the table path to the list so that it is not reloaded
             loadedTablePaths.add(tablePath);
 
-            // Read the table's data from the database
-            tableInfo = dbTable.loadTableData(tablePath, false, false, parent);
+            // Get the table's data from the prefetched data, or from the database if the table's
+            // data wasn't prefetched
+            tableInfo = dbTable.loadTableData(tablePath, tablePrefetch, parent);
 
             // Check that the data was successfully loaded from the database and that the table
             // isn't empty
@@ -2173,6 +3083,14 @@ public class CcddScriptHandler
                     data[row][typeColumn] = tableInfo.getType();
                     data[row][pathColumn] = tablePath;
 
+                    // Step through each of the table's columns
+                    for (int column = 0; column < typeColumn; column++)
+                    {
+                        // Replace the cell value with the dictionary instance of the value so
+                        // that identical values in the table data share storage
+                        data[row][column] = getDictionaryValue(data[row][column]);
+                    }
+
                     // Check if the table represents a structure, contains a variable path column,
                     // and that the variable name and data type aren't blank
                     if (isStructure
@@ -2194,9 +3112,8 @@ public class CcddScriptHandler
 
                     }
 
-                    // Store the data from the table in the combined storage array
-                    combinedData = CcddUtilities.concatenateArrays(combinedData,
-                                                                   new Object[][] {data[row]});
+                    // Store the data from the table in the combined storage
+                    combinedData.add(data[row]);
 
                     // Check if this is a structure table reference
                     if (isStructure && !dataTypeHandler.isPrimitive(data[row][dataTypeColumn]))
@@ -36,8 +36,11 @@ import javax.swing.JPanel;
 import javax.swing.JScrollPane;
 import javax.swing.JSplitPane;
 import javax.swing.ListSelectionModel;
+import javax.swing.Timer;
 import javax.swing.border.BevelBorder;
 import javax.swing.border.Border;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import javax.swing.tree.TreeSelectionModel;
 
 import CCDD.CcddClassesComponent.AutoCompleteTextField;
@@ -71,6 +74,11 @@ public class CcddSearchVariablesDialog extends CcddDialogHandler
     // Pattern for matching search text in the table cells
     private Pattern searchPattern;
 
+    // Search criteria used to create the current search pattern
+    private String patternText;
+    private boolean patternIgnoreCase;
+    private boolean patternAllowRegex;
+
     // Comparison search criteria used to determine if the criteria changed
     private String prevSearchText;
     private boolean prevIgnoreCase;
@@ -79,6 +87,17 @@ public class CcddSearchVariablesDialog extends CcddDialogHandler
     // List of variable paths matching the search criteria
     private List<String[]> variablePaths;
 
+    // Timer used to search the variable tree once typing in the search field pauses
+    private Timer searchTimer;
+
+    // Flag that indicates the current search was initiated by typing in the search field (versus
+    // by the Search button)
+    private boolean isTypedSearch;
+
+    // Time, in milliseconds, after the last change to the search field text before the variable
+    // tree is searched
+    private static final int SEARCH_DELAY = 300;
+
     // Wild card search character explanation label
     private static String WILD_CARD_LABEL = "? = character, * = string, \\ for literal ? or *";
 
@@ -188,6 +207,55 @@ public class CcddSearchVariablesDialog extends CcddDialogHandler
             }
         });
 
+        // Create a timer that searches the variable tree after typing in the search field pauses.
+        // Restarting the timer with each change prevents searching for each character typed
+        searchTimer = new Timer(SEARCH_DELAY, new ActionListener()
+        {
+            /**************************************************************************************
+             * Search the variable tree using the search field text
+             *************************************************************************************/
+            @Override
+            public void actionPerformed(ActionEvent ae)
+            {
+                // Check if the search field contains text
+                if (!searchFld.getText().isEmpty())
+                {
+                    searchVariableTree(true);
+                }
+            }
+        });
+        searchTimer.setRepeats(false);
+
+        // Add a listener for changes to the search field text
+        searchFld.getDocument().addDocumentListener(new DocumentListener()
+        {
+            /**************************************************************************************
+             * Handle an insertion into the search field text
+             *************************************************************************************/
+            @Override
+            public void insertUpdate(DocumentEvent de)
+            {
+                searchTimer.restart();
+            }
+
+            /**************************************************************************************
+             * Handle a removal from the search field text
+             *************************************************************************************/
+            @Override
+            public void removeUpdate(DocumentEvent de)
+            {
+                searchTimer.restart();
+            }
+
+            /**************************************************************************************
+             * Handle a change to the search field text attributes
+             *************************************************************************************/
+            @Override
+            public void changedUpdate(DocumentEvent de)
+            {
+            }
+        });
+
         gbc.insets.left = ModifiableSpacingInfo.LABEL_HORIZONTAL_SPACING.getSpacing() * 2;
         gbc.insets.bottom = 0;
         gbc.gridy++;
@@ -340,43 +408,13 @@ public class CcddSearchVariablesDialog extends CcddDialogHandler
                                           String rateFilter,
                                           Component parent)
             {
-                int matchCount = 0;
-
                 super.buildTableTree(isExpanded, null, null, parent);
 
                 // Check if the user provided search criteria
                 if (searchPattern != null)
                 {
-                    // Expand the nodes in the variable tree containing a match
-                    List<String> variables = variableTree.pruneTreeToSearchCriteria(".*"
-                                                                                    + searchPattern.toString()
-                                                                                    + ".*");
-
-                    // Create storage for the variable table data array
-                    variablePaths = new ArrayList<String[]>(variables.size());
-
-                    // Store the number of matches detected
-                    matchCount = variables.size();
-
-                    // Step through each matching variable
-                    for (String variable : variables)
-                    {
-                        // Highlight the variable's data types and place it in an array (for use in
-                        // the variable table)
-                        variablePaths.add(new String[] {CcddUtilities.highlightDataType(variable)});
-                    }
-
-                    // Load the variable table with the matching variables
-                    variableTable.loadAndFormatData();
-
-                    // Highlight the matching text in the variable paths
-                    variableTable.highlightSearchText(searchPattern);
-
-                    // Update the search string list
-                    searchFld.updateList(searchFld.getText());
-
-                    // Store the search list in the program preferences
-                    ccddMain.getProgPrefs().put(SEARCH_STRINGS, searchFld.getListAsString());
+                    // Prune the variable tree to the search criteria and display the matches
+                    showSearchResults();
                 }
                 // No search criteria are provided; reset the search dialog
                 else
@@ -385,17 +423,8 @@ public class CcddSearchVariablesDialog extends CcddDialogHandler
                     removeAllNodes();
                     variablePaths = new ArrayList<String[]>();
                     variableTable.loadAndFormatData();
+                    numMatchesLbl.setText("");
                 }
-
-                // Update the number of matches found label
-                numMatchesLbl.setText(matchCount != 0
-                                                      ? "  ("
-                                                        + matchCount
-                                                        + (matchCount == 1
-                                                                           ? " match"
-                                                                           : " matches")
-                                                        + ")"
-                                                      : "");
             }
         };
 
@@ -435,7 +464,10 @@ public class CcddSearchVariablesDialog extends CcddDialogHandler
             @Override
             public void actionPerformed(ActionEvent ae)
             {
-                searchVariableTree();
+                // Cancel any pending search due to typing in the search field
+                searchTimer.stop();
+
+                searchVariableTree(false);
             }
         });
 
@@ -477,8 +509,13 @@ public class CcddSearchVariablesDialog extends CcddDialogHandler
 
     /**********************************************************************************************
      * Search the variables for text matching the search criteria
+     *
+     * @param isTyped
+     *            true if the search is initiated by typing in the search field; false if initiated
+     *            by the Search button. Error dialogs are suppressed and the remembered searches
+     *            aren't updated for a typed search
      *********************************************************************************************/
-    private void searchVariableTree()
+    private void searchVariableTree(boolean isTyped)
     {
         // Check if the search criteria changed
         if (!searchFld.getText().equals(prevSearchText)
@@ -503,24 +540,131 @@ public class CcddSearchVariablesDialog extends CcddDialogHandler
             // The search field contains text
             else
             {
-                // Create the match pattern from the search criteria
-                searchPattern = CcddSearchHandler.createSearchPattern(searchFld.getText(),
-                                                                      ignoreCaseCb.isSelected(),
-                                                                      allowRegexCb.isSelected(),
-                                                                      CcddSearchVariablesDialog.this);
+                // Check if the search narrows the previous one; if so, the variable tree can be
+                // pruned further without rebuilding it
+                boolean isNarrowing = variableTree.isSearchNarrowing(prevSearchText,
+                                                                     prevIgnoreCase,
+                                                                     prevAllowRegex);
+
+                // Create the match pattern from the search criteria. An invalid regular
+                // expression isn't reported while typing since it may be incomplete
+                Pattern pattern = CcddSearchHandler.createSearchPattern(prevSearchText,
+                                                                        prevIgnoreCase,
+                                                                        prevAllowRegex,
+                                                                        isTyped
+                                                                                ? null
+                                                                                : CcddSearchVariablesDialog.this);
 
                 // Check if the search pattern is valid
-                if (searchPattern != null)
+                if (pattern != null)
                 {
+                    searchPattern = pattern;
+                    patternText = prevSearchText;
+                    patternIgnoreCase = prevIgnoreCase;
+                    patternAllowRegex = prevAllowRegex;
+                    isTypedSearch = isTyped;
+
                     // Set the search pattern in the variable tree so that the matching text in the
                     // nodes is highlighted
                     variableTree.setHighlightPattern(searchPattern);
 
-                    // Rebuild the table tree, retaining only those nodes that contain a match with
-                    // the search pattern or are ancestors to a matching node
-                    variableTree.buildTableTree(false, null, null, CcddSearchVariablesDialog.this);
+                    // Check if the search narrows the previous one
+                    if (isNarrowing)
+                    {
+                        // Prune the current variable tree to the search criteria
+                        showSearchResults();
+                    }
+                    // The search doesn't narrow the previous one
+                    else
+                    {
+                        // Rebuild the table tree, retaining only those nodes that contain a match
+                        // with the search pattern or are ancestors to a matching node
+                        variableTree.buildTableTree(false,
+                                                    null,
+                                                    null,
+                                                    CcddSearchVariablesDialog.this);
+                    }
+                }
+                // Check if the invalid search was typed
+                else if (isTyped)
+                {
+                    // Clear the stored search text so that the invalid pattern is reported if the
+                    // Search button is pressed
+                    prevSearchText = null;
                 }
             }
         }
+        // Check if the search criteria are unchanged from the previous (typed) search and the
+        // Search button was pressed
+        else if (!isTyped && isTypedSearch && searchPattern != null)
+        {
+            isTypedSearch = false;
+
+            // Add the search text to the remembered searches
+            updateSearchList();
+        }
+    }
+
+    /**********************************************************************************************
+     * Prune the variable tree to the nodes matching the current search criteria and display the
+     * matching variable paths
+     *********************************************************************************************/
+    private void showSearchResults()
+    {
+        // Remove the nodes from the variable tree that don't contain a match and aren't ancestors
+        // of a node containing a match
+        List<String> variables = variableTree.pruneTreeToSearchCriteria(patternText,
+                                                                        patternIgnoreCase,
+                                                                        patternAllowRegex);
+
+        // Create storage for the variable table data array
+        variablePaths = new ArrayList<String[]>(variables.size());
+
+        // Store the number of matches detected
+        int matchCount = variables.size();
+
+        // Step through each matching variable
+        for (String variable : variables)
+        {
+            // Highlight the variable's data types and place it in an array (for use in the
+            // variable table)
+            variablePaths.add(new String[] {CcddUtilities.highlightDataType(variable)});
+        }
+
+        // Load the variable table with the matching variables
+        variableTable.loadAndFormatData();
+
+        // Highlight the matching text in the variable paths
+        variableTable.highlightSearchText(searchPattern);
+
+        // Check if the search wasn't initiated by typing in the search field
+        if (!isTypedSearch)
+        {
+            // Add the search text to the remembered searches
+            updateSearchList();
+        }
+
+        // Update the number of matches found label
+        numMatchesLbl.setText(matchCount != 0
+                                              ? "  ("
+                                                + matchCount
+                                                + (matchCount == 1
+                                                                   ? " match"
+                                                                   : " matches")
+                                                + ")"
+                                              : "");
+    }
+
+    /**********************************************************************************************
+     * Add the search field text to the list of remembered searches and store the list in the
+     * program preferences
+     *********************************************************************************************/
+    private void updateSearchList()
+    {
+        // Update the search string list
+        searchFld.updateList(searchFld.getText());
+
+        // Store the search list in the program preferences
+        ccddMain.getProgPrefs().put(SEARCH_STRINGS, searchFld.getListAsString());
     }
 }
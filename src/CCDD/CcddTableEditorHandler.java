@@ -1894,7 +1894,7 @@ public class CcddTableEditorHandler extends CcddInputFieldPanelHandler
                         }
 
                         // Check if the value doesn't match the expected input type
-                        if (!newValueS.matches(typeDefn.getInputTypes()[column].getInputMatch()))
+                        if (!typeDefn.getInputTypes()[column].isInputValid(newValueS))
                         {
                             throw new CCDDException("Invalid characters in table '</b>"
                                                     + currentTableInfo.getTablePath()
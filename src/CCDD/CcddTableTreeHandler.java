@@ -37,8 +37,15 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.MouseEvent;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 import javax.swing.BorderFactory;
 import javax.swing.JCheckBox;
@@ -54,12 +61,14 @@ import javax.swing.event.TreeExpansionEvent;
 import javax.swing.event.TreeExpansionListener;
 import javax.swing.event.TreeSelectionEvent;
 import javax.swing.event.TreeSelectionListener;
+import javax.swing.event.TreeWillExpandListener;
 import javax.swing.tree.DefaultMutableTreeNode;
 import javax.swing.tree.DefaultTreeModel;
 import javax.swing.tree.TreeNode;
 import javax.swing.tree.TreePath;
 
 import CCDD.CcddClassesComponent.ArrayListMultiple;
+import CCDD.CcddClassesComponent.IndexedArrayListMultiple;
 import CCDD.CcddClassesComponent.ToolTipTreeNode;
 import CCDD.CcddClassesDataTable.GroupInformation;
 import CCDD.CcddClassesDataTable.TableInformation;
@@ -87,6 +96,7 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
 
     // Components referenced by multiple methods
     private List<TableMembers> tableMembers;
+    private Map<String, TableMembers> tableMemberMap;
     private List<Object[]> tablePathList;
     private ToolTipTreeNode root;
     private final TableTreeType treeType;
@@ -135,6 +145,41 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
     // List of nodes that don't meet the table filtering criteria
     private final List<ToolTipTreeNode> removeNodes;
 
+    // Flag to indicate if the child nodes of a structure table's node are created only when the
+    // node is expanded or its children are otherwise referenced
+    private boolean isLazyBuild;
+
+    // Structure table nodes whose child nodes haven't been created, keyed by the node's table
+    // path (in the form rootTable[,dataType1.variable1[,...]]). A node is removed once its child
+    // nodes are created or it's removed from the tree
+    private final Map<String, List<TableMemberNode>> pendingNodes;
+
+    // Node indices keyed by the node path (in the form rootTable[,dataType1.variable1[,...]]) and
+    // by the node name, with any HTML tags removed. Each entry lists the matching nodes in the
+    // order in which they appear in the tree. Null if the indices must be rebuilt
+    private Map<String, List<ToolTipTreeNode>> nodePathIndex;
+    private Map<String, List<ToolTipTreeNode>> nodeNameIndex;
+
+    // Position of each table path in the list of all table tree paths, keyed by the table path.
+    // Null if the positions must be rebuilt
+    private Map<String, Integer> tablePathOrdinals;
+
+    // Node paths, in preorder, and the corresponding node names with any HTML tags removed, and
+    // in lower case, used to search the tree. Also the table members and filter states reflected
+    // by the search keys
+    private List<Object[]> searchKeyPaths;
+    private String[] searchKeys;
+    private String[] lowerSearchKeys;
+    private List<TableMembers> searchKeyMembers;
+    private boolean searchKeyByGroup;
+    private boolean searchKeyByType;
+
+    // Criteria for the previous tree search and the search key indices of the nodes that matched
+    private String prevSearchText;
+    private boolean prevIgnoreCase;
+    private boolean prevAllowRegex;
+    private List<Integer> prevSearchMatches;
+
     // List of variables to be excluded from the tree
     private List<String> excludedVariables;
 
@@ -165,6 +210,159 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
         INSTANCE_ONLY
     }
 
+    /**********************************************************************************************
+     * Table tree node for a structure table whose child nodes are created on demand. The child
+     * nodes are created when the node is expanded or when its children are first referenced
+     *********************************************************************************************/
+    private class TableMemberNode extends ToolTipTreeNode
+    {
+        // Structure table members represented by the node's children; null once the child nodes
+        // are created
+        private TableMembers member;
+
+        // Key for the node in the pending nodes map; null if the node isn't in the map
+        private String pendingPath;
+
+        /******************************************************************************************
+         * Table tree node for a structure table class constructor
+         *
+         * @param nodeName
+         *            node name
+         *
+         * @param toolTipText
+         *            text to display when mouse pointer hovers over the node
+         *
+         * @param member
+         *            structure table members represented by the node's children
+         *****************************************************************************************/
+        TableMemberNode(String nodeName, String toolTipText, TableMembers member)
+        {
+            super(nodeName, toolTipText);
+            this.member = member;
+            pendingPath = null;
+        }
+
+        /******************************************************************************************
+         * Check if the node's child nodes have yet to be created
+         *
+         * @return true if the node's child nodes haven't been created
+         *****************************************************************************************/
+        @Override
+        protected boolean isChildrenPending()
+        {
+            return member != null;
+        }
+
+        /******************************************************************************************
+         * Get the root table and variable path for the node
+         *
+         * @return Root table and variable path for the node, with any HTML tags removed
+         *****************************************************************************************/
+        protected String getTablePath()
+        {
+            return removeExtraText(getFullVariablePath(getUserObjectPath()));
+        }
+
+        /******************************************************************************************
+         * Get the enable state of the variables represented by the node's descendants
+         *
+         * @return true if at least one of the variables isn't excluded; false if all of the
+         *         variables are excluded; null if there are no variables
+         *****************************************************************************************/
+        protected Boolean getVariableState()
+        {
+            String fullTablePath = getTablePath();
+
+            return getMemberVariableState(member,
+                                          fullTablePath,
+                                          isUnlinkedNode(getUserObjectPath()),
+                                          getPathTables(fullTablePath));
+        }
+
+        /******************************************************************************************
+         * Create the node's child nodes if these haven't already been created
+         *****************************************************************************************/
+        protected void createChildren()
+        {
+            // Check if the child nodes haven't been created
+            if (member != null)
+            {
+                TableMembers thisMember = member;
+
+                // Clear the member reference first so that adding the child nodes doesn't
+                // trigger another attempt to create them
+                member = null;
+                removePendingNode(this);
+
+                // Add the nodes for the structure's variables and child structures
+                addMemberNodes(thisMember, this, getTablePath());
+
+                // Check if the node indices exist
+                if (nodePathIndex != null)
+                {
+                    // Step through the new child nodes
+                    for (Enumeration<?> element = super.children(); element.hasMoreElements();)
+                    {
+                        // Add the child node to the node indices
+                        addToNodeIndex((ToolTipTreeNode) element.nextElement());
+                    }
+                }
+            }
+        }
+
+        /******************************************************************************************
+         * Check if the node has no children. A node whose children haven't been created always
+         * has children
+         *
+         * @return true if the node has no children
+         *****************************************************************************************/
+        @Override
+        public boolean isLeaf()
+        {
+            return member == null && super.isLeaf();
+        }
+
+        /******************************************************************************************
+         * Get the number of child nodes, creating the child nodes if needed
+         *
+         * @return Number of child nodes
+         *****************************************************************************************/
+        @Override
+        public int getChildCount()
+        {
+            createChildren();
+            return super.getChildCount();
+        }
+
+        /******************************************************************************************
+         * Get the child node at the specified index, creating the child nodes if needed
+         *
+         * @param index
+         *            child node index
+         *
+         * @return Child node at the specified index
+         *****************************************************************************************/
+        @Override
+        public TreeNode getChildAt(int index)
+        {
+            createChildren();
+            return super.getChildAt(index);
+        }
+
+        /******************************************************************************************
+         * Get an enumeration of the child nodes, creating the child nodes if needed
+         *
+         * @return Enumeration of the child nodes
+         *****************************************************************************************/
+        @SuppressWarnings("rawtypes")
+        @Override
+        public Enumeration children()
+        {
+            createChildren();
+            return super.children();
+        }
+    }
+
     private final int GROUP_HEADER_LEVEL = 2;
 
     /**********************************************************************************************
@@ -264,6 +462,7 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
         isByType = false;
 
         removeNodes = new ArrayList<ToolTipTreeNode>();
+        pendingNodes = new HashMap<String, List<TableMemberNode>>();
 
         // Get the table information from the database and use it to build the table tree
         buildTableTreeFromDatabase(parent);
@@ -598,6 +797,9 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
     protected void setGroupHandler(CcddGroupHandler groupHandler)
     {
         this.groupHandler = groupHandler;
+
+        // Discard the search keys since the group filtered nodes may differ
+        searchKeyPaths = null;
     }
 
     /**********************************************************************************************
@@ -627,6 +829,14 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
         if (tableMembers != null)
         {
             linkedVariables = new ArrayList<String>();
+            tableMemberMap = new HashMap<String, TableMembers>();
+
+            // Step through each table
+            for (TableMembers member : tableMembers)
+            {
+                // Store the table's members using the table name as the key
+                tableMemberMap.put(member.getTableName(), member);
+            }
 
             // Store the tree's current expansion state
             String expState = getExpansionState();
@@ -671,7 +881,7 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
         {
             // Load all references to rate column values from the custom values table that match
             // the rate name
-            rateValues = new ArrayListMultiple();
+            rateValues = new IndexedArrayListMultiple();
             rateValues.addAll(dbTable.getCustomValues(rateName, null, parent));
         }
 
@@ -682,6 +892,10 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
         // inhibit actions involving tree selection value changes during the build process
         isBuilding = true;
 
+        // Discard the pending nodes and node indices for the previous tree
+        pendingNodes.clear();
+        clearNodeIndex();
+
         // Create the tree's root node using the database name and hide the root node (project
         // database name). Since the root node isn't visible there is no need for a description
         root = new ToolTipTreeNode(dbControl.getDatabaseName(), null);
@@ -1197,6 +1411,13 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
                                     ToolTipTreeNode protoNode,
                                     Component parent)
     {
+        // Set the flag to create the nodes for the structure tables' variables and child tables
+        // on demand if the tree includes the primitive variables of every instance and isn't
+        // filtered (the filters operate on the fully built branches)
+        isLazyBuild = validTables == null
+                      && (treeType == INSTANCE_STRUCTURES_WITH_PRIMITIVES
+                          || treeType == INSTANCE_STRUCTURES_WITH_PRIMITIVES_AND_RATES);
+
         // Check if the descriptions are needed (i.e., if building a visible table tree) and
         // haven't already been loaded
         if (getDescriptions && tableDescriptions == null)
@@ -1327,6 +1548,10 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
                 // Remove the node from the tree
                 removeNode.removeFromParent();
             }
+
+            // Discard the node indices and any pending nodes since these may reference the
+            // removed nodes
+            clearNodeIndex();
         }
     }
 
@@ -1374,94 +1599,106 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
             // Get the parent table and variable path for this variable
             String fullTablePath = getFullVariablePath(childNode.getPath());
 
-            // Step through each table/variable referenced by the table member
-            for (int memIndex = 0; memIndex < thisMember.getDataTypes().size(); memIndex++)
+            // Check if the child nodes for the table's structures are created on demand
+            if (isLazyBuild)
+            {
+                // Add the nodes for the table's variables. Nodes for child structures are added,
+                // but their children aren't created until needed
+                addMemberNodes(thisMember, childNode, fullTablePath);
+            }
+            // All of the nodes are created when the tree is built
+            else
             {
-                // Check if this data type is a primitive
-                if (dataTypeHandler.isPrimitive(thisMember.getDataTypes().get(memIndex)))
+                // Step through each table/variable referenced by the table member
+                for (int memIndex = 0; memIndex < thisMember.getDataTypes().size(); memIndex++)
                 {
-                    String tablePath = fullTablePath;
-
-                    // Set to true if the variable has a path (i.e., this is not a prototype's
-                    // variable)
-                    boolean isChildVariable = tablePath.contains(",");
-
-                    // Check if the variable has a path
-                    if (isChildVariable)
+                    // Check if this data type is a primitive
+                    if (dataTypeHandler.isPrimitive(thisMember.getDataTypes().get(memIndex)))
                     {
-                        // Add the data type and variable name to the variable path
-                        tablePath += ","
-                                     + thisMember.getDataTypes().get(memIndex)
-                                     + "."
-                                     + thisMember.getVariableNames().get(memIndex);
-                    }
+                        String tablePath = fullTablePath;
 
-                    String rate = null;
+                        // Set to true if the variable has a path (i.e., this is not a prototype's
+                        // variable)
+                        boolean isChildVariable = tablePath.contains(",");
 
-                    // Check if a rate filter is in effect
-                    if (rateFilter != null)
-                    {
-                        // Get the rate value for this variable. Use the prototype's value if the
-                        // variable doesn't have a specific rate assigned
-                        int index = rateValues.indexOf(tablePath);
-                        rate = isChildVariable
-                               && index != -1
-                                              ? rateValues.get(index)[2]
-                                              : thisMember.getRates().get(memIndex)[rateIndex];
-                    }
+                        // Check if the variable has a path
+                        if (isChildVariable)
+                        {
+                            // Add the data type and variable name to the variable path
+                            tablePath += ","
+                                         + thisMember.getDataTypes().get(memIndex)
+                                         + "."
+                                         + thisMember.getVariableNames().get(memIndex);
+                        }
 
-                    // Check if no rate filter is in effect or, if not, that the rate matches the
-                    // specified rate filter
-                    if (rateFilter == null || rate.equals(rateFilter))
-                    {
-                        // Get the full variable name in the form
-                        // data_type.variable_name[:bit_length]
-                        String variable = thisMember.getFullVariableNameWithBits(memIndex);
+                        String rate = null;
 
-                        // Check that no exclusion list is supplied, or if one is in effect that
-                        // the variable, using its full path and name, is not in the exclusion list
-                        if (excludedVariables == null || !excludedVariables.contains(tablePath))
+                        // Check if a rate filter is in effect
+                        if (rateFilter != null)
                         {
-                            // Add the primitive as a node to this child node
-                            childNode.add(new ToolTipTreeNode(variable, null));
+                            // Get the rate value for this variable. Use the prototype's value if
+                            // the variable doesn't have a specific rate assigned
+                            int index = rateValues.indexOf(tablePath);
+                            rate = isChildVariable
+                                   && index != -1
+                                                  ? rateValues.get(index)[2]
+                                                  : thisMember.getRates().get(memIndex)[rateIndex];
                         }
-                        // The variable is in the exclusion list
-                        else
+
+                        // Check if no rate filter is in effect or, if not, that the rate matches
+                        // the specified rate filter
+                        if (rateFilter == null || rate.equals(rateFilter))
                         {
-                            // Add the variable with the node text grayed out
-                            childNode.add(new ToolTipTreeNode(DISABLED_TEXT_COLOR + variable, null));
+                            // Get the full variable name in the form
+                            // data_type.variable_name[:bit_length]
+                            String variable = thisMember.getFullVariableNameWithBits(memIndex);
+
+                            // Check that no exclusion list is supplied, or if one is in effect that
+                            // the variable, using its full path and name, is not in the exclusion
+                            // list
+                            if (excludedVariables == null || !excludedVariables.contains(tablePath))
+                            {
+                                // Add the primitive as a node to this child node
+                                childNode.add(new ToolTipTreeNode(variable, null));
+                            }
+                            // The variable is in the exclusion list
+                            else
+                            {
+                                // Add the variable with the node text grayed out
+                                childNode.add(new ToolTipTreeNode(DISABLED_TEXT_COLOR + variable, null));
+                            }
                         }
                     }
-                }
-                // Data type is not a primitive, it's a structure
-                else
-                {
-                    // Step through the other tables
-                    for (TableMembers member : tableMembers)
+                    // Data type is not a primitive, it's a structure
+                    else
                     {
-                        // Check if the table is a member of the target table
-                        if (thisMember.getDataTypes().get(memIndex).equals(member.getTableName()))
+                        // Step through the other tables
+                        for (TableMembers member : tableMembers)
                         {
-                            // Build the node name from the prototype and variable names
-                            String nodeName = thisMember.getDataTypes().get(memIndex)
-                                              + "."
-                                              + thisMember.getVariableNames().get(memIndex);
-
-                            // Get the variable name path to this node
-                            String tablePath = fullTablePath + "," + nodeName;
-
-                            // Add this table to the current table's node. The node name is in the
-                            // format 'dataType.variableName<[arrayIndex]>'. If a specific
-                            // description exists for the table then use it for the tool tip text;
-                            // otherwise use the prototype's description
-                            buildNodes(member,
-                                       childNode,
-                                       new ToolTipTreeNode(nodeName,
-                                                           getDescriptions
-                                                                           ? getTableDescription(tablePath,
-                                                                                                 thisMember.getDataTypes()
-                                                                                                           .get(memIndex))
-                                                                           : null));
+                            // Check if the table is a member of the target table
+                            if (thisMember.getDataTypes().get(memIndex).equals(member.getTableName()))
+                            {
+                                // Build the node name from the prototype and variable names
+                                String nodeName = thisMember.getDataTypes().get(memIndex)
+                                                  + "."
+                                                  + thisMember.getVariableNames().get(memIndex);
+
+                                // Get the variable name path to this node
+                                String tablePath = fullTablePath + "," + nodeName;
+
+                                // Add this table to the current table's node. The node name is in
+                                // the format 'dataType.variableName<[arrayIndex]>'. If a specific
+                                // description exists for the table then use it for the tool tip
+                                // text; otherwise use the prototype's description
+                                buildNodes(member,
+                                           childNode,
+                                           new ToolTipTreeNode(nodeName,
+                                                               getDescriptions
+                                                                               ? getTableDescription(tablePath,
+                                                                                                     thisMember.getDataTypes()
+                                                                                                               .get(memIndex))
+                                                                               : null));
+                            }
                         }
                     }
                 }
@@ -1481,310 +1718,949 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
     }
 
     /**********************************************************************************************
-     * Get the description for the specified table
+     * Add the child nodes for the specified table member's variables and child structures to the
+     * specified node. A child structure's node is added only if the structure contains a variable
+     * that meets the rate filter criteria, but its child nodes aren't created until the node is
+     * expanded or its children are otherwise referenced
      *
-     * @param tablePath
-     *            root table and variable path for the table
+     * @param thisMember
+     *            table member for which to add the child nodes
      *
-     * @param dataType
-     *            table data type
+     * @param node
+     *            node to which to add the child nodes
      *
-     * @return The description for this table. If this is an instance of a table and no specific
-     *         description exists for it then use the prototype table's description. If the
-     *         prototype table has no description then return null
+     * @param fullTablePath
+     *            root table and variable path for the table member, with any HTML tags removed
      *********************************************************************************************/
-    protected String getTableDescription(String tablePath, String dataType)
+    private void addMemberNodes(TableMembers thisMember, ToolTipTreeNode node, String fullTablePath)
     {
-        String description = null;
-        String protoDescription = null;
+        List<TableMembers> childMembers = new ArrayList<TableMembers>();
 
-        // Check if descriptions are needed and that descriptions are available
-        if (getDescriptions && tableDescriptions != null)
+        // Get the names of the node's children
+        List<String> childNames = getMemberChildNodeNames(thisMember,
+                                                          fullTablePath,
+                                                          isUnlinkedNode(node.getUserObjectPath()),
+                                                          getPathTables(fullTablePath),
+                                                          childMembers);
+
+        // Step through each child node name
+        for (int index = 0; index < childNames.size(); index++)
         {
-            // Check if there's a table_name & var_name match and use that description; if no match
-            // then find the table_name match
-            for (int index = 0; index < tableDescriptions.length; index++)
+            // Check if the child represents a primitive variable
+            if (childMembers.get(index) == null)
             {
-                // Check if this is this table's data type matches and the variable path in the
-                // descriptions list is empty
-                if (tableDescriptions[index][0].equals(dataType)
-                    && tableDescriptions[index][1].isEmpty())
-                {
-                    // Store the prototype description for this table
-                    protoDescription = tableDescriptions[index][1];
-                }
-                // Check if the table paths match
-                else if (tableDescriptions[index][0].equals(tablePath))
-                {
-                    // Store the specific description for this table and stop searching
-                    description = tableDescriptions[index][1];
-                    break;
-                }
+                // Add the primitive as a node to this node
+                node.add(new ToolTipTreeNode(childNames.get(index), null));
+            }
+            // The child represents a structure
+            else
+            {
+                String childPath = fullTablePath + "," + removeExtraText(childNames.get(index));
+
+                // Create the structure's node. If a specific description exists for the structure
+                // then use it for the tool tip text; otherwise use the prototype's description
+                TableMemberNode memberNode = new TableMemberNode(childNames.get(index),
+                                                                 getDescriptions
+                                                                                 ? getTableDescription(childPath,
+                                                                                                       childMembers.get(index).getTableName())
+                                                                                 : null,
+                                                                 childMembers.get(index));
+
+                // Add the structure's node to this node and to the nodes whose children are
+                // pending
+                node.add(memberNode);
+                addPendingNode(memberNode, childPath);
             }
         }
-
-        return description != null
-                                   ? description
-                                   : protoDescription;
     }
 
     /**********************************************************************************************
-     * Search the entire table tree and get the list of paths where the node contains the search
-     * table's name. If no search name is provided then a list of all nodes is returned. The paths
-     * are in the form of comma-separated node names, with any HTML tags removed
+     * Get the names of the child nodes for the specified table member's variables and child
+     * structures, and the table member for each child structure, without creating the nodes. A
+     * node name has the disabled text color prepended if the variable, or every variable in the
+     * structure, is excluded. A child structure is omitted if it contains no variables that meet
+     * the rate filter criteria or if it's referenced in its own path
      *
-     * @param searchName
-     *            name of table to search for in the node names; null to get all paths for the
-     *            parent node
+     * @param thisMember
+     *            table member for which to get the child node names
      *
-     * @return List of paths to the nodes matching the search table's name, or all nodes if the
-     *         search name is null
-     *********************************************************************************************/
-    protected List<String> getTableTreePathList(String searchName)
-    {
-        return getTableTreePathList(searchName, root, -1);
-    }
-
-    /**********************************************************************************************
-     * Search the table tree starting at the specified node and get the list of paths where the
-     * node contains the search table's name. If no search name is provided then a list of all
-     * nodes is returned. The paths are in the form of comma-separated node names, with any HTML
-     * tags removed
+     * @param fullTablePath
+     *            root table and variable path for the table member, with any HTML tags removed
      *
-     * @param searchName
-     *            name of table to search for in the node names; null to get all paths for the
-     *            parent node
+     * @param isUnlinked
+     *            true if the table member's node is in the unlinked variables branch
      *
-     * @param startNode
-     *            starting node
+     * @param ancestors
+     *            list of the table names in the table member's path, including the table member
      *
-     * @param maxLevel
-     *            only paths that are at a level less than or equal to this value can be added to
-     *            the list; -1 to to ignore the path level
+     * @param childMembers
+     *            list to which the table member for each child node is added; null is added for a
+     *            child representing a primitive variable
      *
-     * @return List of paths to the nodes matching the search table's name, or all nodes if the
-     *         search name is null
+     * @return List containing the names of the table member's child nodes
      *********************************************************************************************/
-    protected List<String> getTableTreePathList(String searchName,
-                                                ToolTipTreeNode startNode,
-                                                int maxLevel)
+    private List<String> getMemberChildNodeNames(TableMembers thisMember,
+                                                 String fullTablePath,
+                                                 boolean isUnlinked,
+                                                 List<String> ancestors,
+                                                 List<TableMembers> childMembers)
     {
-        // Get the paths from the tree matching the search criteria
-        tablePathList = getTableTreePathArray(searchName, startNode, maxLevel);
-
-        List<String> variablePaths = new ArrayList<String>();
+        List<String> childNames = new ArrayList<String>();
 
-        // Step through each path
-        for (Object[] path : tablePathList)
+        // Step through each table/variable referenced by the table member
+        for (int memIndex = 0; memIndex < thisMember.getDataTypes().size(); memIndex++)
         {
-            // Convert the path array to a string, stripping off the nodes names prior to the start
-            // index and the HTML tags
-            String variable = removeExtraText(createNameFromPath(path, getHeaderNodeLevel()));
+            String dataType = thisMember.getDataTypes().get(memIndex);
 
-            // Check if the path is not already in the list and that the path isn't blank
-            if (!variablePaths.contains(variable) && !variable.isEmpty())
+            // Check if this data type is a primitive
+            if (dataTypeHandler.isPrimitive(dataType))
             {
-                // Add the path to the list
-                variablePaths.add(variable);
+                // Check if the variable meets the rate filter criteria
+                if (isRateMatch(thisMember, memIndex, fullTablePath))
+                {
+                    // Get the full variable name in the form data_type.variable_name[:bit_length]
+                    String variable = thisMember.getFullVariableNameWithBits(memIndex);
+
+                    // Add the variable's node name, grayed out if the variable is excluded
+                    childNames.add((isVariableExcluded(fullTablePath + "," + variable, isUnlinked)
+                                                                                                   ? DISABLED_TEXT_COLOR
+                                                                                                   : "")
+                                   + variable);
+                    childMembers.add(null);
+                }
+            }
+            // Data type is a structure; check that it isn't referenced in its own path
+            else if (!ancestors.contains(dataType))
+            {
+                // Get the structure's table members
+                TableMembers member = tableMemberMap.get(dataType);
+
+                // Check if the structure exists
+                if (member != null)
+                {
+                    // Build the node name from the prototype and variable names
+                    String nodeName = dataType + "." + thisMember.getVariableNames().get(memIndex);
+
+                    // Get the enable state of the structure's variables
+                    ancestors.add(dataType);
+                    Boolean isEnabled = getMemberVariableState(member,
+                                                               fullTablePath + "," + nodeName,
+                                                               isUnlinked,
+                                                               ancestors);
+                    ancestors.remove(ancestors.size() - 1);
+
+                    // Check if the structure has a variable that meets the rate filter criteria
+                    if (isEnabled != null)
+                    {
+                        // Add the structure's node name, grayed out if all of its variables are
+                        // excluded
+                        childNames.add((isEnabled
+                                                  ? ""
+                                                  : DISABLED_TEXT_COLOR)
+                                       + nodeName);
+                        childMembers.add(member);
+                    }
+                }
             }
         }
 
-        return variablePaths;
+        return childNames;
     }
 
     /**********************************************************************************************
-     * Search the table tree starting at the specified node and get the list of path arrays where
-     * the node contains the search table's name. If no search name is provided then a list of all
-     * nodes is returned. The paths are in the form of arrays, with any HTML tags preserved
+     * Determine the enable state of the variables in the specified table member and its child
+     * structures without creating their nodes. This is a recursive method
      *
-     * @param searchName
-     *            name of table to search for in the node names; null to get all paths for the
-     *            parent node
+     * @param thisMember
+     *            table member for which to determine the variable enable state
      *
-     * @param startNode
-     *            starting node
+     * @param fullTablePath
+     *            root table and variable path for the table member, with any HTML tags removed
      *
-     * @param maxLevel
-     *            only paths that are at a level less than or equal to this value can be added to
-     *            the list; -1 to to ignore the path level
+     * @param isUnlinked
+     *            true if the table member's node is in the unlinked variables branch
      *
-     * @return List of paths to the nodes matching the search table's name, or all nodes if the
-     *         search name is null
+     * @param ancestors
+     *            list of the table names in the table member's path, including the table member
+     *
+     * @return true if at least one of the variables meeting the rate filter criteria isn't
+     *         excluded; false if all of these variables are excluded; null if no variable meets
+     *         the rate filter criteria
      *********************************************************************************************/
-    protected List<Object[]> getTableTreePathArray(String searchName,
-                                                   ToolTipTreeNode startNode,
-                                                   int maxLevel)
+    private Boolean getMemberVariableState(TableMembers thisMember,
+                                           String fullTablePath,
+                                           boolean isUnlinked,
+                                           List<String> ancestors)
     {
-        // Initialize the path list
-        tablePathList = new ArrayList<Object[]>();
+        Boolean isEnabled = null;
 
-        // Step through each element and child of this node
-        for (Enumeration<?> element = startNode.preorderEnumeration(); element.hasMoreElements();)
+        // Step through each table/variable referenced by the table member
+        for (int memIndex = 0; memIndex < thisMember.getDataTypes().size(); memIndex++)
         {
-            // Get the node reference
-            ToolTipTreeNode node = (ToolTipTreeNode) element.nextElement();
+            String dataType = thisMember.getDataTypes().get(memIndex);
 
-            // Check if the node's table name matches the search table's name and that the node
-            // name isn't empty, that the node meets the level requirement (if any), and that the
-            // path isn't already in the list
-            if ((searchName == null
-                 || searchName.equals(getTableFromNodeName(node.getUserObject().toString())))
-                && node.getUserObjectPath().length != 0
-                && (maxLevel == -1 || node.getLevel() <= maxLevel))
+            // Check if this data type is a primitive
+            if (dataTypeHandler.isPrimitive(dataType))
             {
-                // Add the table's path to the list
-                tablePathList.add(node.getUserObjectPath());
+                // Check if the variable meets the rate filter criteria
+                if (isRateMatch(thisMember, memIndex, fullTablePath))
+                {
+                    // Set the flag based on the variable's exclusion state
+                    isEnabled = !isVariableExcluded(fullTablePath
+                                                    + ","
+                                                    + thisMember.getFullVariableNameWithBits(memIndex),
+                                                    isUnlinked);
+                }
             }
-        }
-
-        return tablePathList;
-    }
-
-    /**********************************************************************************************
-     * Beginning with the root node, remove tree nodes that do not match the specified search text
-     * and are not an ancestor of a node that does contain a match.
-     *
-     * @param searchText
-     *            text for which to search (regular expression is allowed)
-     *
-     * @return List of paths for the nodes matching the search text; an empty list if there are no
-     *         matches
-     *********************************************************************************************/
-    protected List<String> pruneTreeToSearchCriteria(String searchText)
-    {
-        List<String> variableList = new ArrayList<String>();
-        List<ToolTipTreeNode> removeList = new ArrayList<ToolTipTreeNode>();
-
-        // Step through each element and child of the root node
-        for (Enumeration<?> element = root.preorderEnumeration(); element.hasMoreElements();)
-        {
-            // Get the node reference
-            ToolTipTreeNode node = (ToolTipTreeNode) element.nextElement();
-
-            // Check if the node is for a table or variable and matches the search criteria
-            if (node.getLevel() >= getHeaderNodeLevel()
-                && getPathFromNode(node).getLastPathComponent().toString().matches(searchText))
+            // Data type is a structure; check that it isn't referenced in its own path
+            else if (!ancestors.contains(dataType))
             {
-                // Get the node's full path
-                String fullPath = getFullVariablePath(node.getUserObjectPath());
-
-                // Add the full path for this node to the list of matching nodes
-                variableList.add(fullPath);
+                // Get the structure's table members
+                TableMembers member = tableMemberMap.get(dataType);
 
-                do
+                // Check if the structure exists
+                if (member != null)
                 {
-                    // Check if the list of nodes to removes contains this node (which is either
-                    // the node with a match or one of its ancestors)
-                    if (removeList.contains(node))
+                    // Get the enable state of the structure's variables
+                    ancestors.add(dataType);
+                    Boolean isChildEnabled = getMemberVariableState(member,
+                                                                    fullTablePath
+                                                                            + ","
+                                                                            + dataType
+                                                                            + "."
+                                                                            + thisMember.getVariableNames().get(memIndex),
+                                                                    isUnlinked,
+                                                                    ancestors);
+                    ancestors.remove(ancestors.size() - 1);
+
+                    // Check if the structure has a variable that meets the rate filter criteria
+                    if (isChildEnabled != null)
                     {
-                        // Remove the node from the list so that it isn't removed from the tree
-                        // later
-                        removeList.remove(node);
+                        isEnabled = isChildEnabled;
                     }
-
-                    // Get the parent node for this node
-                    node = (ToolTipTreeNode) node.getParent();
-                } while (node != root);
-                // Continue to add the ancestor nodes to the list of those containing a match until
-                // the root node is reached. This ensures the node containing the match retains its
-                // tree hierarchy
+                }
             }
-            // Check if this is not the root node (which is always retained)
-            else if (node != root)
+
+            // Check if an enabled variable is found
+            if (isEnabled == Boolean.TRUE)
             {
-                // Add the node to the list of those to removed from the tree
-                removeList.add(node);
+                // Stop searching
+                break;
             }
         }
 
-        // Step through the list of nodes that don't contain a match and aren't ancestors of a node
-        // containing a match
-        for (ToolTipTreeNode node : removeList)
-        {
-            // Remove the node from the tree
-            node.removeFromParent();
-        }
-
-        // Force the root node to acknowledge with the node removals, then fully expand the pruned
-        // tree
-        ((DefaultTreeModel) getModel()).nodeStructureChanged(root);
-        setTreeExpansion(true);
-
-        return variableList;
+        return isEnabled;
     }
 
     /**********************************************************************************************
-     * Determine if the specified path exists in the table tree
+     * Check if the specified primitive variable meets the rate filter criteria
      *
-     * @param targetPath
-     *            name of the node to search for, in the form
-     *            rootTable[,dataType1.variable1[,dataType2.variable2[,...]]]
+     * @param thisMember
+     *            table member containing the variable
      *
-     * @return true if the target path exists in in the tree
+     * @param memIndex
+     *            index of the variable in the table member
+     *
+     * @param fullTablePath
+     *            root table and variable path for the table member, with any HTML tags removed
+     *
+     * @return true if no rate filter is in effect or if the variable's rate matches the rate
+     *         filter
      *********************************************************************************************/
-    protected boolean isNodeInTree(String targetPath)
+    private boolean isRateMatch(TableMembers thisMember, int memIndex, String fullTablePath)
     {
-        boolean isInTree = false;
+        boolean isMatch = true;
 
-        // Step through the table tree
-        for (Enumeration<?> element = getRootNode().preorderEnumeration(); element.hasMoreElements();)
+        // Check if a rate filter is in effect
+        if (rateFilter != null)
         {
-            // Get the referenced node
-            ToolTipTreeNode tableNode = (ToolTipTreeNode) element.nextElement();
+            int index = -1;
 
-            // Check if the target path matches the path in the tree (skipping header nodes such as
-            // the project database and filter nodes)
-            if (targetPath.equals(removeExtraText(getFullVariablePath(tableNode.getPath()))))
+            // Check if the variable has a path (i.e., this is not a prototype's variable)
+            if (fullTablePath.contains(","))
             {
-                // Set the flag indicating the path is present in the tree and stop searching
-                isInTree = true;
-                break;
+                // Get the index of the rate value assigned specifically to this variable, if any
+                index = rateValues.indexOf(fullTablePath
+                                           + ","
+                                           + thisMember.getDataTypes().get(memIndex)
+                                           + "."
+                                           + thisMember.getVariableNames().get(memIndex));
             }
+
+            // Get the rate value for this variable. Use the prototype's value if the variable
+            // doesn't have a specific rate assigned
+            isMatch = (index != -1
+                                   ? rateValues.get(index)[2]
+                                   : thisMember.getRates().get(memIndex)[rateIndex]).equals(rateFilter);
         }
 
-        return isInTree;
+        return isMatch;
     }
 
     /**********************************************************************************************
-     * Get the TreeNode for the node matching the specified node name (table name + variable name)
+     * Check if the specified variable is excluded, using the same criteria as are applied when
+     * the variable exclusion list is updated
      *
-     * @param nodeName
-     *            name of the node to search for, in the form tableName.variableName
+     * @param variablePath
+     *            variable's root table and variable path
      *
-     * @return TreeNode for the specified node name; null if the node name doesn't exist in the
-     *         tree
+     * @param isUnlinked
+     *            true if the variable's node is in the unlinked variables branch
+     *
+     * @return true if the variable is in the exclusion list, or is in the unlinked variables
+     *         branch and is a linked variable
      *********************************************************************************************/
-    protected ToolTipTreeNode getNodeByNodeName(String nodeName)
+    private boolean isVariableExcluded(String variablePath, boolean isUnlinked)
     {
-        ToolTipTreeNode node = null;
-
-        // Step through the root node's children, if any
-        for (Enumeration<?> element = root.preorderEnumeration(); element.hasMoreElements();)
-        {
-            // Get the referenced node
-            ToolTipTreeNode tableNode = (ToolTipTreeNode) element.nextElement();
-
-            // Check if the node matches the target node's name
-            if (removeExtraText(tableNode.getUserObject().toString()).equals(nodeName))
-            {
-                // Store this node and stop searching
-                node = tableNode;
-                break;
-            }
-        }
-
-        return node;
+        return excludedVariables != null
+               && (excludedVariables.contains(variablePath)
+                   || (isUnlinked && linkedVariables.contains(variablePath)));
     }
 
     /**********************************************************************************************
-     * Get the TreeNode for the first node matching the specified node path name (table path +
-     * variable name), starting at the tree root node
+     * Check if the specified node path is in the unlinked variables branch
      *
-     * @param nodePath
-     *            path of the node to search for, in the form
-     *            rootTable,tableName.variableName(,...)
+     * @param path
+     *            node path
      *
-     * @return TreeNode for the specified node path; null if the node path doesn't exist in the
+     * @return true if the node path is in the unlinked variables branch
+     *********************************************************************************************/
+    private boolean isUnlinkedNode(Object[] path)
+    {
+        return path.length > 1
+               && removeExtraText(path[1].toString()).equals(UNLINKED_VARIABLES_NODE_NAME);
+    }
+
+    /**********************************************************************************************
+     * Get the names of the tables in the specified table path
+     *
+     * @param fullTablePath
+     *            root table and variable path, with any HTML tags removed
+     *
+     * @return List containing the root table name followed by the data type of each variable in
+     *         the path
+     *********************************************************************************************/
+    private List<String> getPathTables(String fullTablePath)
+    {
+        List<String> tables = new ArrayList<String>();
+
+        // Step through the root table and each variable in the path
+        for (String table : fullTablePath.split(","))
+        {
+            // Add the table name to the list
+            tables.add(getTableFromNodeName(table));
+        }
+
+        return tables;
+    }
+
+    /**********************************************************************************************
+     * Add the node paths for the descendants of the specified table member to the supplied list,
+     * without creating the nodes. The paths are in the order in which the nodes would appear in a
+     * preorder traversal of the table member's branch. This is a recursive method
+     *
+     * @param nodePath
+     *            node path, in the form of an array of node names, for the table member
+     *
+     * @param thisMember
+     *            table member for which to add the descendant paths
+     *
+     * @param fullTablePath
+     *            root table and variable path for the table member, with any HTML tags removed
+     *
+     * @param isUnlinked
+     *            true if the table member's node is in the unlinked variables branch
+     *
+     * @param ancestors
+     *            list of the table names in the table member's path, including the table member
+     *
+     * @param paths
+     *            list to which to add the descendant paths
+     *********************************************************************************************/
+    private void addMemberNodePaths(Object[] nodePath,
+                                    TableMembers thisMember,
+                                    String fullTablePath,
+                                    boolean isUnlinked,
+                                    List<String> ancestors,
+                                    List<Object[]> paths)
+    {
+        List<TableMembers> childMembers = new ArrayList<TableMembers>();
+
+        // Get the names of the table member's children
+        List<String> childNames = getMemberChildNodeNames(thisMember,
+                                                          fullTablePath,
+                                                          isUnlinked,
+                                                          ancestors,
+                                                          childMembers);
+
+        // Step through each child node name
+        for (int index = 0; index < childNames.size(); index++)
+        {
+            // Add the child to the node path and add the child's path to the list
+            Object[] childPath = Arrays.copyOf(nodePath, nodePath.length + 1);
+            childPath[nodePath.length] = childNames.get(index);
+            paths.add(childPath);
+
+            // Check if the child represents a structure
+            if (childMembers.get(index) != null)
+            {
+                // Add the paths for the structure's descendants
+                ancestors.add(childMembers.get(index).getTableName());
+                addMemberNodePaths(childPath,
+                                   childMembers.get(index),
+                                   fullTablePath + "," + removeExtraText(childNames.get(index)),
+                                   isUnlinked,
+                                   ancestors,
+                                   paths);
+                ancestors.remove(ancestors.size() - 1);
+            }
+        }
+    }
+
+    /**********************************************************************************************
+     * Get the node paths for the specified node and its descendants. The paths for the
+     * descendants of a node whose children haven't been created are obtained from the table
+     * members, so these nodes aren't created
+     *
+     * @param startNode
+     *            starting node
+     *
+     * @return List containing the node paths, in the form of arrays of node names, in preorder
+     *********************************************************************************************/
+    private List<Object[]> getNodePaths(DefaultMutableTreeNode startNode)
+    {
+        List<Object[]> paths = new ArrayList<Object[]>();
+        addNodePaths(startNode, paths);
+        return paths;
+    }
+
+    /**********************************************************************************************
+     * Add the node path for the specified node and those of its descendants to the supplied list.
+     * This is a recursive method
+     *
+     * @param node
+     *            node for which to add the paths
+     *
+     * @param paths
+     *            list to which to add the node paths
+     *********************************************************************************************/
+    private void addNodePaths(DefaultMutableTreeNode node, List<Object[]> paths)
+    {
+        // Add the node's path to the list
+        paths.add(node.getUserObjectPath());
+
+        // Check if the node's children haven't been created
+        if (node instanceof TableMemberNode && ((TableMemberNode) node).isChildrenPending())
+        {
+            String fullTablePath = ((TableMemberNode) node).getTablePath();
+
+            // Add the paths for the node's descendants using the node's table member
+            addMemberNodePaths(node.getUserObjectPath(),
+                               ((TableMemberNode) node).member,
+                               fullTablePath,
+                               isUnlinkedNode(node.getUserObjectPath()),
+                               getPathTables(fullTablePath),
+                               paths);
+        }
+        // The node's children exist
+        else
+        {
+            // Step through the node's children
+            for (Enumeration<?> element = node.children(); element.hasMoreElements();)
+            {
+                // Add the paths for the child node and its descendants
+                addNodePaths((DefaultMutableTreeNode) element.nextElement(), paths);
+            }
+        }
+    }
+
+    /**********************************************************************************************
+     * Add the specified node and its descendants to the supplied list, in preorder. The
+     * descendants of a node whose children haven't been created are skipped. This is a recursive
+     * method
+     *
+     * @param node
+     *            node to add
+     *
+     * @param nodes
+     *            list to which to add the nodes
+     *
+     * @return Reference to the supplied node list
+     *********************************************************************************************/
+    private List<ToolTipTreeNode> getCreatedNodes(ToolTipTreeNode node, List<ToolTipTreeNode> nodes)
+    {
+        // Add the node to the list
+        nodes.add(node);
+
+        // Check if the node's children have been created
+        if (!node.isChildrenPending())
+        {
+            // Step through the node's children
+            for (Enumeration<?> element = node.children(); element.hasMoreElements();)
+            {
+                // Add the child node and its descendants to the list
+                getCreatedNodes((ToolTipTreeNode) element.nextElement(), nodes);
+            }
+        }
+
+        return nodes;
+    }
+
+    /**********************************************************************************************
+     * Get the description for the specified table
+     *
+     * @param tablePath
+     *            root table and variable path for the table
+     *
+     * @param dataType
+     *            table data type
+     *
+     * @return The description for this table. If this is an instance of a table and no specific
+     *         description exists for it then use the prototype table's description. If the
+     *         prototype table has no description then return null
+     *********************************************************************************************/
+    protected String getTableDescription(String tablePath, String dataType)
+    {
+        String description = null;
+        String protoDescription = null;
+
+        // Check if descriptions are needed and that descriptions are available
+        if (getDescriptions && tableDescriptions != null)
+        {
+            // Check if there's a table_name & var_name match and use that description; if no match
+            // then find the table_name match
+            for (int index = 0; index < tableDescriptions.length; index++)
+            {
+                // Check if this is this table's data type matches and the variable path in the
+                // descriptions list is empty
+                if (tableDescriptions[index][0].equals(dataType)
+                    && tableDescriptions[index][1].isEmpty())
+                {
+                    // Store the prototype description for this table
+                    protoDescription = tableDescriptions[index][1];
+                }
+                // Check if the table paths match
+                else if (tableDescriptions[index][0].equals(tablePath))
+                {
+                    // Store the specific description for this table and stop searching
+                    description = tableDescriptions[index][1];
+                    break;
+                }
+            }
+        }
+
+        return description != null
+                                   ? description
+                                   : protoDescription;
+    }
+
+    /**********************************************************************************************
+     * Search the entire table tree and get the list of paths where the node contains the search
+     * table's name. If no search name is provided then a list of all nodes is returned. The paths
+     * are in the form of comma-separated node names, with any HTML tags removed
+     *
+     * @param searchName
+     *            name of table to search for in the node names; null to get all paths for the
+     *            parent node
+     *
+     * @return List of paths to the nodes matching the search table's name, or all nodes if the
+     *         search name is null
+     *********************************************************************************************/
+    protected List<String> getTableTreePathList(String searchName)
+    {
+        return getTableTreePathList(searchName, root, -1);
+    }
+
+    /**********************************************************************************************
+     * Search the table tree starting at the specified node and get the list of paths where the
+     * node contains the search table's name. If no search name is provided then a list of all
+     * nodes is returned. The paths are in the form of comma-separated node names, with any HTML
+     * tags removed
+     *
+     * @param searchName
+     *            name of table to search for in the node names; null to get all paths for the
+     *            parent node
+     *
+     * @param startNode
+     *            starting node
+     *
+     * @param maxLevel
+     *            only paths that are at a level less than or equal to this value can be added to
+     *            the list; -1 to to ignore the path level
+     *
+     * @return List of paths to the nodes matching the search table's name, or all nodes if the
+     *         search name is null
+     *********************************************************************************************/
+    protected List<String> getTableTreePathList(String searchName,
+                                                ToolTipTreeNode startNode,
+                                                int maxLevel)
+    {
+        // Get the paths from the tree matching the search criteria
+        tablePathList = getTableTreePathArray(searchName, startNode, maxLevel);
+
+        List<String> variablePaths = new ArrayList<String>();
+        Set<String> uniquePaths = new HashSet<String>();
+
+        // Step through each path
+        for (Object[] path : tablePathList)
+        {
+            // Convert the path array to a string, stripping off the nodes names prior to the start
+            // index and the HTML tags
+            String variable = removeExtraText(createNameFromPath(path, getHeaderNodeLevel()));
+
+            // Check if the path is not already in the list and that the path isn't blank
+            if (!variable.isEmpty() && uniquePaths.add(variable))
+            {
+                // Add the path to the list
+                variablePaths.add(variable);
+            }
+        }
+
+        return variablePaths;
+    }
+
+    /**********************************************************************************************
+     * Search the table tree starting at the specified node and get the list of path arrays where
+     * the node contains the search table's name. If no search name is provided then a list of all
+     * nodes is returned. The paths are in the form of arrays, with any HTML tags preserved
+     *
+     * @param searchName
+     *            name of table to search for in the node names; null to get all paths for the
+     *            parent node
+     *
+     * @param startNode
+     *            starting node
+     *
+     * @param maxLevel
+     *            only paths that are at a level less than or equal to this value can be added to
+     *            the list; -1 to to ignore the path level
+     *
+     * @return List of paths to the nodes matching the search table's name, or all nodes if the
+     *         search name is null
+     *********************************************************************************************/
+    protected List<Object[]> getTableTreePathArray(String searchName,
+                                                   ToolTipTreeNode startNode,
+                                                   int maxLevel)
+    {
+        // Initialize the path list
+        tablePathList = new ArrayList<Object[]>();
+
+        // Step through the paths for this node and its descendants
+        for (Object[] path : getNodePaths(startNode))
+        {
+            // Check that the node name isn't empty, the node's table name matches the search
+            // table's name, and that the node meets the level requirement (if any)
+            if (path.length != 0
+                && (searchName == null
+                    || searchName.equals(getTableFromNodeName(path[path.length - 1].toString())))
+                && (maxLevel == -1 || path.length - 1 <= maxLevel))
+            {
+                // Add the table's path to the list
+                tablePathList.add(path);
+            }
+        }
+
+        return tablePathList;
+    }
+
+    /**********************************************************************************************
+     * Beginning with the root node, remove tree nodes that do not match the specified search text
+     * and are not an ancestor of a node that does contain a match. The search is performed using
+     * search keys (the node names with any HTML tags removed) built from the tree's table members,
+     * so nodes whose creation is deferred are only created if they contain a match or are the
+     * ancestor of a match. If the search text extends that of the previous search (and the case
+     * sensitivity is unchanged and regular expressions aren't allowed) then only the nodes that
+     * matched the previous search are checked
+     *
+     * @param searchText
+     *            text for which to search
+     *
+     * @param ignoreCase
+     *            true to ignore the text case when matching
+     *
+     * @param allowRegex
+     *            true if the search text is a regular expression; false if the search text only
+     *            contains wild cards
+     *
+     * @return List of paths for the nodes matching the search text; an empty list if there are no
+     *         matches
+     *********************************************************************************************/
+    protected List<String> pruneTreeToSearchCriteria(String searchText,
+                                                     boolean ignoreCase,
+                                                     boolean allowRegex)
+    {
+        List<String> variableList = new ArrayList<String>();
+
+        // Check if the search keys don't exist or don't reflect the current tree
+        if (!isSearchKeyValid())
+        {
+            // Build the search keys from the tree
+            buildSearchKeys();
+        }
+
+        // Set the flag if the search ignores case and doesn't use a regular expression. In this
+        // case the lower case search text is matched to the lower case search keys, which avoids
+        // the overhead of a case insensitive match
+        boolean isLowerCase = ignoreCase && !allowRegex;
+
+        // Create the match pattern from the search criteria
+        Pattern searchPattern = CcddSearchHandler.createSearchPattern(isLowerCase
+                                                                                  ? searchText.toLowerCase()
+                                                                                  : searchText,
+                                                                      ignoreCase && !isLowerCase,
+                                                                      allowRegex,
+                                                                      null);
+
+        // Check if the search pattern is valid
+        if (searchPattern != null)
+        {
+            String[] keys = isLowerCase
+                                        ? lowerSearchKeys
+                                        : searchKeys;
+            List<Integer> matches = new ArrayList<Integer>();
+            Set<List<Object>> retainPaths = new HashSet<List<Object>>();
+
+            // Get the indices of the nodes to check. If the search narrows the previous search
+            // then only the nodes that matched the previous search can match; otherwise all of the
+            // nodes are checked
+            List<Integer> candidates = isSearchNarrowing(searchText, ignoreCase, allowRegex)
+                                                                                             ? prevSearchMatches
+                                                                                             : null;
+            int numCandidates = candidates != null
+                                                   ? candidates.size()
+                                                   : keys.length;
+
+            // Step through each node to check
+            for (int candidate = 0; candidate < numCandidates; candidate++)
+            {
+                int index = candidates != null
+                                               ? candidates.get(candidate)
+                                               : candidate;
+
+                // Check if the node is for a table or variable and matches the search criteria
+                if (keys[index] != null && searchPattern.matcher(keys[index]).find())
+                {
+                    Object[] path = searchKeyPaths.get(index);
+                    matches.add(index);
+
+                    // Add the full path for this node to the list of matching nodes
+                    variableList.add(getFullVariablePath(path));
+
+                    // Step through the node containing the match and its ancestors
+                    for (int level = path.length; level > 0; level--)
+                    {
+                        // Add the node's path to the list of those to retain. This ensures the
+                        // node containing the match retains its tree hierarchy. Stop if an
+                        // ancestor has already been added
+                        if (!retainPaths.add(Arrays.asList(Arrays.copyOf(path, level))))
+                        {
+                            break;
+                        }
+                    }
+                }
+            }
+
+            // Store the search criteria and matches so that a subsequent search can be narrowed
+            prevSearchText = searchText;
+            prevIgnoreCase = ignoreCase;
+            prevAllowRegex = allowRegex;
+            prevSearchMatches = matches;
+
+            // Remove the nodes that don't contain a match and aren't ancestors of a node
+            // containing a match
+            removeUnmatchedNodes(root, Arrays.asList(root.getUserObjectPath()), retainPaths);
+
+            // Discard the node indices since these reference the removed nodes
+            clearNodeIndex();
+
+            // Force the root node to acknowledge with the node removals, then fully expand the
+            // pruned tree
+            ((DefaultTreeModel) getModel()).nodeStructureChanged(root);
+            setTreeExpansion(true);
+        }
+
+        return variableList;
+    }
+
+    /**********************************************************************************************
+     * Remove the child nodes of the specified node that aren't in the list of node paths to
+     * retain. The nodes that are retained are checked in the same manner. This is a recursive
+     * method
+     *
+     * @param node
+     *            node for which to remove the child nodes
+     *
+     * @param nodePath
+     *            node path, in the form of a list of the node names, for the specified node
+     *
+     * @param retainPaths
+     *            set of the node paths to retain
+     *********************************************************************************************/
+    private void removeUnmatchedNodes(ToolTipTreeNode node,
+                                      List<Object> nodePath,
+                                      Set<List<Object>> retainPaths)
+    {
+        // Step backwards through the node's children so that removing a child doesn't affect the
+        // index of those remaining to be checked
+        for (int index = node.getChildCount() - 1; index >= 0; index--)
+        {
+            ToolTipTreeNode childNode = (ToolTipTreeNode) node.getChildAt(index);
+
+            // Get the child node's path
+            List<Object> childPath = new ArrayList<Object>(nodePath);
+            childPath.add(childNode.getUserObject());
+
+            // Check if the child node is to be retained
+            if (retainPaths.contains(childPath))
+            {
+                // Remove the child node's descendants that aren't to be retained
+                removeUnmatchedNodes(childNode, childPath, retainPaths);
+            }
+            // The child node doesn't contain a match and isn't an ancestor of a match
+            else
+            {
+                // Remove the node from the tree
+                node.remove(index);
+            }
+        }
+    }
+
+    /**********************************************************************************************
+     * Check if the search keys exist and reflect the current table members and tree filters
+     *
+     * @return true if the search keys are valid
+     *********************************************************************************************/
+    private boolean isSearchKeyValid()
+    {
+        return searchKeyPaths != null
+               && searchKeyMembers == tableMembers
+               && searchKeyByGroup == isByGroup
+               && searchKeyByType == isByType;
+    }
+
+    /**********************************************************************************************
+     * Build the search keys from the tree's node paths. The tree must not have been pruned. The
+     * key for each node is its name with any HTML tags removed; header nodes have no key
+     *********************************************************************************************/
+    private void buildSearchKeys()
+    {
+        // Get the paths for all of the tree's nodes, without creating any deferred nodes
+        searchKeyPaths = getNodePaths(root);
+        searchKeys = new String[searchKeyPaths.size()];
+        lowerSearchKeys = new String[searchKeyPaths.size()];
+
+        // Step through each node path
+        for (int index = 0; index < searchKeyPaths.size(); index++)
+        {
+            Object[] path = searchKeyPaths.get(index);
+
+            // Check if the node is for a table or variable
+            if (path.length - 1 >= getHeaderNodeLevel())
+            {
+                // Store the node name as the key, and its lower case version
+                searchKeys[index] = removeExtraText(path[path.length - 1].toString());
+                lowerSearchKeys[index] = searchKeys[index].toLowerCase();
+            }
+        }
+
+        // Store the tree characteristics reflected by the keys and discard the previous search's
+        // matches
+        searchKeyMembers = tableMembers;
+        searchKeyByGroup = isByGroup;
+        searchKeyByType = isByType;
+        prevSearchMatches = null;
+    }
+
+    /**********************************************************************************************
+     * Check if the specified search criteria narrow those of the previous search; i.e., only
+     * nodes that matched the previous search can match these criteria
+     *
+     * @param searchText
+     *            text for which to search
+     *
+     * @param ignoreCase
+     *            true to ignore the text case when matching
+     *
+     * @param allowRegex
+     *            true if the search text is a regular expression
+     *
+     * @return true if the search criteria narrow those of the previous search
+     *********************************************************************************************/
+    protected boolean isSearchNarrowing(String searchText, boolean ignoreCase, boolean allowRegex)
+    {
+        // The search is narrowed if the previous matches apply to the current tree, neither
+        // search uses a regular expression, the case sensitivity is unchanged, and the search
+        // text extends the previous text (unless the previous text ends with an escape character
+        // since the added text changes the meaning of the escape)
+        return prevSearchMatches != null
+               && isSearchKeyValid()
+               && !allowRegex
+               && !prevAllowRegex
+               && ignoreCase == prevIgnoreCase
+               && searchText.startsWith(prevSearchText)
+               && !prevSearchText.endsWith("\\");
+    }
+
+    /**********************************************************************************************
+     * Determine if the specified path exists in the table tree
+     *
+     * @param targetPath
+     *            name of the node to search for, in the form
+     *            rootTable[,dataType1.variable1[,dataType2.variable2[,...]]]
+     *
+     * @return true if the target path exists in in the tree
+     *********************************************************************************************/
+    protected boolean isNodeInTree(String targetPath)
+    {
+        return getNodeByNodePath(targetPath) != null;
+    }
+
+    /**********************************************************************************************
+     * Get the TreeNode for the node matching the specified node name (table name + variable name)
+     *
+     * @param nodeName
+     *            name of the node to search for, in the form tableName.variableName
+     *
+     * @return TreeNode for the specified node name; null if the node name doesn't exist in the
+     *         tree
+     *********************************************************************************************/
+    protected ToolTipTreeNode getNodeByNodeName(String nodeName)
+    {
+        // Get the node from the node name index
+        ToolTipTreeNode node = getIndexedNode(false, nodeName, root);
+
+        // Check if the node isn't in the index (nodes added to the tree by other classes aren't
+        // indexed)
+        if (node == null)
+        {
+            // Step through the root node's children, if any
+            for (Enumeration<?> element = root.preorderEnumeration(); element.hasMoreElements();)
+            {
+                // Get the referenced node
+                ToolTipTreeNode tableNode = (ToolTipTreeNode) element.nextElement();
+
+                // Check if the node matches the target node's name
+                if (removeExtraText(tableNode.getUserObject().toString()).equals(nodeName))
+                {
+                    // Store this node and stop searching
+                    node = tableNode;
+                    break;
+                }
+            }
+        }
+
+        return node;
+    }
+
+    /**********************************************************************************************
+     * Get the TreeNode for the first node matching the specified node path name (table path +
+     * variable name), starting at the tree root node
+     *
+     * @param nodePath
+     *            path of the node to search for, in the form
+     *            rootTable,tableName.variableName(,...)
+     *
+     * @return TreeNode for the specified node path; null if the node path doesn't exist in the
      *         tree
      *********************************************************************************************/
     protected ToolTipTreeNode getNodeByNodePath(String nodePath)
@@ -1807,27 +2683,449 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
      *         tree
      *********************************************************************************************/
     protected ToolTipTreeNode getNodeByNodePath(String nodePath, ToolTipTreeNode startNode)
+    {
+        // Get the node from the node path index
+        ToolTipTreeNode node = getIndexedNode(true, nodePath, startNode);
+
+        // Check if the node isn't in the index (nodes added to the tree by other classes and
+        // those in branches that haven't been created aren't indexed)
+        if (node == null)
+        {
+            // Search the tree for the node
+            node = searchNodeByNodePath(nodePath, startNode);
+        }
+
+        return node;
+    }
+
+    /**********************************************************************************************
+     * Search the tree for the first node matching the specified node path name (table path +
+     * variable name), starting at the specified node. This is a recursive method
+     *
+     * @param nodePath
+     *            path of the node to search for, in the form
+     *            rootTable,tableName.variableName(,...)
+     *
+     * @param startNode
+     *            node from which to begin
+     *
+     * @return TreeNode for the specified node path; null if the node path doesn't exist in the
+     *         tree
+     *********************************************************************************************/
+    private ToolTipTreeNode searchNodeByNodePath(String nodePath, ToolTipTreeNode startNode)
     {
         ToolTipTreeNode node = null;
 
-        // Step through the root node's children, if any
-        for (Enumeration<?> element = startNode.preorderEnumeration(); element.hasMoreElements();)
+        // Get the node's path
+        String path = removeExtraText(getFullVariablePath(startNode.getUserObjectPath()));
+
+        // Check if the node matches the target node's path
+        if (path.equals(nodePath))
+        {
+            // Store this node
+            node = startNode;
+        }
+        // Check if the node is a header node (which has no path) or if the target node is a
+        // descendant of this node. Only the branch leading to the target node is searched so that
+        // nodes with children that are created on demand are only created along the target path
+        else if (path.isEmpty() || nodePath.startsWith(path + ","))
+        {
+            // Step through the node's children, if any
+            for (Enumeration<?> element = startNode.children(); element.hasMoreElements();)
+            {
+                // Search the child node's branch for the target node
+                node = searchNodeByNodePath(nodePath, (ToolTipTreeNode) element.nextElement());
+
+                // Check if the target node is found
+                if (node != null)
+                {
+                    // Stop searching
+                    break;
+                }
+            }
+        }
+
+        return node;
+    }
+
+    /**********************************************************************************************
+     * Discard the node indices and table path positions so that these are rebuilt when next
+     * needed, and remove any nodes no longer in the tree from the nodes whose children are
+     * pending. This must be called whenever nodes are removed from the tree
+     *********************************************************************************************/
+    private void clearNodeIndex()
+    {
+        nodePathIndex = null;
+        nodeNameIndex = null;
+        tablePathOrdinals = null;
+
+        // Step through the table paths of the nodes whose children are pending
+        for (Iterator<List<TableMemberNode>> iterator = pendingNodes.values().iterator(); iterator.hasNext();)
         {
-            // Get the referenced node
-            ToolTipTreeNode tableNode = (ToolTipTreeNode) element.nextElement();
+            List<TableMemberNode> nodes = iterator.next();
 
-            // Check if the node matches the target node's path
-            if (removeExtraText(getFullVariablePath(tableNode.getUserObjectPath())).equals(nodePath))
+            // Step backwards through the nodes with this table path so that removing a node
+            // doesn't affect the index of those remaining to be checked
+            for (int index = nodes.size() - 1; index >= 0; index--)
             {
-                // Store this node and stop searching
-                node = tableNode;
-                break;
+                // Check if the node has been removed from the tree
+                if (nodes.get(index).getRoot() != root)
+                {
+                    // Remove the node from the pending nodes
+                    nodes.get(index).pendingPath = null;
+                    nodes.remove(index);
+                }
+            }
+
+            // Check if no nodes with this table path remain
+            if (nodes.isEmpty())
+            {
+                // Remove the table path's entry
+                iterator.remove();
+            }
+        }
+    }
+
+    /**********************************************************************************************
+     * Add the specified node to the nodes whose children are pending
+     *
+     * @param node
+     *            node whose children haven't been created
+     *
+     * @param tablePath
+     *            node's table path, in the form rootTable[,dataType1.variable1[,...]]
+     *********************************************************************************************/
+    private void addPendingNode(TableMemberNode node, String tablePath)
+    {
+        List<TableMemberNode> nodes = pendingNodes.get(tablePath);
+
+        // Check if this is the first pending node with this table path
+        if (nodes == null)
+        {
+            // Create the list for the table path's nodes
+            nodes = new ArrayList<TableMemberNode>(1);
+            pendingNodes.put(tablePath, nodes);
+        }
+
+        nodes.add(node);
+        node.pendingPath = tablePath;
+    }
+
+    /**********************************************************************************************
+     * Remove the specified node from the nodes whose children are pending
+     *
+     * @param node
+     *            node whose children have been created
+     *********************************************************************************************/
+    private void removePendingNode(TableMemberNode node)
+    {
+        // Check if the node is in the pending nodes
+        if (node.pendingPath != null)
+        {
+            List<TableMemberNode> nodes = pendingNodes.get(node.pendingPath);
+
+            // Check if the table path has pending nodes
+            if (nodes != null)
+            {
+                // Remove the node, and the table path's entry if no other nodes have this path
+                nodes.remove(node);
+
+                if (nodes.isEmpty())
+                {
+                    pendingNodes.remove(node.pendingPath);
+                }
+            }
+
+            node.pendingPath = null;
+        }
+    }
+
+    /**********************************************************************************************
+     * Build the node path and name indices from the nodes that currently exist in the tree. Nodes
+     * whose creation is deferred are added to the indices when they're created
+     *********************************************************************************************/
+    private void buildNodeIndex()
+    {
+        nodePathIndex = new HashMap<String, List<ToolTipTreeNode>>();
+        nodeNameIndex = new HashMap<String, List<ToolTipTreeNode>>();
+
+        // Step through the existing nodes in the tree
+        for (ToolTipTreeNode node : getCreatedNodes(root, new ArrayList<ToolTipTreeNode>()))
+        {
+            // Add the node to the indices
+            addToNodeIndex(node);
+        }
+    }
+
+    /**********************************************************************************************
+     * Add the specified node to the node path and name indices
+     *
+     * @param node
+     *            node to add
+     *********************************************************************************************/
+    private void addToNodeIndex(ToolTipTreeNode node)
+    {
+        // Get the node's path
+        String nodePath = removeExtraText(getFullVariablePath(node.getUserObjectPath()));
+
+        // Check if the node has a path (i.e., it isn't a header node)
+        if (!nodePath.isEmpty())
+        {
+            // Add the node to the path index
+            addToNodeIndex(nodePathIndex, nodePath, node);
+        }
+
+        // Add the node to the name index
+        addToNodeIndex(nodeNameIndex, removeExtraText(node.getUserObject().toString()), node);
+    }
+
+    /**********************************************************************************************
+     * Add the specified node to a node index. The node is inserted into the index entry's node
+     * list so that the list remains in the order in which the nodes appear in the tree
+     *
+     * @param index
+     *            node index
+     *
+     * @param key
+     *            node index key
+     *
+     * @param node
+     *            node to add
+     *********************************************************************************************/
+    private static void addToNodeIndex(Map<String, List<ToolTipTreeNode>> index,
+                                       String key,
+                                       ToolTipTreeNode node)
+    {
+        List<ToolTipTreeNode> nodes = index.get(key);
+
+        // Check if this is the first node with this key
+        if (nodes == null)
+        {
+            // Create the list for the key's nodes
+            nodes = new ArrayList<ToolTipTreeNode>(1);
+            index.put(key, nodes);
+        }
+
+        int position = nodes.size();
+
+        // Step backwards through the nodes with this key while the node precedes them in the tree
+        while (position > 0 && isBeforeInTree(node, nodes.get(position - 1)))
+        {
+            position--;
+        }
+
+        // Insert the node into the list
+        nodes.add(position, node);
+    }
+
+    /**********************************************************************************************
+     * Check if the first specified node appears before the second in a preorder traversal of the
+     * tree
+     *
+     * @param node1
+     *            first node
+     *
+     * @param node2
+     *            second node
+     *
+     * @return true if the first node appears before the second node in the tree; false if it
+     *         appears after the second node or if the nodes aren't in the same tree
+     *********************************************************************************************/
+    private static boolean isBeforeInTree(ToolTipTreeNode node1, ToolTipTreeNode node2)
+    {
+        boolean isBefore = false;
+        TreeNode[] path1 = node1.getPath();
+        TreeNode[] path2 = node2.getPath();
+        int level = 0;
+
+        // Step through the nodes the two paths have in common
+        while (level < path1.length && level < path2.length && path1[level] == path2[level])
+        {
+            level++;
+        }
+
+        // Check if the nodes are in the same tree
+        if (level != 0)
+        {
+            // The first node precedes the second if it's an ancestor of the second or if its
+            // branch precedes the second node's branch under their common ancestor
+            isBefore = level == path1.length
+                       || (level != path2.length
+                           && path1[level - 1].getIndex(path1[level]) < path1[level - 1].getIndex(path2[level]));
+        }
+
+        return isBefore;
+    }
+
+    /**********************************************************************************************
+     * Get the first node in the node path or name index matching the specified key that's still
+     * in the tree and is in the specified node's branch. The node isn't returned if a node whose
+     * children haven't been created precedes it in the branch, since a matching node could be
+     * among these children; the tree must be searched instead
+     *
+     * @param isPath
+     *            true to use the node path index; false to use the node name index
+     *
+     * @param key
+     *            node path or name, with any HTML tags removed
+     *
+     * @param startNode
+     *            node whose branch contains the node
+     *
+     * @return First node matching the key; null if no indexed node matches or if the tree must be
+     *         searched for the node
+     *********************************************************************************************/
+    private ToolTipTreeNode getIndexedNode(boolean isPath, String key, ToolTipTreeNode startNode)
+    {
+        ToolTipTreeNode node = null;
+
+        // Check if the node indices need to be built
+        if (nodePathIndex == null)
+        {
+            // Build the node indices
+            buildNodeIndex();
+        }
+
+        // Get the nodes with the matching key
+        List<ToolTipTreeNode> nodes = (isPath
+                                              ? nodePathIndex
+                                              : nodeNameIndex).get(key);
+
+        // Check if a node with the key exists
+        if (nodes != null)
+        {
+            // Step through the nodes with the matching key
+            for (ToolTipTreeNode indexNode : nodes)
+            {
+                // Check that the node hasn't been removed from the tree and that it's in the
+                // starting node's branch
+                if (indexNode.getRoot() == root && indexNode.isNodeAncestor(startNode))
+                {
+                    // Store the node and stop searching
+                    node = indexNode;
+                    break;
+                }
+            }
+
+            // Check if a matching node was found and nodes whose children haven't been created
+            // exist. If one of these precedes the matching node in the tree then one of its
+            // children could be an earlier match
+            if (node != null && !pendingNodes.isEmpty())
+            {
+                // Check if searching by path
+                if (isPath)
+                {
+                    // Only a pending node that's an ancestor of the target path can have an
+                    // earlier match among its children. Step through the ancestor paths of the
+                    // target path
+                    for (int index = key.indexOf(','); index != -1; index = key.indexOf(',', index + 1))
+                    {
+                        // Check if a pending node with the ancestor path precedes the matching
+                        // node
+                        if (isPendingNodeBefore(pendingNodes.get(key.substring(0, index)),
+                                                node,
+                                                startNode))
+                        {
+                            // Discard the indexed node so that the tree is searched, and stop
+                            // checking
+                            node = null;
+                            break;
+                        }
+                    }
+                }
+                // Searching by name. The nodes created when a pending node's children are
+                // created represent variables, with names in the form dataType.variable, so only
+                // a name in this form can match one of these nodes. The nodes that could contain
+                // the variable aren't known, so the tree is searched
+                else if (key.contains("."))
+                {
+                    // Discard the indexed node so that the tree is searched
+                    node = null;
+                }
             }
         }
 
         return node;
     }
 
+    /**********************************************************************************************
+     * Check if any of the specified nodes whose children haven't been created is in the tree
+     * within the starting node's branch and precedes the specified node
+     *
+     * @param nodes
+     *            list of nodes whose children haven't been created; null if there are none
+     *
+     * @param node
+     *            node to compare
+     *
+     * @param startNode
+     *            node whose branch is searched
+     *
+     * @return true if one of the pending nodes precedes the node
+     *********************************************************************************************/
+    private boolean isPendingNodeBefore(List<TableMemberNode> nodes,
+                                        ToolTipTreeNode node,
+                                        ToolTipTreeNode startNode)
+    {
+        boolean isBefore = false;
+
+        // Check if any nodes are supplied
+        if (nodes != null)
+        {
+            // Step through the pending nodes
+            for (TableMemberNode pendingNode : nodes)
+            {
+                // Check if the pending node is in the tree within the starting node's branch and
+                // precedes the node
+                if (pendingNode.getRoot() == root
+                    && pendingNode.isNodeAncestor(startNode)
+                    && isBeforeInTree(pendingNode, node))
+                {
+                    isBefore = true;
+                    break;
+                }
+            }
+        }
+
+        return isBefore;
+    }
+
+    /**********************************************************************************************
+     * Get the position of the specified table path in the list of all of the table tree's paths
+     * (as returned by getTableTreePathList(null)). This is used to sort table paths into the
+     * order in which they appear in the table tree
+     *
+     * @param tablePath
+     *            table path, in the form rootTable[,dataType1.variable1[,...]]
+     *
+     * @return Position of the table path in the list of all table tree paths; -1 if the path
+     *         isn't in the tree
+     *********************************************************************************************/
+    protected int getTablePathOrdinal(String tablePath)
+    {
+        // Check if the table path positions need to be built
+        if (tablePathOrdinals == null)
+        {
+            // Get the list of all of the table tree paths
+            List<String> allTablePaths = getTableTreePathList(null);
+            tablePathOrdinals = new HashMap<String, Integer>(allTablePaths.size() * 2);
+
+            // Step through each table path
+            for (int index = 0; index < allTablePaths.size(); index++)
+            {
+                // Store the path's position in the list
+                tablePathOrdinals.put(allTablePaths.get(index), index);
+            }
+        }
+
+        // Get the table path's position
+        Integer ordinal = tablePathOrdinals.get(tablePath);
+
+        return ordinal != null
+                               ? ordinal
+                               : -1;
+    }
+
     /**********************************************************************************************
      * Get the table name from the node name, removing the variable name if present
      *
@@ -2267,26 +3565,26 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
         // Create storage for the primitive variable paths
         List<String> allPrimitivePaths = new ArrayList<String>();
 
-        // Step through each element and child of this node
-        for (Enumeration<?> element = startNode.preorderEnumeration(); element.hasMoreElements();)
+        // Step through the paths for this node and its descendants. The paths are obtained
+        // without creating any nodes whose creation is deferred
+        for (Object[] path : getNodePaths(startNode))
         {
-            // Get the node
-            ToolTipTreeNode node = (ToolTipTreeNode) element.nextElement();
+            // Get the node name
+            String nodeName = path[path.length - 1].toString();
 
             // Check if disabled nodes should be included, or if not, that the node isn't disabled
-            if (!ignoreDisabled
-                || !node.getUserObject().toString().startsWith(DISABLED_TEXT_COLOR))
+            if (!ignoreDisabled || !nodeName.startsWith(DISABLED_TEXT_COLOR))
             {
                 // Get the data type for this node
                 String dataType = getTableFromNodeName(ignoreDisabled
-                                                                      ? node.getUserObject().toString()
-                                                                      : removeExtraText(node.getUserObject().toString()));
+                                                                      ? nodeName
+                                                                      : removeExtraText(nodeName));
 
                 // Check if the data type is a primitive (versus a structure)
                 if (dataTypeHandler.isPrimitive(dataType))
                 {
                     // Convert the node path array to a string
-                    String nodePath = CcddUtilities.convertArrayToString(node.getPath()).replaceAll(", ", ",");
+                    String nodePath = CcddUtilities.convertArrayToString(path).replaceAll(", ", ",");
 
                     // Add the variable's entire node path to the list
                     allPrimitivePaths.add(ignoreDisabled
@@ -2305,12 +3603,10 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
      *********************************************************************************************/
     private void setNodeEnableByExcludeList()
     {
-        // Step through elements and children of this node
-        for (Enumeration<?> element = root.preorderEnumeration(); element.hasMoreElements();)
+        // Step through the nodes that have been created. Nodes whose creation is deferred apply
+        // the exclusion list when they're created
+        for (ToolTipTreeNode node : getCreatedNodes(root, new ArrayList<ToolTipTreeNode>()))
         {
-            // Get the node reference
-            ToolTipTreeNode node = (ToolTipTreeNode) element.nextElement();
-
             // Check if this is node has no children, which indicates it may be a variable, and
             // that the node is for a structure or variable
             if (node.isLeaf() && node.getLevel() >= getHeaderNodeLevel())
@@ -2373,8 +3669,17 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
     {
         boolean isEnabled;
 
+        // Check if the node's children haven't been created
+        if (node.isChildrenPending())
+        {
+            // Use the enable state determined when the node was added if the tree is being
+            // built; otherwise determine the state from the node's table members
+            isEnabled = isBuilding
+                                   ? !node.getUserObject().toString().startsWith(DISABLED_TEXT_COLOR)
+                                   : ((TableMemberNode) node).getVariableState() == Boolean.TRUE;
+        }
         // Check if this node has any children
-        if (node.getChildCount() != 0)
+        else if (node.getChildCount() != 0)
         {
             isEnabled = false;
 
@@ -2585,6 +3890,33 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
             }
         });
 
+        // Add a listener for table tree expansion requests
+        addTreeWillExpandListener(new TreeWillExpandListener()
+        {
+            /**************************************************************************************
+             * Handle a pending expansion of the table tree. Create the expanding node's child
+             * nodes if these haven't already been created
+             *************************************************************************************/
+            @Override
+            public void treeWillExpand(TreeExpansionEvent tee)
+            {
+                // Check if the expanding node's children are created on demand
+                if (tee.getPath().getLastPathComponent() instanceof TableMemberNode)
+                {
+                    // Create the node's child nodes
+                    ((TableMemberNode) tee.getPath().getLastPathComponent()).createChildren();
+                }
+            }
+
+            /**************************************************************************************
+             * Handle a pending collapse of the table tree
+             *************************************************************************************/
+            @Override
+            public void treeWillCollapse(TreeExpansionEvent tee)
+            {
+            }
+        });
+
         // Create a tree expansion check box
         expandChkBx = new JCheckBox("Expand all");
         expandChkBx.setBorder(emptyBorder);
@@ -25,7 +25,10 @@ import static CCDD.CcddConstants.TYPE_STRUCTURE;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.swing.JOptionPane;
 
@@ -66,6 +69,9 @@ public class CcddTableTypeHandler
     // Flag indicating that a data field was created for a table type
     private boolean isNewField;
 
+    // Empty column index array returned when no column matches a lookup
+    private static final int[] NO_COLUMNS = new int[0];
+
     // Command argument column definitions
     protected final static Object[][] commandArgumentColumns = new Object[][] {{COL_ARGUMENT + " ### Name",
                                                                                 "Command argument ### name",
@@ -132,6 +138,119 @@ public class CcddTableTypeHandler
         private final List<Boolean> isStructureOk;
         private final List<Boolean> isPointerOk;
 
+        // Column lookup maps. These are built from the column lists when first needed and are
+        // discarded whenever a column is added or a column's name or input type changes
+        private volatile ColumnLookup columnLookup;
+
+        /******************************************************************************************
+         * Table type definition column lookup class. The maps are created once from the column
+         * lists and are not altered afterwards, so the index arrays may be shared with callers
+         *****************************************************************************************/
+        private class ColumnLookup
+        {
+            // Column index keyed by the column name as seen by the user, converted to lower case
+            private final Map<String, Integer> userNameIndex;
+
+            // Column index keyed by the column name as used in the database
+            private final Map<String, Integer> dbNameIndex;
+
+            // Column indices keyed by the column input type name
+            private final Map<String, int[]> inputTypeIndices;
+
+            // Column indices keyed by the column input type format
+            private final Map<InputTypeFormat, int[]> inputFormatIndices;
+
+            /**************************************************************************************
+             * Table type definition column lookup class constructor
+             *************************************************************************************/
+            private ColumnLookup()
+            {
+                userNameIndex = new HashMap<String, Integer>();
+                dbNameIndex = new HashMap<String, Integer>();
+                Map<String, List<Integer>> typeColumns = new HashMap<String, List<Integer>>();
+                Map<InputTypeFormat, List<Integer>> formatColumns = new EnumMap<InputTypeFormat, List<Integer>>(InputTypeFormat.class);
+
+                // Step through each column
+                for (int column = 0; column < columnNamesUser.size(); column++)
+                {
+                    // Store the column index for the user and database names. Only the first
+                    // column with a given name is stored, which matches the behavior of the
+                    // linear searches these maps replace
+                    String userName = columnNamesUser.get(column).toLowerCase();
+
+                    if (!userNameIndex.containsKey(userName))
+                    {
+                        userNameIndex.put(userName, column);
+                    }
+
+                    if (!dbNameIndex.containsKey(columnNamesDatabase.get(column)))
+                    {
+                        dbNameIndex.put(columnNamesDatabase.get(column), column);
+                    }
+
+                    // Add the column index to the lists for the column's input type and format
+                    InputType inputType = columnInputType.get(column);
+                    List<Integer> columns = typeColumns.get(inputType.getInputName());
+
+                    if (columns == null)
+                    {
+                        columns = new ArrayList<Integer>();
+                        typeColumns.put(inputType.getInputName(), columns);
+                    }
+
+                    columns.add(column);
+
+                    if (inputType.getInputFormat() != null)
+                    {
+                        columns = formatColumns.get(inputType.getInputFormat());
+
+                        if (columns == null)
+                        {
+                            columns = new ArrayList<Integer>();
+                            formatColumns.put(inputType.getInputFormat(), columns);
+                        }
+
+                        columns.add(column);
+                    }
+                }
+
+                // Convert the column index lists to arrays
+                inputTypeIndices = new HashMap<String, int[]>(typeColumns.size() * 2);
+
+                for (Map.Entry<String, List<Integer>> entry : typeColumns.entrySet())
+                {
+                    inputTypeIndices.put(entry.getKey(), toIndexArray(entry.getValue()));
+                }
+
+                inputFormatIndices = new EnumMap<InputTypeFormat, int[]>(InputTypeFormat.class);
+
+                for (Map.Entry<InputTypeFormat, List<Integer>> entry : formatColumns.entrySet())
+                {
+                    inputFormatIndices.put(entry.getKey(), toIndexArray(entry.getValue()));
+                }
+            }
+
+            /**************************************************************************************
+             * Convert a list of column indices to an array
+             *
+             * @param columns
+             *            list of column indices
+             *
+             * @return Array of column indices
+             *************************************************************************************/
+            private int[] toIndexArray(List<Integer> columns)
+            {
+                int[] indices = new int[columns.size()];
+
+                for (int index = 0; index < indices.length; index++)
+                {
+                    indices[index] = columns.get(index);
+                }
+
+                return indices;
+            }
+        }
+
         /******************************************************************************************
          * Table type definition class constructor
          *
@@ -153,6 +272,34 @@ public class CcddTableTypeHandler
             isPointerOk = new ArrayList<Boolean>();
         }
 
+        /******************************************************************************************
+         * Get the column lookup maps, building them from the column lists if needed
+         *
+         * @return Column lookup maps
+         *****************************************************************************************/
+        private ColumnLookup getColumnLookup()
+        {
+            ColumnLookup lookup = columnLookup;
+
+            // Check if the lookup maps need to be (re)built
+            if (lookup == null)
+            {
+                lookup = new ColumnLookup();
+                columnLookup = lookup;
+            }
+
+            return lookup;
+        }
+
+        /******************************************************************************************
+         * Discard the column lookup maps so that these are rebuilt on the next lookup. This must
+         * be called after any change to the column names or input types
+         *****************************************************************************************/
+        protected void clearColumnLookup()
+        {
+            columnLookup = null;
+        }
+
         /******************************************************************************************
          * Get the table type name
          *
@@ -272,6 +419,8 @@ public class CcddTableTypeHandler
                 columnNamesDatabaseQuoted.set(row, dbColName);
                 columnNamesDatabase.set(row, dbColName.replaceAll("\"", ""));
             }
+
+            clearColumnLookup();
         }
 
         /******************************************************************************************
@@ -399,21 +548,8 @@ public class CcddTableTypeHandler
          *****************************************************************************************/
         protected int getColumnIndexByInputType(InputType inputType)
         {
-            int colIndex = -1;
-
-            // Step through the column types
-            for (int column = 0; column < columnInputType.size(); column++)
-            {
-                // Check if the input type matches the type for this column
-                if (columnInputType.get(column).getInputName().equals(inputType.getInputName()))
-                {
-                    // Store the column index and stop searching
-                    colIndex = column;
-                    break;
-                }
-            }
-
-            return colIndex;
+            int[] columns = getColumnIndexArrayByInputType(inputType);
+            return columns.length == 0 ? -1 : columns[0];
         }
 
         /******************************************************************************************
@@ -443,15 +579,11 @@ public class CcddTableTypeHandler
         {
             List<Integer> colIndex = new ArrayList<Integer>();
 
-            // Step through the column types
-            for (int column = 0; column < columnInputType.size(); column++)
+            // Step through the columns having the input type
+            for (int column : getColumnIndexArrayByInputType(inputType))
             {
-                // Check if the input type matches the type for this column
-                if (columnInputType.get(column).getInputName().equals(inputType.getInputName()))
-                {
-                    // Store the column index
-                    colIndex.add(column);
-                }
+                // Store the column index
+                colIndex.add(column);
             }
 
             return colIndex;
@@ -471,6 +603,37 @@ public class CcddTableTypeHandler
             return getColumnIndicesByInputType(inputTypeHandler.getInputTypeByDefaultType(inputType));
         }
 
+        /******************************************************************************************
+         * Get the array of indices of the column(s) having the specified input type. The array is
+         * shared by all callers and must not be modified
+         *
+         * @param inputType
+         *            column input type (InputType)
+         *
+         * @return Array containing the index (or indices) of the column(s) of the specified input
+         *         type; an empty array if no column of the specified type is found
+         *****************************************************************************************/
+        protected int[] getColumnIndexArrayByInputType(InputType inputType)
+        {
+            int[] columns = getColumnLookup().inputTypeIndices.get(inputType.getInputName());
+            return columns == null ? NO_COLUMNS : columns;
+        }
+
+        /******************************************************************************************
+         * Get the array of indices of the column(s) having the specified default input type. The
+         * array is shared by all callers and must not be modified
+         *
+         * @param inputType
+         *            column input type (DefaultInputType)
+         *
+         * @return Array containing the index (or indices) of the column(s) of the specified
+         *         default input type; an empty array if no column of the specified type is found
+         *****************************************************************************************/
+        protected int[] getColumnIndexArrayByInputType(DefaultInputType inputType)
+        {
+            return getColumnIndexArrayByInputType(inputTypeHandler.getInputTypeByDefaultType(inputType));
+        }
+
         /******************************************************************************************
          * Get the visible name of the first column having the specified input type
          *
@@ -482,21 +645,8 @@ public class CcddTableTypeHandler
          *****************************************************************************************/
         protected String getColumnNameByInputType(InputType inputType)
         {
-            String colName = null;
-
-            // Step through the column types
-            for (int column = 0; column < columnInputType.size(); column++)
-            {
-                // Check if the input type matches the type for this column
-                if (columnInputType.get(column).getInputName().equals(inputType.getInputName()))
-                {
-                    // Store the column name and stop searching
-                    colName = columnNamesUser.get(column);
-                    break;
-                }
-            }
-
-            return colName;
+            int column = getColumnIndexByInputType(inputType);
+            return column == -1 ? null : columnNamesUser.get(column);
         }
 
         /******************************************************************************************
@@ -524,21 +674,8 @@ public class CcddTableTypeHandler
          *****************************************************************************************/
         protected String getDbColumnNameByInputType(InputType inputType)
         {
-            String colName = null;
-
-            // Step through the column types
-            for (int column = 0; column < columnInputType.size(); column++)
-            {
-                // Check if the input type matches the type for this column
-                if (columnInputType.get(column).getInputName().equals(inputType.getInputName()))
-                {
-                    // Store the column name and stop searching
-                    colName = columnNamesDatabase.get(column);
-                    break;
-                }
-            }
-
-            return colName;
+            int column = getColumnIndexByInputType(inputType);
+            return column == -1 ? null : columnNamesDatabase.get(column);
         }
 
         /******************************************************************************************
@@ -566,21 +703,8 @@ public class CcddTableTypeHandler
          *****************************************************************************************/
         protected int getColumnIndexByInputTypeFormat(InputTypeFormat inputFormat)
         {
-            int colIndex = -1;
-
-            // Step through the column types
-            for (int column = 0; column < columnInputType.size(); column++)
-            {
-                // Check if the input type format matches the format for this column
-                if (columnInputType.get(column).getInputFormat() == inputFormat)
-                {
-                    // Store the column index and stop searching
-                    colIndex = column;
-                    break;
-                }
-            }
-
-            return colIndex;
+            int[] columns = getColumnIndexArrayByInputTypeFormat(inputFormat);
+            return columns.length == 0 ? -1 : columns[0];
         }
 
         /******************************************************************************************
@@ -596,20 +720,32 @@ public class CcddTableTypeHandler
         {
             List<Integer> colIndex = new ArrayList<Integer>();
 
-            // Step through the column types
-            for (int column = 0; column < columnInputType.size(); column++)
+            // Step through the columns having the input type format
+            for (int column : getColumnIndexArrayByInputTypeFormat(inputFormat))
             {
-                // Check if the input type format matches the format for this column
-                if (columnInputType.get(column).getInputFormat() == inputFormat)
-                {
-                    // Store the column index
-                    colIndex.add(column);
-                }
+                // Store the column index
+                colIndex.add(column);
             }
 
             return colIndex;
         }
 
+        /******************************************************************************************
+         * Get the array of indices of the column(s) having the specified input type format. The
+         * array is shared by all callers and must not be modified
+         *
+         * @param inputFormat
+         *            column input type format (InputTypeFormat)
+         *
+         * @return Array containing the index (or indices) of the column(s) of the specified input
+         *         type format; an empty array if no column of the specified format is found
+         *****************************************************************************************/
+        protected int[] getColumnIndexArrayByInputTypeFormat(InputTypeFormat inputFormat)
+        {
+            int[] columns = getColumnLookup().inputFormatIndices.get(inputFormat);
+            return columns == null ? NO_COLUMNS : columns;
+        }
+
         /******************************************************************************************
          * Get the visible name of the first column having the specified input type format
          *
@@ -621,21 +757,8 @@ public class CcddTableTypeHandler
          *****************************************************************************************/
         protected String getColumnNameByInputTypeFormat(InputTypeFormat inputFormat)
         {
-            String colName = null;
-
-            // Step through the column types
-            for (int column = 0; column < columnInputType.size(); column++)
-            {
-                // Check if the input type format matches the format for this column
-                if (columnInputType.get(column).getInputFormat() == inputFormat)
-                {
-                    // Store the column name and stop searching
-                    colName = columnNamesDatabase.get(column);
-                    break;
-                }
-            }
-
-            return colName;
+            int column = getColumnIndexByInputTypeFormat(inputFormat);
+            return column == -1 ? null : columnNamesDatabase.get(column);
         }
 
         /******************************************************************************************
@@ -649,21 +772,8 @@ public class CcddTableTypeHandler
          *****************************************************************************************/
         protected String getDbColumnNameByInputTypeFormat(InputTypeFormat inputFormat)
         {
-            String colName = null;
-
-            // Step through the column types
-            for (int column = 0; column < columnInputType.size(); column++)
-            {
-                // Check if the input type format matches the format for this column
-                if (columnInputType.get(column).getInputFormat() == inputFormat)
-                {
-                    // Store the column name and stop searching
-                    colName = columnNamesDatabase.get(column);
-                    break;
-                }
-            }
-
-            return colName;
+            int column = getColumnIndexByInputTypeFormat(inputFormat);
+            return column == -1 ? null : columnNamesDatabase.get(column);
         }
 
         /******************************************************************************************
@@ -676,21 +786,16 @@ public class CcddTableTypeHandler
          *****************************************************************************************/
         protected int getColumnIndexByUserName(String columnName)
         {
-            int columnIndex = -1;
+            Integer columnIndex = null;
 
-            // Step through the column names
-            for (int column = 0; column < columnNamesUser.size(); column++)
+            // Check if a column name is supplied
+            if (columnName != null)
             {
-                // Check if the column name matches the column name; ignoring case sensitivity
-                if (columnNamesUser.get(column).equalsIgnoreCase(columnName))
-                {
-                    // Store the column index and stop searching
-                    columnIndex = column;
-                    break;
-                }
+                // Get the index of the column with the matching name, ignoring case sensitivity
+                columnIndex = getColumnLookup().userNameIndex.get(columnName.toLowerCase());
             }
 
-            return columnIndex;
+            return columnIndex == null ? -1 : columnIndex;
         }
 
         /******************************************************************************************
@@ -727,21 +832,8 @@ public class CcddTableTypeHandler
          *****************************************************************************************/
         protected int getColumnIndexByDbName(String dbColumnName)
         {
-            int columnIndex = -1;
-
-            // Step through the column names
-            for (int column = 0; column < columnNamesDatabase.size(); column++)
-            {
-                // Check if the column name matches the column name
-                if (columnNamesDatabase.get(column).equals(dbColumnName))
-                {
-                    // Store the column index and stop searching
-                    columnIndex = column;
-                    break;
-                }
-            }
-
-            return columnIndex;
+            Integer columnIndex = getColumnLookup().dbNameIndex.get(dbColumnName);
+            return columnIndex == null ? -1 : columnIndex;
         }
 
         /******************************************************************************************
@@ -795,6 +887,7 @@ public class CcddTableTypeHandler
             this.isColumnRequired.add(isColumnRequired);
             this.isStructureOk.add(isStructure);
             this.isPointerOk.add(isPointer);
+            clearColumnLookup();
         }
 
         /******************************************************************************************
@@ -857,7 +950,7 @@ public class CcddTableTypeHandler
                 // column, and the column input type doesn't exist in this table type
                 if (column.getTableType().equals(typeName)
                     && column.isProtected()
-                    && getColumnIndicesByInputType(inputTypeHandler.getInputTypeByDefaultType(column.getInputType())).isEmpty())
+                    && getColumnIndexArrayByInputType(column.getInputType()).length == 0)
                 {
                     // Set the flag to indicate that this table type doesn't have all of the target
                     // type's columns and stop searching
@@ -1596,7 +1689,7 @@ public class CcddTableTypeHandler
             if (typeDefn.isStructure())
             {
                 // Step through each of the table's enumeration columns
-                for (int enumIndex : typeDefn.getColumnIndicesByInputTypeFormat(inputTypeHandler.getInputTypeByName(DefaultInputType.ENUMERATION.getInputName())
+                for (int enumIndex : typeDefn.getColumnIndexArrayByInputTypeFormat(inputTypeHandler.getInputTypeByName(DefaultInputType.ENUMERATION.getInputName())
                                                                                                 .getInputFormat()))
                 {
                     // Get the name of the column
@@ -1658,6 +1751,9 @@ public class CcddTableTypeHandler
                 typeDefn.getInputTypesList().set(index,
                                                  inputTypeHandler.getInputTypeByName(inputTypeName));
             }
+
+            // Rebuild the column lookups to reflect the updated input types
+            typeDefn.clearColumnLookup();
         }
     }
 
@@ -304,7 +304,102 @@ public class CcddUtilities
      *********************************************************************************************/
     protected static String[] splitAndRemoveQuotes(String text)
     {
-        return splitAndRemoveQuotes(text, "\\s*,\\s*", -1, true);
+        List<String> values = new ArrayList<String>();
+        int length = text.length();
+        int valueStart = 0;
+        int numQuotes = 0;
+        int index = 0;
+
+        // A comma separates two values if it's followed by an even number of double quotes (for
+        // well-formed text this is a comma that isn't within quotes). The text is scanned once to
+        // count the double quotes, and then once more to separate the values; the values are
+        // extracted directly from the text in place of using a regular expression
+        int separatorParity = countDoubleQuotes(text) % 2;
+
+        // Step through each character in the text
+        while (index < length)
+        {
+            char character = text.charAt(index);
+
+            // Check if the character is a double quote
+            if (character == '"')
+            {
+                numQuotes++;
+            }
+            // Check if the character is a comma that separates two values
+            else if (character == ',' && numQuotes % 2 == separatorParity)
+            {
+                int valueEnd = index;
+
+                // Remove any white space characters preceding the comma from the value
+                while (valueEnd > valueStart && isSplitWhiteSpace(text.charAt(valueEnd - 1)))
+                {
+                    valueEnd--;
+                }
+
+                // Add the value, minus any excess quotes, to the list
+                values.add(removeExcessQuotes(text, valueStart, valueEnd));
+
+                // Skip the comma and any white space characters following it
+                index++;
+
+                while (index < length && isSplitWhiteSpace(text.charAt(index)))
+                {
+                    index++;
+                }
+
+                valueStart = index;
+                continue;
+            }
+
+            index++;
+        }
+
+        // Add the last value, minus any excess quotes, to the list
+        values.add(removeExcessQuotes(text, valueStart, length));
+
+        return values.toArray(new String[values.size()]);
+    }
+
+    /**********************************************************************************************
+     * Count the number of double quotes in the supplied text
+     *
+     * @param text
+     *            text in which to count the double quotes
+     *
+     * @return Number of double quotes in the text
+     *********************************************************************************************/
+    protected static int countDoubleQuotes(String text)
+    {
+        int numQuotes = 0;
+
+        // Step through each character in the text
+        for (int index = text.indexOf('"'); index != -1; index = text.indexOf('"', index + 1))
+        {
+            numQuotes++;
+        }
+
+        return numQuotes;
+    }
+
+    /**********************************************************************************************
+     * Check if the supplied character is one of the white space characters that surround a value
+     * separator (those matched by the \s regular expression character class)
+     *
+     * @param character
+     *            character to check
+     *
+     * @return true if the character is a space, tab, line feed, vertical tab, form feed, or
+     *         carriage return
+     *********************************************************************************************/
+    protected static boolean isSplitWhiteSpace(char character)
+    {
+        return character == ' '
+               || character == '\t'
+               || character == '\n'
+               || character == '\u000B'
+               || character == '\f'
+               || character == '\r';
     }
 
     /**********************************************************************************************
@@ -1037,6 +1132,114 @@ public class CcddUtilities
         return text.replaceAll("^\"|\"$", "").replaceAll("\"\"", "\"");
     }
 
+    /**********************************************************************************************
+     * Remove any leading and trailing quotes from a quoted string contained in a portion of the
+     * supplied text, and replace pairs of double quotes with one double quote. The result is the
+     * same as removeExcessQuotes(text.substring(start, end)), including the treatment of a double
+     * quote followed only by a line terminator as a trailing quote (as with the regular
+     * expression end anchor), but the text is only copied once
+     *
+     * @param text
+     *            text containing the quoted string
+     *
+     * @param start
+     *            index of the first character of the quoted string
+     *
+     * @param end
+     *            index following the last character of the quoted string
+     *
+     * @return Quoted string minus any excess quotes
+     *********************************************************************************************/
+    private static String removeExcessQuotes(String text, int start, int end)
+    {
+        StringBuilder value = null;
+        int trailingQuote = end - 1;
+
+        // Check if the string begins with a double quote
+        if (start < end && text.charAt(start) == '"')
+        {
+            // Skip the leading quote
+            start++;
+        }
+
+        // Check if the string ends with a line terminator
+        if (trailingQuote >= start)
+        {
+            char lastChar = text.charAt(trailingQuote);
+
+            // Check if the string ends with a carriage return and line feed
+            if (lastChar == '\n' && trailingQuote > start && text.charAt(trailingQuote - 1) == '\r')
+            {
+                trailingQuote -= 2;
+            }
+            // Check if the string ends with another line terminator
+            else if (lastChar == '\n'
+                     || lastChar == '\r'
+                     || lastChar == '\u0085'
+                     || lastChar == '\u2028'
+                     || lastChar == '\u2029')
+            {
+                trailingQuote--;
+            }
+        }
+
+        // Check if the string doesn't end with a double quote (ignoring a line terminator)
+        if (trailingQuote < start || text.charAt(trailingQuote) != '"')
+        {
+            trailingQuote = -1;
+        }
+
+        int index = start;
+
+        // Step through each character in the string
+        while (index < end)
+        {
+            // Check if this is the trailing quote
+            if (index == trailingQuote)
+            {
+                // Check if this is the first change to the string
+                if (value == null)
+                {
+                    value = new StringBuilder(end - start).append(text, start, index);
+                }
+
+                // Skip the trailing quote
+                index++;
+            }
+            // Check if this is a pair of double quotes
+            else if (text.charAt(index) == '"'
+                     && index + 1 < end
+                     && index + 1 != trailingQuote
+                     && text.charAt(index + 1) == '"')
+            {
+                // Check if this is the first change to the string
+                if (value == null)
+                {
+                    value = new StringBuilder(end - start).append(text, start, index);
+                }
+
+                // Replace the pair with one double quote
+                value.append('"');
+                index += 2;
+            }
+            // This character is unchanged
+            else
+            {
+                // Check if the string has been changed
+                if (value != null)
+                {
+                    value.append(text.charAt(index));
+                }
+
+                index++;
+            }
+        }
+
+        return value == null
+                             ? text.substring(start, end)
+                             : value.toString();
+    }
+
     /**********************************************************************************************
      * Convert the array into a single string and remove the leading and trailing brackets
      *
@@ -845,11 +845,11 @@ public class CcddVariableHandler
      * @return The variable's full path and name with each variable in the path separated by the
      *         specified separator character(s); returns a blank if fullName is null or empty
      *********************************************************************************************/
-    protected String getFullVariableName(String fullName,
-                                         String varPathSeparator,
-                                         boolean excludeDataTypes,
-                                         String typeNameSeparator,
-                                         boolean substituteUserDefined)
+    protected synchronized String getFullVariableName(String fullName,
+                                                      String varPathSeparator,
+                                                      boolean excludeDataTypes,
+                                                      String typeNameSeparator,
+                                                      boolean substituteUserDefined)
     {
         String convertedFullName = "";
 
@@ -1172,7 +1172,7 @@ public class CcddVariableHandler
      * Remove the converted variable name list(s) other than the one created using the separators
      * stored in the program preferences
      *********************************************************************************************/
-    protected void removeUnusedLists()
+    protected synchronized void removeUnusedLists()
     {
         // Get the separators stored in the program preferences
         String varPathSeparator = ccddMain.getProgPrefs().get(VARIABLE_PATH_SEPARATOR,
@@ -28,6 +28,7 @@ import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
 
 import CCDD.CcddClassesComponent.ArrayListMultiple;
+import CCDD.CcddClassesComponent.IndexedArrayListMultiple;
 import CCDD.CcddClassesComponent.OrderedJSONObject;
 import CCDD.CcddClassesDataTable.AssociatedColumns;
 import CCDD.CcddClassesDataTable.CCDDException;
@@ -1081,7 +1082,7 @@ public class CcddWebDataAccessHandler extends AbstractHandler
         String response = null;
 
         // Get the list of table names and their associated table type
-        ArrayListMultiple protoNamesAndTableTypes = new ArrayListMultiple();
+        ArrayListMultiple protoNamesAndTableTypes = new IndexedArrayListMultiple();
         protoNamesAndTableTypes.addAll(dbTable.queryTableAndTypeList(ccddMain.getMainFrame()));
 
         // Check that at least one data table exists
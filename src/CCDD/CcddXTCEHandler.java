@@ -16,7 +16,10 @@ import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 import javax.script.Invocable;
@@ -28,12 +31,6 @@ import javax.xml.bind.JAXBException;
 import javax.xml.bind.MarshalException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMResult;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
 
 import org.omg.space.xtce.ArgumentTypeSetType;
 import org.omg.space.xtce.ArgumentTypeSetType.FloatArgumentType;
@@ -143,6 +140,12 @@ public class CcddXTCEHandler extends CcddImportSupportHandler implements CcddImp
     private ObjectFactory factory;
     private SpaceSystemType rootSystem;
 
+    // Index of the space systems created for an export, keyed by the space system name, and the
+    // parent of each of these space systems (null for the root space system). These are used to
+    // locate a space system without searching the space system hierarchy
+    private Map<String, List<SpaceSystemType>> spaceSystemIndex;
+    private Map<SpaceSystemType, SpaceSystemType> spaceSystemParents;
+
     // Reference to the script engine as an Invocable interface; used if external (script) methods
     // are used for the export operation
     private Invocable invocable;
@@ -2895,15 +2898,17 @@ public class CcddXTCEHandler extends CcddImportSupportHandler implements CcddImp
                             (String) extraInfo[5],
                             (String) extraInfo[6]);
 
-        // Output the XML to the specified file. The Marshaller has a hard-coded limit of 8
-        // levels; once exceeded it starts back at the first column. Therefore, a Transformer
-        // is used to set the indentation amount (it doesn't have an indentation level limit)
-        DOMResult domResult = new DOMResult();
-        marshaller.marshal(project, domResult);
-        Transformer transformer = TransformerFactory.newInstance().newTransformer();
-        transformer.setOutputProperty(OutputKeys.INDENT, "yes");
-        transformer.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "3");
-        transformer.transform(new DOMSource(domResult.getNode()), new StreamResult(exportFile));
+        try
+        {
+            // Output the XML to the specified file
+            marshalToFile(marshaller, project, exportFile);
+        }
+        finally
+        {
+            // Release the space system index
+            spaceSystemIndex = null;
+            spaceSystemParents = null;
+        }
     }
 
     /**********************************************************************************************
@@ -2960,6 +2965,10 @@ public class CcddXTCEHandler extends CcddImportSupportHandler implements CcddImp
         classification2Attr = classification2;
         classification3Attr = classification3;
 
+        // Create the space system index
+        spaceSystemIndex = new HashMap<String, List<SpaceSystemType>>();
+        spaceSystemParents = new IdentityHashMap<SpaceSystemType, SpaceSystemType>();
+
         // Create the root space system
         rootSystem = addSpaceSystem(null,
                                     cleanSystemPath(dbControl.getProjectName()),
@@ -3581,6 +3590,24 @@ public class CcddXTCEHandler extends CcddImportSupportHandler implements CcddImp
                 // Add the new space system as a child of the specified system
                 parentSystem.getSpaceSystem().add(childSystem);
             }
+
+            // Check if the space system index exists
+            if (spaceSystemIndex != null)
+            {
+                // Get the list of space systems with this name
+                List<SpaceSystemType> systems = spaceSystemIndex.get(systemName);
+
+                // Check if this is the first space system with this name
+                if (systems == null)
+                {
+                    systems = new ArrayList<SpaceSystemType>(1);
+                    spaceSystemIndex.put(systemName, systems);
+                }
+
+                // Add the new space system to the index
+                systems.add(childSystem);
+                spaceSystemParents.put(childSystem, parentSystem);
+            }
         }
 
         // Check if a description is provided
@@ -3612,7 +3639,8 @@ public class CcddXTCEHandler extends CcddImportSupportHandler implements CcddImp
 
     /**********************************************************************************************
      * Get the reference to the space system with the specified name, starting at the specified
-     * space system
+     * space system. If the starting space system was created for an export then the space system
+     * index is used to locate the space system; otherwise the space system hierarchy is searched
      *
      * @param systemName
      *            name to search for within the space system hierarchy
@@ -3625,8 +3653,60 @@ public class CcddXTCEHandler extends CcddImportSupportHandler implements CcddImp
      *********************************************************************************************/
     private SpaceSystemType getSpaceSystemByName(String systemName, SpaceSystemType startingSystem)
     {
-        // Search the space system hierarchy, beginning at the specified space system
-        return searchSpaceSystemsForName(systemName, startingSystem, null);
+        SpaceSystemType foundSystem = null;
+
+        // Check if the starting space system is in the space system index
+        if (spaceSystemParents != null && spaceSystemParents.containsKey(startingSystem))
+        {
+            // Get the list of space systems with the search name
+            List<SpaceSystemType> systems = spaceSystemIndex.get(systemName);
+
+            // Check if a space system has the search name
+            if (systems != null)
+            {
+                // Step through each space system with the search name
+                for (SpaceSystemType system : systems)
+                {
+                    // Step up the space system's hierarchy until the starting system or the root
+                    // is reached
+                    SpaceSystemType ancestor = system;
+
+                    while (ancestor != null && ancestor != startingSystem)
+                    {
+                        ancestor = spaceSystemParents.get(ancestor);
+                    }
+
+                    // Check if the space system is within the starting system's hierarchy
+                    if (ancestor != null)
+                    {
+                        // Check if this is the first matching space system
+                        if (foundSystem == null)
+                        {
+                            foundSystem = system;
+                        }
+                        // More than one space system with the search name is in the starting
+                        // system's hierarchy
+                        else
+                        {
+                            // Search the hierarchy so that the same space system is selected as
+                            // when no index is used (the first one encountered)
+                            foundSystem = searchSpaceSystemsForName(systemName,
+                                                                    startingSystem,
+                                                                    null);
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+        // The starting space system isn't in the index
+        else
+        {
+            // Search the space system hierarchy, beginning at the specified space system
+            foundSystem = searchSpaceSystemsForName(systemName, startingSystem, null);
+        }
+
+        return foundSystem;
     }
 
     /**********************************************************************************************